@@ -1,8 +1,14 @@
 package com.xps.tools.redis;
 
+import com.xps.tools.redis.codec.CodecRedisClient;
+import com.xps.tools.redis.codec.RedisCodec;
+import com.xps.tools.redis.pool.Priority;
+import com.xps.tools.redis.script.LuaScript;
 import redis.clients.jedis.*;
+import redis.clients.jedis.Protocol.Command;
 
 import java.io.Closeable;
+import java.util.List;
 
 /**
  * Created by xiongps on 2018/5/30.
@@ -13,6 +19,34 @@ public interface RedisClient extends JedisCommands,MultiKeyCommands,AdvancedJedi
 
     public <T> T execute(JedisAction<T> jedisAction);
 
+    /**
+     * 执行已知命令类别的操作，客户端可以按命令类别路由(如只读命令读副本)
+     * @param command 操作对应的redis命令，为空时按写命令处理
+     */
+    public <T> T execute(Command command, JedisAction<T> jedisAction);
+
+    /**
+     * 按优先级执行：开启priorityBorrow且连接池饱和时，INTERACTIVE先于NORMAL、NORMAL先于BACKGROUND拿到连接
+     * @param priority 为空时按NORMAL处理
+     */
+    public <T> T execute(Priority priority, Command command, JedisAction<T> jedisAction);
+
+    /**
+     * 返回操作指定库的客户端视图，与当前客户端共用连接池；共享连接上的select、auth、quit不允许执行
+     */
+    public RedisClient database(int index);
+
     public void destroy();
 
+    /**
+     * 先EVALSHA，服务端没有该脚本时SCRIPT LOAD后重试
+     */
+    public Object evalScript(LuaScript script, List<String> keys, List<String> args);
+
+    public Object evalScript(LuaScript script, int keyCount, String... params);
+
+    /**
+     * 以指定的key/value编解码器包装当前客户端，直接走二进制命令
+     */
+    public <K, V> CodecRedisClient<K, V> withCodec(RedisCodec<K> keyCodec, RedisCodec<V> valueCodec);
 }
@@ -1,9 +1,14 @@
 package com.xps.tools.redis;
 
+import com.xps.tools.redis.codec.CodecRedisClient;
+import com.xps.tools.redis.codec.RedisCodec;
+import com.xps.tools.redis.script.LuaScript;
 import redis.clients.jedis.BinaryJedisCommands;
 import redis.clients.jedis.JedisCommands;
+import redis.clients.jedis.Protocol.Command;
 
 import java.io.Closeable;
+import java.util.List;
 
 /**
  * Created by xiongps on 2018/5/31.
@@ -12,7 +17,21 @@ public interface ShardedRedisClient extends JedisCommands,BinaryJedisCommands,Cl
 
     public <T> T execute(ShardedJedisAction<T> shardedJedisAction);
 
+    /**
+     * 执行已知命令类别的操作，客户端可以按命令类别路由(如迁移期间只读命令可回退读取旧拓扑)
+     * @param command 操作对应的redis命令，为空时按写命令处理
+     */
+    public <T> T execute(Command command, ShardedJedisAction<T> shardedJedisAction);
+
     public void destroy();
 
+    /**
+     * 在keys第一个key所在的分片上执行脚本，先EVALSHA，服务端没有该脚本时SCRIPT LOAD后重试
+     */
+    public Object evalScript(LuaScript script, List<String> keys, List<String> args);
 
+    /**
+     * 以指定的key/value编解码器包装当前客户端，直接走二进制命令
+     */
+    public <K, V> CodecRedisClient<K, V> withCodec(RedisCodec<K> keyCodec, RedisCodec<V> valueCodec);
 }
@@ -0,0 +1,9 @@
+package com.xps.tools.redis.balance;
+
+/**
+ * 可以按实时负载挑选的节点
+ */
+public interface LatencyAware {
+
+    NodeLatency getLatency();
+}
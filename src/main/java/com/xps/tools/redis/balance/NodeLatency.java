@@ -0,0 +1,79 @@
+package com.xps.tools.redis.balance;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 节点的实时负载：按时间衰减的峰值EWMA耗时和正在执行的请求数。
+ * 耗时高于当前EWMA时直接取新值(对GC停顿、过载立即敏感)，低于时按距上次更新的时间指数衰减，
+ * decayNanos内没有新请求的节点其EWMA会逐渐回落，从而重新获得流量。
+ * 失败的请求按failurePenaltyNanos计入，使连续出错的节点迅速变"慢"。
+ */
+public class NodeLatency {
+
+    public static final long DEFAULT_DECAY_NANOS = TimeUnit.SECONDS.toNanos(10);
+    public static final long DEFAULT_FAILURE_PENALTY_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final long decayNanos;
+    private final long failurePenaltyNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private double ewmaNanos;
+    private long lastUpdateNanos = System.nanoTime();
+
+    public NodeLatency() {
+        this(DEFAULT_DECAY_NANOS, DEFAULT_FAILURE_PENALTY_NANOS);
+    }
+
+    public NodeLatency(long decayNanos, long failurePenaltyNanos) {
+        this.decayNanos = decayNanos;
+        this.failurePenaltyNanos = failurePenaltyNanos;
+    }
+
+    /**
+     * 请求开始，返回开始时间，必须与end成对调用
+     */
+    public long begin() {
+        inFlight.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    public void end(long beginNanos, boolean failed) {
+        inFlight.decrementAndGet();
+        long now = System.nanoTime();
+        this.update(failed ? Math.max(failurePenaltyNanos, now - beginNanos) : now - beginNanos, now);
+    }
+
+    private synchronized void update(long rttNanos, long now) {
+        if(rttNanos > ewmaNanos) {
+            ewmaNanos = rttNanos;
+        } else {
+            double w = Math.exp(-(double) Math.max(0, now - lastUpdateNanos) / decayNanos);
+            ewmaNanos = ewmaNanos * w + rttNanos * (1 - w);
+        }
+        lastUpdateNanos = now;
+    }
+
+    /**
+     * @return 当前EWMA，已按距上次更新的时间衰减
+     */
+    public synchronized double getEwmaNanos() {
+        double w = Math.exp(-(double) Math.max(0, System.nanoTime() - lastUpdateNanos) / decayNanos);
+        return ewmaNanos * w;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 选择节点时比较的代价：EWMA耗时 * (正在执行的请求数 + 1)，还没有样本的节点代价为0，会优先获得请求
+     */
+    public double cost() {
+        return this.getEwmaNanos() * (inFlight.get() + 1);
+    }
+
+    @Override
+    public String toString() {
+        return "ewmaMicros=" + (long) (this.getEwmaNanos() / 1000) + ", inFlight=" + inFlight;
+    }
+}
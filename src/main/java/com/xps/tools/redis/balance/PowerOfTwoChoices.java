@@ -0,0 +1,36 @@
+package com.xps.tools.redis.balance;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * power-of-two-choices：随机取两个节点，选NodeLatency.cost()较小的一个。
+ * 相比总是选最快的节点，不会让所有客户端同时涌向同一个节点，慢节点的流量会按代价自然减少而不是降为0
+ */
+public final class PowerOfTwoChoices {
+
+    private PowerOfTwoChoices() {
+    }
+
+    /**
+     * @param candidates 可用节点，为空时返回null
+     */
+    public static <T extends LatencyAware> T select(List<T> candidates) {
+        int size = candidates.size();
+        if(size == 0) {
+            return null;
+        }
+        if(size == 1) {
+            return candidates.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int a = random.nextInt(size);
+        int b = random.nextInt(size - 1);
+        if(b >= a) {
+            b++;
+        }
+        T first = candidates.get(a);
+        T second = candidates.get(b);
+        return first.getLatency().cost() <= second.getLatency().cost() ? first : second;
+    }
+}
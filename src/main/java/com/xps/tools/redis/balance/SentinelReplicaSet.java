@@ -0,0 +1,150 @@
+package com.xps.tools.redis.balance;
+
+import com.xps.tools.redis.config.RedisSentinelPoolConfig;
+import com.xps.tools.redis.pool.ManagedJedisPool;
+import com.xps.tools.redis.resilience.CircuitBreaker;
+import com.xps.tools.redis.shard.ShardNode;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisShardInfo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 哨兵模式下master的只读副本集合：定时通过SENTINEL SLAVES发现在线的副本，每个副本独立的连接池和熔断器，
+ * 只读命令按PowerOfTwoChoices挑选副本。副本的增减(扩容、故障转移)在下一次刷新时生效。
+ */
+public class SentinelReplicaSet {
+
+    private static final String[] UNAVAILABLE_FLAGS = {"s_down", "o_down", "disconnected"};
+
+    private final Logger logger = Logger.getLogger(this.getClass().getName());
+    private final RedisSentinelPoolConfig config;
+    private final ScheduledExecutorService refresher;
+    private volatile List<ShardNode> nodes = Collections.emptyList();
+
+    public SentinelReplicaSet(RedisSentinelPoolConfig config) {
+        this.config = config;
+        this.refresh();
+        this.refresher = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "redis-sentinel-replica-refresher");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        long refreshMillis = Math.max(1000L, config.getReplicaRefreshMillis());
+        this.refresher.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                refresh();
+            }
+        }, refreshMillis, refreshMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return 按实时负载选出的副本，没有可用副本时返回null，调用方应读master
+     */
+    public ShardNode select() {
+        return this.select(null);
+    }
+
+    /**
+     * @param avoid 不参与选择的副本(对冲请求避开原请求所在的副本)，可以为null
+     */
+    public ShardNode select(ShardNode avoid) {
+        List<ShardNode> current = nodes;
+        List<ShardNode> candidates = new ArrayList<>(current.size());
+        for(ShardNode node : current) {
+            if(node != avoid && node.getCircuitBreaker().isAvailable()) {
+                candidates.add(node);
+            }
+        }
+        return PowerOfTwoChoices.select(candidates);
+    }
+
+    /**
+     * 从任一哨兵获取副本列表并更新，所有哨兵都不可用时保留当前列表
+     */
+    public synchronized void refresh() {
+        List<HostAndPort> discovered = null;
+        for(String sentinel : config.getSentinels()) {
+            HostAndPort address = HostAndPort.parseString(sentinel);
+            try(Jedis jedis = new Jedis(address.getHost(), address.getPort(), config.getConnectionTimeout())) {
+                discovered = parseReplicas(jedis.sentinelSlaves(config.getMasterName()));
+                break;
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "从哨兵" + sentinel + "获取副本列表失败", e);
+            }
+        }
+        if(discovered == null) {
+            return;
+        }
+        Map<String, ShardNode> old = new LinkedHashMap<>();
+        for(ShardNode node : nodes) {
+            old.put(node.getName(), node);
+        }
+        List<ShardNode> updated = new ArrayList<>(discovered.size());
+        for(HostAndPort address : discovered) {
+            ShardNode node = old.remove(address.getHost() + ":" + address.getPort());
+            updated.add(node != null ? node : this.newNode(address));
+        }
+        this.nodes = Collections.unmodifiableList(updated);
+        for(ShardNode removed : old.values()) {
+            logger.info("副本" + removed.getName() + "已下线或不再属于" + config.getMasterName());
+            removed.getPool().close();
+        }
+    }
+
+    static List<HostAndPort> parseReplicas(List<Map<String, String>> slaves) {
+        List<HostAndPort> replicas = new ArrayList<>(slaves.size());
+        for(Map<String, String> slave : slaves) {
+            String flags = slave.get("flags");
+            boolean available = flags != null && "ok".equals(slave.get("master-link-status"));
+            for(int i = 0; available && i < UNAVAILABLE_FLAGS.length; i++) {
+                available = !flags.contains(UNAVAILABLE_FLAGS[i]);
+            }
+            if(available) {
+                replicas.add(new HostAndPort(slave.get("ip"), Integer.parseInt(slave.get("port"))));
+            }
+        }
+        return replicas;
+    }
+
+    private ShardNode newNode(HostAndPort address) {
+        JedisPool pool = new ManagedJedisPool(config, address.getHost(), address.getPort(), config.getConnectionTimeout(),
+                config.getSoTimeout(), config.getPassword(), config.getDatabase(), config.getClientName(), false, null, null, null);
+        String name = address.getHost() + ":" + address.getPort();
+        logger.info("发现副本" + name);
+        return new ShardNode(new JedisShardInfo(address.getHost(), address.getPort()), pool, new CircuitBreaker(name));
+    }
+
+    /**
+     * @return 当前的副本及其健康状态、耗时统计
+     */
+    public List<ShardNode> getNodes() {
+        return nodes;
+    }
+
+    public void close() {
+        refresher.shutdownNow();
+        synchronized (this) {
+            for(ShardNode node : nodes) {
+                node.getPool().close();
+            }
+            nodes = Collections.emptyList();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.xps.tools.redis.codec;
+
+/**
+ * 原样透传byte[]
+ */
+public class ByteArrayCodec implements RedisCodec<byte[]> {
+
+    public static final ByteArrayCodec INSTANCE = new ByteArrayCodec();
+
+    @Override
+    public byte[] encode(byte[] value) {
+        return value;
+    }
+
+    @Override
+    public byte[] decode(byte[] bytes) {
+        return bytes;
+    }
+}
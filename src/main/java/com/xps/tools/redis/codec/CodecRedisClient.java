@@ -0,0 +1,72 @@
+package com.xps.tools.redis.codec;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 按key/value编解码器类型化的客户端视图，直接调用BinaryJedisCommands，hash的field使用key的编解码器
+ */
+public interface CodecRedisClient<K, V> {
+
+    public String set(K key, V value);
+
+    public String set(K key, V value, String nxxx, String expx, long time);
+
+    public String setex(K key, int seconds, V value);
+
+    public V get(K key);
+
+    public V getSet(K key, V value);
+
+    public Boolean exists(K key);
+
+    public Long del(K key);
+
+    public Long expire(K key, int seconds);
+
+    public Long ttl(K key);
+
+    public Long hset(K key, K field, V value);
+
+    public V hget(K key, K field);
+
+    public String hmset(K key, Map<K, V> hash);
+
+    public List<V> hmget(K key, Collection<K> fields);
+
+    public Map<K, V> hgetAll(K key);
+
+    public Boolean hexists(K key, K field);
+
+    public Long hdel(K key, Collection<K> fields);
+
+    public Long lpush(K key, Collection<V> values);
+
+    public Long rpush(K key, Collection<V> values);
+
+    public V lpop(K key);
+
+    public V rpop(K key);
+
+    public List<V> lrange(K key, long start, long end);
+
+    public Long sadd(K key, Collection<V> members);
+
+    public Long srem(K key, Collection<V> members);
+
+    public Set<V> smembers(K key);
+
+    public Boolean sismember(K key, V member);
+
+    public Long zadd(K key, double score, V member);
+
+    public Set<V> zrange(K key, long start, long end);
+
+    public Long zrem(K key, Collection<V> members);
+
+    public RedisCodec<K> getKeyCodec();
+
+    public RedisCodec<V> getValueCodec();
+}
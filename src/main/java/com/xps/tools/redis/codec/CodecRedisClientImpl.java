@@ -0,0 +1,304 @@
+package com.xps.tools.redis.codec;
+
+import redis.clients.jedis.BinaryJedisCommands;
+import redis.clients.util.SafeEncoder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * CodecRedisClient实现，底层可以是RedisClient或ShardedRedisClient(两者都实现了BinaryJedisCommands)
+ * 设置了ValueCompressor时，value在编码后按阈值透明压缩，读取时自动解压；set/zset的成员只序列化，从不压缩
+ */
+public class CodecRedisClientImpl<K, V> implements CodecRedisClient<K, V> {
+
+    private final BinaryJedisCommands commands;
+    private final RedisCodec<K> keyCodec;
+    private final RedisCodec<V> valueCodec;
+    private ValueCompressor valueCompressor;
+
+    public CodecRedisClientImpl(BinaryJedisCommands commands, RedisCodec<K> keyCodec, RedisCodec<V> valueCodec) {
+        this.commands = commands;
+        this.keyCodec = keyCodec;
+        this.valueCodec = valueCodec;
+    }
+
+    public CodecRedisClientImpl(BinaryJedisCommands commands, RedisCodec<K> keyCodec, RedisCodec<V> valueCodec,
+                                ValueCompressor valueCompressor) {
+        this(commands, keyCodec, valueCodec);
+        this.valueCompressor = valueCompressor;
+    }
+
+    protected byte[] encodeKey(K key) {
+        return keyCodec.encode(key);
+    }
+
+    protected byte[] encodeValue(byte[] rawKey, V value) {
+        byte[] bytes = valueCodec.encode(value);
+        return valueCompressor == null ? bytes : valueCompressor.compress(rawKey, bytes);
+    }
+
+    protected V decodeValue(byte[] rawKey, byte[] bytes) {
+        if(bytes == null) {
+            return null;
+        }
+        return valueCodec.decode(valueCompressor == null ? bytes : valueCompressor.decompress(rawKey, bytes));
+    }
+
+    /**
+     * set/zset的成员只做序列化，不压缩：成员的字节就是它的身份，同一个成员必须始终编码成相同的字节，
+     * 否则调整压缩阈值后SISMEMBER、SREM、ZREM找不到原来写入的成员
+     */
+    protected byte[] encodeMember(V member) {
+        return valueCodec.encode(member);
+    }
+
+    protected V decodeMember(byte[] bytes) {
+        return bytes == null ? null : valueCodec.decode(bytes);
+    }
+
+    @Override
+    public String set(K key, V value) {
+        byte[] rawKey = encodeKey(key);
+        return commands.set(rawKey, encodeValue(rawKey, value));
+    }
+
+    @Override
+    public String set(K key, V value, String nxxx, String expx, long time) {
+        byte[] rawKey = encodeKey(key);
+        return commands.set(rawKey, encodeValue(rawKey, value),
+                SafeEncoder.encode(nxxx), SafeEncoder.encode(expx), time);
+    }
+
+    @Override
+    public String setex(K key, int seconds, V value) {
+        byte[] rawKey = encodeKey(key);
+        return commands.setex(rawKey, seconds, encodeValue(rawKey, value));
+    }
+
+    @Override
+    public V get(K key) {
+        byte[] rawKey = encodeKey(key);
+        return decodeValue(rawKey, commands.get(rawKey));
+    }
+
+    @Override
+    public V getSet(K key, V value) {
+        byte[] rawKey = encodeKey(key);
+        return decodeValue(rawKey, commands.getSet(rawKey, encodeValue(rawKey, value)));
+    }
+
+    @Override
+    public Boolean exists(K key) {
+        return commands.exists(encodeKey(key));
+    }
+
+    @Override
+    public Long del(K key) {
+        return commands.del(encodeKey(key));
+    }
+
+    @Override
+    public Long expire(K key, int seconds) {
+        return commands.expire(encodeKey(key), seconds);
+    }
+
+    @Override
+    public Long ttl(K key) {
+        return commands.ttl(encodeKey(key));
+    }
+
+    @Override
+    public Long hset(K key, K field, V value) {
+        byte[] rawKey = encodeKey(key);
+        return commands.hset(rawKey, encodeKey(field), encodeValue(rawKey, value));
+    }
+
+    @Override
+    public V hget(K key, K field) {
+        byte[] rawKey = encodeKey(key);
+        return decodeValue(rawKey, commands.hget(rawKey, encodeKey(field)));
+    }
+
+    @Override
+    public String hmset(K key, Map<K, V> hash) {
+        byte[] rawKey = encodeKey(key);
+        Map<byte[], byte[]> rawHash = new HashMap<>(hash.size() * 4 / 3 + 1);
+        for(Map.Entry<K, V> entry : hash.entrySet()) {
+            rawHash.put(encodeKey(entry.getKey()), encodeValue(rawKey, entry.getValue()));
+        }
+        return commands.hmset(rawKey, rawHash);
+    }
+
+    @Override
+    public List<V> hmget(K key, Collection<K> fields) {
+        byte[] rawKey = encodeKey(key);
+        return decodeList(rawKey, commands.hmget(rawKey, encodeKeys(fields)));
+    }
+
+    @Override
+    public Map<K, V> hgetAll(K key) {
+        byte[] rawKey = encodeKey(key);
+        Map<byte[], byte[]> rawHash = commands.hgetAll(rawKey);
+        Map<K, V> hash = new LinkedHashMap<>(rawHash.size() * 4 / 3 + 1);
+        for(Map.Entry<byte[], byte[]> entry : rawHash.entrySet()) {
+            hash.put(keyCodec.decode(entry.getKey()), decodeValue(rawKey, entry.getValue()));
+        }
+        return hash;
+    }
+
+    @Override
+    public Boolean hexists(K key, K field) {
+        return commands.hexists(encodeKey(key), encodeKey(field));
+    }
+
+    @Override
+    public Long hdel(K key, Collection<K> fields) {
+        return commands.hdel(encodeKey(key), encodeKeys(fields));
+    }
+
+    @Override
+    public Long lpush(K key, Collection<V> values) {
+        byte[] rawKey = encodeKey(key);
+        return commands.lpush(rawKey, encodeValues(rawKey, values));
+    }
+
+    @Override
+    public Long rpush(K key, Collection<V> values) {
+        byte[] rawKey = encodeKey(key);
+        return commands.rpush(rawKey, encodeValues(rawKey, values));
+    }
+
+    @Override
+    public V lpop(K key) {
+        byte[] rawKey = encodeKey(key);
+        return decodeValue(rawKey, commands.lpop(rawKey));
+    }
+
+    @Override
+    public V rpop(K key) {
+        byte[] rawKey = encodeKey(key);
+        return decodeValue(rawKey, commands.rpop(rawKey));
+    }
+
+    @Override
+    public List<V> lrange(K key, long start, long end) {
+        byte[] rawKey = encodeKey(key);
+        return decodeList(rawKey, commands.lrange(rawKey, start, end));
+    }
+
+    @Override
+    public Long sadd(K key, Collection<V> members) {
+        byte[] rawKey = encodeKey(key);
+        return commands.sadd(rawKey, encodeMembers(members));
+    }
+
+    @Override
+    public Long srem(K key, Collection<V> members) {
+        byte[] rawKey = encodeKey(key);
+        return commands.srem(rawKey, encodeMembers(members));
+    }
+
+    @Override
+    public Set<V> smembers(K key) {
+        byte[] rawKey = encodeKey(key);
+        return decodeMembers(commands.smembers(rawKey));
+    }
+
+    @Override
+    public Boolean sismember(K key, V member) {
+        byte[] rawKey = encodeKey(key);
+        return commands.sismember(rawKey, encodeMember(member));
+    }
+
+    @Override
+    public Long zadd(K key, double score, V member) {
+        byte[] rawKey = encodeKey(key);
+        return commands.zadd(rawKey, score, encodeMember(member));
+    }
+
+    @Override
+    public Set<V> zrange(K key, long start, long end) {
+        byte[] rawKey = encodeKey(key);
+        return decodeMembers(commands.zrange(rawKey, start, end));
+    }
+
+    @Override
+    public Long zrem(K key, Collection<V> members) {
+        byte[] rawKey = encodeKey(key);
+        return commands.zrem(rawKey, encodeMembers(members));
+    }
+
+    @Override
+    public RedisCodec<K> getKeyCodec() {
+        return keyCodec;
+    }
+
+    @Override
+    public RedisCodec<V> getValueCodec() {
+        return valueCodec;
+    }
+
+    public ValueCompressor getValueCompressor() {
+        return valueCompressor;
+    }
+
+    public void setValueCompressor(ValueCompressor valueCompressor) {
+        this.valueCompressor = valueCompressor;
+    }
+
+    private byte[][] encodeKeys(Collection<K> keys) {
+        byte[][] raw = new byte[keys.size()][];
+        int i = 0;
+        for(K key : keys) {
+            raw[i++] = encodeKey(key);
+        }
+        return raw;
+    }
+
+    private byte[][] encodeValues(byte[] rawKey, Collection<V> values) {
+        byte[][] raw = new byte[values.size()][];
+        int i = 0;
+        for(V value : values) {
+            raw[i++] = encodeValue(rawKey, value);
+        }
+        return raw;
+    }
+
+    private byte[][] encodeMembers(Collection<V> members) {
+        byte[][] raw = new byte[members.size()][];
+        int i = 0;
+        for(V member : members) {
+            raw[i++] = encodeMember(member);
+        }
+        return raw;
+    }
+
+    private List<V> decodeList(byte[] rawKey, List<byte[]> rawList) {
+        if(rawList == null) {
+            return null;
+        }
+        List<V> list = new ArrayList<>(rawList.size());
+        for(byte[] bytes : rawList) {
+            list.add(decodeValue(rawKey, bytes));
+        }
+        return list;
+    }
+
+    private Set<V> decodeMembers(Set<byte[]> rawSet) {
+        if(rawSet == null) {
+            return null;
+        }
+        Set<V> set = new LinkedHashSet<>(rawSet.size() * 4 / 3 + 1);
+        for(byte[] bytes : rawSet) {
+            set.add(decodeMember(bytes));
+        }
+        return set;
+    }
+}
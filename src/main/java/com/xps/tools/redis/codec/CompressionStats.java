@@ -0,0 +1,86 @@
+package com.xps.tools.redis.codec;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 某个key前缀下的压缩统计，用于调整压缩阈值
+ */
+public class CompressionStats {
+
+    private final String prefix;
+    /**压缩后写入的次数*/
+    private final AtomicLong compressed = new AtomicLong();
+    /**低于阈值或压缩后不变小而原样写入的次数*/
+    private final AtomicLong skipped = new AtomicLong();
+    /**参与压缩的原始字节数与压缩后字节数*/
+    private final AtomicLong rawBytes = new AtomicLong();
+    private final AtomicLong compressedBytes = new AtomicLong();
+    private final AtomicLong compressCpuNanos = new AtomicLong();
+    private final AtomicLong decompressed = new AtomicLong();
+    private final AtomicLong decompressCpuNanos = new AtomicLong();
+
+    public CompressionStats(String prefix) {
+        this.prefix = prefix;
+    }
+
+    void recordCompress(int raw, int stored, long cpuNanos) {
+        compressed.incrementAndGet();
+        rawBytes.addAndGet(raw);
+        compressedBytes.addAndGet(stored);
+        compressCpuNanos.addAndGet(cpuNanos);
+    }
+
+    void recordSkip() {
+        skipped.incrementAndGet();
+    }
+
+    void recordDecompress(long cpuNanos) {
+        decompressed.incrementAndGet();
+        decompressCpuNanos.addAndGet(cpuNanos);
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public long getCompressed() {
+        return compressed.get();
+    }
+
+    public long getSkipped() {
+        return skipped.get();
+    }
+
+    public long getRawBytes() {
+        return rawBytes.get();
+    }
+
+    public long getCompressedBytes() {
+        return compressedBytes.get();
+    }
+
+    /**压缩后大小/原始大小，越小越好；没有压缩过时为1*/
+    public double getRatio() {
+        long raw = rawBytes.get();
+        return raw == 0 ? 1D : (double) compressedBytes.get() / raw;
+    }
+
+    public long getCompressCpuNanos() {
+        return compressCpuNanos.get();
+    }
+
+    public long getDecompressed() {
+        return decompressed.get();
+    }
+
+    public long getDecompressCpuNanos() {
+        return decompressCpuNanos.get();
+    }
+
+    @Override
+    public String toString() {
+        return "CompressionStats{prefix='" + prefix + "', compressed=" + getCompressed() + ", skipped=" + getSkipped()
+                + ", ratio=" + String.format("%.3f", getRatio()) + ", compressCpuNanos=" + getCompressCpuNanos()
+                + ", decompressed=" + getDecompressed() + ", decompressCpuNanos=" + getDecompressCpuNanos() + "}";
+    }
+}
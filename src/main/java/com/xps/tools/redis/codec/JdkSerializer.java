@@ -0,0 +1,37 @@
+package com.xps.tools.redis.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+
+/**
+ * 基于jdk序列化的Serializer
+ */
+public class JdkSerializer<T extends Serializable> implements Serializer<T> {
+
+    private final Class<T> type;
+
+    public JdkSerializer(Class<T> type) {
+        this.type = type;
+    }
+
+    @Override
+    public void serialize(T value, OutputStream out) throws IOException {
+        ObjectOutputStream oos = new ObjectOutputStream(out);
+        oos.writeObject(value);
+        oos.flush();
+    }
+
+    @Override
+    public T deserialize(InputStream in) throws IOException {
+        ObjectInputStream ois = new ObjectInputStream(in);
+        try {
+            return type.cast(ois.readObject());
+        } catch (ClassNotFoundException e) {
+            throw new IOException(e);
+        }
+    }
+}
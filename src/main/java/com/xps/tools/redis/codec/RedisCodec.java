@@ -0,0 +1,14 @@
+package com.xps.tools.redis.codec;
+
+/**
+ * key/value与redis二进制之间的编解码，直接走BinaryJedisCommands，不经过中间String
+ */
+public interface RedisCodec<T> {
+
+    public byte[] encode(T value);
+
+    /**
+     * @param bytes redis返回的原始字节，不存在时为null
+     */
+    public T decode(byte[] bytes);
+}
@@ -0,0 +1,15 @@
+package com.xps.tools.redis.codec;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 可插拔的序列化器，直接读写字节流(如jackson的writeValue(OutputStream))，配合SerializerCodec使用
+ */
+public interface Serializer<T> {
+
+    public void serialize(T value, OutputStream out) throws IOException;
+
+    public T deserialize(InputStream in) throws IOException;
+}
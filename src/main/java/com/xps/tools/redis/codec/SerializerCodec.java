@@ -0,0 +1,136 @@
+package com.xps.tools.redis.codec;
+
+import com.xps.tools.redis.exceptions.RedisToolsException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * 把Serializer适配为RedisCodec：序列化直接写入线程内复用的缓冲区，只在最后拷贝一次得到byte[]
+ */
+public class SerializerCodec<T> implements RedisCodec<T> {
+
+    /**超过该大小的缓冲区用完即丢，避免线程长期持有大数组*/
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private static final ThreadLocal<ReusableBuffer> BUFFER = new ThreadLocal<ReusableBuffer>() {
+        @Override
+        protected ReusableBuffer initialValue() {
+            return new ReusableBuffer();
+        }
+    };
+
+    private final Serializer<T> serializer;
+
+    public SerializerCodec(Serializer<T> serializer) {
+        this.serializer = serializer;
+    }
+
+    @Override
+    public byte[] encode(T value) {
+        if(value == null) {
+            return null;
+        }
+        ReusableBuffer buffer = BUFFER.get();
+        try {
+            serializer.serialize(value, buffer);
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            throw new RedisToolsException("序列化失败:" + e.getMessage(), e);
+        } finally {
+            if(buffer.capacity() > MAX_RETAINED_BUFFER) {
+                BUFFER.remove();
+            } else {
+                buffer.reset();
+            }
+        }
+    }
+
+    @Override
+    public T decode(byte[] bytes) {
+        if(bytes == null) {
+            return null;
+        }
+        try {
+            return serializer.deserialize(new BytesInputStream(bytes));
+        } catch (IOException e) {
+            throw new RedisToolsException("反序列化失败:" + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 非同步的ByteArrayOutputStream，序列化器逐字节写入时没有锁开销
+     */
+    private static class ReusableBuffer extends OutputStream {
+
+        private byte[] buf = new byte[1024];
+        private int count;
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(count + 1);
+            buf[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensureCapacity(count + len);
+            System.arraycopy(b, off, buf, count, len);
+            count += len;
+        }
+
+        private void ensureCapacity(int minCapacity) {
+            if(minCapacity > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length << 1, minCapacity));
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, count);
+        }
+
+        void reset() {
+            count = 0;
+        }
+
+        int capacity() {
+            return buf.length;
+        }
+    }
+
+    /**
+     * 非同步的ByteArrayInputStream
+     */
+    private static class BytesInputStream extends InputStream {
+
+        private final byte[] buf;
+        private int pos;
+
+        BytesInputStream(byte[] buf) {
+            this.buf = buf;
+        }
+
+        @Override
+        public int read() {
+            return pos < buf.length ? (buf[pos++] & 0xff) : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if(pos >= buf.length) {
+                return -1;
+            }
+            int n = Math.min(len, buf.length - pos);
+            System.arraycopy(buf, pos, b, off, n);
+            pos += n;
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return buf.length - pos;
+        }
+    }
+}
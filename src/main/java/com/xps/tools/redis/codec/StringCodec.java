@@ -0,0 +1,23 @@
+package com.xps.tools.redis.codec;
+
+import java.nio.charset.Charset;
+
+/**
+ * UTF-8字符串，与jedis String接口的编码一致
+ */
+public class StringCodec implements RedisCodec<String> {
+
+    public static final StringCodec INSTANCE = new StringCodec();
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    @Override
+    public byte[] encode(String value) {
+        return value == null ? null : value.getBytes(UTF_8);
+    }
+
+    @Override
+    public String decode(byte[] bytes) {
+        return bytes == null ? null : new String(bytes, UTF_8);
+    }
+}
@@ -0,0 +1,322 @@
+package com.xps.tools.redis.codec;
+
+import com.xps.tools.redis.exceptions.RedisToolsException;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 大value透明压缩：超过阈值的value用deflate(BEST_SPEED)压缩并加头部标记，读取时按头部自动解压，小value原样写入。
+ * 存储格式(魔数为0xFF 'R' 'Z'，后跟1字节格式版本)：
+ * <pre>
+ * 魔数 + 0x01 + 原始长度(4字节) + deflate数据   压缩过的value
+ * 魔数 + 0x00 + 原始value                      原始value恰好以魔数开头时的转义
+ * 其它                                         原始value
+ * </pre>
+ * 只有以完整的4字节头部开头的数据才会被解码，启用压缩之前写入的原始value按原样读出，
+ * 包括以0xFF、0xFE开头的二进制数据。唯一的迁移限制：旧数据不能以魔数加0x00/0x01开头，
+ * UTF-8文本不会出现0xFF，常见的序列化格式也不以这4个字节开头。
+ * 按key前缀(第一个分隔符之前的部分)统计压缩率和CPU耗时。
+ */
+public class ValueCompressor {
+
+    /**格式版本：deflate压缩*/
+    public static final byte FORMAT_DEFLATE = 0x01;
+    /**格式版本：转义的原始value*/
+    public static final byte FORMAT_ESCAPED = 0x00;
+
+    private static final byte[] MAGIC = {(byte) 0xFF, 'R', 'Z'};
+    private static final int HEADER_LENGTH = MAGIC.length + 1;
+    private static final int COMPRESSED_HEADER_LENGTH = HEADER_LENGTH + 4;
+
+    public static final int DEFAULT_THRESHOLD = 16 * 1024;
+    /**最多统计的key前缀个数，超过后归入OTHER_PREFIX*/
+    public static final int MAX_PREFIXES = 256;
+    public static final String NO_PREFIX = "(none)";
+    public static final String OTHER_PREFIX = "(other)";
+    /**解压后允许的最大长度，头部中的原始长度超过该值视为数据损坏*/
+    public static final int MAX_RAW_LENGTH = 1 << 30;
+    /**deflate的理论最大压缩比约为1032:1，头部中的原始长度超过该比例视为数据损坏*/
+    private static final int MAX_INFLATE_RATIO = 1032;
+    /**前缀缓存的槽位数，大于MAX_PREFIXES的2倍，线性探测不会填满*/
+    private static final int PREFIX_CACHE_SIZE = 1024;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final boolean CPU_TIME_SUPPORTED = THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported();
+
+    private static final ThreadLocal<Deflater> DEFLATER = new ThreadLocal<Deflater>() {
+        @Override
+        protected Deflater initialValue() {
+            return new Deflater(Deflater.BEST_SPEED, true);
+        }
+    };
+    private static final ThreadLocal<Inflater> INFLATER = new ThreadLocal<Inflater>() {
+        @Override
+        protected Inflater initialValue() {
+            return new Inflater(true);
+        }
+    };
+
+    private int threshold = DEFAULT_THRESHOLD;
+    private byte prefixDelimiter = ':';
+    private final ConcurrentMap<String, CompressionStats> stats = new ConcurrentHashMap<>();
+    /**按前缀原始字节查找统计项，命中时不需要解码出前缀字符串*/
+    private volatile PrefixEntry[] prefixCache = new PrefixEntry[PREFIX_CACHE_SIZE];
+
+    public ValueCompressor() {
+    }
+
+    public ValueCompressor(int threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * @param rawKey 用于按前缀统计，可以为null
+     */
+    public byte[] compress(byte[] rawKey, byte[] value) {
+        if(value == null) {
+            return null;
+        }
+        if(value.length < threshold) {
+            statsFor(rawKey).recordSkip();
+            return escape(value);
+        }
+        long start = cpuTime();
+        Deflater deflater = DEFLATER.get();
+        byte[] out = new byte[COMPRESSED_HEADER_LENGTH + value.length];
+        int length;
+        try {
+            deflater.setInput(value);
+            deflater.finish();
+            length = COMPRESSED_HEADER_LENGTH;
+            while(!deflater.finished() && length < out.length) {
+                length += deflater.deflate(out, length, out.length - length);
+            }
+            if(!deflater.finished()) {
+                //压缩后不比原始数据小，不值得压缩
+                statsFor(rawKey).recordSkip();
+                return escape(value);
+            }
+        } finally {
+            deflater.reset();
+        }
+        writeHeader(out, FORMAT_DEFLATE);
+        out[HEADER_LENGTH] = (byte) (value.length >>> 24);
+        out[HEADER_LENGTH + 1] = (byte) (value.length >>> 16);
+        out[HEADER_LENGTH + 2] = (byte) (value.length >>> 8);
+        out[HEADER_LENGTH + 3] = (byte) value.length;
+        byte[] stored = Arrays.copyOf(out, length);
+        statsFor(rawKey).recordCompress(value.length, stored.length, cpuTime() - start);
+        return stored;
+    }
+
+    public byte[] decompress(byte[] rawKey, byte[] stored) {
+        int format = formatOf(stored);
+        if(format == FORMAT_ESCAPED) {
+            return Arrays.copyOfRange(stored, HEADER_LENGTH, stored.length);
+        }
+        if(format != FORMAT_DEFLATE) {
+            return stored;
+        }
+        if(stored.length < COMPRESSED_HEADER_LENGTH) {
+            throw new RedisToolsException("解压失败：数据不完整，长度" + stored.length);
+        }
+        long start = cpuTime();
+        int rawLength = ((stored[HEADER_LENGTH] & 0xff) << 24) | ((stored[HEADER_LENGTH + 1] & 0xff) << 16)
+                | ((stored[HEADER_LENGTH + 2] & 0xff) << 8) | (stored[HEADER_LENGTH + 3] & 0xff);
+        int compressedLength = stored.length - COMPRESSED_HEADER_LENGTH;
+        if(rawLength < 0 || rawLength > MAX_RAW_LENGTH || rawLength > (long) compressedLength * MAX_INFLATE_RATIO) {
+            throw new RedisToolsException("解压失败：原始长度" + rawLength + "不合法，压缩数据长度" + compressedLength);
+        }
+        byte[] value = new byte[rawLength];
+        Inflater inflater = INFLATER.get();
+        try {
+            inflater.setInput(stored, COMPRESSED_HEADER_LENGTH, compressedLength);
+            int length = 0;
+            while(length < rawLength && !inflater.finished()) {
+                int n = inflater.inflate(value, length, rawLength - length);
+                if(n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += n;
+            }
+            if(length != rawLength) {
+                throw new RedisToolsException("解压失败：数据长度不一致，期望" + rawLength + "，实际" + length);
+            }
+        } catch (DataFormatException e) {
+            throw new RedisToolsException("解压失败:" + e.getMessage(), e);
+        } finally {
+            inflater.reset();
+        }
+        statsFor(rawKey).recordDecompress(cpuTime() - start);
+        return value;
+    }
+
+    /**
+     * @return stored以完整头部开头时返回格式版本，否则返回-1(原始value)
+     */
+    static int formatOf(byte[] stored) {
+        if(stored == null || stored.length < HEADER_LENGTH) {
+            return -1;
+        }
+        for(int i = 0; i < MAGIC.length; i++) {
+            if(stored[i] != MAGIC[i]) {
+                return -1;
+            }
+        }
+        byte format = stored[MAGIC.length];
+        return format == FORMAT_DEFLATE || format == FORMAT_ESCAPED ? format : -1;
+    }
+
+    private static void writeHeader(byte[] out, byte format) {
+        System.arraycopy(MAGIC, 0, out, 0, MAGIC.length);
+        out[MAGIC.length] = format;
+    }
+
+    private static byte[] escape(byte[] value) {
+        if(formatOf(value) < 0) {
+            return value;
+        }
+        byte[] escaped = new byte[value.length + HEADER_LENGTH];
+        writeHeader(escaped, FORMAT_ESCAPED);
+        System.arraycopy(value, 0, escaped, HEADER_LENGTH, value.length);
+        return escaped;
+    }
+
+    private static long cpuTime() {
+        return CPU_TIME_SUPPORTED ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    private CompressionStats statsFor(byte[] rawKey) {
+        int end = prefixEnd(rawKey);
+        if(end < 0) {
+            return statsFor(NO_PREFIX);
+        }
+        PrefixEntry[] cache = prefixCache;
+        int mask = cache.length - 1;
+        int hash = hash(rawKey, end);
+        for(int i = hash & mask; cache[i] != null; i = (i + 1) & mask) {
+            PrefixEntry entry = cache[i];
+            if(entry.hash == hash && entry.matches(rawKey, end)) {
+                return entry.stats;
+            }
+        }
+        String prefix = new String(rawKey, 0, end, UTF_8);
+        CompressionStats s = statsFor(prefix);
+        if(s.getPrefix().equals(prefix)) {
+            cachePrefix(Arrays.copyOf(rawKey, end), hash, s);
+        }
+        return s;
+    }
+
+    private CompressionStats statsFor(String prefix) {
+        CompressionStats s = stats.get(prefix);
+        if(s != null) {
+            return s;
+        }
+        if(stats.size() >= MAX_PREFIXES) {
+            prefix = OTHER_PREFIX;
+        }
+        s = new CompressionStats(prefix);
+        CompressionStats exists = stats.putIfAbsent(prefix, s);
+        return exists == null ? s : exists;
+    }
+
+    private synchronized void cachePrefix(byte[] bytes, int hash, CompressionStats s) {
+        PrefixEntry[] cache = prefixCache;
+        int mask = cache.length - 1;
+        int i = hash & mask;
+        for(; cache[i] != null; i = (i + 1) & mask) {
+            if(cache[i].hash == hash && cache[i].matches(bytes, bytes.length)) {
+                return;
+            }
+        }
+        //槽位只写一次，PrefixEntry的字段都是final，并发读到的要么是null要么是完整的条目
+        cache[i] = new PrefixEntry(bytes, hash, s);
+    }
+
+    /**
+     * @return 第一个分隔符的下标，没有前缀时返回-1
+     */
+    private int prefixEnd(byte[] rawKey) {
+        if(rawKey == null) {
+            return -1;
+        }
+        for(int i = 0; i < rawKey.length; i++) {
+            if(rawKey[i] == prefixDelimiter) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int hash(byte[] bytes, int length) {
+        int h = 1;
+        for(int i = 0; i < length; i++) {
+            h = 31 * h + bytes[i];
+        }
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * 各key前缀的压缩统计
+     */
+    public Collection<CompressionStats> getStats() {
+        return Collections.unmodifiableCollection(stats.values());
+    }
+
+    public CompressionStats getStats(String prefix) {
+        return stats.get(prefix);
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(int threshold) {
+        this.threshold = threshold;
+    }
+
+    public char getPrefixDelimiter() {
+        return (char) prefixDelimiter;
+    }
+
+    public void setPrefixDelimiter(char prefixDelimiter) {
+        this.prefixDelimiter = (byte) prefixDelimiter;
+        this.prefixCache = new PrefixEntry[PREFIX_CACHE_SIZE];
+    }
+
+    private static final class PrefixEntry {
+        private final byte[] bytes;
+        private final int hash;
+        private final CompressionStats stats;
+
+        private PrefixEntry(byte[] bytes, int hash, CompressionStats stats) {
+            this.bytes = bytes;
+            this.hash = hash;
+            this.stats = stats;
+        }
+
+        private boolean matches(byte[] key, int length) {
+            if(bytes.length != length) {
+                return false;
+            }
+            for(int i = 0; i < length; i++) {
+                if(bytes[i] != key[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.xps.tools.redis.config;
 
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import redis.clients.jedis.Protocol.Command;
 
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -23,6 +25,46 @@ public class RedisSentinelPoolConfig extends GenericObjectPoolConfig {
     private int database;
     private String clientName;
 
+    /**为true时只读命令分发到master的副本(通过哨兵发现)，没有可用副本时读master*/
+    private boolean readFromReplicas = false;
+    /**副本列表的刷新间隔(毫秒)*/
+    private long replicaRefreshMillis = 10000L;
+    /**按命令单独配置的读超时(毫秒)，如ZUNIONSTORE、SORT等重命令给更长的超时，GET给更短的超时；未配置的命令使用连接的超时*/
+    private Map<Command, Integer> commandTimeouts;
+    /**隔舱：阻塞命令(BLPOP、SUBSCRIBE等)、重命令(SORT、ZUNIONSTORE等)和其它命令各自最多同时占用的连接数，小于等于0表示不限制*/
+    private int blockingPermits;
+    private int heavyPermits;
+    private int fastPermits;
+    /**隔舱已满时最多等待的毫秒数，0表示直接失败*/
+    private long bulkheadWaitMillis;
+    /**大于0时开启自适应连接数：按借连接等待和命令耗时在[adaptiveMinTotal, adaptiveMaxTotal]之间调整maxTotal*/
+    private int adaptiveMaxTotal;
+    private int adaptiveMinTotal = 1;
+    /**创建连接池时预热：并行建立warmUpConnections个连接(小于等于0时取minIdle)，warmUpBlocking为true时等待预热完成再返回*/
+    private boolean warmUp = false;
+    private int warmUpConnections;
+    private boolean warmUpBlocking = true;
+    private long warmUpTimeoutMillis = 10000L;
+    /**
+     * 大于0时，testOnBorrow对该毫秒数内刚被正常归还过的连接不再发送PING，只检查连接状态；
+     * 配合testWhileIdle由后台定期校验空闲连接，出现连接错误时立即校验一轮空闲连接
+     */
+    private long validationSkipMillis;
+    /**大于0时开启线程亲和的连接缓存：每个线程缓存一个连接直接复用，最多缓存该数量个，应小于maxTotal，不能与priorityBorrow同时开启*/
+    private int threadAffineConnections;
+    /**
+     * 为true时连接池饱和后按execute指定的优先级(INTERACTIVE、NORMAL、BACKGROUND)分配连接，
+     * 等待者每等待priorityAgingMillis提升一级，避免低优先级饿死
+     */
+    private boolean priorityBorrow = false;
+    private long priorityAgingMillis = 100L;
+    /**
+     * 大于0时跟踪execute回调占用连接的时间：超过该毫秒数的按调用位置统计并告警，
+     * 每借出leakSampleInterval次采样一次借出时的调用栈
+     */
+    private long leakThresholdMillis;
+    private int leakSampleInterval = 100;
+
     public String getMasterName() {
         return masterName;
     }
@@ -86,4 +128,156 @@ public class RedisSentinelPoolConfig extends GenericObjectPoolConfig {
     public void setClientName(String clientName) {
         this.clientName = clientName;
     }
+
+    public boolean isReadFromReplicas() {
+        return readFromReplicas;
+    }
+
+    public void setReadFromReplicas(boolean readFromReplicas) {
+        this.readFromReplicas = readFromReplicas;
+    }
+
+    public long getReplicaRefreshMillis() {
+        return replicaRefreshMillis;
+    }
+
+    public void setReplicaRefreshMillis(long replicaRefreshMillis) {
+        this.replicaRefreshMillis = replicaRefreshMillis;
+    }
+
+    public Map<Command, Integer> getCommandTimeouts() {
+        return commandTimeouts;
+    }
+
+    public void setCommandTimeouts(Map<Command, Integer> commandTimeouts) {
+        this.commandTimeouts = commandTimeouts;
+    }
+
+    public int getBlockingPermits() {
+        return blockingPermits;
+    }
+
+    public void setBlockingPermits(int blockingPermits) {
+        this.blockingPermits = blockingPermits;
+    }
+
+    public int getHeavyPermits() {
+        return heavyPermits;
+    }
+
+    public void setHeavyPermits(int heavyPermits) {
+        this.heavyPermits = heavyPermits;
+    }
+
+    public int getFastPermits() {
+        return fastPermits;
+    }
+
+    public void setFastPermits(int fastPermits) {
+        this.fastPermits = fastPermits;
+    }
+
+    public long getBulkheadWaitMillis() {
+        return bulkheadWaitMillis;
+    }
+
+    public void setBulkheadWaitMillis(long bulkheadWaitMillis) {
+        this.bulkheadWaitMillis = bulkheadWaitMillis;
+    }
+
+    public int getAdaptiveMaxTotal() {
+        return adaptiveMaxTotal;
+    }
+
+    public void setAdaptiveMaxTotal(int adaptiveMaxTotal) {
+        this.adaptiveMaxTotal = adaptiveMaxTotal;
+    }
+
+    public int getAdaptiveMinTotal() {
+        return adaptiveMinTotal;
+    }
+
+    public void setAdaptiveMinTotal(int adaptiveMinTotal) {
+        this.adaptiveMinTotal = adaptiveMinTotal;
+    }
+
+    public boolean isWarmUp() {
+        return warmUp;
+    }
+
+    public void setWarmUp(boolean warmUp) {
+        this.warmUp = warmUp;
+    }
+
+    public int getWarmUpConnections() {
+        return warmUpConnections;
+    }
+
+    public void setWarmUpConnections(int warmUpConnections) {
+        this.warmUpConnections = warmUpConnections;
+    }
+
+    public boolean isWarmUpBlocking() {
+        return warmUpBlocking;
+    }
+
+    public void setWarmUpBlocking(boolean warmUpBlocking) {
+        this.warmUpBlocking = warmUpBlocking;
+    }
+
+    public long getWarmUpTimeoutMillis() {
+        return warmUpTimeoutMillis;
+    }
+
+    public void setWarmUpTimeoutMillis(long warmUpTimeoutMillis) {
+        this.warmUpTimeoutMillis = warmUpTimeoutMillis;
+    }
+
+    public long getValidationSkipMillis() {
+        return validationSkipMillis;
+    }
+
+    public void setValidationSkipMillis(long validationSkipMillis) {
+        this.validationSkipMillis = validationSkipMillis;
+    }
+
+    public int getThreadAffineConnections() {
+        return threadAffineConnections;
+    }
+
+    public void setThreadAffineConnections(int threadAffineConnections) {
+        this.threadAffineConnections = threadAffineConnections;
+    }
+
+    public boolean isPriorityBorrow() {
+        return priorityBorrow;
+    }
+
+    public void setPriorityBorrow(boolean priorityBorrow) {
+        this.priorityBorrow = priorityBorrow;
+    }
+
+    public long getPriorityAgingMillis() {
+        return priorityAgingMillis;
+    }
+
+    public void setPriorityAgingMillis(long priorityAgingMillis) {
+        this.priorityAgingMillis = priorityAgingMillis;
+    }
+
+    public long getLeakThresholdMillis() {
+        return leakThresholdMillis;
+    }
+
+    public void setLeakThresholdMillis(long leakThresholdMillis) {
+        this.leakThresholdMillis = leakThresholdMillis;
+    }
+
+    public int getLeakSampleInterval() {
+        return leakSampleInterval;
+    }
+
+    public void setLeakSampleInterval(int leakSampleInterval) {
+        this.leakSampleInterval = leakSampleInterval;
+    }
 }
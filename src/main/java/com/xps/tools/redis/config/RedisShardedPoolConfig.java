@@ -1,10 +1,16 @@
 package com.xps.tools.redis.config;
 
+import com.xps.tools.redis.resilience.CircuitBreaker;
+import com.xps.tools.redis.shard.KeyTagExtractor;
+import com.xps.tools.redis.shard.ReplicaLoadBalance;
+import com.xps.tools.redis.shard.ShardingStrategy;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import redis.clients.jedis.JedisShardInfo;
+import redis.clients.jedis.Protocol.Command;
 import redis.clients.util.Hashing;
 
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 /**
@@ -15,6 +21,30 @@ public class RedisShardedPoolConfig extends GenericObjectPoolConfig {
     private List<JedisShardInfo> shards;
     private Hashing algo = Hashing.MURMUR_HASH;
     private Pattern keyTagPattern;
+    /**无正则的hashtag提取，设置后忽略keyTagPattern；keyTagPattern为jedis默认规则时自动使用KeyTagExtractor.BRACES*/
+    private KeyTagExtractor keyTagExtractor;
+    /**为空时使用jedis默认的虚拟节点环(algo)，否则使用JumpHashStrategy/RendezvousHashStrategy/LookupTableStrategy等*/
+    private ShardingStrategy shardingStrategy;
+    /**为true时每个分片使用独立的连接池和熔断器(IsolatedShardedJedisPool)，单个分片故障不影响其它分片*/
+    private boolean shardIsolation = false;
+    /**分片隔离模式下，分片连续失败多少次后熔断*/
+    private int shardFailureThreshold = CircuitBreaker.DEFAULT_FAILURE_THRESHOLD;
+    /**分片隔离模式下，熔断后多久(毫秒)放行一个探测请求*/
+    private long shardOpenMillis = CircuitBreaker.DEFAULT_OPEN_MILLIS;
+    /**分片主节点(shards中的对象) -> 只读副本，配置后自动使用分片隔离模式，写命令走主节点，只读命令读副本*/
+    private Map<JedisShardInfo, List<JedisShardInfo>> replicas;
+    /**只读命令在副本间的负载均衡方式*/
+    private ReplicaLoadBalance replicaLoadBalance = ReplicaLoadBalance.ROUND_ROBIN;
+    /**只读命令是否也分给主节点，为false时只在副本都不可用时读主节点*/
+    private boolean readFromPrimary = false;
+    /**按命令单独配置的读超时(毫秒)，如ZUNIONSTORE、SORT等重命令给更长的超时，GET给更短的超时；未配置的命令使用连接的超时*/
+    private Map<Command, Integer> commandTimeouts;
+    /**
+     * 大于0时跟踪execute回调占用连接的时间：超过该毫秒数的按调用位置统计并告警，
+     * 每借出leakSampleInterval次采样一次借出时的调用栈
+     */
+    private long leakThresholdMillis;
+    private int leakSampleInterval = 100;
 
     public List<JedisShardInfo> getShards() {
         return shards;
@@ -39,4 +69,92 @@ public class RedisShardedPoolConfig extends GenericObjectPoolConfig {
     public void setKeyTagPattern(Pattern keyTagPattern) {
         this.keyTagPattern = keyTagPattern;
     }
+
+    public ShardingStrategy getShardingStrategy() {
+        return shardingStrategy;
+    }
+
+    public void setShardingStrategy(ShardingStrategy shardingStrategy) {
+        this.shardingStrategy = shardingStrategy;
+    }
+
+    public KeyTagExtractor getKeyTagExtractor() {
+        return keyTagExtractor;
+    }
+
+    public void setKeyTagExtractor(KeyTagExtractor keyTagExtractor) {
+        this.keyTagExtractor = keyTagExtractor;
+    }
+
+    public boolean isShardIsolation() {
+        return shardIsolation;
+    }
+
+    public void setShardIsolation(boolean shardIsolation) {
+        this.shardIsolation = shardIsolation;
+    }
+
+    public int getShardFailureThreshold() {
+        return shardFailureThreshold;
+    }
+
+    public void setShardFailureThreshold(int shardFailureThreshold) {
+        this.shardFailureThreshold = shardFailureThreshold;
+    }
+
+    public long getShardOpenMillis() {
+        return shardOpenMillis;
+    }
+
+    public void setShardOpenMillis(long shardOpenMillis) {
+        this.shardOpenMillis = shardOpenMillis;
+    }
+
+    public Map<JedisShardInfo, List<JedisShardInfo>> getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicas(Map<JedisShardInfo, List<JedisShardInfo>> replicas) {
+        this.replicas = replicas;
+    }
+
+    public ReplicaLoadBalance getReplicaLoadBalance() {
+        return replicaLoadBalance;
+    }
+
+    public void setReplicaLoadBalance(ReplicaLoadBalance replicaLoadBalance) {
+        this.replicaLoadBalance = replicaLoadBalance;
+    }
+
+    public boolean isReadFromPrimary() {
+        return readFromPrimary;
+    }
+
+    public void setReadFromPrimary(boolean readFromPrimary) {
+        this.readFromPrimary = readFromPrimary;
+    }
+
+    public Map<Command, Integer> getCommandTimeouts() {
+        return commandTimeouts;
+    }
+
+    public void setCommandTimeouts(Map<Command, Integer> commandTimeouts) {
+        this.commandTimeouts = commandTimeouts;
+    }
+
+    public long getLeakThresholdMillis() {
+        return leakThresholdMillis;
+    }
+
+    public void setLeakThresholdMillis(long leakThresholdMillis) {
+        this.leakThresholdMillis = leakThresholdMillis;
+    }
+
+    public int getLeakSampleInterval() {
+        return leakSampleInterval;
+    }
+
+    public void setLeakSampleInterval(int leakSampleInterval) {
+        this.leakSampleInterval = leakSampleInterval;
+    }
 }
@@ -47,6 +47,16 @@ public class RedisToolsException extends RuntimeException {
 		 this.message = message;
 	}
 	
+	/**
+	 * 供高频抛出的子类使用，writableStackTrace为false时不填充堆栈
+	 */
+	protected RedisToolsException(IExceptionComp exceptionComp, String message, boolean writableStackTrace){
+		super(message, null, false, writableStackTrace);
+		this.exceptionComp = exceptionComp;
+		this.code = exceptionComp.getCode();
+		this.message = message;
+	}
+
 	public RedisToolsException(String message, Throwable cause){
 		 super(message,new Throwable(message));
 		 this.message = message;
@@ -3,14 +3,27 @@ package com.xps.tools.redis.exceptions;
 
 public enum RedisToolsExceptionComp implements IExceptionComp{
 
-	PARAMETER_FAIL_POOL_TYPE_JEDIS("R001","参数格式错误：Pool<Jedis>目前只支持JedisPool和JedisSentinelPool", IExceptionComp.Level.ERROR),
-	PARAMETER_FAIL_POOL_TYPE_SHARDED("R002","参数格式错误：Pool<ShardedJedis>目前只支持ShardedJedisPool", IExceptionComp.Level.ERROR),
+	PARAMETER_FAIL_POOL_TYPE_JEDIS("R001","参数格式错误：Pool<Jedis>目前只支持JedisPool、JedisSentinelPool和StripedJedisPool", IExceptionComp.Level.ERROR),
+	PARAMETER_FAIL_POOL_TYPE_SHARDED("R002","参数格式错误：Pool<ShardedJedis>目前只支持ShardedJedisPool、RoutedShardedJedisPool和IsolatedShardedJedisPool", IExceptionComp.Level.ERROR),
 	NULL_OR_EMPTY_CONFIG_JEDISPOOL("R003","配置不能为空：redisPoolConfig或redisSentinelPoolConfig不能为空", IExceptionComp.Level.ERROR),
 	NULL_OR_EMPTY_CONFIG_SHARDPOOL("R003","配置不能为空：redisShardedPoolConfig不能为空", IExceptionComp.Level.ERROR),
 	NULL_OR_EMPTY_CONFIG_SHARDINFO("R004","配置不能为空：redisShardedPoolConfig中的shards不能为空", IExceptionComp.Level.ERROR),
 	PARAM_NULL_HOST("R005","参数不能为空：HOST的值不能为空", IExceptionComp.Level.ERROR),
 	PARAM_NULL_MASTERNAME("R006","参数不能为空：masterName的值不能为空", IExceptionComp.Level.ERROR),
-	PARAM_NULL_SENTINELS("R007","参数不能为空：sentinels的值不能为空", IExceptionComp.Level.ERROR);
+	PARAM_NULL_SENTINELS("R007","参数不能为空：sentinels的值不能为空", IExceptionComp.Level.ERROR),
+	PARAM_NULL_SCRIPT("R008","参数不能为空：lua脚本不能为空", IExceptionComp.Level.ERROR),
+	PARAM_NULL_SCRIPT_KEYS("R009","参数不能为空：分片模式下执行lua脚本时keys不能为空，需根据第一个key定位分片", IExceptionComp.Level.ERROR),
+	LOB_CHUNK_MISSING("R010","大对象{0}的分块{1}不存在，可能已过期或被淘汰", IExceptionComp.Level.ERROR),
+	LOB_CHUNK_CORRUPTED("R011","大对象{0}的分块{1}校验失败", IExceptionComp.Level.ERROR),
+	LOB_MANIFEST_INVALID("R012","大对象{0}的manifest格式错误", IExceptionComp.Level.ERROR),
+	SHARD_UNAVAILABLE("R013","分片{0}不可用：{1}", IExceptionComp.Level.ERROR),
+	DEADLINE_EXCEEDED("R014","调用已超过截止时间，不再执行", IExceptionComp.Level.ERROR),
+	CIRCUIT_OPEN("R015","{0}熔断中，请求被直接拒绝", IExceptionComp.Level.ERROR),
+	BULKHEAD_FULL("R016","{0}类命令同时执行的数量已达上限{1}", IExceptionComp.Level.ERROR),
+	SHARD_TOPOLOGY_CHANGED("R017","分片节点发生变化，不能直接重新配置，请使用在线迁移：{0}", IExceptionComp.Level.ERROR),
+	POOLED_CONNECTION_STATE("R018","{0}会改变连接池中共享连接的状态，不允许执行，{1}", IExceptionComp.Level.ERROR),
+	PARAM_OUT_OF_RANGE("R019","参数超出范围：{0}的取值范围为[{1}, {2}]，实际为{3}", IExceptionComp.Level.ERROR),
+	CONFIG_CONFLICT("R020","配置冲突：{0}与{1}不能同时开启", IExceptionComp.Level.ERROR);
 
 	
 	private String code;
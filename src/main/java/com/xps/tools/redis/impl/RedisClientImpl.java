@@ -3,11 +3,34 @@ package com.xps.tools.redis.impl;
 import com.xps.tools.redis.JedisAction;
 import com.xps.tools.redis.util.PoolHandler;
 import com.xps.tools.redis.RedisClient;
+import com.xps.tools.redis.balance.SentinelReplicaSet;
+import com.xps.tools.redis.codec.CodecRedisClient;
+import com.xps.tools.redis.codec.CodecRedisClientImpl;
+import com.xps.tools.redis.codec.RedisCodec;
 import com.xps.tools.redis.config.RedisPoolConfig;
 import com.xps.tools.redis.config.RedisSentinelPoolConfig;
 import com.xps.tools.redis.exceptions.RedisToolsException;
 import com.xps.tools.redis.exceptions.RedisToolsExceptionComp;
+import com.xps.tools.redis.pool.AdaptivePoolController;
+import com.xps.tools.redis.pool.Bulkhead;
+import com.xps.tools.redis.pool.DatabaseJedisFactory;
+import com.xps.tools.redis.pool.LeakDetector;
+import com.xps.tools.redis.pool.Pools;
+import com.xps.tools.redis.pool.Priority;
+import com.xps.tools.redis.pool.PriorityGate;
+import com.xps.tools.redis.resilience.Deadline;
+import com.xps.tools.redis.resilience.CircuitBreaker;
+import com.xps.tools.redis.resilience.HedgePolicy;
+import com.xps.tools.redis.resilience.RedisFailures;
+import com.xps.tools.redis.resilience.RetryPolicy;
+import com.xps.tools.redis.script.LuaScript;
+import com.xps.tools.redis.script.ScriptRegistry;
+import com.xps.tools.redis.shard.ShardNode;
+import com.xps.tools.redis.shard.ShardUnavailableException;
+import com.xps.tools.redis.util.CommandTraits;
 import redis.clients.jedis.*;
+import redis.clients.jedis.Protocol.Command;
+import redis.clients.jedis.exceptions.JedisConnectionException;
 import redis.clients.jedis.params.geo.GeoRadiusParam;
 import redis.clients.jedis.params.sortedset.ZAddParams;
 import redis.clients.jedis.params.sortedset.ZIncrByParams;
@@ -19,6 +42,9 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -32,6 +58,15 @@ public class RedisClientImpl implements RedisClient {
     protected PoolHandler poolHandler = PoolHandler.getInstance();
     private static final String LOCK = "lock";
     private Logger logger = Logger.getLogger(this.getClass().getName());
+    private ScriptRegistry scriptRegistry = new ScriptRegistry();
+    private volatile HedgePolicy hedgePolicy;
+    private volatile CircuitBreaker circuitBreaker;
+    private volatile RetryPolicy retryPolicy;
+    /**小于0时使用配置的库(哨兵配置的database，单机为0)*/
+    private int database = -1;
+    /**database(int)返回的视图持有创建它的客户端，视图不拥有连接池*/
+    private RedisClientImpl root;
+    private final ConcurrentMap<Integer, RedisClientImpl> views = new ConcurrentHashMap<>();
 
     public RedisClientImpl(){}
     public RedisClientImpl(RedisPoolConfig redisPoolConfig){
@@ -45,9 +80,148 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public <T> T execute(JedisAction<T> jedisAction) {
+        return this.execute(null, jedisAction);
+    }
+
+    /**
+     * 执行已知命令类别的操作：哨兵模式开启readFromReplicas时，非游标的只读命令按实时耗时挑选副本执行，
+     * 副本不可用或连接出错时改读master；设置了hedgePolicy且有可读的副本时，只读命令超过对冲延迟会向另一个副本(或master)再发一次
+     * 设置了circuitBreaker时，熔断期间直接抛出CircuitOpenException；配置了隔舱时先获取命令所属类别的许可；
+     * 设置了retryPolicy时幂等命令遇到连接错误等瞬时故障会重试
+     * @param command 操作对应的redis命令，为空时按写命令处理(不重试)
+     */
+    @Override
+    public <T> T execute(Command command, JedisAction<T> jedisAction) {
+        return this.execute(Priority.NORMAL, command, jedisAction);
+    }
+
+    /**
+     * 开启priorityBorrow时，连接池饱和后按priority分配master的连接
+     */
+    @Override
+    public <T> T execute(Priority priority, Command command, JedisAction<T> jedisAction) {
+        Bulkhead bulkhead = poolHandler.getBulkhead();
+        if(bulkhead == null) {
+            return this.retry(priority, command, jedisAction);
+        }
+        Bulkhead.CommandClass commandClass = bulkhead.acquire(command);
+        try {
+            return this.retry(priority, command, jedisAction);
+        } finally {
+            bulkhead.release(commandClass);
+        }
+    }
+
+    /**
+     * 设置了retryPolicy时，幂等命令遇到瞬时故障换一个连接重试，每次重试都经过熔断器
+     */
+    private <T> T retry(final Priority priority, final Command command, final JedisAction<T> jedisAction) {
+        RetryPolicy retryPolicy = this.retryPolicy;
+        if(retryPolicy == null) {
+            return this.guard(priority, command, jedisAction);
+        }
+        return retryPolicy.execute(command, new Callable<T>() {
+            @Override
+            public T call() {
+                return guard(priority, command, jedisAction);
+            }
+        });
+    }
+
+    private <T> T guard(Priority priority, Command command, JedisAction<T> jedisAction) {
+        CircuitBreaker circuitBreaker = this.circuitBreaker;
+        if(circuitBreaker == null) {
+            return this.route(priority, command, jedisAction);
+        }
+        circuitBreaker.acquire();
+        long start = System.nanoTime();
+        try {
+            T result = this.route(priority, command, jedisAction);
+            circuitBreaker.onSuccess(System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException e) {
+            if(RedisFailures.isServerFailure(e)) {
+                circuitBreaker.onFailure();
+            } else if(RedisFailures.isPoolExhausted(e)) {
+                circuitBreaker.onIgnored();
+            } else {
+                circuitBreaker.onSuccess(System.nanoTime() - start);
+            }
+            throw e;
+        }
+    }
+
+    private <T> T route(final Priority priority, Command command, final JedisAction<T> jedisAction) {
+        if(CommandTraits.isReadOnly(command) && !CommandTraits.isCursor(command)) {
+            SentinelReplicaSet replicaSet = poolHandler.getSentinelReplicaSet();
+            final ShardNode replica = replicaSet == null ? null : replicaSet.select();
+            HedgePolicy hedgePolicy = this.hedgePolicy;
+            if(hedgePolicy == null || replica == null) {//没有副本时两次都读master，对冲没有意义
+                return this.read(priority, command, replica, jedisAction);
+            }
+            final ShardNode other = replica == null ? null : replicaSet.select(replica);
+            final Command readCommand = command;
+            return hedgePolicy.execute(new Callable<T>() {
+                @Override
+                public T call() {
+                    return read(priority, readCommand, replica, jedisAction);
+                }
+            }, new Callable<T>() {
+                @Override
+                public T call() {
+                    return read(priority, readCommand, other, jedisAction);
+                }
+            });
+        }
+        return this.executeOnMaster(priority, command, jedisAction);
+    }
+
+    /**
+     * replica为空或不可用时读master
+     */
+    private <T> T read(Priority priority, Command command, ShardNode replica, JedisAction<T> jedisAction) {
+        if(replica != null) {
+            try {
+                return this.executeOnReplica(command, replica, jedisAction);
+            } catch (ShardUnavailableException | JedisConnectionException e) {
+                logger.log(Level.FINE, "副本" + replica.getName() + "不可用，改读master", e);
+            }
+        }
+        return this.executeOnMaster(priority, command, jedisAction);
+    }
+
+    /**
+     * 借连接和读响应都受当前线程的截止时间(Deadline)限制，读超时按commandTimeouts和截止时间调整
+     */
+    private <T> T executeOnMaster(Priority priority, Command command, JedisAction<T> jedisAction) {
+        PriorityGate priorityGate = poolHandler.getPriorityGate();
+        if(priorityGate == null) {
+            return this.executeOnMaster(command, jedisAction);
+        }
+        priorityGate.acquire(priority);
+        try {
+            return this.executeOnMaster(command, jedisAction);
+        } finally {
+            priorityGate.release();
+        }
+    }
+
+    private <T> T executeOnMaster(Command command, JedisAction<T> jedisAction) {
         Pool<Jedis> pool = this.getJedisPool();
-        try(Jedis jedis = pool.getResource()){
-            return jedisAction.doAction(jedis);
+        try(Jedis jedis = this.borrow(pool)){
+            AdaptivePoolController controller = poolHandler.getAdaptivePoolController();
+            if(controller == null) {
+                return this.doAction(command, jedis, jedisAction);
+            }
+            long start = System.nanoTime();
+            try {
+                return this.doAction(command, jedis, jedisAction);
+            } finally {
+                controller.record(System.nanoTime() - start);
+            }
+        } catch (JedisConnectionException e) {
+            Pools.evictSuspects(pool);
+            throw e;
         }
 
         /**
@@ -68,8 +242,137 @@ public class RedisClientImpl implements RedisClient {
          */
     }
 
+    /**
+     * 开启连接占用跟踪时，借到有未读响应的连接(归还后仍被泄漏的引用使用过)作为坏连接丢弃并重新借出
+     */
+    @SuppressWarnings("deprecation")
+    private Jedis borrow(Pool<Jedis> pool) {
+        int previous = DatabaseJedisFactory.request(this.getDatabase());
+        try {
+            Jedis jedis = Pools.borrow(pool);
+            LeakDetector leakDetector = poolHandler.getLeakDetector();
+            if(leakDetector != null && leakDetector.hasUnreadReplies(jedis)) {
+                pool.returnBrokenResource(jedis);
+                jedis = Pools.borrow(pool);
+            }
+            return jedis;
+        } finally {
+            DatabaseJedisFactory.restore(previous);
+        }
+    }
+
+    private <T> T executeOnReplica(Command command, ShardNode replica, JedisAction<T> jedisAction) {
+        Jedis jedis;
+        int previous = DatabaseJedisFactory.request(this.getDatabase());
+        try {
+            jedis = replica.borrow();
+        } finally {
+            DatabaseJedisFactory.restore(previous);
+        }
+        long start = System.nanoTime();
+        try {
+            return this.doAction(command, jedis, jedisAction);
+        } finally {
+            replica.release(jedis, start);
+        }
+    }
+
+    /**
+     * 连接池(ManagedJedisPool/ManagedJedisSentinelPool)借出时已按borrow声明的库切换，这里不再发送SELECT；
+     * 不经过连接工厂激活的连接(线程亲和缓存、StripedJedisPool)所在的库与本客户端的库不同时SELECT一次。
+     * 开启连接占用跟踪时记录回调占用连接的时间
+     */
+    private <T> T doAction(Command command, Jedis jedis, JedisAction<T> jedisAction) {
+        Deadline.checkNotExpired();
+        int database = this.getDatabase();
+        if(jedis.getDB() != database) {
+            jedis.select(database);
+        }
+        LeakDetector leakDetector = poolHandler.getLeakDetector();
+        LeakDetector.Lease lease = leakDetector == null ? null : leakDetector.acquire();
+        int original = Pools.applySocketTimeout(jedis, this.commandTimeout(command));
+        try {
+            return jedisAction.doAction(jedis);
+        } finally {
+            Pools.restoreSocketTimeout(jedis, original);
+            if(lease != null) {
+                leakDetector.release(lease);
+            }
+        }
+    }
+
+    private Integer commandTimeout(Command command) {
+        if(command == null) {
+            return null;
+        }
+        RedisPoolConfig poolConfig = poolHandler.getRedisPoolConfig();
+        Map<Command, Integer> timeouts = poolConfig != null ? poolConfig.getCommandTimeouts()
+                : (poolHandler.getRedisSentinelPoolConfig() == null ? null : poolHandler.getRedisSentinelPoolConfig().getCommandTimeouts());
+        return timeouts == null ? null : timeouts.get(command);
+    }
+
+    /**
+     * 返回操作指定库的客户端视图，与当前客户端共用连接池、脚本、熔断器和对冲策略。
+     * 借出的连接已在该库上时不发送SELECT，否则在借出时SELECT一次(见DatabaseJedisFactory)，
+     * 不会影响其它客户端使用的库。同一个库返回同一个视图
+     */
+    @Override
+    public RedisClient database(int index) {
+        if(index < 0) {
+            throw new IllegalArgumentException("库的序号不能小于0：" + index);
+        }
+        RedisClientImpl owner = root == null ? this : root;
+        if(index == owner.getDatabase()) {
+            return owner;
+        }
+        RedisClientImpl view = owner.views.get(index);
+        if(view != null) {
+            return view;
+        }
+        view = new RedisClientImpl();
+        view.root = owner;
+        view.database = index;
+        view.redisPoolConfig = owner.redisPoolConfig;
+        view.redisSentinelPoolConfig = owner.redisSentinelPoolConfig;
+        view.scriptRegistry = owner.scriptRegistry;
+        view.hedgePolicy = owner.hedgePolicy;
+        view.circuitBreaker = owner.circuitBreaker;
+        view.retryPolicy = owner.retryPolicy;
+        RedisClientImpl existing = owner.views.putIfAbsent(index, view);
+        return existing == null ? view : existing;
+    }
+
+    /**
+     * @return 本客户端操作的库
+     */
+    public int getDatabase() {
+        if(database >= 0) {
+            return database;
+        }
+        RedisSentinelPoolConfig sentinelPoolConfig = poolHandler.getRedisSentinelPoolConfig();
+        return sentinelPoolConfig != null && poolHandler.getRedisPoolConfig() == null ? sentinelPoolConfig.getDatabase() : 0;
+    }
+
+    /**
+     * database(int)返回的视图不拥有连接池，destroy不做任何处理
+     */
     @Override
     public void destroy() {
+        if(root != null) {
+            return;
+        }
+        SentinelReplicaSet replicaSet = poolHandler.getSentinelReplicaSet();
+        if(replicaSet != null) {
+            replicaSet.close();
+        }
+        AdaptivePoolController controller = poolHandler.getAdaptivePoolController();
+        if(controller != null) {
+            controller.close();
+        }
+        LeakDetector leakDetector = poolHandler.getLeakDetector();
+        if(leakDetector != null) {
+            leakDetector.close();
+        }
         Pool<Jedis> pool = this.getJedisPool();
         if(pool != null) {
             logger.info("pool is destroyed ");
@@ -103,10 +406,111 @@ public class RedisClientImpl implements RedisClient {
             poolHandler.setRedisPoolConfig(redisPoolConfig,PoolHandler.INIT_DEFAULT_POOL_YES);
             poolHandler.setRedisSentinelPoolConfig(redisSentinelPoolConfig,PoolHandler.INIT_DEFAULT_POOL_YES);
             logger.info("initGetJedisPool初始化操作完成");
-            return poolHandler.getJedisPool();
+            Pool<Jedis> pool = poolHandler.getJedisPool();
+            if(poolHandler.warmUpJedisPool(scriptRegistry) == null) {
+                this.preloadScripts(pool);
+            }
+            return pool;
+        }
+    }
+
+    /**
+     * 把scriptRegistry中已注册的脚本加载到redis，失败只记录日志，执行时会按NOSCRIPT兜底加载
+     */
+    public void preloadScripts() {
+        this.preloadScripts(this.getJedisPool());
+    }
+
+    private void preloadScripts(Pool<Jedis> pool) {
+        if(pool == null || scriptRegistry.getScripts().isEmpty()) {
+            return;
+        }
+        try(Jedis jedis = pool.getResource()) {
+            scriptRegistry.preload(jedis);
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "预加载lua脚本失败", e);
+        }
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * 设置整个客户端的熔断器，为空时关闭。连接失败、连接池耗尽和服务端不可用类错误计入失败，
+     * 熔断期间execute直接抛出CircuitOpenException，不再借连接等待，调用方可以立即降级
+     */
+    public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+        for(RedisClientImpl view : views.values()) {
+            view.circuitBreaker = circuitBreaker;
+        }
+    }
+
+    public HedgePolicy getHedgePolicy() {
+        return hedgePolicy;
+    }
+
+    /**
+     * 开启对冲读，为空时关闭
+     */
+    public void setHedgePolicy(HedgePolicy hedgePolicy) {
+        this.hedgePolicy = hedgePolicy;
+        for(RedisClientImpl view : views.values()) {
+            view.hedgePolicy = hedgePolicy;
         }
     }
 
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * 开启幂等命令的瞬时故障重试，为空时关闭
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+        for(RedisClientImpl view : views.values()) {
+            view.retryPolicy = retryPolicy;
+        }
+    }
+
+    public ScriptRegistry getScriptRegistry() {
+        return scriptRegistry;
+    }
+
+    public void setScriptRegistry(ScriptRegistry scriptRegistry) {
+        this.scriptRegistry = scriptRegistry;
+        for(RedisClientImpl view : views.values()) {
+            view.scriptRegistry = scriptRegistry;
+        }
+    }
+
+    @Override
+    public <K, V> CodecRedisClient<K, V> withCodec(RedisCodec<K> keyCodec, RedisCodec<V> valueCodec) {
+        return new CodecRedisClientImpl<>(this, keyCodec, valueCodec);
+    }
+
+    @Override
+    public Object evalScript(final LuaScript script, final List<String> keys, final List<String> args) {
+        return this.execute(new JedisAction<Object>() {
+            @Override
+            public Object doAction(Jedis jedis) {
+                return scriptRegistry.eval(jedis, script, keys, args);
+            }
+        });
+    }
+
+    @Override
+    public Object evalScript(final LuaScript script, final int keyCount, final String... params) {
+        return this.execute(new JedisAction<Object>() {
+            @Override
+            public Object doAction(Jedis jedis) {
+                return scriptRegistry.eval(jedis, script, keyCount, params);
+            }
+        });
+    }
+
     public RedisPoolConfig getRedisPoolConfig() {
         return redisPoolConfig;
     }
@@ -125,9 +529,33 @@ public class RedisClientImpl implements RedisClient {
         initGetJedisPool();
     }
 
+    /**
+     * 不重启地切换到新的单机配置：新连接池预热并加载脚本后原子切换，旧连接池在借出的连接归还后关闭
+     * @see PoolHandler#reconfigureJedisPool(RedisPoolConfig, ScriptRegistry)
+     */
+    public void reconfigure(RedisPoolConfig redisPoolConfig) {
+        synchronized (LOCK) {
+            poolHandler.reconfigureJedisPool(redisPoolConfig, scriptRegistry);
+            this.redisPoolConfig = redisPoolConfig;
+            this.redisSentinelPoolConfig = null;
+        }
+    }
+
+    /**
+     * 不重启地切换到新的哨兵配置
+     * @see PoolHandler#reconfigureJedisSentinelPool(RedisSentinelPoolConfig, ScriptRegistry)
+     */
+    public void reconfigure(RedisSentinelPoolConfig redisSentinelPoolConfig) {
+        synchronized (LOCK) {
+            poolHandler.reconfigureJedisSentinelPool(redisSentinelPoolConfig, scriptRegistry);
+            this.redisSentinelPoolConfig = redisSentinelPoolConfig;
+            this.redisPoolConfig = null;
+        }
+    }
+
     @Override
     public String set(final String key, final String value) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.SET, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.set(key,value);
@@ -137,7 +565,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String get(final String key) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.GET, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.get(key);
@@ -147,7 +575,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String set(final String key,final String s1, final String s2,final String s3, final long l) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.SETNX, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.set(key,s1,s2,s3,l);
@@ -157,7 +585,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String set(final String key, final String s1, final String s2) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.SETNX, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.set(key,s1,s2);
@@ -167,7 +595,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Boolean exists(final String key) {
-        return this.execute(new JedisAction<Boolean>() {
+        return this.execute(Command.EXISTS, new JedisAction<Boolean>() {
             @Override
             public Boolean doAction(Jedis jedis) {
                 return jedis.exists(key);
@@ -177,7 +605,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long persist(final String key) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.PERSIST, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.persist(key);
@@ -187,7 +615,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String type(final String key) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.TYPE, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.type(key);
@@ -197,7 +625,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long expire(final String key, final int seconds) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.EXPIRE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.expire(key,seconds);
@@ -207,7 +635,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long expireAt(final String key, final long milliseconds) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.EXPIREAT, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.expireAt(key,milliseconds);
@@ -218,7 +646,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long pexpire(final String key, final long milliseconds) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.PEXPIRE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.pexpire(key,milliseconds);
@@ -234,7 +662,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long ttl(final String key) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.TTL, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.ttl(key);
@@ -244,7 +672,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long pttl(final String key) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.PTTL, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.pttl(key);
@@ -254,7 +682,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Boolean setbit(final String key, final long offset, final boolean value) {
-        return this.execute(new JedisAction<Boolean>() {
+        return this.execute(Command.SETBIT, new JedisAction<Boolean>() {
             @Override
             public Boolean doAction(Jedis jedis) {
                 return jedis.setbit(key,offset,value);
@@ -264,7 +692,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Boolean setbit(final String key,final long offset, final String value) {
-        return this.execute(new JedisAction<Boolean>() {
+        return this.execute(Command.SETBIT, new JedisAction<Boolean>() {
             @Override
             public Boolean doAction(Jedis jedis) {
                 return jedis.setbit(key,offset,value);
@@ -274,7 +702,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Boolean getbit(final String key, final long offset) {
-        return this.execute(new JedisAction<Boolean>() {
+        return this.execute(Command.GETBIT, new JedisAction<Boolean>() {
             @Override
             public Boolean doAction(Jedis jedis) {
                 return jedis.getbit(key,offset);
@@ -284,7 +712,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long setrange(final String key, final long offset, final String value) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.SETRANGE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.setrange(key,offset,value);
@@ -294,7 +722,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String getrange(final String key, final long startOffset, final long endOffset) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.GETRANGE, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.getrange(key,startOffset,endOffset);
@@ -304,7 +732,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String getSet(final String key, final String value) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.GETSET, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.getSet(key,value);
@@ -314,7 +742,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long setnx(final String key, final String value) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.SETNX, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.setnx(key,value);
@@ -324,7 +752,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String setex(final String key, final int seconds , final String value) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.SETEX, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.setex(key,seconds,value);
@@ -334,7 +762,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String psetex(final String key, final long milliseconds ,final String value) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.PSETEX, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.psetex(key,milliseconds,value);
@@ -344,7 +772,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long decrBy(final String key, final long decrement) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.DECRBY, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.decrBy(key,decrement);
@@ -354,7 +782,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long decr(final String key) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.DECR, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.decr(key);
@@ -364,7 +792,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long incr(final String key) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.INCR, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.incr(key);
@@ -374,7 +802,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long incrBy(final String key, final long increment) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.INCRBY, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.incrBy(key,increment);
@@ -384,7 +812,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Double incrByFloat(final String key, final double value) {
-        return this.execute(new JedisAction<Double>() {
+        return this.execute(Command.INCRBYFLOAT, new JedisAction<Double>() {
             @Override
             public Double doAction(Jedis jedis) {
                 return jedis.incrByFloat(key,value);
@@ -395,7 +823,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long append(final String key, final String value) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.APPEND, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.append(key,value);
@@ -405,7 +833,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String substr(final String key, final int start, final int end) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.SUBSTR, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.substr(key,start,end);
@@ -415,7 +843,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long hset(final String key, final String field, final String value) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.HSET, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.hset(key,field,value);
@@ -425,7 +853,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String hget(final String key, final String field) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.HGET, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.hget(key,field);
@@ -435,7 +863,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long hsetnx(final String key, final String field, final String value) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.HSETNX, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.hsetnx(key,field,value);
@@ -445,7 +873,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String hmset(final String key, final Map<String, String> map) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.HMSET, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.hmset(key,map);
@@ -455,7 +883,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<String> hmget(final String key, final String... fields) {
-        return this.execute(new JedisAction<List<String>>() {
+        return this.execute(Command.HMGET, new JedisAction<List<String>>() {
             @Override
             public List<String> doAction(Jedis jedis) {
                 return jedis.hmget(key,fields);
@@ -465,7 +893,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long hincrBy(final String key, final String field, final long increment) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.HINCRBY, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.hincrBy(key,field,increment);
@@ -475,7 +903,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Double hincrByFloat(final String key, final String field, final double value) {
-        return this.execute(new JedisAction<Double>() {
+        return this.execute(Command.HINCRBYFLOAT, new JedisAction<Double>() {
             @Override
             public Double doAction(Jedis jedis) {
                 return jedis.hincrByFloat(key,field,value);
@@ -485,7 +913,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Boolean hexists(final String key, final String field) {
-        return this.execute(new JedisAction<Boolean>() {
+        return this.execute(Command.HEXISTS, new JedisAction<Boolean>() {
             @Override
             public Boolean doAction(Jedis jedis) {
                 return jedis.hexists(key,field);
@@ -495,7 +923,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long hdel(final String key, final String... fields) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.HDEL, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.hdel(key,fields);
@@ -505,7 +933,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long hlen(final String key) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.HLEN, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.hlen(key);
@@ -515,7 +943,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<String> hkeys(final String key) {
-        return this.execute(new JedisAction<Set<String>>() {
+        return this.execute(Command.HKEYS, new JedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(Jedis jedis) {
                 return jedis.hkeys(key);
@@ -525,7 +953,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<String> hvals(final String key) {
-        return this.execute(new JedisAction<List<String>>() {
+        return this.execute(Command.HVALS, new JedisAction<List<String>>() {
             @Override
             public List<String> doAction(Jedis jedis) {
                 return jedis.hvals(key);
@@ -535,7 +963,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Map<String, String> hgetAll(final String key) {
-        return this.execute(new JedisAction<Map<String, String>>() {
+        return this.execute(Command.HGETALL, new JedisAction<Map<String, String>>() {
             @Override
             public Map<String, String> doAction(Jedis jedis) {
                 return jedis.hgetAll(key);
@@ -545,7 +973,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long rpush(final String key, final String... values) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.RPUSH, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.rpush(key,values);
@@ -555,7 +983,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long lpush(final String key, final String... values) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.LPUSH, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.lpush(key,values);
@@ -565,7 +993,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long llen(final String key) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.LLEN, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.llen(key);
@@ -575,7 +1003,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<String> lrange(final String key, final long start, final long end) {
-        return this.execute(new JedisAction<List<String>>() {
+        return this.execute(Command.LRANGE, new JedisAction<List<String>>() {
             @Override
             public List<String> doAction(Jedis jedis) {
                 return jedis.lrange(key,start,end);
@@ -585,7 +1013,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String ltrim(final String key, final long start, final long end) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.LTRIM, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.ltrim(key,start,end);
@@ -595,7 +1023,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String lindex(final String key, final long index) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.LINDEX, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.lindex(key,index);
@@ -605,7 +1033,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String lset(final String key, final long index , final String value) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.LSET, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.lset(key,index,value);
@@ -615,7 +1043,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long lrem(final String key, final long count , final String value) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.LREM, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.lrem(key,count,value);
@@ -625,7 +1053,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String lpop(final String key) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.LPOP, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.lpop(key);
@@ -635,7 +1063,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String rpop(final String key) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.RPOP, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.rpop(key);
@@ -645,7 +1073,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long sadd(final String key, final String... values) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.SADD, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.sadd(key,values);
@@ -655,7 +1083,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<String> smembers(final String key) {
-        return this.execute(new JedisAction<Set<String>>() {
+        return this.execute(Command.SMEMBERS, new JedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(Jedis jedis) {
                 return jedis.smembers(key);
@@ -665,7 +1093,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long srem(final String key, final String... values) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.SREM, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.srem(key,values);
@@ -675,7 +1103,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String spop(final String key) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.SPOP, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.spop(key);
@@ -685,7 +1113,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<String> spop(final String key, final long count) {
-        return this.execute(new JedisAction<Set<String>>() {
+        return this.execute(Command.SPOP, new JedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(Jedis jedis) {
                 return jedis.spop(key,count);
@@ -695,7 +1123,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long scard(final String key) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.SCARD, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.scard(key);
@@ -705,7 +1133,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Boolean sismember(final String key, final String member) {
-        return this.execute(new JedisAction<Boolean>() {
+        return this.execute(Command.SISMEMBER, new JedisAction<Boolean>() {
             @Override
             public Boolean doAction(Jedis jedis) {
                 return jedis.sismember(key,member);
@@ -715,7 +1143,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String srandmember(final String key) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.SRANDMEMBER, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.srandmember(key);
@@ -725,7 +1153,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<String> srandmember(final String key, final int count) {
-        return this.execute(new JedisAction<List<String>>() {
+        return this.execute(Command.SRANDMEMBER, new JedisAction<List<String>>() {
             @Override
             public List<String> doAction(Jedis jedis) {
                 return jedis.srandmember(key,count);
@@ -735,7 +1163,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long strlen(final String key) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.STRLEN, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.strlen(key);
@@ -745,7 +1173,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zadd(final String key, final double score , final String member) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZADD, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zadd(key,score,member);
@@ -755,7 +1183,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zadd(final String key, final double score, final String member, final ZAddParams zAddParams) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZADD, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zadd(key,score,member,zAddParams);
@@ -765,7 +1193,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zadd(final String key, final Map<String, Double> scoreMembers) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZADD, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zadd(key,scoreMembers);
@@ -775,7 +1203,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zadd(final String key,final Map<String, Double> scoreMembers,final ZAddParams zAddParams) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZADD, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zadd(key,scoreMembers,zAddParams);
@@ -785,7 +1213,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<String> zrange(final String key, final long start, final long end) {
-        return this.execute(new JedisAction<Set<String>>() {
+        return this.execute(Command.ZRANGE, new JedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(Jedis jedis) {
                 return jedis.zrange(key,start,end);
@@ -795,7 +1223,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zrem(final String key, final String... members) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZREM, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zrem(key,members);
@@ -805,7 +1233,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Double zincrby(final String key, final double score, final String member) {
-        return this.execute(new JedisAction<Double>() {
+        return this.execute(Command.ZINCRBY, new JedisAction<Double>() {
             @Override
             public Double doAction(Jedis jedis) {
                 return jedis.zincrby(key,score,member);
@@ -815,7 +1243,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Double zincrby(final String key, final double score, final String member, final ZIncrByParams zIncrByParams) {
-        return this.execute(new JedisAction<Double>() {
+        return this.execute(Command.ZINCRBY, new JedisAction<Double>() {
             @Override
             public Double doAction(Jedis jedis) {
                 return jedis.zincrby(key,score,member,zIncrByParams);
@@ -825,7 +1253,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zrank(final String key, final String member) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZRANK, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zrank(key,member);
@@ -835,7 +1263,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zrevrank(final String key, final String member) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZREVRANK, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zrevrank(key,member);
@@ -845,7 +1273,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<String> zrevrange(final String key, final long start, final long end) {
-        return this.execute(new JedisAction<Set<String>>() {
+        return this.execute(Command.ZREVRANGE, new JedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(Jedis jedis) {
                 return jedis.zrevrange(key,start,end);
@@ -855,7 +1283,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<Tuple> zrangeWithScores(final String key, final long start, final long end) {
-        return this.execute(new JedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZRANGE, new JedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(Jedis jedis) {
                 return jedis.zrangeWithScores(key,start,end);
@@ -865,7 +1293,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<Tuple> zrevrangeWithScores(final String key,final long start, final long end) {
-        return this.execute(new JedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZREVRANGE, new JedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(Jedis jedis) {
                 return jedis.zrevrangeWithScores(key,start,end);
@@ -875,7 +1303,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zcard(final String key) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZCARD, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zcard(key);
@@ -885,7 +1313,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Double zscore(final String key, final String member) {
-        return this.execute(new JedisAction<Double>() {
+        return this.execute(Command.ZSCORE, new JedisAction<Double>() {
             @Override
             public Double doAction(Jedis jedis) {
                 return jedis.zscore(key,member);
@@ -895,7 +1323,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<String> sort(final String key) {
-        return this.execute(new JedisAction<List<String>>() {
+        return this.execute(Command.SORT, new JedisAction<List<String>>() {
             @Override
             public List<String> doAction(Jedis jedis) {
                 return jedis.sort(key);
@@ -905,7 +1333,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<String> sort(final String key, final SortingParams sortingParams) {
-        return this.execute(new JedisAction<List<String>>() {
+        return this.execute(Command.SORT, new JedisAction<List<String>>() {
             @Override
             public List<String> doAction(Jedis jedis) {
                 return jedis.sort(key,sortingParams);
@@ -915,7 +1343,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zcount(final String key, final double min, final double max) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZCOUNT, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zcount(key,min,max);
@@ -925,7 +1353,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zcount(final String key, final String min, final String max) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZCOUNT, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zcount(key,min,max);
@@ -935,7 +1363,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<String> zrangeByScore(final String key, final double min, final double max) {
-        return this.execute(new JedisAction<Set<String>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new JedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(Jedis jedis) {
                 return jedis.zrangeByScore(key,min,max);
@@ -945,7 +1373,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<String> zrangeByScore(final String key, final String min, final String max) {
-        return this.execute(new JedisAction<Set<String>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new JedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(Jedis jedis) {
                 return jedis.zrangeByScore(key,min,max);
@@ -955,7 +1383,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<String> zrevrangeByScore(final String key, final  double max,final double min) {
-        return this.execute(new JedisAction<Set<String>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new JedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(Jedis jedis) {
                 return jedis.zrevrangeByScore(key,max,min);
@@ -965,7 +1393,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<String> zrangeByScore(final String key, final double min, final double max, final int offset, final int count) {
-        return this.execute(new JedisAction<Set<String>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new JedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(Jedis jedis) {
                 return jedis.zrangeByScore(key,min,max,offset,count);
@@ -975,7 +1403,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<String> zrevrangeByScore(final String key, final String max, final String min) {
-        return this.execute(new JedisAction<Set<String>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new JedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(Jedis jedis) {
                 return jedis.zrevrangeByScore(key,max,min);
@@ -985,7 +1413,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<String> zrangeByScore(final String key, final String min, final String max, final int offset, final int count) {
-        return this.execute(new JedisAction<Set<String>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new JedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(Jedis jedis) {
                 return jedis.zrangeByScore(key,min,max,offset,count);
@@ -995,7 +1423,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<String> zrevrangeByScore(final String key, final double max, final double min, final int offset, final int count) {
-        return this.execute(new JedisAction<Set<String>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new JedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(Jedis jedis) {
                 return jedis.zrevrangeByScore(key,max,min,offset,count);
@@ -1005,7 +1433,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<Tuple> zrangeByScoreWithScores(final String key, final double min, final double max) {
-        return this.execute(new JedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new JedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(Jedis jedis) {
                 return jedis.zrangeByScoreWithScores(key,min,max);
@@ -1015,7 +1443,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<Tuple> zrevrangeByScoreWithScores(final String key, final double max, final double min) {
-        return this.execute(new JedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new JedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(Jedis jedis) {
                 return jedis.zrevrangeByScoreWithScores(key,max,min);
@@ -1025,7 +1453,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<Tuple> zrangeByScoreWithScores(final String key, final double min, final double max, final int offset, final int count) {
-        return this.execute(new JedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new JedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(Jedis jedis) {
                 return jedis.zrangeByScoreWithScores(key,min,max,offset,count);
@@ -1035,7 +1463,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<String> zrevrangeByScore(final String key, final String max, final String min, final int offset, final int count) {
-        return this.execute(new JedisAction<Set<String>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new JedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(Jedis jedis) {
                 return jedis.zrevrangeByScore(key,max,min,offset,count);
@@ -1045,7 +1473,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<Tuple> zrangeByScoreWithScores(final String key, final String min, final String max) {
-        return this.execute(new JedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new JedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(Jedis jedis) {
                 return jedis.zrangeByScoreWithScores(key,min,max);
@@ -1055,7 +1483,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<Tuple> zrevrangeByScoreWithScores(final String key, final String max, final String min) {
-        return this.execute(new JedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new JedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(Jedis jedis) {
                 return jedis.zrevrangeByScoreWithScores(key,max,min);
@@ -1065,7 +1493,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<Tuple> zrangeByScoreWithScores(final String key, final String min, final String max, final int offset, final int count) {
-        return this.execute(new JedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new JedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(Jedis jedis) {
                 return jedis.zrangeByScoreWithScores(key,min,max,offset,count);
@@ -1075,7 +1503,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<Tuple> zrevrangeByScoreWithScores(final String key, final double max, final double min, final int offset, final int count) {
-        return this.execute(new JedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new JedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(Jedis jedis) {
                 return jedis.zrevrangeByScoreWithScores(key,max,min,offset,count);
@@ -1085,7 +1513,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<Tuple> zrevrangeByScoreWithScores(final String key, final String max, final String min, final int offset, final int count) {
-        return this.execute(new JedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new JedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(Jedis jedis) {
                 return jedis.zrevrangeByScoreWithScores(key,max,min,offset,count);
@@ -1095,7 +1523,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zremrangeByRank(final String key, final long start, final long end) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZREMRANGEBYRANK, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zremrangeByRank(key,start,end);
@@ -1105,7 +1533,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zremrangeByScore(final String key, final double start, final double end) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZREMRANGEBYSCORE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zremrangeByScore(key,start,end);
@@ -1115,7 +1543,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zremrangeByScore(final String key, final String start, final String end) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZREMRANGEBYSCORE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zremrangeByScore(key,start,end);
@@ -1125,7 +1553,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zlexcount(final String key, final String min, final String max) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZLEXCOUNT, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zlexcount(key,min,max);
@@ -1135,7 +1563,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<String> zrangeByLex(final String key, final String min, final String max) {
-        return this.execute(new JedisAction<Set<String>>() {
+        return this.execute(Command.ZRANGEBYLEX, new JedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(Jedis jedis) {
                 return jedis.zrangeByLex(key,min,max);
@@ -1145,7 +1573,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<String> zrangeByLex(final String key, final String min, final String max, final int offset, final int count) {
-        return this.execute(new JedisAction<Set<String>>() {
+        return this.execute(Command.ZRANGEBYLEX, new JedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(Jedis jedis) {
                 return jedis.zrangeByLex(key,min,max,offset,count);
@@ -1155,7 +1583,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<String> zrevrangeByLex(final String key, final String max, final String min) {
-        return this.execute(new JedisAction<Set<String>>() {
+        return this.execute(Command.ZREVRANGEBYLEX, new JedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(Jedis jedis) {
                 return jedis.zrevrangeByLex(key,max,min);
@@ -1165,7 +1593,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<String> zrevrangeByLex(final String key, final String max, final String min, final int offset, final int count) {
-        return this.execute(new JedisAction<Set<String>>() {
+        return this.execute(Command.ZREVRANGEBYLEX, new JedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(Jedis jedis) {
                 return jedis.zrevrangeByLex(key,max,min,offset,count);
@@ -1175,7 +1603,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zremrangeByLex(final String key, final String min, final String max) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZREMRANGEBYLEX, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zremrangeByLex(key,min,max);
@@ -1185,7 +1613,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long linsert(final String key, final BinaryClient.LIST_POSITION where, final String pivot, final String value) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.LINSERT, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.linsert(key,where,pivot,value);
@@ -1195,7 +1623,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long lpushx(final String key, final String... values) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.LPUSHX, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.lpushx(key,values);
@@ -1205,7 +1633,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long rpushx(final String key, final String... values) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.RPUSHX, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.rpushx(key,values);
@@ -1215,7 +1643,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<String> blpop(final int timeout, final String key) {
-        return this.execute(new JedisAction<List<String>>() {
+        return this.execute(Command.BLPOP, new JedisAction<List<String>>() {
             @Override
             public List<String> doAction(Jedis jedis) {
                 return jedis.blpop(timeout,key);
@@ -1225,7 +1653,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<String> brpop(final int timeout, final String key) {
-        return this.execute(new JedisAction<List<String>>() {
+        return this.execute(Command.BRPOP, new JedisAction<List<String>>() {
             @Override
             public List<String> doAction(Jedis jedis) {
                 return jedis.brpop(timeout,key);
@@ -1235,7 +1663,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long del(final String key) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.DEL, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.del(key);
@@ -1245,7 +1673,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String echo(final String value) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.ECHO, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.echo(value);
@@ -1255,7 +1683,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long move(final String key, final int dbIndex) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.MOVE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.move(key,dbIndex);
@@ -1265,7 +1693,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long bitcount(final String key) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.BITCOUNT, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.bitcount(key);
@@ -1275,7 +1703,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long bitcount(final String key, final long start, final long end) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.BITCOUNT, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.bitcount(key,start,end);
@@ -1285,7 +1713,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long bitpos(final String key, final boolean value) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.BITPOS, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.bitpos(key,value);
@@ -1295,7 +1723,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long bitpos(final String key, final boolean value, final BitPosParams bitPosParams) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.BITPOS, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.bitpos(key,value,bitPosParams);
@@ -1305,7 +1733,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public ScanResult<Map.Entry<String, String>> hscan(final String key, final String cursor) {
-        return this.execute(new JedisAction<ScanResult<Map.Entry<String, String>>>() {
+        return this.execute(Command.HSCAN, new JedisAction<ScanResult<Map.Entry<String, String>>>() {
             @Override
             public ScanResult<Map.Entry<String, String>> doAction(Jedis jedis) {
                 return jedis.hscan(key,cursor);
@@ -1315,7 +1743,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public ScanResult<Map.Entry<String, String>> hscan(final String key, final String cursor, final ScanParams scanParams) {
-        return this.execute(new JedisAction<ScanResult<Map.Entry<String, String>>>() {
+        return this.execute(Command.HSCAN, new JedisAction<ScanResult<Map.Entry<String, String>>>() {
             @Override
             public ScanResult<Map.Entry<String, String>> doAction(Jedis jedis) {
                 return jedis.hscan(key,cursor,scanParams);
@@ -1325,7 +1753,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public ScanResult<String> sscan(final String key, final String cursor) {
-        return this.execute(new JedisAction<ScanResult<String>>() {
+        return this.execute(Command.SSCAN, new JedisAction<ScanResult<String>>() {
             @Override
             public ScanResult<String> doAction(Jedis jedis) {
                 return jedis.sscan(key,cursor);
@@ -1335,7 +1763,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public ScanResult<String> sscan(final String key, final String cursor, final ScanParams scanParams) {
-        return this.execute(new JedisAction<ScanResult<String>>() {
+        return this.execute(Command.SSCAN, new JedisAction<ScanResult<String>>() {
             @Override
             public ScanResult<String> doAction(Jedis jedis) {
                 return jedis.sscan(key,cursor,scanParams);
@@ -1345,7 +1773,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public ScanResult<Tuple> zscan(final String key, final String cursor) {
-        return this.execute(new JedisAction<ScanResult<Tuple>>() {
+        return this.execute(Command.ZSCAN, new JedisAction<ScanResult<Tuple>>() {
             @Override
             public ScanResult<Tuple> doAction(Jedis jedis) {
                 return jedis.zscan(key,cursor);
@@ -1355,7 +1783,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public ScanResult<Tuple> zscan(final String key, final String cursor, final ScanParams scanParams) {
-        return this.execute(new JedisAction<ScanResult<Tuple>>() {
+        return this.execute(Command.ZSCAN, new JedisAction<ScanResult<Tuple>>() {
             @Override
             public ScanResult<Tuple> doAction(Jedis jedis) {
                 return jedis.zscan(key,cursor,scanParams);
@@ -1365,7 +1793,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long pfadd(final String key, final String... elements) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.PFADD, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.pfadd(key,elements);
@@ -1375,7 +1803,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public long pfcount(final String key) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.PFCOUNT, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.pfcount(key);
@@ -1385,7 +1813,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long geoadd(final String key, final double longitude, final double latitude, final String member) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.GEOADD, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.geoadd(key,longitude,latitude,member);
@@ -1395,7 +1823,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long geoadd(final String key, final Map<String, GeoCoordinate> memberCoordinateMap) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.GEOADD, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.geoadd(key,memberCoordinateMap);
@@ -1405,7 +1833,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Double geodist(final String key, final String member1, final String member2) {
-        return this.execute(new JedisAction<Double>() {
+        return this.execute(Command.GEODIST, new JedisAction<Double>() {
             @Override
             public Double doAction(Jedis jedis) {
                 return jedis.geodist(key,member1,member2);
@@ -1415,7 +1843,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Double geodist(final String key, final String member1, final String member2, final GeoUnit geoUnit) {
-        return this.execute(new JedisAction<Double>() {
+        return this.execute(Command.GEODIST, new JedisAction<Double>() {
             @Override
             public Double doAction(Jedis jedis) {
                 return jedis.geodist(key,member1,member2,geoUnit);
@@ -1425,7 +1853,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<String> geohash(final String key, final String... members) {
-        return this.execute(new JedisAction<List<String>>() {
+        return this.execute(Command.GEOHASH, new JedisAction<List<String>>() {
             @Override
             public List<String> doAction(Jedis jedis) {
                 return jedis.geohash(key,members);
@@ -1435,7 +1863,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<GeoCoordinate> geopos(final String key, final String... members) {
-        return this.execute(new JedisAction<List<GeoCoordinate>>() {
+        return this.execute(Command.GEOPOS, new JedisAction<List<GeoCoordinate>>() {
             @Override
             public List<GeoCoordinate> doAction(Jedis jedis) {
                 return jedis.geopos(key,members);
@@ -1446,7 +1874,7 @@ public class RedisClientImpl implements RedisClient {
     @Override
     public List<GeoRadiusResponse> georadius(final String key, final double longitude, final double latitude,
                                              final double radius, final GeoUnit unit) {
-        return this.execute(new JedisAction<List<GeoRadiusResponse>>() {
+        return this.execute(Command.GEORADIUS, new JedisAction<List<GeoRadiusResponse>>() {
             @Override
             public List<GeoRadiusResponse> doAction(Jedis jedis) {
                 return jedis.georadius(key,longitude,latitude,radius,unit);
@@ -1457,7 +1885,7 @@ public class RedisClientImpl implements RedisClient {
     @Override
     public List<GeoRadiusResponse> georadius(final String key, final double longitude, final double latitude,
                                              final double radius, final GeoUnit unit,final GeoRadiusParam geoRadiusParam) {
-        return this.execute(new JedisAction<List<GeoRadiusResponse>>() {
+        return this.execute(Command.GEORADIUS, new JedisAction<List<GeoRadiusResponse>>() {
             @Override
             public List<GeoRadiusResponse> doAction(Jedis jedis) {
                 return jedis.georadius(key,longitude,latitude,radius,unit,geoRadiusParam);
@@ -1467,7 +1895,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<GeoRadiusResponse> georadiusByMember(final String key, final String member, final double radius, final GeoUnit unit) {
-        return this.execute(new JedisAction<List<GeoRadiusResponse>>() {
+        return this.execute(Command.GEORADIUSBYMEMBER, new JedisAction<List<GeoRadiusResponse>>() {
             @Override
             public List<GeoRadiusResponse> doAction(Jedis jedis) {
                 return jedis.georadiusByMember(key,member,radius,unit);
@@ -1478,7 +1906,7 @@ public class RedisClientImpl implements RedisClient {
     @Override
     public List<GeoRadiusResponse> georadiusByMember(final String key, final String member, final double radius,
                                                      final GeoUnit geoUnit, final GeoRadiusParam geoRadiusParam) {
-        return this.execute(new JedisAction<List<GeoRadiusResponse>>() {
+        return this.execute(Command.GEORADIUSBYMEMBER, new JedisAction<List<GeoRadiusResponse>>() {
             @Override
             public List<GeoRadiusResponse> doAction(Jedis jedis) {
                 return jedis.georadiusByMember(key,member,radius,geoUnit,geoRadiusParam);
@@ -1488,7 +1916,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<Long> bitfield(final String key, final String... arguments) {
-        return this.execute(new JedisAction<List<Long>>() {
+        return this.execute(Command.BITFIELD, new JedisAction<List<Long>>() {
             @Override
             public List<Long> doAction(Jedis jedis) {
                 return jedis.bitfield(key,arguments);
@@ -1498,7 +1926,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<String> configGet(final String pattern) {
-        return this.execute(new JedisAction<List<String>>() {
+        return this.execute(Command.CONFIG, new JedisAction<List<String>>() {
             @Override
             public List<String> doAction(Jedis jedis) {
                 return jedis.configGet(pattern);
@@ -1508,7 +1936,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String configSet(final String parameter, final String value) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.CONFIG, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.configSet(parameter,value);
@@ -1518,7 +1946,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String slowlogReset() {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.SLOWLOG, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.slowlogReset();
@@ -1528,7 +1956,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long slowlogLen() {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.SLOWLOG, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.slowlogLen();
@@ -1538,7 +1966,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<Slowlog> slowlogGet() {
-        return this.execute(new JedisAction<List<Slowlog>>() {
+        return this.execute(Command.SLOWLOG, new JedisAction<List<Slowlog>>() {
             @Override
             public List<Slowlog> doAction(Jedis jedis) {
                 return jedis.slowlogGet();
@@ -1548,7 +1976,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<Slowlog> slowlogGet(final long entries) {
-        return this.execute(new JedisAction<List<Slowlog>>() {
+        return this.execute(Command.SLOWLOG, new JedisAction<List<Slowlog>>() {
             @Override
             public List<Slowlog> doAction(Jedis jedis) {
                 return jedis.slowlogGet(entries);
@@ -1558,7 +1986,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long objectRefcount(final String s) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.OBJECT, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.objectRefcount(s);
@@ -1568,7 +1996,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String objectEncoding(final String s) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.OBJECT, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.objectEncoding(s);
@@ -1578,7 +2006,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long objectIdletime(final String s) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.OBJECT, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.objectIdletime(s);
@@ -1588,7 +2016,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String ping() {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.PING, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.ping();
@@ -1596,19 +2024,17 @@ public class RedisClientImpl implements RedisClient {
         });
     }
 
+    /**
+     * QUIT会关闭连接池中的共享连接，不允许执行，关闭客户端使用destroy
+     */
     @Override
     public String quit() {
-        return this.execute(new JedisAction<String>() {
-            @Override
-            public String doAction(Jedis jedis) {
-                return jedis.quit();
-            }
-        });
+        throw new RedisToolsException(RedisToolsExceptionComp.POOLED_CONNECTION_STATE, "QUIT", "关闭客户端请使用destroy()");
     }
 
     @Override
     public String flushDB() {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.FLUSHDB, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.flushDB();
@@ -1618,7 +2044,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long dbSize() {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.DBSIZE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.dbSize();
@@ -1626,19 +2052,17 @@ public class RedisClientImpl implements RedisClient {
         });
     }
 
+    /**
+     * 在共享连接上SELECT会让之后借到该连接的调用读写错误的库，不允许执行，操作其它库使用database(int)
+     */
     @Override
     public String select(final int dbIndex) {
-        return this.execute(new JedisAction<String>() {
-            @Override
-            public String doAction(Jedis jedis) {
-                return jedis.select(dbIndex);
-            }
-        });
+        throw new RedisToolsException(RedisToolsExceptionComp.POOLED_CONNECTION_STATE, "SELECT", "操作其它库请使用database(int)");
     }
 
     @Override
     public String flushAll() {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.FLUSHALL, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.flushAll();
@@ -1646,19 +2070,17 @@ public class RedisClientImpl implements RedisClient {
         });
     }
 
+    /**
+     * AUTH只对借到的那一个连接生效，不允许执行，密码在连接池配置中设置
+     */
     @Override
     public String auth(final String password) {
-        return this.execute(new JedisAction<String>() {
-            @Override
-            public String doAction(Jedis jedis) {
-                return jedis.auth(password);
-            }
-        });
+        throw new RedisToolsException(RedisToolsExceptionComp.POOLED_CONNECTION_STATE, "AUTH", "密码请在连接池配置中设置");
     }
 
     @Override
     public String save() {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.SAVE, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.save();
@@ -1668,7 +2090,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String bgsave() {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.BGSAVE, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.bgsave();
@@ -1678,7 +2100,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String bgrewriteaof() {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.BGREWRITEAOF, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.bgrewriteaof();
@@ -1688,7 +2110,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long lastsave() {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.LASTSAVE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.lastsave();
@@ -1698,7 +2120,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String shutdown() {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.SHUTDOWN, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.shutdown();
@@ -1708,7 +2130,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String info() {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.INFO, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.info();
@@ -1718,7 +2140,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String info(final String section) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.INFO, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.info(section);
@@ -1728,7 +2150,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String slaveof(final String host, final int port) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.SLAVEOF, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.slaveof(host,port);
@@ -1738,7 +2160,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String slaveofNoOne() {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.SLAVEOF, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.slaveofNoOne();
@@ -1758,7 +2180,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String debug(final DebugParams debugParams) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.DEBUG, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.debug(debugParams);
@@ -1768,7 +2190,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String configResetStat() {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.CONFIG, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.configResetStat();
@@ -1778,7 +2200,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long waitReplicas(final int replicas, final long timeout) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.WAIT, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.waitReplicas(replicas,timeout);
@@ -1788,7 +2210,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String clusterNodes() {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.CLUSTER, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.clusterNodes();
@@ -1798,7 +2220,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String clusterMeet(final String ip, final int port) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.CLUSTER, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.clusterMeet(ip,port);
@@ -1808,7 +2230,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String clusterAddSlots(final int... slots) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.CLUSTER, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.clusterAddSlots(slots);
@@ -1818,7 +2240,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String clusterDelSlots(final int... slots) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.CLUSTER, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.clusterDelSlots(slots);
@@ -1828,7 +2250,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String clusterInfo() {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.CLUSTER, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.clusterInfo();
@@ -1838,7 +2260,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<String> clusterGetKeysInSlot(final int slot, final int count) {
-        return this.execute(new JedisAction<List<String>>() {
+        return this.execute(Command.CLUSTER, new JedisAction<List<String>>() {
             @Override
             public List<String> doAction(Jedis jedis) {
                 return jedis.clusterGetKeysInSlot(slot,count);
@@ -1848,7 +2270,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String clusterSetSlotNode(final int slot, final String nodeId) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.CLUSTER, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.clusterSetSlotNode(slot,nodeId);
@@ -1858,7 +2280,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String clusterSetSlotMigrating(final int slot, final String nodeId) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.CLUSTER, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.clusterSetSlotMigrating(slot,nodeId);
@@ -1868,7 +2290,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String clusterSetSlotImporting(final int slot, final String nodeId) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.CLUSTER, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.clusterSetSlotImporting(slot,nodeId);
@@ -1878,7 +2300,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String clusterSetSlotStable(final int slot) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.CLUSTER, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.clusterSetSlotStable(slot);
@@ -1888,7 +2310,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String clusterForget(final String nodeId) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.CLUSTER, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.clusterForget(nodeId);
@@ -1898,7 +2320,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String clusterFlushSlots() {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.CLUSTER, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.clusterFlushSlots();
@@ -1908,7 +2330,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long clusterKeySlot(final String key) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.CLUSTER, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.clusterKeySlot(key);
@@ -1918,7 +2340,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long clusterCountKeysInSlot(final int slot) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.CLUSTER, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.clusterCountKeysInSlot(slot);
@@ -1928,7 +2350,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String clusterSaveConfig() {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.CLUSTER, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.clusterSaveConfig();
@@ -1938,7 +2360,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String clusterReplicate(final String nodeId) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.CLUSTER, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.clusterReplicate(nodeId);
@@ -1948,7 +2370,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<String> clusterSlaves(final String nodeId) {
-        return this.execute(new JedisAction<List<String>>() {
+        return this.execute(Command.CLUSTER, new JedisAction<List<String>>() {
             @Override
             public List<String> doAction(Jedis jedis) {
                 return jedis.clusterSlaves(nodeId);
@@ -1958,7 +2380,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String clusterFailover() {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.CLUSTER, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.clusterFailover();
@@ -1968,7 +2390,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<Object> clusterSlots() {
-        return this.execute(new JedisAction<List<Object>>() {
+        return this.execute(Command.CLUSTER, new JedisAction<List<Object>>() {
             @Override
             public List<Object> doAction(Jedis jedis) {
                 return jedis.clusterSlots();
@@ -1978,7 +2400,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String clusterReset(final JedisCluster.Reset resetType) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.CLUSTER, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.clusterReset(resetType);
@@ -1988,7 +2410,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String readonly() {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.READONLY, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.readonly();
@@ -1998,7 +2420,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<String> blpop(final String key) {
-        return this.execute(new JedisAction<List<String>>() {
+        return this.execute(Command.BLPOP, new JedisAction<List<String>>() {
             @Override
             public List<String> doAction(Jedis jedis) {
                 return jedis.blpop(key);
@@ -2008,7 +2430,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<String> brpop(final String key) {
-        return this.execute(new JedisAction<List<String>>() {
+        return this.execute(Command.BRPOP, new JedisAction<List<String>>() {
             @Override
             public List<String> doAction(Jedis jedis) {
                 return jedis.brpop(key);
@@ -2018,7 +2440,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public ScanResult<Map.Entry<String, String>> hscan(final String key, final int cursor) {
-        return this.execute(new JedisAction<ScanResult<Map.Entry<String, String>>>() {
+        return this.execute(Command.HSCAN, new JedisAction<ScanResult<Map.Entry<String, String>>>() {
             @Override
             public ScanResult<Map.Entry<String, String>> doAction(Jedis jedis) {
                 return jedis.hscan(key,cursor);
@@ -2028,7 +2450,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public ScanResult<String> sscan(final String key, final int cursor) {
-        return this.execute(new JedisAction<ScanResult<String>>() {
+        return this.execute(Command.SSCAN, new JedisAction<ScanResult<String>>() {
             @Override
             public ScanResult<String> doAction(Jedis jedis) {
                 return jedis.sscan(key,cursor);
@@ -2038,7 +2460,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public ScanResult<Tuple> zscan(final String key, final int cursor) {
-        return this.execute(new JedisAction<ScanResult<Tuple>>() {
+        return this.execute(Command.ZSCAN, new JedisAction<ScanResult<Tuple>>() {
             @Override
             public ScanResult<Tuple> doAction(Jedis jedis) {
                 return jedis.zscan(key,cursor);
@@ -2048,7 +2470,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long del(final String... keys) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.DEL, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.del(keys);
@@ -2058,7 +2480,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long exists(final String... keys) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.EXISTS, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.exists(keys);
@@ -2068,7 +2490,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<String> blpop(final int timeout, final String... keys) {
-        return this.execute(new JedisAction<List<String>>() {
+        return this.execute(Command.BLPOP, new JedisAction<List<String>>() {
             @Override
             public List<String> doAction(Jedis jedis) {
                 return jedis.blpop(timeout,keys);
@@ -2078,7 +2500,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<String> brpop(final int timeout, final String... keys) {
-        return this.execute(new JedisAction<List<String>>() {
+        return this.execute(Command.BRPOP, new JedisAction<List<String>>() {
             @Override
             public List<String> doAction(Jedis jedis) {
                 return jedis.brpop(timeout,keys);
@@ -2088,7 +2510,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<String> blpop(final String... keys) {
-        return this.execute(new JedisAction<List<String>>() {
+        return this.execute(Command.BLPOP, new JedisAction<List<String>>() {
             @Override
             public List<String> doAction(Jedis jedis) {
                 return jedis.blpop(keys);
@@ -2098,7 +2520,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<String> brpop(final String... keys) {
-        return this.execute(new JedisAction<List<String>>() {
+        return this.execute(Command.BRPOP, new JedisAction<List<String>>() {
             @Override
             public List<String> doAction(Jedis jedis) {
                 return jedis.brpop(keys);
@@ -2108,7 +2530,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<String> keys(final String pattern) {
-        return this.execute(new JedisAction<Set<String>>() {
+        return this.execute(Command.KEYS, new JedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(Jedis jedis) {
                 return jedis.keys(pattern);
@@ -2118,7 +2540,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<String> mget(final String... keys) {
-        return this.execute(new JedisAction<List<String>>() {
+        return this.execute(Command.MGET, new JedisAction<List<String>>() {
             @Override
             public List<String> doAction(Jedis jedis) {
                 return jedis.mget(keys);
@@ -2128,7 +2550,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String mset(final String... keysValues) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.MSET, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.mset(keysValues);
@@ -2138,7 +2560,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long msetnx(final String... keysValues) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.MSETNX, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.msetnx(keysValues);
@@ -2148,7 +2570,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String rename(final String oldkey, final String newkey) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.RENAME, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.rename(oldkey,newkey);
@@ -2158,7 +2580,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long renamenx(final String oldkey, final String newkey) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.RENAMENX, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.renamenx(oldkey,newkey);
@@ -2168,7 +2590,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String rpoplpush(final String srckey, final String dstkey) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.RPOPLPUSH, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.rpoplpush(srckey,dstkey);
@@ -2178,7 +2600,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<String> sdiff(final String... keys) {
-        return this.execute(new JedisAction<Set<String>>() {
+        return this.execute(Command.SDIFF, new JedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(Jedis jedis) {
                 return jedis.sdiff(keys);
@@ -2188,7 +2610,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long sdiffstore(final String dstkey, final String... keys) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.SDIFFSTORE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.sdiffstore(dstkey,keys);
@@ -2198,7 +2620,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<String> sinter(final String... keys) {
-        return this.execute(new JedisAction<Set<String>>() {
+        return this.execute(Command.SINTER, new JedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(Jedis jedis) {
                 return jedis.sinter(keys);
@@ -2208,7 +2630,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long sinterstore(final String dstkey, final String... keys) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.SINTERSTORE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.sinterstore(dstkey,keys);
@@ -2218,7 +2640,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long smove(final String srckey, final String dstkey, final String member) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.SMOVE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.smove(srckey,dstkey,member);
@@ -2228,7 +2650,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long sort(final String key, final SortingParams sortingParameters, final String dstkey) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.SORT, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.sort(key,sortingParameters,dstkey);
@@ -2238,7 +2660,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long sort(final String key, final String dstkey) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.SORT, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.sort(key,dstkey);
@@ -2248,7 +2670,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<String> sunion(final String... keys) {
-        return this.execute(new JedisAction<Set<String>>() {
+        return this.execute(Command.SUNION, new JedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(Jedis jedis) {
                 return jedis.sunion(keys);
@@ -2258,7 +2680,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long sunionstore(final String dstkey, final String... keys) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.SUNIONSTORE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.sunionstore(dstkey,keys);
@@ -2268,7 +2690,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String watch(final String... keys) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.WATCH, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.watch(keys);
@@ -2278,7 +2700,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String unwatch() {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.UNWATCH, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.unwatch();
@@ -2288,7 +2710,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zinterstore(final String dstkey, final String... sets) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZINTERSTORE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zinterstore(dstkey,sets);
@@ -2298,7 +2720,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zinterstore(final String dstkey, final ZParams params, final String... sets) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZINTERSTORE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zinterstore(dstkey,params,sets);
@@ -2308,7 +2730,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zunionstore(final String dstkey, final String... sets) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZUNIONSTORE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zunionstore(dstkey,sets);
@@ -2318,7 +2740,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zunionstore(final String dstkey, final ZParams params, final String... sets) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZUNIONSTORE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zunionstore(dstkey,params,sets);
@@ -2328,7 +2750,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String brpoplpush(final String source, final String destination, final int timeout) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.BRPOPLPUSH, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.brpoplpush(source,destination,timeout);
@@ -2338,7 +2760,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long publish(final String channel, final String message) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.PUBLISH, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.publish(channel,message);
@@ -2348,7 +2770,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public void subscribe(final JedisPubSub jedisPubSub, final String... channels) {
-        this.execute(new JedisAction<Integer>() {
+        this.execute(Command.SUBSCRIBE, new JedisAction<Integer>() {
             @Override
             public Integer doAction(Jedis jedis) {
                 jedis.subscribe(jedisPubSub,channels);
@@ -2359,7 +2781,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public void psubscribe(final JedisPubSub jedisPubSub, final String... patterns) {
-        this.execute(new JedisAction<Integer>() {
+        this.execute(Command.PSUBSCRIBE, new JedisAction<Integer>() {
             @Override
             public Integer doAction(Jedis jedis) {
                 jedis.psubscribe(jedisPubSub,patterns);
@@ -2370,7 +2792,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String randomKey() {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.RANDOMKEY, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.randomKey();
@@ -2380,7 +2802,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long bitop(final BitOP op, final String destKey, final String... srcKeys) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.BITOP, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.bitop(op,destKey,srcKeys);
@@ -2390,7 +2812,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public ScanResult<String> scan(final int cursor) {
-        return this.execute(new JedisAction<ScanResult<String>>() {
+        return this.execute(Command.SCAN, new JedisAction<ScanResult<String>>() {
             @Override
             public ScanResult<String> doAction(Jedis jedis) {
                 return jedis.scan(cursor);
@@ -2400,7 +2822,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public ScanResult<String> scan(final String cursor) {
-        return this.execute(new JedisAction<ScanResult<String>>() {
+        return this.execute(Command.SCAN, new JedisAction<ScanResult<String>>() {
             @Override
             public ScanResult<String> doAction(Jedis jedis) {
                 return jedis.scan(cursor);
@@ -2410,7 +2832,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public ScanResult<String> scan(final String cursor, final ScanParams scanParams) {
-        return this.execute(new JedisAction<ScanResult<String>>() {
+        return this.execute(Command.SCAN, new JedisAction<ScanResult<String>>() {
             @Override
             public ScanResult<String> doAction(Jedis jedis) {
                 return jedis.scan(cursor,scanParams);
@@ -2420,7 +2842,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String pfmerge(final String destkey, final String... sourcekeys) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.PFMERGE, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.pfmerge(destkey,sourcekeys);
@@ -2430,7 +2852,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public long pfcount(final String... keys) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.PFCOUNT, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.pfcount(keys);
@@ -2440,37 +2862,49 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Object eval(final String script, final int keyCount, final String... params) {
-        return this.execute(new JedisAction<Object>() {
+        final LuaScript luaScript = scriptRegistry.lookup(script);
+        return this.execute(Command.EVAL, new JedisAction<Object>() {
             @Override
             public Object doAction(Jedis jedis) {
-                return jedis.eval(script,keyCount,params);
+                if(luaScript == null) {
+                    return jedis.eval(script,keyCount,params);
+                }
+                return scriptRegistry.eval(jedis,luaScript,keyCount,params);
             }
         });
     }
 
     @Override
     public Object eval(final String script, final List<String> keys, final List<String> args) {
-        return this.execute(new JedisAction<Object>() {
+        final LuaScript luaScript = scriptRegistry.lookup(script);
+        return this.execute(Command.EVAL, new JedisAction<Object>() {
             @Override
             public Object doAction(Jedis jedis) {
-                return jedis.eval(script,keys,args);
+                if(luaScript == null) {
+                    return jedis.eval(script,keys,args);
+                }
+                return scriptRegistry.eval(jedis,luaScript,keys,args);
             }
         });
     }
 
     @Override
     public Object eval(final String script) {
-        return this.execute(new JedisAction<Object>() {
+        final LuaScript luaScript = scriptRegistry.lookup(script);
+        return this.execute(Command.EVAL, new JedisAction<Object>() {
             @Override
             public Object doAction(Jedis jedis) {
-                return jedis.eval(script);
+                if(luaScript == null) {
+                    return jedis.eval(script);
+                }
+                return scriptRegistry.eval(jedis,luaScript);
             }
         });
     }
 
     @Override
     public Object evalsha(final String script) {
-        return this.execute(new JedisAction<Object>() {
+        return this.execute(Command.EVALSHA, new JedisAction<Object>() {
             @Override
             public Object doAction(Jedis jedis) {
                 return jedis.evalsha(script);
@@ -2480,7 +2914,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Object evalsha(final String sha1, final List<String> keys, final List<String> args) {
-        return this.execute(new JedisAction<Object>() {
+        return this.execute(Command.EVALSHA, new JedisAction<Object>() {
             @Override
             public Object doAction(Jedis jedis) {
                 return jedis.evalsha(sha1,keys,args);
@@ -2490,7 +2924,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Object evalsha(final String sha1, final int keyCount, final String... params) {
-        return this.execute(new JedisAction<Object>() {
+        return this.execute(Command.EVALSHA, new JedisAction<Object>() {
             @Override
             public Object doAction(Jedis jedis) {
                 return jedis.evalsha(sha1,keyCount,params);
@@ -2500,7 +2934,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Boolean scriptExists(final String sha1) {
-        return this.execute(new JedisAction<Boolean>() {
+        return this.execute(Command.SCRIPT, new JedisAction<Boolean>() {
             @Override
             public Boolean doAction(Jedis jedis) {
                 return jedis.scriptExists(sha1);
@@ -2510,7 +2944,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<Boolean> scriptExists(final String... sha1) {
-        return this.execute(new JedisAction<List<Boolean>>() {
+        return this.execute(Command.SCRIPT, new JedisAction<List<Boolean>>() {
             @Override
             public List<Boolean> doAction(Jedis jedis) {
                 return jedis.scriptExists(sha1);
@@ -2520,7 +2954,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String scriptLoad(final String script) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.SCRIPT, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.scriptLoad(script);
@@ -2530,7 +2964,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<Map<String, String>> sentinelMasters() {
-        return this.execute(new JedisAction<List<Map<String, String>>>() {
+        return this.execute(Command.SENTINEL, new JedisAction<List<Map<String, String>>>() {
             @Override
             public List<Map<String, String>> doAction(Jedis jedis) {
                 return jedis.sentinelMasters();
@@ -2540,7 +2974,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<String> sentinelGetMasterAddrByName(final String masterName) {
-        return this.execute(new JedisAction<List<String>>() {
+        return this.execute(Command.SENTINEL, new JedisAction<List<String>>() {
             @Override
             public List<String> doAction(Jedis jedis) {
                 return jedis.sentinelGetMasterAddrByName(masterName);
@@ -2550,7 +2984,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long sentinelReset(final String pattern) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.SENTINEL, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.sentinelReset(pattern);
@@ -2560,7 +2994,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<Map<String, String>> sentinelSlaves(final String masterName) {
-        return this.execute(new JedisAction<List<Map<String, String>>>() {
+        return this.execute(Command.SENTINEL, new JedisAction<List<Map<String, String>>>() {
             @Override
             public List<Map<String, String>> doAction(Jedis jedis) {
                 return jedis.sentinelSlaves(masterName);
@@ -2570,7 +3004,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String sentinelFailover(final String masterName) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.SENTINEL, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.sentinelFailover(masterName);
@@ -2580,7 +3014,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String sentinelMonitor(final String masterName, final String ip, final int port, final int quorum) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.SENTINEL, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.sentinelMonitor(masterName,ip,port,quorum);
@@ -2590,7 +3024,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String sentinelRemove(final String masterName) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.SENTINEL, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.sentinelRemove(masterName);
@@ -2600,7 +3034,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String sentinelSet(final String masterName, final Map<String, String> parameterMap) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.SENTINEL, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.sentinelSet(masterName,parameterMap);
@@ -2620,7 +3054,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String set(final byte[] key, final byte[] value) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.SET, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.set(key,value);
@@ -2630,7 +3064,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String set(final byte[] key, final byte[] value, final byte[] nxxx) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.SETNX, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.set(key,value,nxxx);
@@ -2640,7 +3074,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String set(final byte[] key, final byte[] value, final byte[] nxxx, final byte[] expx, final long time) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.SETNX, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.set(key,value,nxxx,expx,time);
@@ -2650,7 +3084,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public byte[] get(final byte[] key) {
-        return this.execute(new JedisAction<byte[]>() {
+        return this.execute(Command.GET, new JedisAction<byte[]>() {
             @Override
             public byte[] doAction(Jedis jedis) {
                 return jedis.get(key);
@@ -2660,7 +3094,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Boolean exists(final byte[] key) {
-        return this.execute(new JedisAction<Boolean>() {
+        return this.execute(Command.EXISTS, new JedisAction<Boolean>() {
             @Override
             public Boolean doAction(Jedis jedis) {
                 return jedis.exists(key);
@@ -2670,7 +3104,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long persist(final byte[] key) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.PERSIST, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.persist(key);
@@ -2680,7 +3114,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String type(final byte[] key) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.TYPE, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.type(key);
@@ -2690,7 +3124,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long expire(final byte[] key, final int seconds) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.EXPIRE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.expire(key,seconds);
@@ -2700,7 +3134,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long pexpire(final byte[] key, final long milliseconds) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.PEXPIRE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.pexpire(key,milliseconds);
@@ -2710,7 +3144,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long expireAt(final byte[] key, final long unixTime) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.EXPIREAT, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.expireAt(key,unixTime);
@@ -2720,7 +3154,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long pexpireAt(final byte[] key, final long millisecondsTimestamp) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.PEXPIREAT, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.pexpireAt(key,millisecondsTimestamp);
@@ -2730,7 +3164,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long ttl(final byte[] key) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.TTL, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.ttl(key);
@@ -2740,7 +3174,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Boolean setbit(final byte[] key, final long offset, final boolean value) {
-        return this.execute(new JedisAction<Boolean>() {
+        return this.execute(Command.SETBIT, new JedisAction<Boolean>() {
             @Override
             public Boolean doAction(Jedis jedis) {
                 return jedis.setbit(key,offset,value);
@@ -2750,7 +3184,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Boolean setbit(final byte[] key, final long offset, final byte[] value) {
-        return this.execute(new JedisAction<Boolean>() {
+        return this.execute(Command.SETBIT, new JedisAction<Boolean>() {
             @Override
             public Boolean doAction(Jedis jedis) {
                 return jedis.setbit(key,offset,value);
@@ -2760,7 +3194,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Boolean getbit(final byte[] key, final long offset) {
-        return this.execute(new JedisAction<Boolean>() {
+        return this.execute(Command.GETBIT, new JedisAction<Boolean>() {
             @Override
             public Boolean doAction(Jedis jedis) {
                 return jedis.getbit(key,offset);
@@ -2770,7 +3204,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long setrange(final byte[] key, final long offset, final byte[] value) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.SETRANGE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.setrange(key,offset,value);
@@ -2780,7 +3214,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public byte[] getrange(final byte[] key, final long startOffset, final long endOffset) {
-        return this.execute(new JedisAction<byte[]>() {
+        return this.execute(Command.GETRANGE, new JedisAction<byte[]>() {
             @Override
             public byte[] doAction(Jedis jedis) {
                 return jedis.getrange(key,startOffset,endOffset);
@@ -2790,7 +3224,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public byte[] getSet(final byte[] key, final byte[] value) {
-        return this.execute(new JedisAction<byte[]>() {
+        return this.execute(Command.GETSET, new JedisAction<byte[]>() {
             @Override
             public byte[] doAction(Jedis jedis) {
                 return jedis.getSet(key,value);
@@ -2800,7 +3234,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long setnx(final byte[] key, final byte[] value) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.SETNX, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.setnx(key,value);
@@ -2810,7 +3244,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String setex(final byte[] key, final int seconds, final byte[] value) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.SETEX, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.setex(key,seconds,value);
@@ -2820,7 +3254,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long decrBy(final byte[] key, final long integer) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.DECRBY, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.decrBy(key,integer);
@@ -2830,7 +3264,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long decr(final byte[] key) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.DECR, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.decr(key);
@@ -2840,7 +3274,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long incrBy(final byte[] key, final long integer) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.INCRBY, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.incrBy(key,integer);
@@ -2850,7 +3284,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Double incrByFloat(final byte[] key, final double integer) {
-        return this.execute(new JedisAction<Double>() {
+        return this.execute(Command.INCRBYFLOAT, new JedisAction<Double>() {
             @Override
             public Double doAction(Jedis jedis) {
                 return jedis.incrByFloat(key,integer);
@@ -2860,7 +3294,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long incr(final byte[] key) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.INCR, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.incr(key);
@@ -2870,7 +3304,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long append(final byte[] key, final byte[] value) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.APPEND, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.append(key,value);
@@ -2880,7 +3314,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public byte[] substr(final byte[] key, final int start, final int end) {
-        return this.execute(new JedisAction<byte[]>() {
+        return this.execute(Command.SUBSTR, new JedisAction<byte[]>() {
             @Override
             public byte[] doAction(Jedis jedis) {
                 return jedis.substr(key,start,end);
@@ -2890,7 +3324,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long hset(final byte[] key, final byte[] field, final byte[] value) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.HSET, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.hset(key,field,value);
@@ -2900,7 +3334,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public byte[] hget(final byte[] key, final byte[] field) {
-        return this.execute(new JedisAction<byte[]>() {
+        return this.execute(Command.HGET, new JedisAction<byte[]>() {
             @Override
             public byte[] doAction(Jedis jedis) {
                 return jedis.hget(key,field);
@@ -2910,7 +3344,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long hsetnx(final byte[] key, final byte[] field, final byte[] value) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.HSETNX, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.hsetnx(key,field,value);
@@ -2920,7 +3354,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String hmset(final byte[] key, final Map<byte[], byte[]> hash) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.HMSET, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.hmset(key,hash);
@@ -2930,7 +3364,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<byte[]> hmget(final byte[] key, final byte[]... fields) {
-        return this.execute(new JedisAction<List<byte[]>>() {
+        return this.execute(Command.HMGET, new JedisAction<List<byte[]>>() {
             @Override
             public List<byte[]> doAction(Jedis jedis) {
                 return jedis.hmget(key,fields);
@@ -2940,7 +3374,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long hincrBy(final byte[] key, final byte[] field, final long value) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.HINCRBY, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.hincrBy(key,field,value);
@@ -2950,7 +3384,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Double hincrByFloat(final byte[] key, final byte[] field, final double value) {
-        return this.execute(new JedisAction<Double>() {
+        return this.execute(Command.HINCRBYFLOAT, new JedisAction<Double>() {
             @Override
             public Double doAction(Jedis jedis) {
                 return jedis.hincrByFloat(key,field,value);
@@ -2960,7 +3394,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Boolean hexists(final byte[] key, final byte[] field) {
-        return this.execute(new JedisAction<Boolean>() {
+        return this.execute(Command.HEXISTS, new JedisAction<Boolean>() {
             @Override
             public Boolean doAction(Jedis jedis) {
                 return jedis.hexists(key,field);
@@ -2970,17 +3404,17 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long hdel(final byte[] key, final byte[]... fields) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.HDEL, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
-              return  hdel(key,fields);
+                return jedis.hdel(key, fields);
             }
         });
     }
 
     @Override
     public Long hlen(final byte[] key) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.HLEN, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.hlen(key);
@@ -2990,7 +3424,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<byte[]> hkeys(final byte[] key) {
-        return this.execute(new JedisAction<Set<byte[]>>() {
+        return this.execute(Command.HKEYS, new JedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(Jedis jedis) {
                 return jedis.hkeys(key);
@@ -3000,7 +3434,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Collection<byte[]> hvals(final byte[] key) {
-        return this.execute(new JedisAction<Collection<byte[]>>() {
+        return this.execute(Command.HVALS, new JedisAction<Collection<byte[]>>() {
             @Override
             public Collection<byte[]> doAction(Jedis jedis) {
                 return jedis.hvals(key);
@@ -3010,7 +3444,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Map<byte[], byte[]> hgetAll(final byte[] key) {
-        return this.execute(new JedisAction<Map<byte[], byte[]>>() {
+        return this.execute(Command.HGETALL, new JedisAction<Map<byte[], byte[]>>() {
             @Override
             public Map<byte[], byte[]> doAction(Jedis jedis) {
                 return jedis.hgetAll(key);
@@ -3020,7 +3454,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long rpush(final byte[] key, final byte[]... strings) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.RPUSH, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.rpush(key,strings);
@@ -3030,7 +3464,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long lpush(final byte[] key, final byte[]... strings) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.LPUSH, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.lpush(key,strings);
@@ -3040,7 +3474,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long llen(final byte[] key) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.LLEN, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.llen(key);
@@ -3050,7 +3484,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<byte[]> lrange(final byte[] key, final long start, final long end) {
-        return this.execute(new JedisAction<List<byte[]>>() {
+        return this.execute(Command.LRANGE, new JedisAction<List<byte[]>>() {
             @Override
             public List<byte[]> doAction(Jedis jedis) {
                 return jedis.lrange(key,start,end);
@@ -3060,7 +3494,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String ltrim(final byte[] key, final long start, final long end) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.LTRIM, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.ltrim(key,start,end);
@@ -3070,7 +3504,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public byte[] lindex(final byte[] key, final long index) {
-        return this.execute(new JedisAction<byte[]>() {
+        return this.execute(Command.LINDEX, new JedisAction<byte[]>() {
             @Override
             public byte[] doAction(Jedis jedis) {
                 return jedis.lindex(key,index);
@@ -3080,7 +3514,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String lset(final byte[] key, final long index, final byte[] value) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.LSET, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.lset(key,index,value);
@@ -3090,7 +3524,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long lrem(final byte[] key, final long count, final byte[] value) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.LREM, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.lrem(key,count,value);
@@ -3100,7 +3534,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public byte[] lpop(final byte[] key) {
-        return this.execute(new JedisAction<byte[]>() {
+        return this.execute(Command.LPOP, new JedisAction<byte[]>() {
             @Override
             public byte[] doAction(Jedis jedis) {
                 return jedis.lpop(key);
@@ -3110,7 +3544,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public byte[] rpop(final byte[] key) {
-        return this.execute(new JedisAction<byte[]>() {
+        return this.execute(Command.RPOP, new JedisAction<byte[]>() {
             @Override
             public byte[] doAction(Jedis jedis) {
                 return jedis.rpop(key);
@@ -3120,17 +3554,17 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long sadd(final byte[] key, final byte[]... members) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.SADD, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
-                return sadd(key,members);
+                return jedis.sadd(key, members);
             }
         });
     }
 
     @Override
     public Set<byte[]> smembers(final byte[] key) {
-        return this.execute(new JedisAction<Set<byte[]>>() {
+        return this.execute(Command.SMEMBERS, new JedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(Jedis jedis) {
                 return jedis.smembers(key);
@@ -3140,7 +3574,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long srem(final byte[] key, final byte[]... member) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.SREM, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.srem(key,member);
@@ -3150,7 +3584,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public byte[] spop(final byte[] key) {
-        return this.execute(new JedisAction<byte[]>() {
+        return this.execute(Command.SPOP, new JedisAction<byte[]>() {
             @Override
             public byte[] doAction(Jedis jedis) {
                 return jedis.spop(key);
@@ -3160,7 +3594,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<byte[]> spop(final byte[] key, final long count) {
-        return this.execute(new JedisAction<Set<byte[]>>() {
+        return this.execute(Command.SPOP, new JedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(Jedis jedis) {
                 return jedis.spop(key,count);
@@ -3170,7 +3604,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long scard(final byte[] key) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.SCARD, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.scard(key);
@@ -3180,7 +3614,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Boolean sismember(final byte[] key, final byte[] member) {
-        return this.execute(new JedisAction<Boolean>() {
+        return this.execute(Command.SISMEMBER, new JedisAction<Boolean>() {
             @Override
             public Boolean doAction(Jedis jedis) {
                 return jedis.sismember(key,member);
@@ -3190,7 +3624,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public byte[] srandmember(final byte[] key) {
-        return this.execute(new JedisAction<byte[]>() {
+        return this.execute(Command.SRANDMEMBER, new JedisAction<byte[]>() {
             @Override
             public byte[] doAction(Jedis jedis) {
                 return jedis.srandmember(key);
@@ -3200,7 +3634,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<byte[]> srandmember(final byte[] key, final int count) {
-        return this.execute(new JedisAction<List<byte[]>>() {
+        return this.execute(Command.SRANDMEMBER, new JedisAction<List<byte[]>>() {
             @Override
             public List<byte[]> doAction(Jedis jedis) {
                 return jedis.srandmember(key,count);
@@ -3210,7 +3644,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long strlen(final byte[] key) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.STRLEN, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.strlen(key);
@@ -3220,7 +3654,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zadd(final byte[] key, final double score, final byte[] member) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZADD, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zadd(key,score,member);
@@ -3230,7 +3664,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zadd(final byte[] key, final double score, final byte[] member, final ZAddParams zAddParams) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZADD, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zadd(key,score,member,zAddParams);
@@ -3240,7 +3674,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zadd(final byte[] key, final Map<byte[], Double> scoreMembers) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZADD, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zadd(key,scoreMembers);
@@ -3250,7 +3684,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zadd(final byte[] key, final Map<byte[], Double> scoreMembers, final ZAddParams zAddParams) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZADD, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zadd(key,scoreMembers,zAddParams);
@@ -3260,7 +3694,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<byte[]> zrange(final byte[] key, final long start, final long end) {
-        return this.execute(new JedisAction<Set<byte[]>>() {
+        return this.execute(Command.ZRANGE, new JedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(Jedis jedis) {
                 return jedis.zrange(key,start,end);
@@ -3270,7 +3704,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zrem(final byte[] key, final byte[]... members) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZREM, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zrem(key,members);
@@ -3280,7 +3714,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Double zincrby(final byte[] key, final double score, final byte[] member) {
-        return this.execute(new JedisAction<Double>() {
+        return this.execute(Command.ZINCRBY, new JedisAction<Double>() {
             @Override
             public Double doAction(Jedis jedis) {
                 return jedis.zincrby(key,score,member);
@@ -3290,7 +3724,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Double zincrby(final byte[] key, final double score, final byte[] member, final ZIncrByParams zIncrByParams) {
-        return this.execute(new JedisAction<Double>() {
+        return this.execute(Command.ZINCRBY, new JedisAction<Double>() {
             @Override
             public Double doAction(Jedis jedis) {
                 return jedis.zincrby(key,score,member,zIncrByParams);
@@ -3300,7 +3734,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zrank(final byte[] key, final byte[] member) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZRANK, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zrank(key,member);
@@ -3310,7 +3744,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zrevrank(final byte[] key, final byte[] member) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZREVRANK, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zrevrank(key,member);
@@ -3320,7 +3754,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<byte[]> zrevrange(final byte[] key, final long start, final long end) {
-        return this.execute(new JedisAction<Set<byte[]>>() {
+        return this.execute(Command.ZREVRANGE, new JedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(Jedis jedis) {
                 return jedis.zrevrange(key,start,end);
@@ -3330,7 +3764,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<Tuple> zrangeWithScores(final byte[] key, final long start, final long end) {
-        return this.execute(new JedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZRANGE, new JedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(Jedis jedis) {
                 return jedis.zrangeWithScores(key,start,end);
@@ -3340,7 +3774,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<Tuple> zrevrangeWithScores(final byte[] key, final long start, final long end) {
-        return this.execute(new JedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZREVRANGE, new JedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(Jedis jedis) {
                 return jedis.zrevrangeWithScores(key,start,end);
@@ -3350,7 +3784,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zcard(final byte[] key) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZCARD, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zcard(key);
@@ -3360,7 +3794,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Double zscore(final byte[] key, final byte[] member) {
-        return this.execute(new JedisAction<Double>() {
+        return this.execute(Command.ZSCORE, new JedisAction<Double>() {
             @Override
             public Double doAction(Jedis jedis) {
                 return jedis.zscore(key,member);
@@ -3370,7 +3804,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<byte[]> sort(final byte[] key) {
-        return this.execute(new JedisAction<List<byte[]>>() {
+        return this.execute(Command.SORT, new JedisAction<List<byte[]>>() {
             @Override
             public List<byte[]> doAction(Jedis jedis) {
                 return jedis.sort(key);
@@ -3380,7 +3814,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<byte[]> sort(final byte[] key, final SortingParams sortingParameters) {
-        return this.execute(new JedisAction<List<byte[]>>() {
+        return this.execute(Command.SORT, new JedisAction<List<byte[]>>() {
             @Override
             public List<byte[]> doAction(Jedis jedis) {
                 return jedis.sort(key,sortingParameters);
@@ -3390,7 +3824,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zcount(final byte[] key, final double min, final double max) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZCOUNT, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zcount(key,min,max);
@@ -3400,7 +3834,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zcount(final byte[] key, final byte[] min, final byte[] max) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZCOUNT, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zcount(key,min,max);
@@ -3410,7 +3844,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<byte[]> zrangeByScore(final byte[] key, final double min, final double max) {
-        return this.execute(new JedisAction<Set<byte[]>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new JedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(Jedis jedis) {
                 return jedis.zrangeByScore(key,min,max);
@@ -3420,7 +3854,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<byte[]> zrangeByScore(final byte[] key, final byte[] min, final byte[] max) {
-        return this.execute(new JedisAction<Set<byte[]>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new JedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(Jedis jedis) {
                 return jedis.zrangeByScore(key,min,max);
@@ -3430,7 +3864,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<byte[]> zrevrangeByScore(final byte[] key, final double max, final double min) {
-        return this.execute(new JedisAction<Set<byte[]>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new JedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(Jedis jedis) {
                 return jedis.zrevrangeByScore(key,max,min);
@@ -3440,7 +3874,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<byte[]> zrangeByScore(final byte[] key, final double min, final double max, final int offset, final int count) {
-        return this.execute(new JedisAction<Set<byte[]>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new JedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(Jedis jedis) {
                 return jedis.zrangeByScore(key,min,max,offset,count);
@@ -3450,7 +3884,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<byte[]> zrevrangeByScore(final byte[] key, final byte[] max, final byte[] min) {
-        return this.execute(new JedisAction<Set<byte[]>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new JedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(Jedis jedis) {
                 return jedis.zrevrangeByScore(key,max,min);
@@ -3460,7 +3894,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<byte[]> zrangeByScore(final byte[] key, final byte[] min, final byte[] max, final int offset, final int count) {
-        return this.execute(new JedisAction<Set<byte[]>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new JedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(Jedis jedis) {
                 return jedis.zrangeByScore(key,min,max,offset,count);
@@ -3470,7 +3904,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<byte[]> zrevrangeByScore(final byte[] key, final double max, final double min, final int offset, final int count) {
-        return this.execute(new JedisAction<Set<byte[]>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new JedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(Jedis jedis) {
                 return jedis.zrevrangeByScore(key,max,min,offset,count);
@@ -3480,7 +3914,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<Tuple> zrangeByScoreWithScores(final byte[] key, final double min, final double max) {
-        return this.execute(new JedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new JedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(Jedis jedis) {
                 return jedis.zrangeByScoreWithScores(key,min,max);
@@ -3490,7 +3924,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<Tuple> zrevrangeByScoreWithScores(final byte[] key, final double max, final double min) {
-        return this.execute(new JedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new JedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(Jedis jedis) {
                 return jedis.zrevrangeByScoreWithScores(key,max,min);
@@ -3500,7 +3934,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<Tuple> zrangeByScoreWithScores(final byte[] key, final double min, final double max, final int offset, final int count) {
-        return this.execute(new JedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new JedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(Jedis jedis) {
                 return jedis.zrangeByScoreWithScores(key,min,max,offset,count);
@@ -3510,7 +3944,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<byte[]> zrevrangeByScore(final byte[] key, final byte[] max, final byte[] min, final int offset, final int count) {
-        return this.execute(new JedisAction<Set<byte[]>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new JedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(Jedis jedis) {
                 return jedis.zrevrangeByScore(key,max,min,offset,count);
@@ -3520,7 +3954,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<Tuple> zrangeByScoreWithScores(final byte[] key, final byte[] min, final byte[] max) {
-        return this.execute(new JedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new JedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(Jedis jedis) {
                 return jedis.zrangeByScoreWithScores(key,min,max);
@@ -3530,7 +3964,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<Tuple> zrevrangeByScoreWithScores(final byte[] key, final byte[] max, final byte[] min) {
-        return this.execute(new JedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new JedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(Jedis jedis) {
                 return jedis.zrevrangeByScoreWithScores(key,max,min);
@@ -3540,7 +3974,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<Tuple> zrangeByScoreWithScores(final byte[] key, final byte[] min, final byte[] max, final int offset, final int count) {
-        return this.execute(new JedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new JedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(Jedis jedis) {
                 return jedis.zrangeByScoreWithScores(key, min, max, offset, count);
@@ -3550,7 +3984,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<Tuple> zrevrangeByScoreWithScores(final byte[] key, final double max, final double min, final int offset, final int count) {
-        return this.execute(new JedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new JedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(Jedis jedis) {
                 return jedis.zrevrangeByScoreWithScores(key, max, min, offset, count);
@@ -3560,7 +3994,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<Tuple> zrevrangeByScoreWithScores(final byte[] key, final byte[] max, final byte[] min, final int offset, final int count) {
-        return this.execute(new JedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new JedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(Jedis jedis) {
                 return jedis.zrevrangeByScoreWithScores(key, max, min, offset, count);
@@ -3570,7 +4004,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zremrangeByRank(final byte[] key, final long start, final long end) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZREMRANGEBYRANK, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zremrangeByRank(key, start, end);
@@ -3580,7 +4014,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zremrangeByScore(final byte[] key, final double start, final double end) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZREMRANGEBYSCORE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zremrangeByScore(key, start, end);
@@ -3590,7 +4024,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zremrangeByScore(final byte[] key, final byte[] start, final byte[] end) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZREMRANGEBYSCORE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zremrangeByScore(key, start, end);
@@ -3600,7 +4034,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zlexcount(final byte[] key, final byte[] min, final byte[] max) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZLEXCOUNT, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zlexcount(key, min, max);
@@ -3610,7 +4044,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<byte[]> zrangeByLex(final byte[] key, final byte[] min, final byte[] max) {
-        return this.execute(new JedisAction<Set<byte[]>>() {
+        return this.execute(Command.ZRANGEBYLEX, new JedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(Jedis jedis) {
                 return jedis.zrangeByLex(key, min, max);
@@ -3620,7 +4054,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<byte[]> zrangeByLex(final byte[] key, final byte[] min, final byte[] max, final int offset, final int count) {
-        return this.execute(new JedisAction<Set<byte[]>>() {
+        return this.execute(Command.ZRANGEBYLEX, new JedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(Jedis jedis) {
                 return jedis.zrangeByLex(key, min, max, offset, count);
@@ -3630,7 +4064,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<byte[]> zrevrangeByLex(final byte[] key, final byte[] max, final byte[] min) {
-        return this.execute(new JedisAction<Set<byte[]>>() {
+        return this.execute(Command.ZREVRANGEBYLEX, new JedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(Jedis jedis) {
                 return jedis.zrevrangeByLex(key, max, min);
@@ -3640,7 +4074,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<byte[]> zrevrangeByLex(final byte[] key, final byte[] max, final byte[] min, final int offset, final int count) {
-        return this.execute(new JedisAction<Set<byte[]>>() {
+        return this.execute(Command.ZREVRANGEBYLEX, new JedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(Jedis jedis) {
                 return jedis.zrevrangeByLex(key, max, min, offset, count);
@@ -3650,7 +4084,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zremrangeByLex(final byte[] key, final byte[] min, final byte[] max) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZREMRANGEBYLEX, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zremrangeByLex(key, min, max);
@@ -3660,7 +4094,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long linsert(final byte[] key, final BinaryClient.LIST_POSITION where, final byte[] pivot, final byte[] value) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.LINSERT, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.linsert(key, where, pivot, value);
@@ -3670,7 +4104,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long lpushx(final byte[] key, final byte[]... string) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.LPUSHX, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.lpushx(key, string);
@@ -3680,7 +4114,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long rpushx(final byte[] key, final byte[]... string) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.RPUSHX, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.rpushx(key, string);
@@ -3691,7 +4125,7 @@ public class RedisClientImpl implements RedisClient {
     @Override
     @Deprecated
     public List<byte[]> blpop(final byte[] arg) {
-        return this.execute(new JedisAction<List<byte[]>>() {
+        return this.execute(Command.BLPOP, new JedisAction<List<byte[]>>() {
             @Override
             public List<byte[]> doAction(Jedis jedis) {
                 return jedis.blpop(arg);
@@ -3702,7 +4136,7 @@ public class RedisClientImpl implements RedisClient {
     @Override
     @Deprecated
     public List<byte[]> brpop(final byte[] arg) {
-        return this.execute(new JedisAction<List<byte[]>>() {
+        return this.execute(Command.BRPOP, new JedisAction<List<byte[]>>() {
             @Override
             public List<byte[]> doAction(Jedis jedis) {
                 return jedis.brpop(arg);
@@ -3712,7 +4146,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long del(final byte[] key) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.DEL, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.del(key);
@@ -3722,7 +4156,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public byte[] echo(final byte[] string) {
-        return this.execute(new JedisAction<byte[]>() {
+        return this.execute(Command.ECHO, new JedisAction<byte[]>() {
             @Override
             public byte[] doAction(Jedis jedis) {
                 return jedis.echo(string);
@@ -3732,7 +4166,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long move(final byte[] key, final int dbIndex) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.MOVE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.move(key,dbIndex);
@@ -3742,7 +4176,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long bitcount(final byte[] key) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.BITCOUNT, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.bitcount(key);
@@ -3752,7 +4186,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long bitcount(final byte[] key, final long start, final long end) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.BITCOUNT, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.bitcount(key, start, end);
@@ -3762,7 +4196,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long pfadd(final byte[] key, final byte[]... elements) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.PFADD, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.pfadd(key, elements);
@@ -3772,7 +4206,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public long pfcount(final byte[] key) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.PFCOUNT, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.pfcount(key);
@@ -3782,7 +4216,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long geoadd(final byte[] key, final double longitude, final double latitude, final byte[] member) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.GEOADD, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.geoadd(key, longitude, latitude, member);
@@ -3792,7 +4226,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long geoadd(final byte[] key, final Map<byte[], GeoCoordinate> memberCoordinateMap) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.GEOADD, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.geoadd(key, memberCoordinateMap);
@@ -3802,7 +4236,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Double geodist(final byte[] key, final byte[] member1, final byte[] member2) {
-        return this.execute(new JedisAction<Double>() {
+        return this.execute(Command.GEODIST, new JedisAction<Double>() {
             @Override
             public Double doAction(Jedis jedis) {
                 return jedis.geodist(key, member1, member2);
@@ -3812,7 +4246,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Double geodist(final byte[] key, final byte[] member1, final byte[] member2, final GeoUnit unit) {
-        return this.execute(new JedisAction<Double>() {
+        return this.execute(Command.GEODIST, new JedisAction<Double>() {
             @Override
             public Double doAction(Jedis jedis) {
                 return jedis.geodist(key, member1, member2, unit);
@@ -3822,7 +4256,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<byte[]> geohash(final byte[] key, final byte[]... members) {
-        return this.execute(new JedisAction<List<byte[]>>() {
+        return this.execute(Command.GEOHASH, new JedisAction<List<byte[]>>() {
             @Override
             public List<byte[]> doAction(Jedis jedis) {
                 return jedis.geohash(key, members);
@@ -3832,7 +4266,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<GeoCoordinate> geopos(final byte[] key, final byte[]... members) {
-        return this.execute(new JedisAction<List<GeoCoordinate>>() {
+        return this.execute(Command.GEOPOS, new JedisAction<List<GeoCoordinate>>() {
             @Override
             public List<GeoCoordinate> doAction(Jedis jedis) {
                 return jedis.geopos(key, members);
@@ -3842,7 +4276,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<GeoRadiusResponse> georadius(final byte[] key, final double longitude, final double latitude, final double radius, final GeoUnit unit) {
-        return this.execute(new JedisAction<List<GeoRadiusResponse>>() {
+        return this.execute(Command.GEORADIUS, new JedisAction<List<GeoRadiusResponse>>() {
             @Override
             public List<GeoRadiusResponse> doAction(Jedis jedis) {
                 return jedis.georadius(key, longitude, latitude, radius, unit);
@@ -3852,7 +4286,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<GeoRadiusResponse> georadius(final byte[] key, final double longitude, final double latitude, final double radius, final GeoUnit unit, final GeoRadiusParam param) {
-        return this.execute(new JedisAction<List<GeoRadiusResponse>>() {
+        return this.execute(Command.GEORADIUS, new JedisAction<List<GeoRadiusResponse>>() {
             @Override
             public List<GeoRadiusResponse> doAction(Jedis jedis) {
                 return jedis.georadius(key, longitude, latitude, radius, unit, param);
@@ -3862,7 +4296,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<GeoRadiusResponse> georadiusByMember(final byte[] key, final byte[] member, final double radius, final GeoUnit unit) {
-        return this.execute(new JedisAction<List<GeoRadiusResponse>>() {
+        return this.execute(Command.GEORADIUSBYMEMBER, new JedisAction<List<GeoRadiusResponse>>() {
             @Override
             public List<GeoRadiusResponse> doAction(Jedis jedis) {
                 return jedis.georadiusByMember(key, member, radius, unit);
@@ -3872,7 +4306,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<GeoRadiusResponse> georadiusByMember(final byte[] key, final byte[] member, final double radius, final GeoUnit unit, final GeoRadiusParam param) {
-        return this.execute(new JedisAction<List<GeoRadiusResponse>>() {
+        return this.execute(Command.GEORADIUSBYMEMBER, new JedisAction<List<GeoRadiusResponse>>() {
             @Override
             public List<GeoRadiusResponse> doAction(Jedis jedis) {
                 return jedis.georadiusByMember(key, member, radius, unit, param);
@@ -3882,7 +4316,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public ScanResult<Map.Entry<byte[], byte[]>> hscan(final byte[] key, final byte[] cursor) {
-        return this.execute(new JedisAction<ScanResult<Map.Entry<byte[], byte[]>>>() {
+        return this.execute(Command.HSCAN, new JedisAction<ScanResult<Map.Entry<byte[], byte[]>>>() {
             @Override
             public ScanResult<Map.Entry<byte[], byte[]>> doAction(Jedis jedis) {
                 return jedis.hscan(key, cursor);
@@ -3892,7 +4326,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public ScanResult<Map.Entry<byte[], byte[]>> hscan(final byte[] key, final byte[] cursor, final ScanParams params) {
-        return this.execute(new JedisAction<ScanResult<Map.Entry<byte[], byte[]>>>() {
+        return this.execute(Command.HSCAN, new JedisAction<ScanResult<Map.Entry<byte[], byte[]>>>() {
             @Override
             public ScanResult<Map.Entry<byte[], byte[]>> doAction(Jedis jedis) {
                 return jedis.hscan(key, cursor, params);
@@ -3902,7 +4336,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public ScanResult<byte[]> sscan(final byte[] key, final byte[] cursor) {
-        return this.execute(new JedisAction<ScanResult<byte[]>>() {
+        return this.execute(Command.SSCAN, new JedisAction<ScanResult<byte[]>>() {
             @Override
             public ScanResult<byte[]> doAction(Jedis jedis) {
                 return jedis.sscan(key, cursor);
@@ -3912,7 +4346,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public ScanResult<byte[]> sscan(final byte[] key, final byte[] cursor, final ScanParams params) {
-        return this.execute(new JedisAction<ScanResult<byte[]>>() {
+        return this.execute(Command.SSCAN, new JedisAction<ScanResult<byte[]>>() {
             @Override
             public ScanResult<byte[]> doAction(Jedis jedis) {
                 return jedis.sscan(key, cursor, params);
@@ -3922,7 +4356,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public ScanResult<Tuple> zscan(final byte[] key, final byte[] cursor) {
-        return this.execute(new JedisAction<ScanResult<Tuple>>() {
+        return this.execute(Command.ZSCAN, new JedisAction<ScanResult<Tuple>>() {
             @Override
             public ScanResult<Tuple> doAction(Jedis jedis) {
                 return jedis.zscan(key, cursor);
@@ -3932,7 +4366,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public ScanResult<Tuple> zscan(final byte[] key, final byte[] cursor, final ScanParams params) {
-        return this.execute(new JedisAction<ScanResult<Tuple>>() {
+        return this.execute(Command.ZSCAN, new JedisAction<ScanResult<Tuple>>() {
             @Override
             public ScanResult<Tuple> doAction(Jedis jedis) {
                 return jedis.zscan(key, cursor, params);
@@ -3942,7 +4376,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<byte[]> bitfield(final byte[] key, final byte[]... arguments) {
-        return this.execute(new JedisAction<List<byte[]>>() {
+        return this.execute(Command.BITFIELD, new JedisAction<List<byte[]>>() {
             @Override
             public List<byte[]> doAction(Jedis jedis) {
                 return jedis.bitfield(key, arguments);
@@ -3952,7 +4386,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Object eval(final byte[] script, final byte[] keyCount, final byte[]... params) {
-        return this.execute(new JedisAction<Object>() {
+        return this.execute(Command.EVAL, new JedisAction<Object>() {
             @Override
             public Object doAction(Jedis jedis) {
                 return jedis.eval(script, keyCount, params);
@@ -3962,7 +4396,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Object eval(final byte[] script, final int keyCount, final byte[]... params) {
-        return this.execute(new JedisAction<Object>() {
+        return this.execute(Command.EVAL, new JedisAction<Object>() {
             @Override
             public Object doAction(Jedis jedis) {
                 return jedis.eval(script, keyCount, params);
@@ -3972,7 +4406,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Object eval(final byte[] script, final List<byte[]> keys, final List<byte[]> args) {
-        return this.execute(new JedisAction<Object>() {
+        return this.execute(Command.EVAL, new JedisAction<Object>() {
             @Override
             public Object doAction(Jedis jedis) {
                 return jedis.eval(script, keys, args);
@@ -3982,7 +4416,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Object eval(final byte[] script) {
-        return this.execute(new JedisAction<Object>() {
+        return this.execute(Command.EVAL, new JedisAction<Object>() {
             @Override
             public Object doAction(Jedis jedis) {
                 return jedis.eval(script);
@@ -3992,7 +4426,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Object evalsha(final byte[] sha1) {
-        return this.execute(new JedisAction<Object>() {
+        return this.execute(Command.EVALSHA, new JedisAction<Object>() {
             @Override
             public Object doAction(Jedis jedis) {
                 return jedis.evalsha(sha1);
@@ -4002,7 +4436,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Object evalsha(final byte[] sha1, final List<byte[]> keys, final List<byte[]> args) {
-        return this.execute(new JedisAction<Object>() {
+        return this.execute(Command.EVALSHA, new JedisAction<Object>() {
             @Override
             public Object doAction(Jedis jedis) {
                 return jedis.evalsha(sha1, keys, args);
@@ -4012,7 +4446,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Object evalsha(final byte[] sha1, final int keyCount, final byte[]... params) {
-        return this.execute(new JedisAction<Object>() {
+        return this.execute(Command.EVALSHA, new JedisAction<Object>() {
             @Override
             public Object doAction(Jedis jedis) {
                 return jedis.evalsha(sha1, keyCount, params);
@@ -4022,7 +4456,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<Long> scriptExists(final byte[]... sha1) {
-        return this.execute(new JedisAction<List<Long>>() {
+        return this.execute(Command.SCRIPT, new JedisAction<List<Long>>() {
             @Override
             public List<Long> doAction(Jedis jedis) {
                 return jedis.scriptExists(sha1);
@@ -4032,7 +4466,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public byte[] scriptLoad(final byte[] script) {
-        return this.execute(new JedisAction<byte[]>() {
+        return this.execute(Command.SCRIPT, new JedisAction<byte[]>() {
             @Override
             public byte[] doAction(Jedis jedis) {
                 return jedis.scriptLoad(script);
@@ -4042,7 +4476,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String scriptFlush() {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.SCRIPT, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.scriptFlush();
@@ -4052,7 +4486,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String scriptKill() {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.SCRIPT, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.scriptKill();
@@ -4062,7 +4496,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long del(final byte[]... keys) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.DEL, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.del(keys);
@@ -4072,7 +4506,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long exists(final byte[]... keys) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.EXISTS, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.exists(keys);
@@ -4082,7 +4516,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<byte[]> blpop(final int timeout, final byte[]... keys) {
-        return this.execute(new JedisAction<List<byte[]>>() {
+        return this.execute(Command.BLPOP, new JedisAction<List<byte[]>>() {
             @Override
             public List<byte[]> doAction(Jedis jedis) {
                 return jedis.blpop(timeout,keys);
@@ -4092,7 +4526,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<byte[]> brpop(final int timeout, final byte[]... keys) {
-        return this.execute(new JedisAction<List<byte[]>>() {
+        return this.execute(Command.BLPOP, new JedisAction<List<byte[]>>() {
             @Override
             public List<byte[]> doAction(Jedis jedis) {
                 return jedis.blpop(timeout,keys);
@@ -4102,7 +4536,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<byte[]> blpop(final byte[]... args) {
-        return this.execute(new JedisAction<List<byte[]>>() {
+        return this.execute(Command.BLPOP, new JedisAction<List<byte[]>>() {
             @Override
             public List<byte[]> doAction(Jedis jedis) {
                 return jedis.blpop(args);
@@ -4112,7 +4546,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<byte[]> brpop(final byte[]... args) {
-        return this.execute(new JedisAction<List<byte[]>>() {
+        return this.execute(Command.BLPOP, new JedisAction<List<byte[]>>() {
             @Override
             public List<byte[]> doAction(Jedis jedis) {
                 return jedis.blpop(args);
@@ -4122,7 +4556,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<byte[]> keys(final byte[] pattern) {
-        return this.execute(new JedisAction<Set<byte[]>>() {
+        return this.execute(Command.KEYS, new JedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(Jedis jedis) {
                 return jedis.keys(pattern);
@@ -4132,7 +4566,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<byte[]> mget(final byte[]... keys) {
-        return this.execute(new JedisAction<List<byte[]>>() {
+        return this.execute(Command.MGET, new JedisAction<List<byte[]>>() {
             @Override
             public List<byte[]> doAction(Jedis jedis) {
                 return jedis.mget(keys);
@@ -4142,7 +4576,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String mset(final byte[]... keysvalues) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.MSET, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.mset(keysvalues);
@@ -4152,7 +4586,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long msetnx(final byte[]... keysvalues) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.MSETNX, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.msetnx(keysvalues);
@@ -4162,7 +4596,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String rename(final byte[] oldkey, final byte[] newkey) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.RENAME, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.rename(oldkey, newkey);
@@ -4172,7 +4606,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long renamenx(final byte[] oldkey, final byte[] newkey) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.RENAMENX, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.renamenx(oldkey,newkey);
@@ -4182,7 +4616,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public byte[] rpoplpush(final byte[] srckey, final byte[] dstkey) {
-        return this.execute(new JedisAction<byte[]>() {
+        return this.execute(Command.RPOPLPUSH, new JedisAction<byte[]>() {
             @Override
             public byte[] doAction(Jedis jedis) {
                 return jedis.rpoplpush(srckey,dstkey);
@@ -4192,7 +4626,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<byte[]> sdiff(final byte[]... keys) {
-        return this.execute(new JedisAction<Set<byte[]>>() {
+        return this.execute(Command.SDIFF, new JedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(Jedis jedis) {
                 return jedis.sdiff(keys);
@@ -4202,7 +4636,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long sdiffstore(final byte[] dstkey, final byte[]... keys) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.SDIFFSTORE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.sdiffstore(dstkey, keys);
@@ -4212,7 +4646,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<byte[]> sinter(final byte[]... keys) {
-        return this.execute(new JedisAction<Set<byte[]>>() {
+        return this.execute(Command.SINTER, new JedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(Jedis jedis) {
                 return jedis.sinter(keys);
@@ -4222,7 +4656,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long sinterstore(final byte[] dstkey, final byte[]... keys) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.SINTERSTORE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.sinterstore(dstkey, keys);
@@ -4232,7 +4666,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long smove(final byte[] srckey, final byte[] dstkey, final byte[] member) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.SMOVE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.smove(srckey, dstkey, member);
@@ -4242,7 +4676,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long sort(final byte[] key, final SortingParams sortingParameters, final byte[] dstkey) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.SORT, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.sort(key, sortingParameters, dstkey);
@@ -4252,7 +4686,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long sort(final byte[] key, final byte[] dstkey) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.SORT, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.sort(key, dstkey);
@@ -4262,7 +4696,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Set<byte[]> sunion(final byte[]... keys) {
-        return this.execute(new JedisAction<Set<byte[]>>() {
+        return this.execute(Command.SUNION, new JedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(Jedis jedis) {
                 return jedis.sunion(keys);
@@ -4272,7 +4706,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long sunionstore(final byte[] dstkey, final byte[]... keys) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.SUNIONSTORE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.sunionstore(dstkey, keys);
@@ -4282,7 +4716,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String watch(final byte[]... keys) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.WATCH, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.watch(keys);
@@ -4292,7 +4726,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zinterstore(final byte[] dstkey, final byte[]... sets) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZINTERSTORE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zinterstore(dstkey, sets);
@@ -4302,7 +4736,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zinterstore(final byte[] dstkey, final ZParams params, final byte[]... sets) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZINTERSTORE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zinterstore(dstkey, params, sets);
@@ -4312,7 +4746,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zunionstore(final byte[] dstkey, final byte[]... sets) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZUNIONSTORE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zunionstore(dstkey, sets);
@@ -4322,7 +4756,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long zunionstore(final byte[] dstkey, final ZParams params, final byte[]... sets) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.ZUNIONSTORE, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.zunionstore(dstkey, params, sets);
@@ -4332,7 +4766,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public byte[] brpoplpush(final byte[] source, final byte[] destination, final int timeout) {
-        return this.execute(new JedisAction<byte[]>() {
+        return this.execute(Command.BRPOPLPUSH, new JedisAction<byte[]>() {
             @Override
             public byte[] doAction(Jedis jedis) {
                 return jedis.brpoplpush(source, destination, timeout);
@@ -4342,7 +4776,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long publish(final byte[] channel, final byte[] message) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.PUBLISH, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.publish(channel, message);
@@ -4352,7 +4786,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public void subscribe(final BinaryJedisPubSub jedisPubSub, final byte[]... channels) {
-        this.execute(new JedisAction<Integer>() {
+        this.execute(Command.SUBSCRIBE, new JedisAction<Integer>() {
             @Override
             public Integer doAction(Jedis jedis) {
                 jedis.subscribe(jedisPubSub, channels);
@@ -4363,7 +4797,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public void psubscribe(final BinaryJedisPubSub jedisPubSub, final byte[]... patterns) {
-        this.execute(new JedisAction<Integer>() {
+        this.execute(Command.PSUBSCRIBE, new JedisAction<Integer>() {
             @Override
             public Integer doAction(Jedis jedis) {
                 jedis.psubscribe(jedisPubSub, patterns);
@@ -4374,7 +4808,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public byte[] randomBinaryKey() {
-        return this.execute(new JedisAction<byte[]>() {
+        return this.execute(Command.RANDOMKEY, new JedisAction<byte[]>() {
             @Override
             public byte[] doAction(Jedis jedis) {
                 return jedis.randomBinaryKey();
@@ -4384,7 +4818,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long bitop(final BitOP op, final byte[] destKey, final byte[]... srcKeys) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.BITOP, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.bitop(op, destKey, srcKeys);
@@ -4394,7 +4828,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public String pfmerge(final byte[] destkey, final byte[]... sourcekeys) {
-        return this.execute(new JedisAction<String>() {
+        return this.execute(Command.PFMERGE, new JedisAction<String>() {
             @Override
             public String doAction(Jedis jedis) {
                 return jedis.pfmerge(destkey, sourcekeys);
@@ -4404,7 +4838,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long pfcount(final byte[]... keys) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.PFCOUNT, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.pfcount(keys);
@@ -4414,7 +4848,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<byte[]> configGet(final byte[] pattern) {
-        return this.execute(new JedisAction<List<byte[]>>() {
+        return this.execute(Command.CONFIG, new JedisAction<List<byte[]>>() {
             @Override
             public List<byte[]> doAction(Jedis jedis) {
                 return jedis.configGet(pattern);
@@ -4424,7 +4858,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public byte[] configSet(final byte[] parameter, final byte[] value) {
-        return this.execute(new JedisAction<byte[]>() {
+        return this.execute(Command.CONFIG, new JedisAction<byte[]>() {
             @Override
             public byte[] doAction(Jedis jedis) {
                 return jedis.configSet(parameter,value);
@@ -4434,7 +4868,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<byte[]> slowlogGetBinary() {
-        return this.execute(new JedisAction<List<byte[]>>() {
+        return this.execute(Command.SLOWLOG, new JedisAction<List<byte[]>>() {
             @Override
             public List<byte[]> doAction(Jedis jedis) {
                 return jedis.slowlogGetBinary();
@@ -4444,7 +4878,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public List<byte[]> slowlogGetBinary(final long entries) {
-        return this.execute(new JedisAction<List<byte[]>>() {
+        return this.execute(Command.SLOWLOG, new JedisAction<List<byte[]>>() {
             @Override
             public List<byte[]> doAction(Jedis jedis) {
                 return jedis.slowlogGetBinary(entries);
@@ -4454,7 +4888,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long objectRefcount(final byte[] key) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.OBJECT, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.objectRefcount(key);
@@ -4464,7 +4898,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public byte[] objectEncoding(final byte[] key) {
-        return this.execute(new JedisAction<byte[]>() {
+        return this.execute(Command.OBJECT, new JedisAction<byte[]>() {
             @Override
             public byte[] doAction(Jedis jedis) {
                 return jedis.objectEncoding(key);
@@ -4474,7 +4908,7 @@ public class RedisClientImpl implements RedisClient {
 
     @Override
     public Long objectIdletime(final byte[] key) {
-        return this.execute(new JedisAction<Long>() {
+        return this.execute(Command.OBJECT, new JedisAction<Long>() {
             @Override
             public Long doAction(Jedis jedis) {
                 return jedis.objectIdletime(key);
@@ -3,8 +3,31 @@ package com.xps.tools.redis.impl;
 import com.xps.tools.redis.util.PoolHandler;
 import com.xps.tools.redis.ShardedJedisAction;
 import com.xps.tools.redis.ShardedRedisClient;
+import com.xps.tools.redis.codec.CodecRedisClient;
+import com.xps.tools.redis.codec.CodecRedisClientImpl;
+import com.xps.tools.redis.codec.RedisCodec;
 import com.xps.tools.redis.config.RedisShardedPoolConfig;
+import com.xps.tools.redis.exceptions.RedisToolsException;
+import com.xps.tools.redis.exceptions.RedisToolsExceptionComp;
+import com.xps.tools.redis.pool.LeakDetector;
+import com.xps.tools.redis.pool.PoolDrainer;
+import com.xps.tools.redis.pool.Pools;
+import com.xps.tools.redis.resilience.Deadline;
+import com.xps.tools.redis.resilience.CircuitBreaker;
+import com.xps.tools.redis.resilience.HedgePolicy;
+import com.xps.tools.redis.resilience.RedisFailures;
+import com.xps.tools.redis.resilience.RetryPolicy;
+import com.xps.tools.redis.script.LuaScript;
+import com.xps.tools.redis.script.ScriptRegistry;
+import com.xps.tools.redis.shard.IsolatedShardedJedis;
+import com.xps.tools.redis.shard.IsolatedShardedJedisPool;
+import com.xps.tools.redis.shard.ShardFallback;
+import com.xps.tools.redis.shard.ShardMigration;
+import com.xps.tools.redis.shard.ShardNode;
+import com.xps.tools.redis.shard.ShardUnavailableException;
+import com.xps.tools.redis.util.CommandTraits;
 import redis.clients.jedis.*;
+import redis.clients.jedis.Protocol.Command;
 import redis.clients.jedis.params.geo.GeoRadiusParam;
 import redis.clients.jedis.params.sortedset.ZAddParams;
 import redis.clients.jedis.params.sortedset.ZIncrByParams;
@@ -12,9 +35,14 @@ import redis.clients.util.Pool;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -26,6 +54,12 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
     private static final String LOCK = "lock";
     private RedisShardedPoolConfig redisShardedPoolConfig;
     private Logger logger = Logger.getLogger(this.getClass().getName());
+    private ScriptRegistry scriptRegistry = new ScriptRegistry();
+    private volatile ShardMigration migration;
+    private ShardFallback shardFallback;
+    private volatile HedgePolicy hedgePolicy;
+    private volatile CircuitBreaker circuitBreaker;
+    private volatile RetryPolicy retryPolicy;
 
     public ShardedRedisClientImpl(){}
     public ShardedRedisClientImpl(RedisShardedPoolConfig redisShardedPoolConfig){
@@ -50,25 +84,346 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
             poolHandler.setRedisShardedPoolConfig(redisShardedPoolConfig, PoolHandler.INIT_DEFAULT_POOL_YES);
             logger.info("initGetShardPool初始化操作完成");
-            return poolHandler.getShardedJedisPool();
+            Pool<ShardedJedis> pool = poolHandler.getShardedJedisPool();
+            this.preloadScripts(pool);
+            return pool;
+        }
+    }
+
+    /**
+     * 把scriptRegistry中已注册的脚本加载到每一个分片，失败只记录日志，执行时会按NOSCRIPT兜底加载
+     */
+    public void preloadScripts() {
+        this.preloadScripts(this.getShardedJedisPool());
+    }
+
+    private void preloadScripts(Pool<ShardedJedis> pool) {
+        if(pool == null || scriptRegistry.getScripts().isEmpty()) {
+            return;
+        }
+        try(ShardedJedis shardedJedis = pool.getResource()) {
+            for(Jedis jedis : shardedJedis.getAllShards()) {
+                scriptRegistry.preload(jedis);
+            }
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "预加载lua脚本失败", e);
+        }
+    }
+
+    public ScriptRegistry getScriptRegistry() {
+        return scriptRegistry;
+    }
+
+    public void setScriptRegistry(ScriptRegistry scriptRegistry) {
+        this.scriptRegistry = scriptRegistry;
+    }
+
+    @Override
+    public <K, V> CodecRedisClient<K, V> withCodec(RedisCodec<K> keyCodec, RedisCodec<V> valueCodec) {
+        return new CodecRedisClientImpl<>(this, keyCodec, valueCodec);
+    }
+
+    @Override
+    public Object evalScript(final LuaScript script, final List<String> keys, final List<String> args) {
+        if(keys == null || keys.isEmpty()) {
+            throw new RedisToolsException(RedisToolsExceptionComp.PARAM_NULL_SCRIPT_KEYS);
         }
+        return this.execute(new ShardedJedisAction<Object>() {
+            @Override
+            public Object doAction(ShardedJedis shardedJedis) {
+                return scriptRegistry.eval(shardedJedis.getShard(keys.get(0)), script, keys, args);
+            }
+        });
     }
 
 
     @Override
     public <T> T execute(ShardedJedisAction<T> shardedJedisAction) {
-        Pool<ShardedJedis> shardedJedisPool = this.getShardedJedisPool();
-        try(ShardedJedis shardedJedis = shardedJedisPool.getResource()){
+        return this.execute(null, shardedJedisAction);
+    }
+
+    /**
+     * 设置了circuitBreaker时，熔断期间直接抛出CircuitOpenException；
+     * 设置了retryPolicy时幂等命令遇到连接错误等瞬时故障会重试，每次重试都经过熔断器
+     */
+    @Override
+    public <T> T execute(final Command command, final ShardedJedisAction<T> shardedJedisAction) {
+        RetryPolicy retryPolicy = this.retryPolicy;
+        if(retryPolicy == null) {
+            return this.guard(command, shardedJedisAction);
+        }
+        return retryPolicy.execute(command, new Callable<T>() {
+            @Override
+            public T call() {
+                return guard(command, shardedJedisAction);
+            }
+        });
+    }
+
+    private <T> T guard(Command command, ShardedJedisAction<T> shardedJedisAction) {
+        CircuitBreaker circuitBreaker = this.circuitBreaker;
+        if(circuitBreaker == null) {
+            return this.route(command, shardedJedisAction);
+        }
+        circuitBreaker.acquire();
+        long start = System.nanoTime();
+        try {
+            T result = this.route(command, shardedJedisAction);
+            circuitBreaker.onSuccess(System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException e) {
+            if(RedisFailures.isServerFailure(e)) {
+                circuitBreaker.onFailure();
+            } else if(RedisFailures.isPoolExhausted(e)) {
+                circuitBreaker.onIgnored();
+            } else {
+                circuitBreaker.onSuccess(System.nanoTime() - start);
+            }
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T route(Command command, ShardedJedisAction<T> shardedJedisAction) {
+        LeakDetector leakDetector = poolHandler.getShardedLeakDetector();
+        if(leakDetector != null) {
+            shardedJedisAction = tracked(leakDetector, shardedJedisAction);
+        }
+        try {
+            ShardMigration migration = this.migration;
+            if(migration != null) {
+                return migration.execute(command, shardedJedisAction);
+            }
+            Pool<ShardedJedis> shardedJedisPool = this.getShardedJedisPool();
+            HedgePolicy hedgePolicy = this.hedgePolicy;
+            if(hedgePolicy != null && CommandTraits.isReadOnly(command) && !CommandTraits.isCursor(command)) {
+                return this.hedgedRead(hedgePolicy, shardedJedisPool, command, shardedJedisAction);
+            }
+            try(ShardedJedis shardedJedis = Pools.borrow(shardedJedisPool)){
+                return this.doAction(shardedJedis, command, shardedJedisAction);
+            }
+        } catch (ShardUnavailableException e) {
+            if(shardFallback == null) {
+                throw e;
+            }
+            return (T) shardFallback.fallback(command, e);
+        }
+    }
+
+    /**
+     * 开启连接占用跟踪时记录回调占用连接的时间，不含借连接的等待；迁移和对冲读的每次借出分别记录
+     */
+    private static <T> ShardedJedisAction<T> tracked(final LeakDetector leakDetector, final ShardedJedisAction<T> shardedJedisAction) {
+        return new ShardedJedisAction<T>() {
+            @Override
+            public T doAction(ShardedJedis shardedJedis) {
+                LeakDetector.Lease lease = leakDetector.acquire();
+                try {
+                    return shardedJedisAction.doAction(shardedJedis);
+                } finally {
+                    leakDetector.release(lease);
+                }
+            }
+        };
+    }
+
+    /**
+     * 按命令类别路由，并按commandTimeouts和当前线程的截止时间设置读超时：
+     * 分片隔离模式下在借出分片连接时设置，其它模式下对所有分片的连接设置，执行完恢复
+     */
+    private <T> T doAction(ShardedJedis shardedJedis, Command command, ShardedJedisAction<T> shardedJedisAction) {
+        Integer commandTimeout = this.commandTimeout(command);
+        IsolatedShardedJedis.route(shardedJedis, command);
+        if(IsolatedShardedJedis.timeout(shardedJedis, commandTimeout)
+                || (commandTimeout == null && Deadline.current() == null)) {
+            return shardedJedisAction.doAction(shardedJedis);
+        }
+        Map<Jedis, Integer> originals = new IdentityHashMap<>();
+        try {
+            for(Jedis jedis : shardedJedis.getAllShards()) {
+                originals.put(jedis, Pools.applySocketTimeout(jedis, commandTimeout));
+            }
             return shardedJedisAction.doAction(shardedJedis);
+        } finally {
+            for(Map.Entry<Jedis, Integer> entry : originals.entrySet()) {
+                Pools.restoreSocketTimeout(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private Integer commandTimeout(Command command) {
+        Map<Command, Integer> timeouts = redisShardedPoolConfig == null ? null : redisShardedPoolConfig.getCommandTimeouts();
+        return command == null || timeouts == null ? null : timeouts.get(command);
+    }
+
+    /**
+     * 对冲读：对冲请求另外借一个ShardedJedis，配置了副本时尽量避开原请求读的副本，否则使用同一节点的另一个连接
+     */
+    private <T> T hedgedRead(HedgePolicy hedgePolicy, final Pool<ShardedJedis> pool, final Command command,
+                             final ShardedJedisAction<T> shardedJedisAction) {
+        final AtomicReference<ShardedJedis> first = new AtomicReference<>();
+        return hedgePolicy.execute(new Callable<T>() {
+            @Override
+            public T call() {
+                try(ShardedJedis shardedJedis = Pools.borrow(pool)) {
+                    first.set(shardedJedis);
+                    return doAction(shardedJedis, command, shardedJedisAction);
+                }
+            }
+        }, new Callable<T>() {
+            @Override
+            public T call() {
+                try(ShardedJedis shardedJedis = Pools.borrow(pool)) {
+                    IsolatedShardedJedis.avoid(shardedJedis, first.get());
+                    return doAction(shardedJedis, command, shardedJedisAction);
+                }
+            }
+        });
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * 设置整个客户端的熔断器，为空时关闭。连接失败、连接池耗尽和服务端不可用类错误计入失败，
+     * 熔断期间execute直接抛出CircuitOpenException，不再借连接等待，调用方可以立即降级。
+     * 分片隔离模式下单个分片的故障由分片自己的熔断器处理(ShardUnavailableException不计入)
+     */
+    public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    public HedgePolicy getHedgePolicy() {
+        return hedgePolicy;
+    }
+
+    /**
+     * 开启对冲读，为空时关闭；迁移期间不对冲
+     */
+    public void setHedgePolicy(HedgePolicy hedgePolicy) {
+        this.hedgePolicy = hedgePolicy;
+    }
+
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * 开启幂等命令的瞬时故障重试，为空时关闭
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * 分片隔离模式(RedisShardedPoolConfig.shardIsolation)下各分片的健康状态、耗时和错误统计，其它模式返回空列表
+     */
+    public List<ShardNode> getShardNodes() {
+        Pool<ShardedJedis> pool = this.getShardedJedisPool();
+        if(pool instanceof IsolatedShardedJedisPool) {
+            return ((IsolatedShardedJedisPool) pool).getNodes();
+        }
+        return Collections.emptyList();
+    }
+
+    public ShardFallback getShardFallback() {
+        return shardFallback;
+    }
+
+    /**
+     * 分片不可用(熔断中或获取不到连接)时的降级逻辑，为空时直接抛出ShardUnavailableException
+     */
+    public void setShardFallback(ShardFallback shardFallback) {
+        this.shardFallback = shardFallback;
+    }
+
+    /**
+     * 在线迁移到新的分片拓扑，使用默认的批量大小和限速
+     * @see #startMigration(RedisShardedPoolConfig, int, int)
+     */
+    public ShardMigration startMigration(RedisShardedPoolConfig targetConfig) {
+        return this.startMigration(targetConfig, ShardMigration.DEFAULT_BATCH_SIZE, ShardMigration.DEFAULT_KEYS_PER_SECOND);
+    }
+
+    /**
+     * 在线迁移到新的分片拓扑：立即进入双读模式，后台迁移key，迁移完成后原子切换到新拓扑，旧连接池在借出的连接归还后关闭。
+     * 迁移失败时保持双读模式，可以用同一个目标配置再次发起迁移
+     * @param batchSize 每批pipeline的key数量
+     * @param keysPerSecond 每秒最多迁移扫描的key数量，小于等于0表示不限速
+     */
+    public ShardMigration startMigration(final RedisShardedPoolConfig targetConfig, int batchSize, int keysPerSecond) {
+        synchronized (LOCK) {
+            ShardMigration current = this.migration;
+            if(current != null && current.getState() == ShardMigration.State.RUNNING) {
+                throw new IllegalStateException("分片迁移正在进行中：" + current);
+            }
+            Pool<ShardedJedis> source = this.getShardedJedisPool();
+            Pool<ShardedJedis> target = current != null ? current.getTarget() : poolHandler.newShardedJedisPool(targetConfig);
+            this.preloadScripts(target);
+            final ShardMigration newMigration = new ShardMigration(source, target, batchSize, keysPerSecond);
+            this.migration = newMigration;
+            newMigration.start(new Runnable() {
+                @Override
+                public void run() {
+                    finishMigration(newMigration, targetConfig);
+                }
+            });
+            logger.info("开始在线迁移分片拓扑，目标节点：" + targetConfig.getShards());
+            return newMigration;
         }
     }
 
+    private void finishMigration(ShardMigration finished, RedisShardedPoolConfig targetConfig) {
+        Pool<ShardedJedis> old;
+        synchronized (LOCK) {
+            old = poolHandler.switchShardedJedisPool(targetConfig, finished.getTarget());
+            this.redisShardedPoolConfig = targetConfig;
+            finished.markSwitched();
+            this.migration = null;
+        }
+        logger.info("分片迁移完成，已切换到新拓扑，" + finished);
+        if(old != null && old != finished.getTarget()) {//切换前借出的连接归还后再关闭
+            PoolDrainer.drain(old, PoolDrainer.DEFAULT_TIMEOUT_MILLIS);
+        }
+    }
+
+    /**
+     * 不重启地切换到新的分片连接池配置(连接池大小、超时、密码、副本等)，分片节点必须不变，节点变化使用startMigration。
+     * 迁移进行中或保持双读时不能重新配置
+     * @see PoolHandler#reconfigureShardedJedisPool(RedisShardedPoolConfig, ScriptRegistry)
+     */
+    public void reconfigure(RedisShardedPoolConfig redisShardedPoolConfig) {
+        synchronized (LOCK) {
+            if(this.migration != null) {
+                throw new IllegalStateException("分片迁移正在进行或保持双读，不能重新配置：" + this.migration);
+            }
+            poolHandler.reconfigureShardedJedisPool(redisShardedPoolConfig, scriptRegistry);
+            this.redisShardedPoolConfig = redisShardedPoolConfig;
+        }
+    }
+
+    /**
+     * @return 正在进行或失败后保持双读的迁移，没有迁移时返回null
+     */
+    public ShardMigration getMigration() {
+        return migration;
+    }
+
     @Override
     public void destroy() {
+        ShardMigration migration = this.migration;
+        if(migration != null) {
+            migration.getTarget().close();
+        }
         Pool<ShardedJedis> shardedJedisPool = this.getShardedJedisPool();
         if(shardedJedisPool != null) {
             shardedJedisPool.close();
         }
+        LeakDetector leakDetector = poolHandler.getShardedLeakDetector();
+        if(leakDetector != null) {
+            leakDetector.close();
+        }
     }
 
     @Override
@@ -87,7 +442,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public String set(final String key, final String value) {
-        return this.execute(new ShardedJedisAction<String>() {
+        return this.execute(Command.SET, new ShardedJedisAction<String>() {
             @Override
             public String doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.set(key,value);
@@ -97,7 +452,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public String get(final String key) {
-        return this.execute(new ShardedJedisAction<String>() {
+        return this.execute(Command.GET, new ShardedJedisAction<String>() {
             @Override
             public String doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.get(key);
@@ -107,7 +462,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public String set(final String key, final String value, final String nxxx, final String expx, final long time) {
-        return this.execute(new ShardedJedisAction<String>() {
+        return this.execute(Command.SETNX, new ShardedJedisAction<String>() {
             @Override
             public String doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.set(key,value,nxxx,expx,time);
@@ -117,7 +472,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public String set(final String key, final String value, final String nxxx) {
-        return this.execute(new ShardedJedisAction<String>() {
+        return this.execute(Command.SETNX, new ShardedJedisAction<String>() {
             @Override
             public String doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.set(key,value,nxxx);
@@ -127,7 +482,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Boolean exists(final String key) {
-        return this.execute(new ShardedJedisAction<Boolean>() {
+        return this.execute(Command.EXISTS, new ShardedJedisAction<Boolean>() {
             @Override
             public Boolean doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.exists(key);
@@ -137,7 +492,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long persist(final String key) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.PERSIST, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.persist(key);
@@ -147,7 +502,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public String type(final String key) {
-        return this.execute(new ShardedJedisAction<String>() {
+        return this.execute(Command.TYPE, new ShardedJedisAction<String>() {
             @Override
             public String doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.type(key);
@@ -157,7 +512,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long expire(final String key, final int seconds) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.EXPIRE, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.expire(key,seconds);
@@ -167,7 +522,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long pexpire(final String key, final long milliseconds) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.PEXPIRE, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.pexpire(key,milliseconds);
@@ -177,7 +532,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long expireAt(final String key, final long unixTime) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.EXPIREAT, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.expireAt(key,unixTime);
@@ -187,7 +542,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long pexpireAt(final String key, final long millisecondsTimestamp) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.PEXPIREAT, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.pexpireAt(key,millisecondsTimestamp);
@@ -197,7 +552,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long ttl(final String key) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.TTL, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.ttl(key);
@@ -207,7 +562,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long pttl(final String key) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.PTTL, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.pttl(key);
@@ -217,7 +572,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Boolean setbit(final String key, final long offset, final boolean value) {
-        return this.execute(new ShardedJedisAction<Boolean>() {
+        return this.execute(Command.SETBIT, new ShardedJedisAction<Boolean>() {
             @Override
             public Boolean doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.setbit(key,offset,value);
@@ -227,7 +582,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Boolean setbit(final String key, final long offset, final String value) {
-        return this.execute(new ShardedJedisAction<Boolean>() {
+        return this.execute(Command.SETBIT, new ShardedJedisAction<Boolean>() {
             @Override
             public Boolean doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.setbit(key,offset,value);
@@ -237,7 +592,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Boolean getbit(final String key, final long offset) {
-        return this.execute(new ShardedJedisAction<Boolean>() {
+        return this.execute(Command.GETBIT, new ShardedJedisAction<Boolean>() {
             @Override
             public Boolean doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.getbit(key,offset);
@@ -247,7 +602,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long setrange(final String key, final long offset, final String value) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.SETRANGE, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.setrange(key,offset,value);
@@ -257,7 +612,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public String getrange(final String key, final long startOffset, final long endOffset) {
-        return this.execute(new ShardedJedisAction<String>() {
+        return this.execute(Command.GETRANGE, new ShardedJedisAction<String>() {
             @Override
             public String doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.getrange(key,startOffset,endOffset);
@@ -267,7 +622,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public String getSet(final String key, final String value) {
-        return this.execute(new ShardedJedisAction<String>() {
+        return this.execute(Command.GETSET, new ShardedJedisAction<String>() {
             @Override
             public String doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.getSet(key,value);
@@ -277,7 +632,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long setnx(final String key, final String value) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.SETNX, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.setnx(key,value);
@@ -287,7 +642,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public String setex(final String key, final int seconds, final String value) {
-        return this.execute(new ShardedJedisAction<String>() {
+        return this.execute(Command.SETEX, new ShardedJedisAction<String>() {
             @Override
             public String doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.setex(key,seconds,value);
@@ -297,7 +652,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public String psetex(final String key, final long milliseconds, final String value) {
-        return this.execute(new ShardedJedisAction<String>() {
+        return this.execute(Command.PSETEX, new ShardedJedisAction<String>() {
             @Override
             public String doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.psetex(key,milliseconds,value);
@@ -307,7 +662,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long decrBy(final String key, final long integer) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.DECRBY, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.decrBy(key,integer);
@@ -317,7 +672,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long decr(final String key) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.DECR, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.decr(key);
@@ -327,7 +682,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long incrBy(final String key, final long integer) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.INCRBY, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.incrBy(key,integer);
@@ -337,7 +692,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Double incrByFloat(final String key, final double integer) {
-        return this.execute(new ShardedJedisAction<Double>() {
+        return this.execute(Command.INCRBYFLOAT, new ShardedJedisAction<Double>() {
             @Override
             public Double doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.incrByFloat(key,integer);
@@ -347,7 +702,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long incr(final String key) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.INCR, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.incr(key);
@@ -357,7 +712,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long append(final String key, final String value) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.APPEND, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.append(key,value);
@@ -367,7 +722,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public String substr(final String key, final int start, final int end) {
-        return this.execute(new ShardedJedisAction<String>() {
+        return this.execute(Command.SUBSTR, new ShardedJedisAction<String>() {
             @Override
             public String doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.substr(key,start,end);
@@ -377,7 +732,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long hset(final String key, final String field, final String value) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.HSET, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hset(key,field,value);
@@ -387,7 +742,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public String hget(final String key, final String field) {
-        return this.execute(new ShardedJedisAction<String>() {
+        return this.execute(Command.HGET, new ShardedJedisAction<String>() {
             @Override
             public String doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hget(key,field);
@@ -397,7 +752,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long hsetnx(final String key, final String field, final String value) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.HSETNX, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hsetnx(key,field,value);
@@ -407,7 +762,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public String hmset(final String key, final Map<String, String> hash) {
-        return this.execute(new ShardedJedisAction<String>() {
+        return this.execute(Command.HMSET, new ShardedJedisAction<String>() {
             @Override
             public String doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hmset(key,hash);
@@ -417,7 +772,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<String> hmget(final String key, final String... fields) {
-        return this.execute(new ShardedJedisAction<List<String>>() {
+        return this.execute(Command.HMGET, new ShardedJedisAction<List<String>>() {
             @Override
             public List<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hmget(key,fields);
@@ -427,7 +782,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long hincrBy(final String key, final String field, final long value) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.HINCRBY, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hincrBy(key,field,value);
@@ -437,7 +792,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Double hincrByFloat(final String key, final String field, final double value) {
-        return this.execute(new ShardedJedisAction<Double>() {
+        return this.execute(Command.HINCRBYFLOAT, new ShardedJedisAction<Double>() {
             @Override
             public Double doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hincrByFloat(key,field,value);
@@ -447,7 +802,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Boolean hexists(final String key, final String field) {
-        return this.execute(new ShardedJedisAction<Boolean>() {
+        return this.execute(Command.HEXISTS, new ShardedJedisAction<Boolean>() {
             @Override
             public Boolean doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hexists(key,field);
@@ -457,7 +812,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long hdel(final String key, final String... fields) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.HDEL, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hdel(key,fields);
@@ -467,7 +822,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long hlen(final String key) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.HLEN, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hlen(key);
@@ -477,7 +832,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<String> hkeys(final String key) {
-        return this.execute(new ShardedJedisAction<Set<String>>() {
+        return this.execute(Command.HKEYS, new ShardedJedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hkeys(key);
@@ -487,7 +842,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<String> hvals(final String key) {
-        return this.execute(new ShardedJedisAction<List<String>>() {
+        return this.execute(Command.HVALS, new ShardedJedisAction<List<String>>() {
             @Override
             public List<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hvals(key);
@@ -497,7 +852,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Map<String, String> hgetAll(final String key) {
-        return this.execute(new ShardedJedisAction<Map<String, String>>() {
+        return this.execute(Command.HGETALL, new ShardedJedisAction<Map<String, String>>() {
             @Override
             public Map<String, String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hgetAll(key);
@@ -507,7 +862,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long rpush(final String key, final String... values) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.RPUSH, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.rpush(key,values);
@@ -517,7 +872,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long lpush(final String key, final String... values) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.LPUSH, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.lpush(key,values);
@@ -527,7 +882,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long llen(final String key) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.LLEN, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.llen(key);
@@ -537,7 +892,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<String> lrange(final String key, final long start, final long end) {
-        return this.execute(new ShardedJedisAction<List<String>>() {
+        return this.execute(Command.LRANGE, new ShardedJedisAction<List<String>>() {
             @Override
             public List<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.lrange(key,start,end);
@@ -547,7 +902,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public String ltrim(final String key, final long start, final long end) {
-        return this.execute(new ShardedJedisAction<String>() {
+        return this.execute(Command.LTRIM, new ShardedJedisAction<String>() {
             @Override
             public String doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.ltrim(key,start,end);
@@ -557,7 +912,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public String lindex(final String key, final long index) {
-        return this.execute(new ShardedJedisAction<String>() {
+        return this.execute(Command.LINDEX, new ShardedJedisAction<String>() {
             @Override
             public String doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.lindex(key,index);
@@ -567,7 +922,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public String lset(final String key, final long index, final String value) {
-        return this.execute(new ShardedJedisAction<String>() {
+        return this.execute(Command.LSET, new ShardedJedisAction<String>() {
             @Override
             public String doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.lset(key,index,value);
@@ -577,7 +932,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long lrem(final String key, final long count, final String value) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.LREM, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.lrem(key,count,value);
@@ -587,7 +942,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public String lpop(final String keys) {
-        return this.execute(new ShardedJedisAction<String>() {
+        return this.execute(Command.LPOP, new ShardedJedisAction<String>() {
             @Override
             public String doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.lpop(keys);
@@ -597,7 +952,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public String rpop(final String key) {
-        return this.execute(new ShardedJedisAction<String>() {
+        return this.execute(Command.RPOP, new ShardedJedisAction<String>() {
             @Override
             public String doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.rpop(key);
@@ -607,7 +962,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long sadd(final String key, final String... members) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.SADD, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.sadd(key,members);
@@ -617,7 +972,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<String> smembers(final String key) {
-        return this.execute(new ShardedJedisAction<Set<String>>() {
+        return this.execute(Command.SMEMBERS, new ShardedJedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.smembers(key);
@@ -627,7 +982,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long srem(final String key, final String... members) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.SREM, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.srem(key,members);
@@ -637,7 +992,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public String spop(final String key) {
-        return this.execute(new ShardedJedisAction<String>() {
+        return this.execute(Command.SPOP, new ShardedJedisAction<String>() {
             @Override
             public String doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.spop(key);
@@ -647,7 +1002,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<String> spop(final String key, final long count) {
-        return this.execute(new ShardedJedisAction<Set<String>>() {
+        return this.execute(Command.SPOP, new ShardedJedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.spop(key,count);
@@ -657,7 +1012,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long scard(final String key) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.SCARD, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.scard(key);
@@ -667,7 +1022,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Boolean sismember(final String key, final String member) {
-        return this.execute(new ShardedJedisAction<Boolean>() {
+        return this.execute(Command.SISMEMBER, new ShardedJedisAction<Boolean>() {
             @Override
             public Boolean doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.sismember(key,member);
@@ -677,7 +1032,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public String srandmember(final String key) {
-        return this.execute(new ShardedJedisAction<String>() {
+        return this.execute(Command.SRANDMEMBER, new ShardedJedisAction<String>() {
             @Override
             public String doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.srandmember(key);
@@ -687,7 +1042,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<String> srandmember(final String key, final int count) {
-        return this.execute(new ShardedJedisAction<List<String>>() {
+        return this.execute(Command.SRANDMEMBER, new ShardedJedisAction<List<String>>() {
             @Override
             public List<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.srandmember(key,count);
@@ -697,7 +1052,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long strlen(final String key) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.STRLEN, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.strlen(key);
@@ -707,7 +1062,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zadd(final String key, final double score, final String member) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZADD, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zadd(key,score,member);
@@ -717,7 +1072,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zadd(final String key, final double score, final String member, final ZAddParams params) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZADD, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zadd(key,score,member,params);
@@ -727,7 +1082,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zadd(final String key, final Map<String, Double> scoreMembers) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZADD, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zadd(key,scoreMembers);
@@ -737,7 +1092,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zadd(final String key, final Map<String, Double> scoreMembers, final ZAddParams params) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZADD, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zadd(key,scoreMembers,params);
@@ -747,7 +1102,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<String> zrange(final String key, final long start, final long end) {
-        return this.execute(new ShardedJedisAction<Set<String>>() {
+        return this.execute(Command.ZRANGE, new ShardedJedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrange(key,start,end);
@@ -757,7 +1112,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zrem(final String key, final String... members) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZREM, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrem(key,members);
@@ -767,7 +1122,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Double zincrby(final String key, final double score, final String member) {
-        return this.execute(new ShardedJedisAction<Double>() {
+        return this.execute(Command.ZINCRBY, new ShardedJedisAction<Double>() {
             @Override
             public Double doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zincrby(key,score,member);
@@ -777,7 +1132,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Double zincrby(final String key, final double score, final String member, final ZIncrByParams params) {
-        return this.execute(new ShardedJedisAction<Double>() {
+        return this.execute(Command.ZINCRBY, new ShardedJedisAction<Double>() {
             @Override
             public Double doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zincrby(key,score,member,params);
@@ -787,7 +1142,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zrank(final String key, final String member) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZRANK, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrank(key,member);
@@ -797,7 +1152,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zrevrank(final String key, final String member) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZREVRANK, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrevrank(key,member);
@@ -807,7 +1162,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<String> zrevrange(final String key, final long start, final long end) {
-        return this.execute(new ShardedJedisAction<Set<String>>() {
+        return this.execute(Command.ZREVRANGE, new ShardedJedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrevrange(key,start,end);
@@ -817,7 +1172,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<Tuple> zrangeWithScores(final String key, final long start, final long end) {
-        return this.execute(new ShardedJedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZRANGE, new ShardedJedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrangeWithScores(key,start,end);
@@ -827,7 +1182,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<Tuple> zrevrangeWithScores(final String key, final long start, final long end) {
-        return this.execute(new ShardedJedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZREVRANGE, new ShardedJedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrevrangeWithScores(key,start,end);
@@ -837,7 +1192,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zcard(final String key) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZCARD, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zcard(key);
@@ -847,7 +1202,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Double zscore(final String key, final String member) {
-        return this.execute(new ShardedJedisAction<Double>() {
+        return this.execute(Command.ZSCORE, new ShardedJedisAction<Double>() {
             @Override
             public Double doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zscore(key,member);
@@ -857,7 +1212,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<String> sort(final String key) {
-        return this.execute(new ShardedJedisAction<List<String>>() {
+        return this.execute(Command.SORT, new ShardedJedisAction<List<String>>() {
             @Override
             public List<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.sort(key);
@@ -867,7 +1222,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<String> sort(final String key, final SortingParams sortingParameters) {
-        return this.execute(new ShardedJedisAction<List<String>>() {
+        return this.execute(Command.SORT, new ShardedJedisAction<List<String>>() {
             @Override
             public List<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.sort(key,sortingParameters);
@@ -877,7 +1232,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zcount(final String key, final double min, final double max) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZCOUNT, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zcount(key,min,max);
@@ -887,7 +1242,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zcount(final String key, final String min, final String max) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZCOUNT, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zcount(key,min,max);
@@ -897,7 +1252,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<String> zrangeByScore(final String key, final double min, final double max) {
-        return this.execute(new ShardedJedisAction<Set<String>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new ShardedJedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrangeByScore(key,min,max);
@@ -907,7 +1262,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<String> zrangeByScore(final String key, final String min, final String max) {
-        return this.execute(new ShardedJedisAction<Set<String>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new ShardedJedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrangeByScore(key,min,max);
@@ -917,7 +1272,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<String> zrevrangeByScore(final String key, final double max, final double min) {
-        return this.execute(new ShardedJedisAction<Set<String>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new ShardedJedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrevrangeByScore(key,max,min);
@@ -927,7 +1282,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<String> zrangeByScore(final String key, final double min, final double max, final int offset, final int count) {
-        return this.execute(new ShardedJedisAction<Set<String>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new ShardedJedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrangeByScore(key,min,max,offset,count);
@@ -937,7 +1292,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<String> zrevrangeByScore(final String key, final String max, final String min) {
-        return this.execute(new ShardedJedisAction<Set<String>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new ShardedJedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrevrangeByScore(key,max,min);
@@ -947,7 +1302,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<String> zrangeByScore(final String key, final String min, final String max, final int offset, final int count) {
-        return this.execute(new ShardedJedisAction<Set<String>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new ShardedJedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrangeByScore(key,min,max,offset,count);
@@ -957,7 +1312,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<String> zrevrangeByScore(final String key, final double max, final double min, final int offset, final int count) {
-        return this.execute(new ShardedJedisAction<Set<String>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new ShardedJedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrevrangeByScore(key,max,min,offset,count);
@@ -967,7 +1322,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<Tuple> zrangeByScoreWithScores(final String key, final double min, final double max) {
-        return this.execute(new ShardedJedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new ShardedJedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrangeByScoreWithScores(key,min,max);
@@ -977,7 +1332,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<Tuple> zrevrangeByScoreWithScores(final String key, final double max, final double min) {
-        return this.execute(new ShardedJedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new ShardedJedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrevrangeByScoreWithScores(key,max,min);
@@ -987,7 +1342,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<Tuple> zrangeByScoreWithScores(final String key, final double min, final double max, final int offset, final int count) {
-        return this.execute(new ShardedJedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new ShardedJedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrangeByScoreWithScores(key,min,max,offset,count);
@@ -997,7 +1352,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<String> zrevrangeByScore(final String key, final String max, final String min, final int offset, final int count) {
-        return this.execute(new ShardedJedisAction<Set<String>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new ShardedJedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrevrangeByScore(key,max,min,offset,count);
@@ -1007,7 +1362,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<Tuple> zrangeByScoreWithScores(final String key, final String min, final String max) {
-        return this.execute(new ShardedJedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new ShardedJedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrangeByScoreWithScores(key,min,max);
@@ -1017,7 +1372,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<Tuple> zrevrangeByScoreWithScores(final String key, final String max, final String min) {
-        return this.execute(new ShardedJedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new ShardedJedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrevrangeByScoreWithScores(key,max,min);
@@ -1027,7 +1382,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<Tuple> zrangeByScoreWithScores(final String key, final String min, final String max, final int offset, final int count) {
-        return this.execute(new ShardedJedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new ShardedJedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrangeByScoreWithScores(key,min,max,offset,count);
@@ -1037,7 +1392,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<Tuple> zrevrangeByScoreWithScores(final String key, final double max, final double min, final int offset, final int count) {
-        return this.execute(new ShardedJedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new ShardedJedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrevrangeByScoreWithScores(key,max,min,offset,count);
@@ -1047,7 +1402,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<Tuple> zrevrangeByScoreWithScores(final String key, final String max, final String min, final int offset, final int count) {
-        return this.execute(new ShardedJedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new ShardedJedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrevrangeByScoreWithScores(key,max,min,offset,count);
@@ -1057,7 +1412,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zremrangeByRank(final String key, final long start, final long end) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZREMRANGEBYRANK, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zremrangeByRank(key,start,end);
@@ -1067,7 +1422,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zremrangeByScore(final String key, final double start, final double end) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZREMRANGEBYSCORE, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zremrangeByScore(key,start,end);
@@ -1077,7 +1432,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zremrangeByScore(final String key, final String start, final String end) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZREMRANGEBYSCORE, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zremrangeByScore(key,start,end);
@@ -1087,7 +1442,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zlexcount(final String key, final String min, final String max) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZLEXCOUNT, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zlexcount(key,min,max);
@@ -1097,7 +1452,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<String> zrangeByLex(final String key, final String min, final String max) {
-        return this.execute(new ShardedJedisAction<Set<String>>() {
+        return this.execute(Command.ZRANGEBYLEX, new ShardedJedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrangeByLex(key,min,max);
@@ -1107,7 +1462,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<String> zrangeByLex(final String key, final String min, final String max, final int offset, final int count) {
-        return this.execute(new ShardedJedisAction<Set<String>>() {
+        return this.execute(Command.ZRANGEBYLEX, new ShardedJedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrangeByLex(key,min,max,offset,count);
@@ -1117,7 +1472,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<String> zrevrangeByLex(final String key, final String max, final String min) {
-        return this.execute(new ShardedJedisAction<Set<String>>() {
+        return this.execute(Command.ZREVRANGEBYLEX, new ShardedJedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrevrangeByLex(key,max,min);
@@ -1127,7 +1482,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<String> zrevrangeByLex(final String key, final String max, final String min, final int offset, final int count) {
-        return this.execute(new ShardedJedisAction<Set<String>>() {
+        return this.execute(Command.ZREVRANGEBYLEX, new ShardedJedisAction<Set<String>>() {
             @Override
             public Set<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrevrangeByLex(key,max,min,offset,count);
@@ -1137,7 +1492,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zremrangeByLex(final String key, final String min, final String max) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZREMRANGEBYLEX, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zremrangeByLex(key,min,max);
@@ -1147,7 +1502,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long linsert(final String key, final BinaryClient.LIST_POSITION where, final String pivot, final String value) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.LINSERT, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.linsert(key,where,pivot,value);
@@ -1157,7 +1512,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long lpushx(final String key, final String... values) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.LPUSHX, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.lpushx(key,values);
@@ -1167,7 +1522,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long rpushx(final String key, final String... values) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.RPUSHX, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.rpushx(key,values);
@@ -1177,7 +1532,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<String> blpop(final String arg) {
-        return this.execute(new ShardedJedisAction<List<String>>() {
+        return this.execute(Command.BLPOP, new ShardedJedisAction<List<String>>() {
             @Override
             public List<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.blpop(arg);
@@ -1187,7 +1542,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<String> blpop(final int timeout, final String key) {
-        return this.execute(new ShardedJedisAction<List<String>>() {
+        return this.execute(Command.BLPOP, new ShardedJedisAction<List<String>>() {
             @Override
             public List<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.blpop(timeout,key);
@@ -1197,7 +1552,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<String> brpop(final String key) {
-        return this.execute(new ShardedJedisAction<List<String>>() {
+        return this.execute(Command.BRPOP, new ShardedJedisAction<List<String>>() {
             @Override
             public List<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.brpop(key);
@@ -1207,7 +1562,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<String> brpop(final int timeout, final String key) {
-        return this.execute(new ShardedJedisAction<List<String>>() {
+        return this.execute(Command.BRPOP, new ShardedJedisAction<List<String>>() {
             @Override
             public List<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.brpop(timeout,key);
@@ -1218,7 +1573,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long del(final String key) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.DEL, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.del(key);
@@ -1228,7 +1583,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public String echo(final String value) {
-        return this.execute(new ShardedJedisAction<String>() {
+        return this.execute(Command.ECHO, new ShardedJedisAction<String>() {
             @Override
             public String doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.echo(value);
@@ -1238,7 +1593,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long move(final String key, final int dbIndex) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.MOVE, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.move(key,dbIndex);
@@ -1248,7 +1603,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long bitcount(final String key) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.BITCOUNT, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.bitcount(key);
@@ -1258,7 +1613,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long bitcount(final String key, final long start, final long end) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.BITCOUNT, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.bitcount(key,start,end);
@@ -1268,7 +1623,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long bitpos(final String key, final boolean value) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.BITPOS, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.bitpos(key,value);
@@ -1278,7 +1633,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long bitpos(final String key, final boolean value, final BitPosParams params) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.BITPOS, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.bitpos(key,value,params);
@@ -1288,7 +1643,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public ScanResult<Map.Entry<String, String>> hscan(final String key, final int cursor) {
-        return this.execute(new ShardedJedisAction<ScanResult<Map.Entry<String, String>>>() {
+        return this.execute(Command.HSCAN, new ShardedJedisAction<ScanResult<Map.Entry<String, String>>>() {
             @Override
             public ScanResult<Map.Entry<String, String>> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hscan(key,cursor);
@@ -1298,7 +1653,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public ScanResult<String> sscan(final String key, final int cursor) {
-        return this.execute(new ShardedJedisAction<ScanResult<String>>() {
+        return this.execute(Command.SSCAN, new ShardedJedisAction<ScanResult<String>>() {
             @Override
             public ScanResult<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.sscan(key,cursor);
@@ -1308,7 +1663,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public ScanResult<Tuple> zscan(final String key, final int cursor) {
-        return this.execute(new ShardedJedisAction<ScanResult<Tuple>>() {
+        return this.execute(Command.ZSCAN, new ShardedJedisAction<ScanResult<Tuple>>() {
             @Override
             public ScanResult<Tuple> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zscan(key,cursor);
@@ -1318,7 +1673,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public ScanResult<Map.Entry<String, String>> hscan(final String key, final String cursor) {
-        return this.execute(new ShardedJedisAction<ScanResult<Map.Entry<String, String>>>() {
+        return this.execute(Command.HSCAN, new ShardedJedisAction<ScanResult<Map.Entry<String, String>>>() {
             @Override
             public ScanResult<Map.Entry<String, String>> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hscan(key,cursor);
@@ -1328,7 +1683,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public ScanResult<Map.Entry<String, String>> hscan(final String key, final String cursor, final ScanParams scanParams) {
-        return this.execute(new ShardedJedisAction<ScanResult<Map.Entry<String, String>>>() {
+        return this.execute(Command.HSCAN, new ShardedJedisAction<ScanResult<Map.Entry<String, String>>>() {
             @Override
             public ScanResult<Map.Entry<String, String>> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hscan(key,cursor,scanParams);
@@ -1338,7 +1693,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public ScanResult<String> sscan(final String key, final String cursor) {
-        return this.execute(new ShardedJedisAction<ScanResult<String>>() {
+        return this.execute(Command.SSCAN, new ShardedJedisAction<ScanResult<String>>() {
             @Override
             public ScanResult<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.sscan(key,cursor);
@@ -1348,7 +1703,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public ScanResult<String> sscan(final String key, final String cursor, final ScanParams scanParams) {
-        return this.execute(new ShardedJedisAction<ScanResult<String>>() {
+        return this.execute(Command.SSCAN, new ShardedJedisAction<ScanResult<String>>() {
             @Override
             public ScanResult<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.sscan(key,cursor,scanParams);
@@ -1358,7 +1713,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public ScanResult<Tuple> zscan(final String key, final String cursor) {
-        return this.execute(new ShardedJedisAction<ScanResult<Tuple>>() {
+        return this.execute(Command.ZSCAN, new ShardedJedisAction<ScanResult<Tuple>>() {
             @Override
             public ScanResult<Tuple> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zscan(key,cursor);
@@ -1368,7 +1723,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public ScanResult<Tuple> zscan(final String key, final String cursor, final ScanParams scanParams) {
-        return this.execute(new ShardedJedisAction<ScanResult<Tuple>>() {
+        return this.execute(Command.ZSCAN, new ShardedJedisAction<ScanResult<Tuple>>() {
             @Override
             public ScanResult<Tuple> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zscan(key,cursor,scanParams);
@@ -1378,7 +1733,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long pfadd(final String key, final String... elements) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.PFADD, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.pfadd(key,elements);
@@ -1388,7 +1743,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public long pfcount(final String key) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.PFCOUNT, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.pfcount(key);
@@ -1398,7 +1753,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long geoadd(final String key, final double longitude, final double latitude, final String member) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.GEOADD, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.geoadd(key,longitude,latitude,member);
@@ -1408,7 +1763,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long geoadd(final String key, final Map<String, GeoCoordinate> memberCoordinateMap) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.GEOADD, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.geoadd(key,memberCoordinateMap);
@@ -1418,7 +1773,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Double geodist(final String key, final String member1, final String member2) {
-        return this.execute(new ShardedJedisAction<Double>() {
+        return this.execute(Command.GEODIST, new ShardedJedisAction<Double>() {
             @Override
             public Double doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.geodist(key,member1,member2);
@@ -1428,7 +1783,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Double geodist(final String key, final String member1, final String member2, final GeoUnit unit) {
-        return this.execute(new ShardedJedisAction<Double>() {
+        return this.execute(Command.GEODIST, new ShardedJedisAction<Double>() {
             @Override
             public Double doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.geodist(key,member1,member2,unit);
@@ -1438,7 +1793,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<String> geohash(final String key, final String... members) {
-        return this.execute(new ShardedJedisAction<List<String>>() {
+        return this.execute(Command.GEOHASH, new ShardedJedisAction<List<String>>() {
             @Override
             public List<String> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.geohash(key,members);
@@ -1448,7 +1803,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<GeoCoordinate> geopos(final String key, final String... members) {
-        return this.execute(new ShardedJedisAction<List<GeoCoordinate>>() {
+        return this.execute(Command.GEOPOS, new ShardedJedisAction<List<GeoCoordinate>>() {
             @Override
             public List<GeoCoordinate> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.geopos(key,members);
@@ -1458,7 +1813,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<GeoRadiusResponse> georadius(final String key, final double longitude, final double latitude, final double radius, final GeoUnit unit) {
-        return this.execute(new ShardedJedisAction<List<GeoRadiusResponse>>() {
+        return this.execute(Command.GEORADIUS, new ShardedJedisAction<List<GeoRadiusResponse>>() {
             @Override
             public List<GeoRadiusResponse> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.georadius(key,longitude,latitude,radius,unit);
@@ -1468,7 +1823,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<GeoRadiusResponse> georadius(final String key, final double longitude, final double latitude, final double radius, final GeoUnit geoUnit, final GeoRadiusParam geoRadiusParam) {
-        return this.execute(new ShardedJedisAction<List<GeoRadiusResponse>>() {
+        return this.execute(Command.GEORADIUS, new ShardedJedisAction<List<GeoRadiusResponse>>() {
             @Override
             public List<GeoRadiusResponse> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.georadius(key,longitude,latitude,radius,geoUnit,geoRadiusParam);
@@ -1478,7 +1833,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<GeoRadiusResponse> georadiusByMember(final String key, final String member, final double radius, final GeoUnit unit) {
-        return this.execute(new ShardedJedisAction<List<GeoRadiusResponse>>() {
+        return this.execute(Command.GEORADIUSBYMEMBER, new ShardedJedisAction<List<GeoRadiusResponse>>() {
             @Override
             public List<GeoRadiusResponse> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.georadiusByMember(key,member,radius,unit);
@@ -1488,7 +1843,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<GeoRadiusResponse> georadiusByMember(final String key, final String member, final double radius, final GeoUnit geoUnit, final GeoRadiusParam geoRadiusParam) {
-        return this.execute(new ShardedJedisAction<List<GeoRadiusResponse>>() {
+        return this.execute(Command.GEORADIUSBYMEMBER, new ShardedJedisAction<List<GeoRadiusResponse>>() {
             @Override
             public List<GeoRadiusResponse> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.georadiusByMember(key,member,radius,geoUnit,geoRadiusParam);
@@ -1498,7 +1853,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<Long> bitfield(final String key, final String... arguments) {
-        return this.execute(new ShardedJedisAction<List<Long>>() {
+        return this.execute(Command.BITFIELD, new ShardedJedisAction<List<Long>>() {
             @Override
             public List<Long> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.bitfield(key,arguments);
@@ -1517,7 +1872,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public String set(final byte[] key, final byte[] value) {
-        return this.execute(new ShardedJedisAction<String>() {
+        return this.execute(Command.SET, new ShardedJedisAction<String>() {
             @Override
             public String doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.set(key, value);
@@ -1527,7 +1882,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public String set(final byte[] key, final byte[] value, final byte[] nxxx) {
-        return this.execute(new ShardedJedisAction<String>() {
+        return this.execute(Command.SETNX, new ShardedJedisAction<String>() {
             @Override
             public String doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.set(key, value, nxxx);
@@ -1537,7 +1892,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public String set(final byte[] key, final byte[] value, final byte[] nxxx, final byte[] expx, final long time) {
-        return this.execute(new ShardedJedisAction<String>() {
+        return this.execute(Command.SETNX, new ShardedJedisAction<String>() {
             @Override
             public String doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.set(key, value, nxxx, expx, time);
@@ -1547,7 +1902,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public byte[] get(final byte[] key) {
-        return this.execute(new ShardedJedisAction<byte[]>() {
+        return this.execute(Command.GET, new ShardedJedisAction<byte[]>() {
             @Override
             public byte[] doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.get(key);
@@ -1557,7 +1912,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Boolean exists(final byte[] key) {
-        return this.execute(new ShardedJedisAction<Boolean>() {
+        return this.execute(Command.EXISTS, new ShardedJedisAction<Boolean>() {
             @Override
             public Boolean doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.exists(key);
@@ -1567,7 +1922,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long persist(final byte[] key) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.PERSIST, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.persist(key);
@@ -1577,7 +1932,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public String type(final byte[] key) {
-        return this.execute(new ShardedJedisAction<String>() {
+        return this.execute(Command.TYPE, new ShardedJedisAction<String>() {
             @Override
             public String doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.type(key);
@@ -1587,7 +1942,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long expire(final byte[] key, final int seconds) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.EXPIRE, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.expire(key, seconds);
@@ -1597,7 +1952,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long pexpire(final byte[] key, final long milliseconds) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.PEXPIRE, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.pexpire(key, milliseconds);
@@ -1607,7 +1962,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long expireAt(final byte[] key, final long unixTime) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.EXPIREAT, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.expireAt(key, unixTime);
@@ -1617,7 +1972,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long pexpireAt(final byte[] key, final long millisecondsTimestamp) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.PEXPIREAT, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.pexpireAt(key, millisecondsTimestamp);
@@ -1627,7 +1982,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long ttl(final byte[] key) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.TTL, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.ttl(key);
@@ -1637,7 +1992,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Boolean setbit(final byte[] key, final long offset, final boolean value) {
-        return this.execute(new ShardedJedisAction<Boolean>() {
+        return this.execute(Command.SETBIT, new ShardedJedisAction<Boolean>() {
             @Override
             public Boolean doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.setbit(key, offset, value);
@@ -1647,7 +2002,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Boolean setbit(final byte[] key, final long offset, final byte[] value) {
-        return this.execute(new ShardedJedisAction<Boolean>() {
+        return this.execute(Command.SETBIT, new ShardedJedisAction<Boolean>() {
             @Override
             public Boolean doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.setbit(key, offset, value);
@@ -1657,7 +2012,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Boolean getbit(final byte[] key, final long offset) {
-        return this.execute(new ShardedJedisAction<Boolean>() {
+        return this.execute(Command.GETBIT, new ShardedJedisAction<Boolean>() {
             @Override
             public Boolean doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.getbit(key, offset);
@@ -1667,7 +2022,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long setrange(final byte[] key, final long offset, final byte[] value) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.SETRANGE, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.setrange(key, offset, value);
@@ -1677,7 +2032,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public byte[] getrange(final byte[] key, final long startOffset, final long endOffset) {
-        return this.execute(new ShardedJedisAction<byte[]>() {
+        return this.execute(Command.GETRANGE, new ShardedJedisAction<byte[]>() {
             @Override
             public byte[] doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.getrange(key, startOffset, endOffset);
@@ -1687,7 +2042,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public byte[] getSet(final byte[] key, final byte[] value) {
-        return this.execute(new ShardedJedisAction<byte[]>() {
+        return this.execute(Command.GETSET, new ShardedJedisAction<byte[]>() {
             @Override
             public byte[] doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.getSet(key, value);
@@ -1697,7 +2052,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long setnx(final byte[] key, final byte[] value) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.SETNX, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.setnx(key, value);
@@ -1707,7 +2062,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public String setex(final byte[] key, final int seconds, final byte[] value) {
-        return this.execute(new ShardedJedisAction<String>() {
+        return this.execute(Command.SETEX, new ShardedJedisAction<String>() {
             @Override
             public String doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.setex(key, seconds, value);
@@ -1717,7 +2072,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long decrBy(final byte[] key, final long integer) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.DECRBY, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.decrBy(key, integer);
@@ -1727,7 +2082,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long decr(final byte[] key) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.DECR, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.decr(key);
@@ -1737,7 +2092,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long incrBy(final byte[] key, final long integer) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.INCRBY, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.incrBy(key, integer);
@@ -1747,7 +2102,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Double incrByFloat(final byte[] key, final double integer) {
-        return this.execute(new ShardedJedisAction<Double>() {
+        return this.execute(Command.INCRBYFLOAT, new ShardedJedisAction<Double>() {
             @Override
             public Double doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.incrByFloat(key, integer);
@@ -1757,7 +2112,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long incr(final byte[] key) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.INCR, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.incr(key);
@@ -1767,7 +2122,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long append(final byte[] key, final byte[] value) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.APPEND, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.append(key, value);
@@ -1777,7 +2132,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public byte[] substr(final byte[] key, final int start, final int end) {
-        return this.execute(new ShardedJedisAction<byte[]>() {
+        return this.execute(Command.SUBSTR, new ShardedJedisAction<byte[]>() {
             @Override
             public byte[] doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.substr(key, start, end);
@@ -1787,7 +2142,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long hset(final byte[] key, final byte[] field, final byte[] value) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.HSET, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hset(key, field, value);
@@ -1797,7 +2152,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public byte[] hget(final byte[] key, final byte[] field) {
-        return this.execute(new ShardedJedisAction<byte[]>() {
+        return this.execute(Command.HGET, new ShardedJedisAction<byte[]>() {
             @Override
             public byte[] doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hget(key, field);
@@ -1807,7 +2162,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long hsetnx(final byte[] key, final byte[] field, final byte[] value) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.HSETNX, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hsetnx(key, field, value);
@@ -1817,7 +2172,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public String hmset(final byte[] key, final Map<byte[], byte[]> hash) {
-        return this.execute(new ShardedJedisAction<String>() {
+        return this.execute(Command.HMSET, new ShardedJedisAction<String>() {
             @Override
             public String doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hmset(key, hash);
@@ -1827,7 +2182,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<byte[]> hmget(final byte[] key, final byte[]... fields) {
-        return this.execute(new ShardedJedisAction<List<byte[]>>() {
+        return this.execute(Command.HMGET, new ShardedJedisAction<List<byte[]>>() {
             @Override
             public List<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hmget(key, fields);
@@ -1837,7 +2192,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long hincrBy(final byte[] key, final byte[] field, final long value) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.HINCRBY, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hincrBy(key, field, value);
@@ -1847,7 +2202,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Double hincrByFloat(final byte[] key, final byte[] field, final double value) {
-        return this.execute(new ShardedJedisAction<Double>() {
+        return this.execute(Command.HINCRBYFLOAT, new ShardedJedisAction<Double>() {
             @Override
             public Double doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hincrByFloat(key, field, value);
@@ -1857,7 +2212,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Boolean hexists(final byte[] key, final byte[] field) {
-        return this.execute(new ShardedJedisAction<Boolean>() {
+        return this.execute(Command.HEXISTS, new ShardedJedisAction<Boolean>() {
             @Override
             public Boolean doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hexists(key, field);
@@ -1867,7 +2222,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long hdel(final byte[] key, final byte[]... fields) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.HDEL, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hdel(key, fields);
@@ -1877,7 +2232,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long hlen(final byte[] key) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.HLEN, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hlen(key);
@@ -1887,7 +2242,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<byte[]> hkeys(final byte[] key) {
-        return this.execute(new ShardedJedisAction<Set<byte[]>>() {
+        return this.execute(Command.HKEYS, new ShardedJedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hkeys(key);
@@ -1897,7 +2252,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Collection<byte[]> hvals(final byte[] key) {
-        return this.execute(new ShardedJedisAction<Collection<byte[]>>() {
+        return this.execute(Command.HVALS, new ShardedJedisAction<Collection<byte[]>>() {
             @Override
             public Collection<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hvals(key);
@@ -1907,7 +2262,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Map<byte[], byte[]> hgetAll(final byte[] key) {
-        return this.execute(new ShardedJedisAction<Map<byte[], byte[]>>() {
+        return this.execute(Command.HGETALL, new ShardedJedisAction<Map<byte[], byte[]>>() {
             @Override
             public Map<byte[], byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hgetAll(key);
@@ -1917,7 +2272,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long rpush(final byte[] key, final byte[]... strings) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.RPUSH, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.rpush(key, strings);
@@ -1927,7 +2282,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long lpush(final byte[] key, final byte[]... strings) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.LPUSH, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.lpush(key, strings);
@@ -1937,7 +2292,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long llen(final byte[] key) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.LLEN, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.llen(key);
@@ -1947,7 +2302,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<byte[]> lrange(final byte[] key, final long start, final long end) {
-        return this.execute(new ShardedJedisAction<List<byte[]>>() {
+        return this.execute(Command.LRANGE, new ShardedJedisAction<List<byte[]>>() {
             @Override
             public List<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.lrange(key, start, end);
@@ -1957,7 +2312,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public String ltrim(final byte[] key, final long start, final long end) {
-        return this.execute(new ShardedJedisAction<String>() {
+        return this.execute(Command.LTRIM, new ShardedJedisAction<String>() {
             @Override
             public String doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.ltrim(key, start, end);
@@ -1967,7 +2322,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public byte[] lindex(final byte[] key, final long index) {
-        return this.execute(new ShardedJedisAction<byte[]>() {
+        return this.execute(Command.LINDEX, new ShardedJedisAction<byte[]>() {
             @Override
             public byte[] doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.lindex(key, index);
@@ -1977,7 +2332,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public String lset(final byte[] key, final long index, final byte[] value) {
-        return this.execute(new ShardedJedisAction<String>() {
+        return this.execute(Command.LSET, new ShardedJedisAction<String>() {
             @Override
             public String doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.lset(key, index, value);
@@ -1987,7 +2342,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long lrem(final byte[] key, final long count, final byte[] value) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.LREM, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.lrem(key, count, value);
@@ -1997,7 +2352,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public byte[] lpop(final byte[] key) {
-        return this.execute(new ShardedJedisAction<byte[]>() {
+        return this.execute(Command.LPOP, new ShardedJedisAction<byte[]>() {
             @Override
             public byte[] doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.lpop(key);
@@ -2007,7 +2362,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public byte[] rpop(final byte[] key) {
-        return this.execute(new ShardedJedisAction<byte[]>() {
+        return this.execute(Command.RPOP, new ShardedJedisAction<byte[]>() {
             @Override
             public byte[] doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.rpop(key);
@@ -2017,7 +2372,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long sadd(final byte[] key, final byte[]... members) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.SADD, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.sadd(key, members);
@@ -2027,7 +2382,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<byte[]> smembers(final byte[] key) {
-        return this.execute(new ShardedJedisAction<Set<byte[]>>() {
+        return this.execute(Command.SMEMBERS, new ShardedJedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.smembers(key);
@@ -2037,7 +2392,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long srem(final byte[] key, final byte[]... members) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.SREM, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.srem(key, members);
@@ -2047,7 +2402,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public byte[] spop(final byte[] key) {
-        return this.execute(new ShardedJedisAction<byte[]>() {
+        return this.execute(Command.SPOP, new ShardedJedisAction<byte[]>() {
             @Override
             public byte[] doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.spop(key);
@@ -2057,7 +2412,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<byte[]> spop(final byte[] key, final long count) {
-        return this.execute(new ShardedJedisAction<Set<byte[]>>() {
+        return this.execute(Command.SPOP, new ShardedJedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.spop(key, count);
@@ -2067,7 +2422,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long scard(final byte[] key) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.SCARD, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.scard(key);
@@ -2077,7 +2432,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Boolean sismember(final byte[] key, final byte[] member) {
-        return this.execute(new ShardedJedisAction<Boolean>() {
+        return this.execute(Command.SISMEMBER, new ShardedJedisAction<Boolean>() {
             @Override
             public Boolean doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.sismember(key, member);
@@ -2087,7 +2442,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public byte[] srandmember(final byte[] key) {
-        return this.execute(new ShardedJedisAction<byte[]>() {
+        return this.execute(Command.SRANDMEMBER, new ShardedJedisAction<byte[]>() {
             @Override
             public byte[] doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.srandmember(key);
@@ -2097,7 +2452,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<byte[]> srandmember(final byte[] key, final int count) {
-        return this.execute(new ShardedJedisAction<List<byte[]>>() {
+        return this.execute(Command.SRANDMEMBER, new ShardedJedisAction<List<byte[]>>() {
             @Override
             public List<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.srandmember(key, count);
@@ -2107,7 +2462,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long strlen(final byte[] key) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.STRLEN, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.strlen(key);
@@ -2117,7 +2472,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zadd(final byte[] key, final double score, final byte[] member) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZADD, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zadd(key, score, member);
@@ -2127,7 +2482,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zadd(final byte[] key, final double score, final byte[] member, final ZAddParams params) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZADD, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zadd(key, score, member, params);
@@ -2137,7 +2492,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zadd(final byte[] key, final Map<byte[], Double> scoreMembers) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZADD, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zadd(key, scoreMembers);
@@ -2147,7 +2502,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zadd(final byte[] key, final Map<byte[], Double> scoreMembers, final ZAddParams params) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZADD, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zadd(key, scoreMembers, params);
@@ -2157,7 +2512,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<byte[]> zrange(final byte[] key, final long start, final long end) {
-        return this.execute(new ShardedJedisAction<Set<byte[]>>() {
+        return this.execute(Command.ZRANGE, new ShardedJedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrange(key, start, end);
@@ -2167,7 +2522,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zrem(final byte[] key, final byte[]... members) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZREM, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrem(key, members);
@@ -2177,7 +2532,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Double zincrby(final byte[] key, final double score, final byte[] member) {
-        return this.execute(new ShardedJedisAction<Double>() {
+        return this.execute(Command.ZINCRBY, new ShardedJedisAction<Double>() {
             @Override
             public Double doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zincrby(key, score, member);
@@ -2187,7 +2542,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Double zincrby(final byte[] key, final double score, final byte[] member, final ZIncrByParams params) {
-        return this.execute(new ShardedJedisAction<Double>() {
+        return this.execute(Command.ZINCRBY, new ShardedJedisAction<Double>() {
             @Override
             public Double doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zincrby(key, score, member, params);
@@ -2197,7 +2552,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zrank(final byte[] key, final byte[] member) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZRANK, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrank(key, member);
@@ -2207,7 +2562,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zrevrank(final byte[] key, final byte[] member) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZREVRANK, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrevrank(key, member);
@@ -2217,7 +2572,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<byte[]> zrevrange(final byte[] key, final long start, final long end) {
-        return this.execute(new ShardedJedisAction<Set<byte[]>>() {
+        return this.execute(Command.ZREVRANGE, new ShardedJedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrevrange(key, start, end);
@@ -2227,7 +2582,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<Tuple> zrangeWithScores(final byte[] key, final long start, final long end) {
-        return this.execute(new ShardedJedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZRANGE, new ShardedJedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrangeWithScores(key, start, end);
@@ -2237,7 +2592,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<Tuple> zrevrangeWithScores(final byte[] key, final long start, final long end) {
-        return this.execute(new ShardedJedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZREVRANGE, new ShardedJedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrevrangeWithScores(key, start, end);
@@ -2247,7 +2602,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zcard(final byte[] key) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZCARD, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zcard(key);
@@ -2257,7 +2612,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Double zscore(final byte[] key, final byte[] member) {
-        return this.execute(new ShardedJedisAction<Double>() {
+        return this.execute(Command.ZSCORE, new ShardedJedisAction<Double>() {
             @Override
             public Double doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zscore(key, member);
@@ -2267,7 +2622,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<byte[]> sort(final byte[] key) {
-        return this.execute(new ShardedJedisAction<List<byte[]>>() {
+        return this.execute(Command.SORT, new ShardedJedisAction<List<byte[]>>() {
             @Override
             public List<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.sort(key);
@@ -2277,7 +2632,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<byte[]> sort(final byte[] key, final SortingParams sortingParameters) {
-        return this.execute(new ShardedJedisAction<List<byte[]>>() {
+        return this.execute(Command.SORT, new ShardedJedisAction<List<byte[]>>() {
             @Override
             public List<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.sort(key, sortingParameters);
@@ -2287,7 +2642,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zcount(final byte[] key, final double min, final double max) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZCOUNT, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zcount(key, min, max);
@@ -2297,7 +2652,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zcount(final byte[] key, final byte[] min, final byte[] max) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZCOUNT, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zcount(key, min, max);
@@ -2307,7 +2662,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<byte[]> zrangeByScore(final byte[] key, final double min, final double max) {
-        return this.execute(new ShardedJedisAction<Set<byte[]>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new ShardedJedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrangeByScore(key, min, max);
@@ -2317,7 +2672,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<byte[]> zrangeByScore(final byte[] key, final byte[] min, final byte[] max) {
-        return this.execute(new ShardedJedisAction<Set<byte[]>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new ShardedJedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrangeByScore(key, min, max);
@@ -2327,7 +2682,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<byte[]> zrevrangeByScore(final byte[] key, final double max, final double min) {
-        return this.execute(new ShardedJedisAction<Set<byte[]>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new ShardedJedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrevrangeByScore(key, max, min);
@@ -2337,7 +2692,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<byte[]> zrangeByScore(final byte[] key, final double max, final double min, final int offset, final int count) {
-        return this.execute(new ShardedJedisAction<Set<byte[]>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new ShardedJedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrangeByScore(key, max, min, offset, count);
@@ -2347,7 +2702,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<byte[]> zrevrangeByScore(final byte[] key, final byte[] max, final byte[] min) {
-        return this.execute(new ShardedJedisAction<Set<byte[]>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new ShardedJedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrevrangeByScore(key, max, min);
@@ -2357,7 +2712,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<byte[]> zrangeByScore(final byte[] key, final byte[] min, final byte[] max, final int offset, final int count) {
-        return this.execute(new ShardedJedisAction<Set<byte[]>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new ShardedJedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrangeByScore(key, min, max, offset, count);
@@ -2367,7 +2722,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<byte[]> zrevrangeByScore(final byte[] key, final double max, final double min, final int offset, final int count) {
-        return this.execute(new ShardedJedisAction<Set<byte[]>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new ShardedJedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrevrangeByScore(key, max, min, offset, count);
@@ -2377,7 +2732,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<Tuple> zrangeByScoreWithScores(final byte[] key, final double min, final double max) {
-        return this.execute(new ShardedJedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new ShardedJedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrangeByScoreWithScores(key, min, max);
@@ -2387,7 +2742,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<Tuple> zrevrangeByScoreWithScores(final byte[] key, final double max, final double min) {
-        return this.execute(new ShardedJedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new ShardedJedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrevrangeByScoreWithScores(key, max, min);
@@ -2397,7 +2752,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<Tuple> zrangeByScoreWithScores(final byte[] key, final double min, final double max, final int offset, final int count) {
-        return this.execute(new ShardedJedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new ShardedJedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrangeByScoreWithScores(key, min, max, offset, count);
@@ -2407,7 +2762,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<byte[]> zrevrangeByScore(final byte[] key, final byte[] max, final byte[] min, final int offset, final int count) {
-        return this.execute(new ShardedJedisAction<Set<byte[]>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new ShardedJedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrevrangeByScore(key, max, min, offset, count);
@@ -2417,7 +2772,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<Tuple> zrangeByScoreWithScores(final byte[] key, final byte[] min, final byte[] max) {
-        return this.execute(new ShardedJedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new ShardedJedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrangeByScoreWithScores(key, min, max);
@@ -2427,7 +2782,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<Tuple> zrevrangeByScoreWithScores(final byte[] key, final byte[] max, final byte[] min) {
-        return this.execute(new ShardedJedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new ShardedJedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrevrangeByScoreWithScores(key, max, min);
@@ -2437,7 +2792,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<Tuple> zrangeByScoreWithScores(final byte[] key, final byte[] min, final byte[] max, final int offset, final int count) {
-        return this.execute(new ShardedJedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZRANGEBYSCORE, new ShardedJedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrangeByScoreWithScores(key, min, max, offset, count);
@@ -2447,7 +2802,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<Tuple> zrevrangeByScoreWithScores(final byte[] key, final double max, final double min, final int offset, final int count) {
-        return this.execute(new ShardedJedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new ShardedJedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrevrangeByScoreWithScores(key, max, min, offset, count);
@@ -2457,7 +2812,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<Tuple> zrevrangeByScoreWithScores(final byte[] key, final byte[] max, final byte[] min, final int offset, final int count) {
-        return this.execute(new ShardedJedisAction<Set<Tuple>>() {
+        return this.execute(Command.ZREVRANGEBYSCORE, new ShardedJedisAction<Set<Tuple>>() {
             @Override
             public Set<Tuple> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrevrangeByScoreWithScores(key, max, min, offset, count);
@@ -2467,7 +2822,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zremrangeByRank(final byte[] key, final long start, final long end) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZREMRANGEBYRANK, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zremrangeByRank(key, start, end);
@@ -2477,7 +2832,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zremrangeByScore(final byte[] key, final double start, final double end) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZREMRANGEBYSCORE, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zremrangeByScore(key, start, end);
@@ -2487,7 +2842,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zremrangeByScore(final byte[] key, final byte[] start, final byte[] end) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZREMRANGEBYSCORE, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zremrangeByScore(key, start, end);
@@ -2497,7 +2852,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zlexcount(final byte[] key, final byte[] min, final byte[] max) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZLEXCOUNT, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zlexcount(key, min, max);
@@ -2507,7 +2862,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<byte[]> zrangeByLex(final byte[] key, final byte[] min, final byte[] max) {
-        return this.execute(new ShardedJedisAction<Set<byte[]>>() {
+        return this.execute(Command.ZRANGEBYLEX, new ShardedJedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrangeByLex(key, min, max);
@@ -2517,7 +2872,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<byte[]> zrangeByLex(final byte[] key, final byte[] min, final byte[] max, final int offset, final int count) {
-        return this.execute(new ShardedJedisAction<Set<byte[]>>() {
+        return this.execute(Command.ZRANGEBYLEX, new ShardedJedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrangeByLex(key, min, max, offset, count);
@@ -2527,7 +2882,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<byte[]> zrevrangeByLex(final byte[] key, final byte[] max, final byte[] min) {
-        return this.execute(new ShardedJedisAction<Set<byte[]>>() {
+        return this.execute(Command.ZREVRANGEBYLEX, new ShardedJedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrevrangeByLex(key, max, min);
@@ -2537,7 +2892,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Set<byte[]> zrevrangeByLex(final byte[] key, final byte[] max, final byte[] min, final int offset, final int count) {
-        return this.execute(new ShardedJedisAction<Set<byte[]>>() {
+        return this.execute(Command.ZREVRANGEBYLEX, new ShardedJedisAction<Set<byte[]>>() {
             @Override
             public Set<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zrevrangeByLex(key, max, min, offset, count);
@@ -2547,7 +2902,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long zremrangeByLex(final byte[] key, final byte[] min, final byte[] max) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.ZREMRANGEBYLEX, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zremrangeByLex(key, min, max);
@@ -2557,7 +2912,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long linsert(final byte[] key, final BinaryClient.LIST_POSITION where, final byte[] pivot, final byte[] value) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.LINSERT, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.linsert(key, where, pivot, value);
@@ -2567,7 +2922,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long lpushx(final byte[] key, final byte[]... values) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.LPUSHX, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.lpushx(key, values);
@@ -2577,7 +2932,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long rpushx(final byte[] key, final byte[]... values) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.RPUSHX, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.rpushx(key, values);
@@ -2587,7 +2942,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<byte[]> blpop(final byte[] arg) {
-        return this.execute(new ShardedJedisAction<List<byte[]>>() {
+        return this.execute(Command.BLPOP, new ShardedJedisAction<List<byte[]>>() {
             @Override
             public List<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.blpop(arg);
@@ -2597,7 +2952,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<byte[]> brpop(final byte[] arg) {
-        return this.execute(new ShardedJedisAction<List<byte[]>>() {
+        return this.execute(Command.BRPOP, new ShardedJedisAction<List<byte[]>>() {
             @Override
             public List<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.brpop(arg);
@@ -2607,7 +2962,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long del(final byte[] key) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.DEL, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.del(key);
@@ -2617,7 +2972,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public byte[] echo(final byte[] value) {
-        return this.execute(new ShardedJedisAction<byte[]>() {
+        return this.execute(Command.ECHO, new ShardedJedisAction<byte[]>() {
             @Override
             public byte[] doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.echo(value);
@@ -2627,7 +2982,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long move(final byte[] key, final int dbIndex) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.MOVE, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.move(key, dbIndex);
@@ -2637,7 +2992,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long bitcount(final byte[] key) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.BITCOUNT, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.bitcount(key);
@@ -2647,7 +3002,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long bitcount(final byte[] key, final long start, final long end) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.BITCOUNT, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.bitcount(key, start, end);
@@ -2657,7 +3012,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long pfadd(final byte[] key, final byte[]... elements) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.PFADD, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.pfadd(key, elements);
@@ -2667,7 +3022,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public long pfcount(final byte[] key) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.PFCOUNT, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.pfcount(key);
@@ -2677,7 +3032,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long geoadd(final byte[] key, final double longitude, final double latitude, final byte[] member) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.GEOADD, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.geoadd(key, longitude, latitude, member);
@@ -2687,7 +3042,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Long geoadd(final byte[] key, final Map<byte[], GeoCoordinate> memberCoordinateMap) {
-        return this.execute(new ShardedJedisAction<Long>() {
+        return this.execute(Command.GEOADD, new ShardedJedisAction<Long>() {
             @Override
             public Long doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.geoadd(key, memberCoordinateMap);
@@ -2697,7 +3052,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Double geodist(final byte[] key, final byte[] member1, final byte[] member2) {
-        return this.execute(new ShardedJedisAction<Double>() {
+        return this.execute(Command.GEODIST, new ShardedJedisAction<Double>() {
             @Override
             public Double doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.geodist(key, member1, member2);
@@ -2707,7 +3062,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public Double geodist(final byte[] key, final byte[] member1, final byte[] member2, final GeoUnit unit) {
-        return this.execute(new ShardedJedisAction<Double>() {
+        return this.execute(Command.GEODIST, new ShardedJedisAction<Double>() {
             @Override
             public Double doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.geodist(key, member1, member2, unit);
@@ -2717,7 +3072,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<byte[]> geohash(final byte[] key, final byte[]... members) {
-        return this.execute(new ShardedJedisAction<List<byte[]>>() {
+        return this.execute(Command.GEOHASH, new ShardedJedisAction<List<byte[]>>() {
             @Override
             public List<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.geohash(key, members);
@@ -2727,7 +3082,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<GeoCoordinate> geopos(final byte[] key, final byte[]... members) {
-        return this.execute(new ShardedJedisAction<List<GeoCoordinate>>() {
+        return this.execute(Command.GEOPOS, new ShardedJedisAction<List<GeoCoordinate>>() {
             @Override
             public List<GeoCoordinate> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.geopos(key, members);
@@ -2737,7 +3092,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<GeoRadiusResponse> georadius(final byte[] key, final double longitude, final double latitude, final double radius, final GeoUnit unit) {
-        return this.execute(new ShardedJedisAction<List<GeoRadiusResponse>>() {
+        return this.execute(Command.GEORADIUS, new ShardedJedisAction<List<GeoRadiusResponse>>() {
             @Override
             public List<GeoRadiusResponse> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.georadius(key, longitude, latitude, radius, unit);
@@ -2747,7 +3102,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<GeoRadiusResponse> georadius(final byte[] key, final double longitude, final double latitude, final double radius, final GeoUnit unit, final GeoRadiusParam param) {
-        return this.execute(new ShardedJedisAction<List<GeoRadiusResponse>>() {
+        return this.execute(Command.GEORADIUS, new ShardedJedisAction<List<GeoRadiusResponse>>() {
             @Override
             public List<GeoRadiusResponse> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.georadius(key, longitude, latitude, radius, unit, param);
@@ -2757,7 +3112,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<GeoRadiusResponse> georadiusByMember(final byte[] key, final byte[] member, final double radius, final GeoUnit unit) {
-        return this.execute(new ShardedJedisAction<List<GeoRadiusResponse>>() {
+        return this.execute(Command.GEORADIUSBYMEMBER, new ShardedJedisAction<List<GeoRadiusResponse>>() {
             @Override
             public List<GeoRadiusResponse> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.georadiusByMember(key, member, radius, unit);
@@ -2767,7 +3122,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<GeoRadiusResponse> georadiusByMember(final byte[] key, final byte[] member, final double radius, final GeoUnit unit, final GeoRadiusParam param) {
-        return this.execute(new ShardedJedisAction<List<GeoRadiusResponse>>() {
+        return this.execute(Command.GEORADIUSBYMEMBER, new ShardedJedisAction<List<GeoRadiusResponse>>() {
             @Override
             public List<GeoRadiusResponse> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.georadiusByMember(key, member, radius, unit, param);
@@ -2777,7 +3132,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public ScanResult<Map.Entry<byte[], byte[]>> hscan(final byte[] key, final byte[] cursor) {
-        return this.execute(new ShardedJedisAction<ScanResult<Map.Entry<byte[], byte[]>>>() {
+        return this.execute(Command.HSCAN, new ShardedJedisAction<ScanResult<Map.Entry<byte[], byte[]>>>() {
             @Override
             public ScanResult<Map.Entry<byte[], byte[]>> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hscan(key, cursor);
@@ -2787,7 +3142,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public ScanResult<Map.Entry<byte[], byte[]>> hscan(final byte[] key, final byte[] cursor, final ScanParams params) {
-        return this.execute(new ShardedJedisAction<ScanResult<Map.Entry<byte[], byte[]>>>() {
+        return this.execute(Command.HSCAN, new ShardedJedisAction<ScanResult<Map.Entry<byte[], byte[]>>>() {
             @Override
             public ScanResult<Map.Entry<byte[], byte[]>> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.hscan(key, cursor, params);
@@ -2797,7 +3152,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public ScanResult<byte[]> sscan(final byte[] key, final byte[] cursor) {
-        return this.execute(new ShardedJedisAction<ScanResult<byte[]>>() {
+        return this.execute(Command.SSCAN, new ShardedJedisAction<ScanResult<byte[]>>() {
             @Override
             public ScanResult<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.sscan(key, cursor);
@@ -2807,7 +3162,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public ScanResult<byte[]> sscan(final byte[] key, final byte[] cursor, final ScanParams params) {
-        return this.execute(new ShardedJedisAction<ScanResult<byte[]>>() {
+        return this.execute(Command.SSCAN, new ShardedJedisAction<ScanResult<byte[]>>() {
             @Override
             public ScanResult<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.sscan(key, cursor, params);
@@ -2817,7 +3172,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public ScanResult<Tuple> zscan(final byte[] key, final byte[] cursor) {
-        return this.execute(new ShardedJedisAction<ScanResult<Tuple>>() {
+        return this.execute(Command.ZSCAN, new ShardedJedisAction<ScanResult<Tuple>>() {
             @Override
             public ScanResult<Tuple> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zscan(key, cursor);
@@ -2827,7 +3182,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public ScanResult<Tuple> zscan(final byte[] key, final byte[] cursor, final ScanParams params) {
-        return this.execute(new ShardedJedisAction<ScanResult<Tuple>>() {
+        return this.execute(Command.ZSCAN, new ShardedJedisAction<ScanResult<Tuple>>() {
             @Override
             public ScanResult<Tuple> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.zscan(key, cursor, params);
@@ -2837,7 +3192,7 @@ public class ShardedRedisClientImpl implements ShardedRedisClient {
 
     @Override
     public List<byte[]> bitfield(final byte[] key, final byte[]... arguments) {
-        return this.execute(new ShardedJedisAction<List<byte[]>>() {
+        return this.execute(Command.BITFIELD, new ShardedJedisAction<List<byte[]>>() {
             @Override
             public List<byte[]> doAction(ShardedJedis shardedJedis) {
                 return shardedJedis.bitfield(key, arguments);
@@ -0,0 +1,532 @@
+package com.xps.tools.redis.lob;
+
+import com.xps.tools.redis.JedisAction;
+import com.xps.tools.redis.RedisClient;
+import com.xps.tools.redis.ShardedJedisAction;
+import com.xps.tools.redis.ShardedRedisClient;
+import com.xps.tools.redis.exceptions.RedisToolsException;
+import com.xps.tools.redis.exceptions.RedisToolsExceptionComp;
+import redis.clients.jedis.BinaryJedisCommands;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.ShardedJedis;
+import redis.clients.jedis.ShardedJedisPipeline;
+import redis.clients.util.SafeEncoder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * 大对象存储：把payload切成N个分块key加一个manifest，分块通过pipeline写入，读取时多连接并行拉取，
+ * 分片模式下分块key会分散到不同分片上，从而获得多连接/多节点的聚合带宽。
+ * 覆盖写时先写新版本的分块，再用Lua脚本原子地取出旧manifest并以SET EX写入新manifest，最后清理旧版本分块；
+ * 每个分块带CRC32校验，读取过程中遇到manifest被替换会重读最新版本。
+ */
+public class LargeObjectStore {
+
+    public static final int DEFAULT_CHUNK_SIZE = 512 * 1024;
+    public static final int DEFAULT_PARALLELISM = 4;
+    /**旧版本分块延迟删除的秒数，给正在读旧版本的线程留出时间*/
+    public static final int DEFAULT_OLD_CHUNK_GRACE_SECONDS = 10;
+    /**pipeline每批写入的分块数*/
+    private static final int PIPELINE_BATCH = 16;
+    private static final int MAX_READ_ATTEMPTS = 3;
+    /**
+     * 返回旧manifest并写入新manifest，过期时间与值在同一条SET中设置，不会留下没有过期时间的manifest。
+     * KEYS[1]=manifest key，ARGV[1]=新manifest，ARGV[2]=过期秒数(<=0不过期)
+     */
+    private static final byte[] SWAP_MANIFEST_SCRIPT = SafeEncoder.encode(
+            "local old = redis.call('GET', KEYS[1]) "
+            + "if tonumber(ARGV[2]) > 0 then redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2]) "
+            + "else redis.call('SET', KEYS[1], ARGV[1]) end "
+            + "return old");
+
+    private final Logger logger = Logger.getLogger(this.getClass().getName());
+
+    private final Backend backend;
+    private volatile int chunkSize = DEFAULT_CHUNK_SIZE;
+    private volatile int parallelism = DEFAULT_PARALLELISM;
+    private int oldChunkGraceSeconds = DEFAULT_OLD_CHUNK_GRACE_SECONDS;
+    private volatile ExecutorService executorService;
+    private boolean ownExecutor;
+
+    public LargeObjectStore(RedisClient redisClient) {
+        this.backend = new SingleBackend(redisClient);
+    }
+
+    public LargeObjectStore(ShardedRedisClient shardedRedisClient) {
+        this.backend = new ShardedBackend(shardedRedisClient);
+    }
+
+    public void put(String key, byte[] data) {
+        this.put(key, data, 0);
+    }
+
+    /**
+     * @param seconds 过期时间，<=0表示不过期；分块比manifest多保留oldChunkGraceSeconds秒
+     */
+    public void put(String key, byte[] data, int seconds) {
+        int chunkSize = this.chunkSize;
+        int count = (int) ((data.length + (long) chunkSize - 1) / chunkSize);
+        long[] crcs = new long[count];
+        List<byte[]> chunks = new ArrayList<>(count);
+        for(int i = 0; i < count; i++) {
+            int from = i * chunkSize;
+            byte[] chunk = Arrays.copyOfRange(data, from, Math.min(data.length, from + chunkSize));
+            crcs[i] = crc(chunk);
+            chunks.add(chunk);
+        }
+        LobManifest manifest = new LobManifest(newVersion(), data.length, chunkSize, crcs);
+        List<byte[]> chunkKeys = new ArrayList<>(count);
+        for(int i = 0; i < count; i++) {
+            chunkKeys.add(manifest.chunkKey(key, i));
+        }
+        int chunkSeconds = seconds > 0 ? seconds + Math.max(oldChunkGraceSeconds, 1) : 0;
+        for(int from = 0; from < count; from += PIPELINE_BATCH) {
+            int to = Math.min(count, from + PIPELINE_BATCH);
+            backend.setAll(chunkKeys.subList(from, to), chunks.subList(from, to), chunkSeconds);
+        }
+        byte[] rawKey = SafeEncoder.encode(key);
+        byte[] old = backend.swap(rawKey, manifest.encode(), seconds);
+        LobManifest oldManifest;
+        try {
+            oldManifest = LobManifest.decode(key, old);
+        } catch (RuntimeException e) {
+            //新版本已经写入成功，旧值无法解析时只是清理不了旧分块，不影响本次写入
+            logger.log(Level.WARNING, "大对象[" + key + "]的旧manifest无法解析，跳过旧分块的清理", e);
+            return;
+        }
+        this.expireChunks(key, oldManifest);
+    }
+
+    /**
+     * @return 不存在时返回null
+     */
+    public byte[] get(String key) {
+        for(int attempt = 1; ; attempt++) {
+            LobManifest manifest = LobManifest.decode(key, backend.commands().get(SafeEncoder.encode(key)));
+            if(manifest == null) {
+                return null;
+            }
+            FixedBuffer out = new FixedBuffer((int) manifest.length);
+            try {
+                this.fetch(key, manifest, out);
+                return out.buf;
+            } catch (ChunkMissingException e) {
+                if(attempt >= MAX_READ_ATTEMPTS || !this.manifestChanged(key, manifest)) {
+                    throw new RedisToolsException(RedisToolsExceptionComp.LOB_CHUNK_MISSING, key, e.index);
+                }
+            } catch (IOException e) {
+                throw new RedisToolsException(e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 按顺序把大对象写到输出流，同时最多有parallelism个分块在内存中
+     * @return 写入的字节数，不存在时返回-1
+     */
+    public long get(String key, OutputStream out) throws IOException {
+        LobManifest manifest = LobManifest.decode(key, backend.commands().get(SafeEncoder.encode(key)));
+        if(manifest == null) {
+            return -1;
+        }
+        try {
+            this.fetch(key, manifest, out);
+        } catch (ChunkMissingException e) {
+            //已经有部分数据写入输出流，无法换版本重读
+            throw new RedisToolsException(RedisToolsExceptionComp.LOB_CHUNK_MISSING, key, e.index);
+        }
+        return manifest.length;
+    }
+
+    public boolean delete(String key) {
+        byte[] rawKey = SafeEncoder.encode(key);
+        LobManifest manifest = LobManifest.decode(key, backend.commands().get(rawKey));
+        if(manifest == null) {
+            return false;
+        }
+        backend.commands().del(rawKey);
+        List<byte[]> chunkKeys = new ArrayList<>(manifest.chunkCount());
+        for(int i = 0; i < manifest.chunkCount(); i++) {
+            chunkKeys.add(manifest.chunkKey(key, i));
+        }
+        backend.delAll(chunkKeys);
+        return true;
+    }
+
+    private void fetch(final String key, final LobManifest manifest, OutputStream out) throws IOException {
+        int count = manifest.chunkCount();
+        ExecutorService executor = this.getExecutorService();
+        int parallelism = this.parallelism;
+        List<Future<byte[]>> window = new ArrayList<>(parallelism);
+        int next = 0;
+        for(int i = 0; i < count; i++) {
+            while(next < count && next - i < parallelism) {
+                final int index = next++;
+                window.add(executor.submit(new Callable<byte[]>() {
+                    @Override
+                    public byte[] call() {
+                        return backend.commands().get(manifest.chunkKey(key, index));
+                    }
+                }));
+            }
+            byte[] chunk = await(window.remove(0));
+            if(chunk == null) {
+                cancel(window);
+                throw new ChunkMissingException(i);
+            }
+            if(chunk.length != manifest.chunkLength(i) || crc(chunk) != manifest.crcs[i]) {
+                cancel(window);
+                throw new RedisToolsException(RedisToolsExceptionComp.LOB_CHUNK_CORRUPTED, key, i);
+            }
+            out.write(chunk);
+        }
+    }
+
+    private boolean manifestChanged(String key, LobManifest manifest) {
+        LobManifest current = LobManifest.decode(key, backend.commands().get(SafeEncoder.encode(key)));
+        return current != null && !current.version.equals(manifest.version);
+    }
+
+    private void expireChunks(String key, LobManifest old) {
+        if(old == null || old.chunkCount() == 0) {
+            return;
+        }
+        List<byte[]> chunkKeys = new ArrayList<>(old.chunkCount());
+        for(int i = 0; i < old.chunkCount(); i++) {
+            chunkKeys.add(old.chunkKey(key, i));
+        }
+        if(oldChunkGraceSeconds > 0) {
+            backend.expireAll(chunkKeys, oldChunkGraceSeconds);
+        } else {
+            backend.delAll(chunkKeys);
+        }
+    }
+
+    private static byte[] await(Future<byte[]> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisToolsException("读取大对象时被中断", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RedisToolsException(cause.getMessage(), cause);
+        }
+    }
+
+    private static void cancel(List<Future<byte[]>> futures) {
+        for(Future<byte[]> future : futures) {
+            future.cancel(false);
+        }
+    }
+
+    private static long crc(byte[] chunk) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(chunk, 0, chunk.length);
+        return crc32.getValue();
+    }
+
+    private static String newVersion() {
+        return Long.toString(System.currentTimeMillis(), 36) + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private ExecutorService getExecutorService() {
+        if(executorService == null) {
+            synchronized (this) {
+                if(executorService == null) {
+                    final AtomicInteger seq = new AtomicInteger();
+                    executorService = Executors.newFixedThreadPool(parallelism, new ThreadFactory() {
+                        @Override
+                        public Thread newThread(Runnable r) {
+                            Thread t = new Thread(r, "redis-lob-fetch-" + seq.incrementAndGet());
+                            t.setDaemon(true);
+                            return t;
+                        }
+                    });
+                    ownExecutor = true;
+                }
+            }
+        }
+        return executorService;
+    }
+
+    /**
+     * 关闭内部创建的线程池，外部传入的线程池由调用方自己管理
+     */
+    public void destroy() {
+        if(ownExecutor && executorService != null) {
+            executorService.shutdown();
+        }
+    }
+
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+        this.ownExecutor = false;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        if(chunkSize <= 0) {
+            throw new RedisToolsException(RedisToolsExceptionComp.PARAM_OUT_OF_RANGE, "chunkSize", 1, Integer.MAX_VALUE, chunkSize);
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * 同时拉取的分块数，内部创建的线程池会同步调整线程数；外部传入的线程池只影响读取窗口大小
+     */
+    public void setParallelism(int parallelism) {
+        if(parallelism <= 0) {
+            throw new RedisToolsException(RedisToolsExceptionComp.PARAM_OUT_OF_RANGE, "parallelism", 1, Integer.MAX_VALUE, parallelism);
+        }
+        synchronized (this) {
+            this.parallelism = parallelism;
+            if(ownExecutor && executorService instanceof ThreadPoolExecutor) {
+                ThreadPoolExecutor executor = (ThreadPoolExecutor) executorService;
+                //先调大的一边，保证任何时候core都不超过max
+                if(parallelism > executor.getMaximumPoolSize()) {
+                    executor.setMaximumPoolSize(parallelism);
+                    executor.setCorePoolSize(parallelism);
+                } else {
+                    executor.setCorePoolSize(parallelism);
+                    executor.setMaximumPoolSize(parallelism);
+                }
+            }
+        }
+    }
+
+    public int getOldChunkGraceSeconds() {
+        return oldChunkGraceSeconds;
+    }
+
+    public void setOldChunkGraceSeconds(int oldChunkGraceSeconds) {
+        this.oldChunkGraceSeconds = oldChunkGraceSeconds;
+    }
+
+    /**
+     * 按manifest中的总长度一次分配，避免ByteArrayOutputStream扩容和toByteArray的拷贝
+     */
+    private static class FixedBuffer extends OutputStream {
+
+        final byte[] buf;
+        private int count;
+
+        FixedBuffer(int length) {
+            this.buf = new byte[length];
+        }
+
+        @Override
+        public void write(int b) {
+            buf[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            System.arraycopy(b, off, buf, count, len);
+            count += len;
+        }
+    }
+
+    private static class ChunkMissingException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+        final int index;
+
+        ChunkMissingException(int index) {
+            super(null, null, false, false);
+            this.index = index;
+        }
+    }
+
+    private interface Backend {
+
+        BinaryJedisCommands commands();
+
+        /**
+         * 原子地写入value并返回旧值
+         */
+        byte[] swap(byte[] key, byte[] value, int seconds);
+
+        void setAll(List<byte[]> keys, List<byte[]> values, int seconds);
+
+        void expireAll(List<byte[]> keys, int seconds);
+
+        void delAll(List<byte[]> keys);
+    }
+
+    private static class SingleBackend implements Backend {
+
+        private final RedisClient redisClient;
+
+        SingleBackend(RedisClient redisClient) {
+            this.redisClient = redisClient;
+        }
+
+        @Override
+        public BinaryJedisCommands commands() {
+            return redisClient;
+        }
+
+        @Override
+        public byte[] swap(final byte[] key, final byte[] value, final int seconds) {
+            return redisClient.execute(new JedisAction<byte[]>() {
+                @Override
+                public byte[] doAction(Jedis jedis) {
+                    return (byte[]) jedis.eval(SWAP_MANIFEST_SCRIPT, 1, key, value, Protocol.toByteArray(seconds));
+                }
+            });
+        }
+
+        @Override
+        public void setAll(final List<byte[]> keys, final List<byte[]> values, final int seconds) {
+            redisClient.execute(new JedisAction<Object>() {
+                @Override
+                public Object doAction(Jedis jedis) {
+                    Pipeline pipeline = jedis.pipelined();
+                    for(int i = 0; i < keys.size(); i++) {
+                        if(seconds > 0) {
+                            pipeline.setex(keys.get(i), seconds, values.get(i));
+                        } else {
+                            pipeline.set(keys.get(i), values.get(i));
+                        }
+                    }
+                    pipeline.sync();
+                    return null;
+                }
+            });
+        }
+
+        @Override
+        public void expireAll(final List<byte[]> keys, final int seconds) {
+            redisClient.execute(new JedisAction<Object>() {
+                @Override
+                public Object doAction(Jedis jedis) {
+                    Pipeline pipeline = jedis.pipelined();
+                    for(byte[] key : keys) {
+                        pipeline.expire(key, seconds);
+                    }
+                    pipeline.sync();
+                    return null;
+                }
+            });
+        }
+
+        @Override
+        public void delAll(final List<byte[]> keys) {
+            redisClient.execute(new JedisAction<Object>() {
+                @Override
+                public Object doAction(Jedis jedis) {
+                    Pipeline pipeline = jedis.pipelined();
+                    for(byte[] key : keys) {
+                        pipeline.del(key);
+                    }
+                    pipeline.sync();
+                    return null;
+                }
+            });
+        }
+    }
+
+    private static class ShardedBackend implements Backend {
+
+        private final ShardedRedisClient shardedRedisClient;
+
+        ShardedBackend(ShardedRedisClient shardedRedisClient) {
+            this.shardedRedisClient = shardedRedisClient;
+        }
+
+        @Override
+        public BinaryJedisCommands commands() {
+            return shardedRedisClient;
+        }
+
+        @Override
+        public byte[] swap(final byte[] key, final byte[] value, final int seconds) {
+            return shardedRedisClient.execute(new ShardedJedisAction<byte[]>() {
+                @Override
+                public byte[] doAction(ShardedJedis shardedJedis) {
+                    //与commands()的GET按同样的方式路由到manifest所在的分片
+                    return (byte[]) shardedJedis.getShard(key).eval(SWAP_MANIFEST_SCRIPT, 1, key, value,
+                            Protocol.toByteArray(seconds));
+                }
+            });
+        }
+
+        @Override
+        public void setAll(final List<byte[]> keys, final List<byte[]> values, final int seconds) {
+            shardedRedisClient.execute(new ShardedJedisAction<Object>() {
+                @Override
+                public Object doAction(ShardedJedis shardedJedis) {
+                    ShardedJedisPipeline pipeline = shardedJedis.pipelined();
+                    for(int i = 0; i < keys.size(); i++) {
+                        if(seconds > 0) {
+                            pipeline.setex(keys.get(i), seconds, values.get(i));
+                        } else {
+                            pipeline.set(keys.get(i), values.get(i));
+                        }
+                    }
+                    pipeline.sync();
+                    return null;
+                }
+            });
+        }
+
+        @Override
+        public void expireAll(final List<byte[]> keys, final int seconds) {
+            shardedRedisClient.execute(new ShardedJedisAction<Object>() {
+                @Override
+                public Object doAction(ShardedJedis shardedJedis) {
+                    ShardedJedisPipeline pipeline = shardedJedis.pipelined();
+                    for(byte[] key : keys) {
+                        pipeline.expire(key, seconds);
+                    }
+                    pipeline.sync();
+                    return null;
+                }
+            });
+        }
+
+        @Override
+        public void delAll(final List<byte[]> keys) {
+            shardedRedisClient.execute(new ShardedJedisAction<Object>() {
+                @Override
+                public Object doAction(ShardedJedis shardedJedis) {
+                    ShardedJedisPipeline pipeline = shardedJedis.pipelined();
+                    for(byte[] key : keys) {
+                        pipeline.del(key);
+                    }
+                    pipeline.sync();
+                    return null;
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.xps.tools.redis.lob;
+
+import com.xps.tools.redis.exceptions.RedisToolsException;
+import com.xps.tools.redis.exceptions.RedisToolsExceptionComp;
+import redis.clients.util.SafeEncoder;
+
+/**
+ * 大对象的manifest，存放在对象key本身上：
+ * LOB1|版本|总长度|分块大小|分块数|crc32,crc32,...
+ */
+class LobManifest {
+
+    private static final String MAGIC = "LOB1";
+
+    final String version;
+    final long length;
+    final int chunkSize;
+    final long[] crcs;
+
+    LobManifest(String version, long length, int chunkSize, long[] crcs) {
+        this.version = version;
+        this.length = length;
+        this.chunkSize = chunkSize;
+        this.crcs = crcs;
+    }
+
+    int chunkCount() {
+        return crcs.length;
+    }
+
+    int chunkLength(int index) {
+        return (int) Math.min(chunkSize, length - (long) index * chunkSize);
+    }
+
+    byte[] chunkKey(String key, int index) {
+        return SafeEncoder.encode(key + ":lob:" + version + ":" + index);
+    }
+
+    byte[] encode() {
+        StringBuilder sb = new StringBuilder(32 + crcs.length * 9);
+        sb.append(MAGIC).append('|').append(version).append('|').append(length)
+                .append('|').append(chunkSize).append('|').append(crcs.length).append('|');
+        for(int i = 0; i < crcs.length; i++) {
+            if(i > 0) {
+                sb.append(',');
+            }
+            sb.append(Long.toHexString(crcs[i]));
+        }
+        return SafeEncoder.encode(sb.toString());
+    }
+
+    /**
+     * @return bytes为null时返回null
+     */
+    static LobManifest decode(String key, byte[] bytes) {
+        if(bytes == null) {
+            return null;
+        }
+        String[] parts = SafeEncoder.encode(bytes).split("\\|", -1);
+        if(parts.length != 6 || !MAGIC.equals(parts[0])) {
+            throw new RedisToolsException(RedisToolsExceptionComp.LOB_MANIFEST_INVALID, key);
+        }
+        try {
+            int count = Integer.parseInt(parts[4]);
+            long[] crcs = new long[count];
+            String[] crcParts = count == 0 ? new String[0] : parts[5].split(",");
+            if(crcParts.length != count) {
+                throw new RedisToolsException(RedisToolsExceptionComp.LOB_MANIFEST_INVALID, key);
+            }
+            for(int i = 0; i < count; i++) {
+                crcs[i] = Long.parseLong(crcParts[i], 16);
+            }
+            return new LobManifest(parts[1], Long.parseLong(parts[2]), Integer.parseInt(parts[3]), crcs);
+        } catch (NumberFormatException e) {
+            throw new RedisToolsException(RedisToolsExceptionComp.LOB_MANIFEST_INVALID, key);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.xps.tools.redis.pool;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * 按借连接等待、连接使用率和命令耗时在[minTotal, maxTotal]之间调整连接池的maxTotal(AIMD)：
+ * <ul>
+ *     <li>命令耗时明显高于基线(服务端已饱和)时乘性减小，再多的连接只会让redis更慢</li>
+ *     <li>耗时正常但有线程在排队等待连接、且连接基本都在使用中时加性增大</li>
+ *     <li>连续一段时间使用率低于一半时每次减1，释放多余的连接</li>
+ * </ul>
+ * 基线耗时取历史最低的平均耗时并缓慢上浮，适应正常的负载变化。只修改连接池参数，不重建连接池；
+ * 哨兵故障转移重建内部连接池后，下一个周期会重新应用当前的上限。设置了PriorityGate时许可数随上限一起调整。
+ */
+public class AdaptivePoolController {
+
+    public static final long DEFAULT_INTERVAL_MILLIS = 1000L;
+
+    private static final double LATENCY_TOLERANCE = 2.0;
+    private static final double DECREASE_FACTOR = 0.75;
+    private static final double HIGH_UTILIZATION = 0.9;
+    private static final int MIN_SAMPLES = 20;
+    private static final int IDLE_ROUNDS_BEFORE_SHRINK = 10;
+    private static final long WAIT_THRESHOLD_MILLIS = 1;
+
+    private final Logger logger = Logger.getLogger(this.getClass().getName());
+    private final ResizablePool pool;
+    private final int minTotal;
+    private final int maxTotal;
+    private final ScheduledExecutorService scheduler;
+    private PriorityGate priorityGate;
+
+    private final AtomicLong latencyNanos = new AtomicLong();
+    private final AtomicLong samples = new AtomicLong();
+    private volatile int limit;
+    private double baselineNanos;
+    private double lastLatencyNanos;
+    private int idleRounds;
+    private long increases;
+    private long decreases;
+
+    /**
+     * 创建并每intervalMillis调整一次
+     */
+    public AdaptivePoolController(ResizablePool pool, int minTotal, int maxTotal, long intervalMillis) {
+        this(pool, minTotal, maxTotal);
+        this.start(intervalMillis);
+    }
+
+    AdaptivePoolController(ResizablePool pool, int minTotal, int maxTotal) {
+        this.pool = pool;
+        this.minTotal = Math.max(1, minTotal);
+        this.maxTotal = Math.max(this.minTotal, maxTotal);
+        this.limit = Math.max(this.minTotal, Math.min(this.maxTotal, pool.getMaxTotal()));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "redis-adaptive-pool");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        this.apply();
+    }
+
+    private void start(long intervalMillis) {
+        long interval = intervalMillis > 0 ? intervalMillis : DEFAULT_INTERVAL_MILLIS;
+        scheduler.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    adjust();
+                } catch (RuntimeException e) {
+                    logger.warning("调整连接池大小失败：" + e);
+                }
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 记录一次命令的服务端耗时(不含借连接的等待)
+     */
+    public void record(long elapsedNanos) {
+        latencyNanos.addAndGet(elapsedNanos);
+        samples.incrementAndGet();
+    }
+
+    synchronized void adjust() {
+        long count = samples.getAndSet(0);
+        long total = latencyNanos.getAndSet(0);
+        int current = limit;
+        int active = pool.getNumActive();
+        boolean saturated = false;
+        if(count >= MIN_SAMPLES) {
+            double latency = (double) total / count;
+            lastLatencyNanos = latency;
+            saturated = baselineNanos > 0 && latency > baselineNanos * LATENCY_TOLERANCE;
+            baselineNanos = baselineNanos <= 0 || latency < baselineNanos ? latency : baselineNanos + (latency - baselineNanos) * 0.01;
+        }
+        if(saturated) {
+            limit = Math.max(minTotal, (int) (current * DECREASE_FACTOR));
+            idleRounds = 0;
+        } else if((pool.getNumWaiters() > 0 || pool.getMeanBorrowWaitTimeMillis() >= WAIT_THRESHOLD_MILLIS)
+                && active >= current * HIGH_UTILIZATION) {
+            limit = Math.min(maxTotal, current + Math.max(1, Math.min(pool.getNumWaiters(), current / 4)));
+            idleRounds = 0;
+        } else if(active < current / 2) {
+            if(++idleRounds >= IDLE_ROUNDS_BEFORE_SHRINK) {
+                limit = Math.max(minTotal, current - 1);
+                idleRounds = 0;
+            }
+        } else {
+            idleRounds = 0;
+        }
+        if(limit > current) {
+            increases++;
+        } else if(limit < current) {
+            decreases++;
+        }
+        this.apply();
+    }
+
+    private void apply() {
+        if(pool.getMaxTotal() != limit) {
+            pool.setMaxTotal(limit);
+            pool.setMaxIdle(limit);
+        }
+        if(priorityGate != null) {
+            priorityGate.setPermits(limit);
+        }
+    }
+
+    /**
+     * 连接池前面的PriorityGate，许可数与连接数上限保持一致
+     */
+    public synchronized void setPriorityGate(PriorityGate priorityGate) {
+        this.priorityGate = priorityGate;
+        this.apply();
+    }
+
+    /**
+     * @return 当前的连接数上限
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    public synchronized long getIncreases() {
+        return increases;
+    }
+
+    public synchronized long getDecreases() {
+        return decreases;
+    }
+
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "AdaptivePoolController{limit=" + limit + ", min=" + minTotal + ", max=" + maxTotal
+                + ", latencyMicros=" + TimeUnit.NANOSECONDS.toMicros((long) lastLatencyNanos)
+                + ", baselineMicros=" + TimeUnit.NANOSECONDS.toMicros((long) baselineNanos)
+                + ", increases=" + increases + ", decreases=" + decreases + "}";
+    }
+}
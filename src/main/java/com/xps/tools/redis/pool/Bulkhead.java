@@ -0,0 +1,123 @@
+package com.xps.tools.redis.pool;
+
+import com.xps.tools.redis.exceptions.RedisToolsException;
+import com.xps.tools.redis.exceptions.RedisToolsExceptionComp;
+import com.xps.tools.redis.resilience.Deadline;
+import com.xps.tools.redis.util.CommandTraits;
+import redis.clients.jedis.Protocol.Command;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 按命令类别划分的隔舱：阻塞命令、重命令和其它命令各自持有一组许可，同一连接池中某一类命令再多也只能占用
+ * 自己那部分连接，BLPOP堆积或慢SORT不会把GET这类快命令需要的连接耗尽。许可数之和应不超过连接池的maxTotal。
+ */
+public class Bulkhead {
+
+    public enum CommandClass {
+        FAST, HEAVY, BLOCKING;
+
+        /**
+         * @param command 为空时按快命令处理
+         */
+        public static CommandClass of(Command command) {
+            if(CommandTraits.isBlocking(command)) {
+                return BLOCKING;
+            }
+            return CommandTraits.isHeavy(command) ? HEAVY : FAST;
+        }
+    }
+
+    private final Semaphore[] permits = new Semaphore[CommandClass.values().length];
+    private final int[] limits = new int[CommandClass.values().length];
+    private final AtomicLong[] rejected = new AtomicLong[CommandClass.values().length];
+    private final long waitMillis;
+
+    /**
+     * @param fastPermits 各类命令的许可数，小于等于0表示不限制
+     * @param waitMillis 许可用完时最多等待的毫秒数，0表示直接失败
+     */
+    public Bulkhead(int fastPermits, int heavyPermits, int blockingPermits, long waitMillis) {
+        this.init(CommandClass.FAST, fastPermits);
+        this.init(CommandClass.HEAVY, heavyPermits);
+        this.init(CommandClass.BLOCKING, blockingPermits);
+        this.waitMillis = Math.max(0, waitMillis);
+    }
+
+    private void init(CommandClass commandClass, int limit) {
+        int i = commandClass.ordinal();
+        limits[i] = limit;
+        permits[i] = limit > 0 ? new Semaphore(limit) : null;
+        rejected[i] = new AtomicLong();
+    }
+
+    /**
+     * @return 配置了任一类命令的许可数时返回Bulkhead，否则返回null
+     */
+    public static Bulkhead of(int fastPermits, int heavyPermits, int blockingPermits, long waitMillis) {
+        if(fastPermits <= 0 && heavyPermits <= 0 && blockingPermits <= 0) {
+            return null;
+        }
+        return new Bulkhead(fastPermits, heavyPermits, blockingPermits, waitMillis);
+    }
+
+    /**
+     * 获取命令所属类别的许可，等待时间受当前线程的截止时间限制；许可用完时抛出BULKHEAD_FULL。
+     * 返回的类别必须在执行完成后传给release
+     */
+    public CommandClass acquire(Command command) {
+        CommandClass commandClass = CommandClass.of(command);
+        Semaphore semaphore = permits[commandClass.ordinal()];
+        if(semaphore == null) {
+            return commandClass;
+        }
+        Deadline.checkNotExpired();
+        boolean acquired;
+        long wait = Deadline.borrowWaitMillis(waitMillis);
+        try {
+            acquired = wait <= 0 ? semaphore.tryAcquire() : semaphore.tryAcquire(wait, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisToolsException("等待隔舱许可时线程被中断", e);
+        }
+        if(!acquired) {
+            rejected[commandClass.ordinal()].incrementAndGet();
+            throw new RedisToolsException(RedisToolsExceptionComp.BULKHEAD_FULL, commandClass, limits[commandClass.ordinal()]);
+        }
+        return commandClass;
+    }
+
+    public void release(CommandClass commandClass) {
+        Semaphore semaphore = permits[commandClass.ordinal()];
+        if(semaphore != null) {
+            semaphore.release();
+        }
+    }
+
+    /**
+     * @return 该类命令当前剩余的许可数，不限制时返回-1
+     */
+    public int getAvailablePermits(CommandClass commandClass) {
+        Semaphore semaphore = permits[commandClass.ordinal()];
+        return semaphore == null ? -1 : semaphore.availablePermits();
+    }
+
+    /**
+     * @return 该类命令因许可用完被拒绝的次数
+     */
+    public long getRejected(CommandClass commandClass) {
+        return rejected[commandClass.ordinal()].get();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("Bulkhead{");
+        for(CommandClass commandClass : CommandClass.values()) {
+            builder.append(commandClass).append('=').append(this.getAvailablePermits(commandClass)).append('/')
+                    .append(limits[commandClass.ordinal()]).append(", ");
+        }
+        return builder.append("waitMillis=").append(waitMillis).append('}').toString();
+    }
+}
@@ -0,0 +1,79 @@
+package com.xps.tools.redis.pool;
+
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.PooledObjectFactory;
+import redis.clients.jedis.Jedis;
+
+/**
+ * 包装jedis的连接工厂，借出时把连接切换到借出线程请求的库。
+ * jedis的JedisFactory在每次借出时把连接SELECT回连接池配置的库，库视图(RedisClient.database)借到的连接
+ * 会先被切回配置的库、再由客户端切到视图的库，每次调用多两次往返。
+ * 客户端借连接前用request声明要使用的库，借出时连接已在该库上则不发送SELECT，否则只SELECT一次；
+ * 没有声明时与JedisFactory相同，切回连接池配置的库，直接使用连接池的代码不受影响。
+ */
+public class DatabaseJedisFactory implements PooledObjectFactory<Jedis> {
+
+    private static final ThreadLocal<Integer> REQUESTED = new ThreadLocal<>();
+
+    private final PooledObjectFactory<Jedis> delegate;
+
+    public DatabaseJedisFactory(PooledObjectFactory<Jedis> delegate) {
+        this.delegate = delegate;
+    }
+
+    static PooledObjectFactory<Jedis> wrap(PooledObjectFactory<Jedis> factory) {
+        return factory instanceof DatabaseJedisFactory ? factory : new DatabaseJedisFactory(factory);
+    }
+
+    /**
+     * 声明当前线程接下来借出的连接要使用的库，必须在finally中把返回值传给restore
+     * @return 之前声明的库，没有时为-1
+     */
+    public static int request(int database) {
+        Integer previous = REQUESTED.get();
+        REQUESTED.set(database);
+        return previous == null ? -1 : previous;
+    }
+
+    public static void restore(int previous) {
+        if(previous < 0) {
+            REQUESTED.remove();
+        } else {
+            REQUESTED.set(previous);
+        }
+    }
+
+    @Override
+    public void activateObject(PooledObject<Jedis> p) throws Exception {
+        Integer requested = REQUESTED.get();
+        if(requested == null) {
+            delegate.activateObject(p);
+            return;
+        }
+        int database = requested;
+        Jedis jedis = p.getObject();
+        if(jedis.getDB() != database) {
+            jedis.select(database);
+        }
+    }
+
+    @Override
+    public PooledObject<Jedis> makeObject() throws Exception {
+        return delegate.makeObject();
+    }
+
+    @Override
+    public void destroyObject(PooledObject<Jedis> p) throws Exception {
+        delegate.destroyObject(p);
+    }
+
+    @Override
+    public boolean validateObject(PooledObject<Jedis> p) {
+        return delegate.validateObject(p);
+    }
+
+    @Override
+    public void passivateObject(PooledObject<Jedis> p) throws Exception {
+        delegate.passivateObject(p);
+    }
+}
@@ -0,0 +1,330 @@
+package com.xps.tools.redis.pool;
+
+import redis.clients.jedis.Jedis;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * execute回调中连接占用时间的跟踪，用来定位连接池耗尽的根源：
+ * <ul>
+ *     <li>每借出sampleInterval次采样一次借出时的调用栈，其余借出只记录线程和时间</li>
+ *     <li>后台每半个阈值检查一次，占用超过阈值仍未归还的连接记录持有线程当前的调用栈并告警一次</li>
+ *     <li>归还时占用超过阈值的按调用位置累计，getTopSites返回次数最多的调用位置</li>
+ *     <li>借出时连接上已有未读取的响应，说明连接归还后仍被回调泄漏出去的引用使用过(或回调留下了未读的pipeline响应)，
+ *     该连接作为坏连接丢弃。这只是启发式检查，见hasUnreadReplies</li>
+ * </ul>
+ * 单机/哨兵客户端和分片客户端各用一个实例，分别由RedisPoolConfig(RedisSentinelPoolConfig)和RedisShardedPoolConfig配置。
+ */
+public class LeakDetector {
+
+    /**
+     * 一次借出
+     */
+    public static final class Lease {
+        private final Thread owner;
+        private final long startNanos;
+        private final Throwable borrowStack;
+        private volatile boolean flagged;
+
+        Lease(Thread owner, long startNanos, Throwable borrowStack) {
+            this.owner = owner;
+            this.startNanos = startNanos;
+            this.borrowStack = borrowStack;
+        }
+    }
+
+    /**
+     * 占用连接超过阈值的调用位置
+     */
+    public static final class CallSite {
+        private final String site;
+        private final StackTraceElement[] stack;
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong maxHoldMillis = new AtomicLong();
+
+        CallSite(String site, StackTraceElement[] stack) {
+            this.site = site;
+            this.stack = stack;
+        }
+
+        public String getSite() {
+            return site;
+        }
+
+        /**
+         * @return 第一次记录到的完整调用栈
+         */
+        public StackTraceElement[] getStack() {
+            return stack.clone();
+        }
+
+        public long getCount() {
+            return count.get();
+        }
+
+        public long getMaxHoldMillis() {
+            return maxHoldMillis.get();
+        }
+
+        @Override
+        public String toString() {
+            return site + " count=" + count + " maxHoldMillis=" + maxHoldMillis;
+        }
+    }
+
+    /**
+     * execute调用链上的类，确定调用位置时跳过
+     */
+    private static final String[] INTERNAL_PREFIXES = {"java.", "javax.", "sun.", "jdk.", "redis.clients.",
+            "org.apache.commons.", "com.xps.tools.redis.impl."};
+    private static final String[] INTERNAL_CLASSES = {"com.xps.tools.redis.codec.CodecRedisClientImpl",
+            "com.xps.tools.redis.pool.LeakDetector", "com.xps.tools.redis.resilience.HedgePolicy",
+            "com.xps.tools.redis.resilience.RetryPolicy", "com.xps.tools.redis.shard.ShardMigration"};
+    private static final int MAX_SITES = 1000;
+
+    private final Logger logger = Logger.getLogger(this.getClass().getName());
+    private final long thresholdNanos;
+    private final int sampleInterval;
+    private final Set<Lease> leases = Collections.newSetFromMap(new ConcurrentHashMap<Lease, Boolean>());
+    private final ConcurrentMap<String, CallSite> sites = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    private final AtomicLong borrowed = new AtomicLong();
+    private final AtomicLong longHolds = new AtomicLong();
+    private final AtomicLong stuck = new AtomicLong();
+    private final AtomicLong usedAfterRelease = new AtomicLong();
+    private final AtomicLong maxHoldNanos = new AtomicLong();
+
+    /**
+     * @param thresholdMillis 占用超过该毫秒数视为长时间占用
+     * @param sampleInterval 每借出该次数采样一次借出时的调用栈，小于等于0时不采样
+     */
+    public LeakDetector(long thresholdMillis, int sampleInterval) {
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, thresholdMillis));
+        this.sampleInterval = sampleInterval;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "redis-leak-detector");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        long interval = Math.max(1, thresholdMillis / 2);
+        scheduler.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    check();
+                } catch (RuntimeException e) {
+                    logger.log(Level.WARNING, "检查连接占用失败", e);
+                }
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 配置了阈值时创建，否则返回null
+     */
+    public static LeakDetector of(long thresholdMillis, int sampleInterval) {
+        return thresholdMillis > 0 ? new LeakDetector(thresholdMillis, sampleInterval) : null;
+    }
+
+    /**
+     * 借出连接后调用，返回的Lease必须在归还连接前传给release
+     */
+    public Lease acquire() {
+        long count = borrowed.incrementAndGet();
+        Throwable stack = sampleInterval > 0 && count % sampleInterval == 0 ? new Throwable("borrowed here") : null;
+        Lease lease = new Lease(Thread.currentThread(), System.nanoTime(), stack);
+        leases.add(lease);
+        return lease;
+    }
+
+    public void release(Lease lease) {
+        leases.remove(lease);
+        long held = System.nanoTime() - lease.startNanos;
+        long max = maxHoldNanos.get();
+        while(held > max && !maxHoldNanos.compareAndSet(max, held)) {
+            max = maxHoldNanos.get();
+        }
+        if(held < thresholdNanos) {
+            return;
+        }
+        longHolds.incrementAndGet();
+        //execute是同步调用，归还时的调用栈与借出时相同；后台检查已经计入的不再重复计数
+        StackTraceElement[] stack = lease.borrowStack != null ? lease.borrowStack.getStackTrace() : new Throwable().getStackTrace();
+        this.record(stack, TimeUnit.NANOSECONDS.toMillis(held), !lease.flagged);
+    }
+
+    /**
+     * 借出时检查连接上是否有未读取的响应。这是启发式检查，不跟踪连接的归属：
+     * 只能发现归还后被使用、且响应在借出时已经到达本地socket缓冲区的情况；借出之后才被泄漏的引用使用、
+     * 只发送了命令而响应尚未到达、或泄漏的引用自己读走了响应，都发现不了，这些情况下两个线程的响应可能互相错乱。
+     * 没有发现并不说明没有泄漏，发现时也无法定位是哪一次调用泄漏的
+     * @return true表示连接状态已不可信，调用方应作为坏连接归还并重新借出
+     */
+    public boolean hasUnreadReplies(Jedis jedis) {
+        if(!jedis.isConnected()) {
+            return false;
+        }
+        try {
+            Socket socket = jedis.getClient().getSocket();
+            if(socket.getInputStream().available() <= 0) {
+                return false;
+            }
+        } catch (IOException | RuntimeException e) {
+            return false;
+        }
+        usedAfterRelease.incrementAndGet();
+        logger.log(Level.WARNING, "借出的连接上有未读取的响应，连接归还后可能仍被使用，已丢弃该连接",
+                new Throwable("borrowed here"));
+        return true;
+    }
+
+    void check() {
+        long now = System.nanoTime();
+        for(Lease lease : leases) {
+            long held = now - lease.startNanos;
+            if(lease.flagged || held < thresholdNanos) {
+                continue;
+            }
+            lease.flagged = true;
+            stuck.incrementAndGet();
+            StackTraceElement[] stack = lease.borrowStack != null ? lease.borrowStack.getStackTrace() : lease.owner.getStackTrace();
+            CallSite site = this.record(stack, TimeUnit.NANOSECONDS.toMillis(held), true);
+            logger.warning("线程[" + lease.owner.getName() + "]占用连接已超过" + TimeUnit.NANOSECONDS.toMillis(held)
+                    + "毫秒仍未归还，调用位置：" + site.getSite());
+        }
+    }
+
+    private CallSite record(StackTraceElement[] stack, long heldMillis, boolean count) {
+        String key = siteOf(stack);
+        CallSite site = sites.get(key);
+        if(site == null) {
+            if(sites.size() >= MAX_SITES) {
+                key = "(other)";
+            }
+            CallSite created = new CallSite(key, stack);
+            site = sites.putIfAbsent(key, created);
+            if(site == null) {
+                site = created;
+            }
+        }
+        if(count) {
+            site.count.incrementAndGet();
+        }
+        long max = site.maxHoldMillis.get();
+        while(heldMillis > max && !site.maxHoldMillis.compareAndSet(max, heldMillis)) {
+            max = site.maxHoldMillis.get();
+        }
+        return site;
+    }
+
+    /**
+     * @return 调用栈中第一个不在execute调用链上的位置
+     */
+    static String siteOf(StackTraceElement[] stack) {
+        for(StackTraceElement element : stack) {
+            if(!isInternal(element.getClassName())) {
+                return format(element);
+            }
+        }
+        return stack.length > 0 ? format(stack[stack.length - 1]) : "(unknown)";
+    }
+
+    /**
+     * 不使用StackTraceElement.toString，其中的类加载器和模块信息随调用栈的来源不同而不同
+     */
+    private static String format(StackTraceElement element) {
+        return element.getClassName() + "." + element.getMethodName() + "(" + element.getFileName() + ":"
+                + element.getLineNumber() + ")";
+    }
+
+    private static boolean isInternal(String className) {
+        for(String prefix : INTERNAL_PREFIXES) {
+            if(className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        for(String internal : INTERNAL_CLASSES) {
+            if(className.equals(internal) || className.startsWith(internal + "$")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return 长时间占用连接次数最多的limit个调用位置
+     */
+    public List<CallSite> getTopSites(int limit) {
+        List<CallSite> list = new ArrayList<>(sites.values());
+        Collections.sort(list, new Comparator<CallSite>() {
+            @Override
+            public int compare(CallSite a, CallSite b) {
+                int byCount = Long.compare(b.getCount(), a.getCount());
+                return byCount != 0 ? byCount : Long.compare(b.getMaxHoldMillis(), a.getMaxHoldMillis());
+            }
+        });
+        return list.size() > limit ? new ArrayList<>(list.subList(0, limit)) : list;
+    }
+
+    /**
+     * @return 当前借出未归还的数量
+     */
+    public int getActive() {
+        return leases.size();
+    }
+
+    /**
+     * @return 归还时占用超过阈值的次数
+     */
+    public long getLongHolds() {
+        return longHolds.get();
+    }
+
+    /**
+     * @return 后台检查发现占用超过阈值仍未归还的次数
+     */
+    public long getStuck() {
+        return stuck.get();
+    }
+
+    /**
+     * @return 借出时发现连接上有未读响应(疑似归还后仍被使用)的次数
+     */
+    public long getUsedAfterRelease() {
+        return usedAfterRelease.get();
+    }
+
+    public long getMaxHoldMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxHoldNanos.get());
+    }
+
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public String toString() {
+        return "LeakDetector{active=" + leases.size() + ", longHolds=" + longHolds + ", stuck=" + stuck
+                + ", usedAfterRelease=" + usedAfterRelease + ", maxHoldMillis=" + this.getMaxHoldMillis()
+                + ", topSites=" + this.getTopSites(5) + "}";
+    }
+}
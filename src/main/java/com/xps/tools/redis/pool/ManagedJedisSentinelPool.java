@@ -0,0 +1,177 @@
+package com.xps.tools.redis.pool;
+
+import org.apache.commons.pool2.PooledObjectFactory;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisSentinelPool;
+
+import java.util.Set;
+
+/**
+ * 在JedisSentinelPool的基础上支持按调用指定借连接的等待时间、运行中调整连接数上限和线程亲和的连接缓存，
+ * 与JedisSentinelPool一致，借到的连接不是当前master时(故障转移中)作废重借
+ */
+public class ManagedJedisSentinelPool extends JedisSentinelPool implements TimedPool<Jedis>, ResizablePool {
+
+    private volatile ThreadAffinity threadAffinity;
+
+    public ManagedJedisSentinelPool(String masterName, Set<String> sentinels, GenericObjectPoolConfig poolConfig,
+                                    int connectionTimeout, int soTimeout, String password, int database, String clientName) {
+        super(masterName, sentinels, poolConfig, connectionTimeout, soTimeout, password, database, clientName);
+    }
+
+    @Override
+    public Jedis getResource() {
+        ThreadAffinity affinity = this.threadAffinity;
+        if(affinity == null) {
+            return super.getResource();
+        }
+        Jedis jedis = this.cachedMaster(affinity);
+        if(jedis == null) {
+            jedis = super.getResource();
+            affinity.adopt(jedis);
+        }
+        return jedis;
+    }
+
+    @Override
+    public Jedis getResource(long maxWaitMillis) {
+        ThreadAffinity affinity = this.threadAffinity;
+        Jedis cached = affinity == null ? null : this.cachedMaster(affinity);
+        if(cached != null) {
+            return cached;
+        }
+        while(true) {
+            Jedis jedis = Pools.borrowObject(internalPool, maxWaitMillis);
+            jedis.setDataSource(this);
+            if(this.isMaster(jedis)) {
+                if(affinity != null) {
+                    affinity.adopt(jedis);
+                }
+                return jedis;
+            }
+            this.returnBrokenResource(jedis);
+        }
+    }
+
+    /**
+     * 故障转移后线程缓存的旧master连接作废
+     */
+    private Jedis cachedMaster(ThreadAffinity affinity) {
+        Jedis jedis = affinity.acquire();
+        if(jedis != null && !this.isMaster(jedis)) {
+            this.returnBrokenResource(jedis);
+            return null;
+        }
+        return jedis;
+    }
+
+    private boolean isMaster(Jedis jedis) {
+        HostAndPort master = this.getCurrentHostMaster();
+        return master.getHost().equals(jedis.getClient().getHost()) && master.getPort() == jedis.getClient().getPort();
+    }
+
+    /**
+     * 直接从共享连接池借出，不使用也不加入线程亲和的连接缓存，用于预热
+     */
+    Jedis getSharedResource() {
+        return super.getResource();
+    }
+
+    /**
+     * 开启线程亲和的连接缓存，每个线程缓存一个连接，最多maxCached个，小于等于0时关闭，见ThreadAffinity。
+     * 关闭时空闲的缓存连接立即归还，使用中的用完后归还
+     */
+    public void setThreadAffineConnections(int maxCached) {
+        ThreadAffinity old = this.threadAffinity;
+        this.threadAffinity = maxCached > 0 ? new ThreadAffinity(this, maxCached) : null;
+        if(old != null) {
+            old.drain();
+        }
+    }
+
+    /**
+     * @return 当前被线程缓存的连接数
+     */
+    public int getThreadAffineConnections() {
+        ThreadAffinity affinity = this.threadAffinity;
+        return affinity == null ? 0 : affinity.getCached();
+    }
+
+    /**
+     * @return 直接使用线程缓存连接、没有经过共享连接池的借出次数
+     */
+    public long getThreadAffineHits() {
+        ThreadAffinity affinity = this.threadAffinity;
+        return affinity == null ? 0 : affinity.getHits();
+    }
+
+    /**
+     * Pool的归还方法对调用方已废弃，但Jedis.close()仍通过它们归还，这里必须覆盖
+     */
+    @Override
+    @SuppressWarnings("deprecation")
+    public void returnResource(Jedis resource) {
+        ThreadAffinity affinity = this.threadAffinity;
+        if(affinity != null && resource != null && affinity.isCached(resource)) {
+            //标记空闲后连接可能立即被drain归还，必须先重置状态
+            resource.resetState();
+            if(affinity.release(resource)) {
+                return;
+            }
+        }
+        super.returnResource(resource);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void returnBrokenResource(Jedis resource) {
+        ThreadAffinity affinity = this.threadAffinity;
+        if(affinity != null && resource != null) {
+            affinity.discard(resource);
+        }
+        super.returnBrokenResource(resource);
+    }
+
+    @Override
+    public void destroy() {
+        ThreadAffinity affinity = this.threadAffinity;
+        if(affinity != null) {
+            affinity.drain();
+        }
+        super.destroy();
+    }
+
+    @Override
+    public void initPool(GenericObjectPoolConfig poolConfig, PooledObjectFactory<Jedis> factory) {
+        super.initPool(poolConfig, RecentUseJedisFactory.wrap(poolConfig, DatabaseJedisFactory.wrap(factory)));
+    }
+
+    /**
+     * 连接出错后调用，尽快剔除池中已断开的空闲连接，见RecentUseJedisFactory
+     */
+    public void evictSuspects() {
+        RecentUseJedisFactory.evictSuspects(internalPool);
+    }
+
+    @Override
+    public long getMaxWaitMillis() {
+        return internalPool.getMaxWaitMillis();
+    }
+
+    @Override
+    public int getMaxTotal() {
+        return internalPool.getMaxTotal();
+    }
+
+    @Override
+    public void setMaxTotal(int maxTotal) {
+        internalPool.setMaxTotal(maxTotal);
+    }
+
+    @Override
+    public void setMaxIdle(int maxIdle) {
+        internalPool.setMaxIdle(maxIdle);
+    }
+}
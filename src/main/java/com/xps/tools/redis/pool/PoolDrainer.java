@@ -0,0 +1,94 @@
+package com.xps.tools.redis.pool;
+
+import redis.clients.util.Pool;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 平滑关闭被替换下来的连接池：在后台等待借出的连接全部归还(最多timeoutMillis)后再关闭，
+ * 切换前已经借出连接的调用照常执行完成，不会因为连接池关闭而失败。
+ * 超时后仍未归还的连接在归还时由已关闭的连接池直接断开。
+ * 线程亲和的缓存连接一直算作借出，等待前先关闭旧连接池的线程亲和缓存，否则借出数永远不会归零。
+ */
+public final class PoolDrainer {
+
+    public static final long DEFAULT_TIMEOUT_MILLIS = 30000L;
+
+    private static final long POLL_MILLIS = 50L;
+    private static final Logger logger = Logger.getLogger(PoolDrainer.class.getName());
+
+    private PoolDrainer() {
+    }
+
+    /**
+     * 在后台线程中等待并关闭pool
+     * @return 执行关闭的后台线程
+     */
+    public static Thread drain(Pool<?> pool, long timeoutMillis) {
+        return drain(pool, timeoutMillis, null);
+    }
+
+    /**
+     * @param onClosed 不为空时在pool关闭后执行，用来关闭依附于旧连接池的其它资源
+     */
+    public static Thread drain(final Pool<?> pool, final long timeoutMillis, final Runnable onClosed) {
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                drainNow(pool, timeoutMillis);
+                if(onClosed != null) {
+                    onClosed.run();
+                }
+            }
+        }, "redis-pool-drain");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * 在当前线程中等待并关闭pool
+     * @return 借出的连接在超时前全部归还返回true
+     */
+    public static boolean drainNow(Pool<?> pool, long timeoutMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        releaseThreadAffineConnections(pool);
+        boolean drained = false;
+        try {
+            //切换前刚拿到旧连接池引用的调用可能还没借出连接，至少等待一个周期
+            do {
+                Thread.sleep(POLL_MILLIS);
+                drained = numActive(pool) <= 0;
+            } while(!drained && System.nanoTime() < deadline);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if(!drained) {
+            logger.warning("旧连接池超过" + timeoutMillis + "毫秒仍有" + numActive(pool) + "个连接未归还，直接关闭");
+        }
+        try {
+            pool.close();
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "关闭旧连接池失败", e);
+        }
+        return drained;
+    }
+
+    private static void releaseThreadAffineConnections(Pool<?> pool) {
+        if(pool instanceof ManagedJedisPool) {
+            ((ManagedJedisPool) pool).setThreadAffineConnections(0);
+        } else if(pool instanceof ManagedJedisSentinelPool) {
+            ((ManagedJedisSentinelPool) pool).setThreadAffineConnections(0);
+        }
+    }
+
+    private static int numActive(Pool<?> pool) {
+        try {
+            return pool.getNumActive();
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.xps.tools.redis.pool;
+
+import com.xps.tools.redis.script.ScriptRegistry;
+import redis.clients.jedis.Jedis;
+import redis.clients.util.Pool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 连接池预热：并行借出connections个连接(建立TCP连接、AUTH、SELECT)，逐个PING确认可用，
+ * 可选地加载已注册的lua脚本(第一个连接上加载失败时换下一个连接重试)，全部完成后一起归还，使连接池中有足够的空闲连接。
+ * 借出的连接在预热结束前不归还，保证建立的是connections个不同的连接；
+ * 预热直接从共享连接池借连接，不经过线程亲和的连接缓存，否则连接会留在预热线程的缓存中。
+ */
+public class PoolWarmUp {
+
+    private static final int MAX_PARALLELISM = 16;
+
+    private final Logger logger = Logger.getLogger(this.getClass().getName());
+    private final Pool<Jedis> pool;
+    private final int connections;
+    private final ScriptRegistry scriptRegistry;
+    private final CountDownLatch done = new CountDownLatch(1);
+    private final AtomicInteger opened = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private volatile Throwable failure;
+    private volatile long readyMillis = -1;
+
+    /**
+     * @param scriptRegistry 不为空时加载其中已注册的脚本
+     */
+    public PoolWarmUp(Pool<Jedis> pool, int connections, ScriptRegistry scriptRegistry) {
+        this.pool = pool;
+        this.connections = Math.max(0, connections);
+        this.scriptRegistry = scriptRegistry;
+    }
+
+    /**
+     * 在后台线程中开始预热
+     */
+    public PoolWarmUp start() {
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                warmUp();
+            }
+        }, "redis-pool-warmup");
+        thread.setDaemon(true);
+        thread.start();
+        return this;
+    }
+
+    private void warmUp() {
+        long start = System.nanoTime();
+        final Queue<Jedis> borrowed = new ConcurrentLinkedQueue<>();
+        final AtomicBoolean scriptsLoaded = new AtomicBoolean(scriptRegistry == null || scriptRegistry.getScripts().isEmpty());
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(connections, MAX_PARALLELISM)),
+                new ThreadFactory() {
+                    private final AtomicInteger sequence = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        Thread thread = new Thread(r, "redis-pool-warmup-" + sequence.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+        try {
+            List<Future<?>> futures = new ArrayList<>(connections);
+            for(int i = 0; i < connections; i++) {
+                futures.add(executor.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        open(borrowed, scriptsLoaded);
+                    }
+                }));
+            }
+            for(Future<?> future : futures) {
+                future.get();
+            }
+            if(!scriptsLoaded.get()) {//没有可用连接时脚本留给执行时按NOSCRIPT兜底加载
+                logger.warning("连接池预热时没有加载lua脚本");
+            }
+        } catch (Exception e) {
+            failure = e;
+            logger.log(Level.WARNING, "连接池预热中断", e);
+        } finally {
+            executor.shutdownNow();
+            for(Jedis jedis : borrowed) {
+                jedis.close();
+            }
+            readyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            logger.info("连接池预热完成，" + this);
+            done.countDown();
+        }
+    }
+
+    private void open(Queue<Jedis> borrowed, AtomicBoolean scriptsLoaded) {
+        Jedis jedis = null;
+        try {
+            jedis = borrowShared(pool);
+            jedis.ping();
+            if(!scriptsLoaded.get()) {
+                synchronized (scriptsLoaded) {//加载成功后才置位，失败时由下一个连接重试
+                    if(!scriptsLoaded.get() && scriptRegistry.preload(jedis)) {
+                        scriptsLoaded.set(true);
+                    }
+                }
+            }
+            borrowed.add(jedis);
+            opened.incrementAndGet();
+        } catch (RuntimeException e) {
+            failed.incrementAndGet();
+            failure = e;
+            if(jedis != null) {
+                jedis.close();
+            }
+            logger.log(Level.WARNING, "预热连接失败", e);
+        }
+    }
+
+    private static Jedis borrowShared(Pool<Jedis> pool) {
+        if(pool instanceof ManagedJedisPool) {
+            return ((ManagedJedisPool) pool).getSharedResource();
+        }
+        if(pool instanceof ManagedJedisSentinelPool) {
+            return ((ManagedJedisSentinelPool) pool).getSharedResource();
+        }
+        return pool.getResource();
+    }
+
+    /**
+     * 等待预热结束
+     * @return 超时返回false
+     */
+    public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+        return done.await(timeout, unit);
+    }
+
+    /**
+     * @return 预热已结束且所有连接都建立成功
+     */
+    public boolean isReady() {
+        return done.getCount() == 0 && failed.get() == 0 && failure == null;
+    }
+
+    /**
+     * @return 从开始预热到结束的毫秒数(time-to-ready)，尚未结束时返回-1
+     */
+    public long getReadyMillis() {
+        return readyMillis;
+    }
+
+    public int getOpened() {
+        return opened.get();
+    }
+
+    public int getFailed() {
+        return failed.get();
+    }
+
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return "PoolWarmUp{connections=" + connections + ", opened=" + opened + ", failed=" + failed
+                + ", readyMillis=" + readyMillis + "}";
+    }
+}
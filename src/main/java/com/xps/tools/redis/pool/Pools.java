@@ -0,0 +1,94 @@
+package com.xps.tools.redis.pool;
+
+import com.xps.tools.redis.resilience.Deadline;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import redis.clients.jedis.Client;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.util.Pool;
+
+import java.util.NoSuchElementException;
+
+/**
+ * 借还连接的公共逻辑：按当前线程的截止时间限制借连接的等待，以及单次调用的读超时
+ */
+public final class Pools {
+
+    private Pools() {
+    }
+
+    /**
+     * 借出资源：截止时间已过时直接失败不排队；有截止时间且连接池支持时，等待时间不超过剩余时间
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T borrow(Pool<T> pool) {
+        Deadline.checkNotExpired();
+        if(Deadline.current() == null || !(pool instanceof TimedPool)) {
+            return pool.getResource();
+        }
+        TimedPool<T> timedPool = (TimedPool<T>) pool;
+        return timedPool.getResource(Deadline.borrowWaitMillis(timedPool.getMaxWaitMillis()));
+    }
+
+    /**
+     * 连接出错后调用：ManagedJedisPool和ManagedJedisSentinelPool在后台校验并剔除已断开的空闲连接，其它连接池不做处理
+     */
+    public static void evictSuspects(Pool<Jedis> pool) {
+        if(pool instanceof ManagedJedisPool) {
+            ((ManagedJedisPool) pool).evictSuspects();
+        } else if(pool instanceof ManagedJedisSentinelPool) {
+            ((ManagedJedisSentinelPool) pool).evictSuspects();
+        }
+    }
+
+    /**
+     * 按指定等待时间从commons-pool借出，异常处理与Pool.getResource一致
+     */
+    public static <T> T borrowObject(GenericObjectPool<T> internalPool, long maxWaitMillis) {
+        try {
+            return internalPool.borrowObject(maxWaitMillis);
+        } catch (NoSuchElementException e) {
+            throw new JedisException("Could not get a resource from the pool", e);
+        } catch (Exception e) {
+            throw new JedisConnectionException("Could not get a resource from the pool", e);
+        }
+    }
+
+    /**
+     * 按命令单独配置的超时和当前线程的截止时间设置本次调用的读超时
+     * @param commandTimeout 命令单独配置的超时，为null时使用连接原有的超时
+     * @return 调用前的读超时，需要用restoreSocketTimeout恢复；没有修改时返回-1
+     */
+    public static int applySocketTimeout(Jedis jedis, Integer commandTimeout) {
+        if(commandTimeout == null && Deadline.current() == null) {
+            return -1;
+        }
+        Client client = jedis.getClient();
+        int original = client.getSoTimeout();
+        int timeout = Deadline.socketTimeoutMillis(commandTimeout == null ? original : commandTimeout);
+        if(timeout == original) {
+            return -1;
+        }
+        client.setSoTimeout(timeout);
+        if(client.isConnected()) {
+            client.rollbackTimeout();
+        }
+        return original;
+    }
+
+    public static void restoreSocketTimeout(Jedis jedis, int original) {
+        if(original < 0) {
+            return;
+        }
+        Client client = jedis.getClient();
+        client.setSoTimeout(original);
+        if(client.isConnected() && !client.isBroken()) {
+            try {
+                client.rollbackTimeout();
+            } catch (JedisConnectionException e) {
+                //连接已损坏，归还时会被销毁
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.xps.tools.redis.pool;
+
+/**
+ * 借连接的优先级：连接池饱和时按INTERACTIVE、NORMAL、BACKGROUND的顺序分配空出来的连接
+ */
+public enum Priority {
+    /**面向用户的请求，对延迟敏感*/
+    INTERACTIVE,
+    /**默认优先级*/
+    NORMAL,
+    /**批处理、后台任务*/
+    BACKGROUND
+}
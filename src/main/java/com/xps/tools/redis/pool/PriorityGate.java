@@ -0,0 +1,289 @@
+package com.xps.tools.redis.pool;
+
+import com.xps.tools.redis.exceptions.RedisToolsException;
+import com.xps.tools.redis.resilience.Deadline;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 按优先级借连接：放在连接池前面，许可数等于连接池的maxTotal，连接池上限调整时用setPermits同步。许可未用完时直接通过；
+ * 用完后按优先级排队，每释放一个许可交给优先级最高的等待者，同一优先级内先到先得。
+ * 为避免低优先级饿死，等待者每等待agingMillis提升一级，提升到同一级后等待更久的先得。
+ * 排队等待时间与连接池的maxWaitMillis一致，同时受当前线程的截止时间限制，超时的异常与连接池耗尽时相同。
+ */
+public class PriorityGate {
+
+    private static final class Waiter {
+        private final Priority priority;
+        private final long enqueuedNanos;
+        private final Condition condition;
+        private boolean granted;
+
+        Waiter(Priority priority, long enqueuedNanos, Condition condition) {
+            this.priority = priority;
+            this.enqueuedNanos = enqueuedNanos;
+            this.condition = condition;
+        }
+    }
+
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<Waiter>[] queues;
+    private final long agingNanos;
+    private final long maxWaitMillis;
+    private int permits;
+    /**缩小许可数时可能为负，之后归还的许可先抵扣*/
+    private int available;
+
+    private final AtomicLong[] acquired = new AtomicLong[PRIORITIES.length];
+    private final AtomicLong[] waitNanos = new AtomicLong[PRIORITIES.length];
+    private final AtomicLong[] maxWaitNanos = new AtomicLong[PRIORITIES.length];
+    private final AtomicLong[] timeouts = new AtomicLong[PRIORITIES.length];
+
+    /**
+     * @param permits 同时借出的连接数，取连接池的maxTotal
+     * @param agingMillis 等待者每等待该毫秒数提升一级，小于等于0时不提升
+     * @param maxWaitMillis 排队的最长等待时间，小于0表示一直等待
+     */
+    public PriorityGate(int permits, long agingMillis, long maxWaitMillis) {
+        this.permits = permits;
+        this.available = permits;
+        this.agingNanos = agingMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(agingMillis) : Long.MAX_VALUE;
+        this.maxWaitMillis = maxWaitMillis;
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        ArrayDeque<Waiter>[] queues = new ArrayDeque[PRIORITIES.length];
+        this.queues = queues;
+        for(int i = 0; i < PRIORITIES.length; i++) {
+            queues[i] = new ArrayDeque<>();
+            acquired[i] = new AtomicLong();
+            waitNanos[i] = new AtomicLong();
+            maxWaitNanos[i] = new AtomicLong();
+            timeouts[i] = new AtomicLong();
+        }
+    }
+
+    /**
+     * 获取一个许可，成功后必须调用release
+     * @param priority 为空时按NORMAL处理
+     */
+    public void acquire(Priority priority) {
+        if(priority == null) {
+            priority = Priority.NORMAL;
+        }
+        Deadline.checkNotExpired();
+        long start = System.nanoTime();
+        Waiter waiter;
+        lock.lock();
+        try {
+            if(available > 0 && this.noWaiters()) {
+                available--;
+                this.record(priority, 0);
+                return;
+            }
+            waiter = new Waiter(priority, start, lock.newCondition());
+            queues[priority.ordinal()].addLast(waiter);
+            long wait = Deadline.borrowWaitMillis(maxWaitMillis);
+            long remaining = TimeUnit.MILLISECONDS.toNanos(wait);
+            try {
+                while(!waiter.granted) {
+                    if(wait < 0) {
+                        waiter.condition.await();
+                    } else if(remaining > 0) {
+                        remaining = waiter.condition.awaitNanos(remaining);
+                    } else {
+                        break;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                this.abandon(waiter);
+                throw new RedisToolsException("等待连接时线程被中断", e);
+            }
+            if(!waiter.granted) {
+                queues[priority.ordinal()].remove(waiter);
+                timeouts[priority.ordinal()].incrementAndGet();
+                throw new JedisException("Could not get a resource from the pool",
+                        new NoSuchElementException("Timeout waiting for " + priority + " permit"));
+            }
+        } finally {
+            lock.unlock();
+        }
+        this.record(priority, System.nanoTime() - start);
+    }
+
+    /**
+     * 中断时已经分到的许可转交给下一个等待者
+     */
+    private void abandon(Waiter waiter) {
+        if(waiter.granted) {
+            this.handOff();
+        } else {
+            queues[waiter.priority.ordinal()].remove(waiter);
+        }
+    }
+
+    public void release() {
+        lock.lock();
+        try {
+            this.handOff();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 调整许可数：增大时立即分给排队的等待者；减小时不收回已借出的许可，之后归还时抵扣
+     */
+    public void setPermits(int permits) {
+        lock.lock();
+        try {
+            available += permits - this.permits;
+            this.permits = permits;
+            long now = System.nanoTime();
+            while(available > 0) {
+                Waiter next = this.next(now);
+                if(next == null) {
+                    return;
+                }
+                available--;
+                this.grant(next);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void handOff() {
+        if(available < 0) {
+            available++;
+            return;
+        }
+        Waiter next = this.next(System.nanoTime());
+        if(next == null) {
+            available++;
+            return;
+        }
+        this.grant(next);
+    }
+
+    private void grant(Waiter next) {
+        queues[next.priority.ordinal()].pollFirst();
+        next.granted = true;
+        next.condition.signal();
+    }
+
+    /**
+     * 各优先级队首中有效优先级最高的等待者，有效优先级相同时等待更久的优先
+     */
+    private Waiter next(long now) {
+        Waiter best = null;
+        long bestRank = Long.MAX_VALUE;
+        for(ArrayDeque<Waiter> queue : queues) {
+            Waiter head = queue.peekFirst();
+            if(head == null) {
+                continue;
+            }
+            long rank = Math.max(0, head.priority.ordinal() - (now - head.enqueuedNanos) / agingNanos);
+            if(rank < bestRank || (rank == bestRank && head.enqueuedNanos < best.enqueuedNanos)) {
+                best = head;
+                bestRank = rank;
+            }
+        }
+        return best;
+    }
+
+    private boolean noWaiters() {
+        for(ArrayDeque<Waiter> queue : queues) {
+            if(!queue.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void record(Priority priority, long nanos) {
+        int i = priority.ordinal();
+        acquired[i].incrementAndGet();
+        if(nanos <= 0) {
+            return;
+        }
+        waitNanos[i].addAndGet(nanos);
+        long max = maxWaitNanos[i].get();
+        while(nanos > max && !maxWaitNanos[i].compareAndSet(max, nanos)) {
+            max = maxWaitNanos[i].get();
+        }
+    }
+
+    /**
+     * @return 该优先级当前排队的线程数
+     */
+    public int getWaiting(Priority priority) {
+        lock.lock();
+        try {
+            return queues[priority.ordinal()].size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getPermits() {
+        lock.lock();
+        try {
+            return permits;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getAvailablePermits() {
+        lock.lock();
+        try {
+            return available;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getAcquired(Priority priority) {
+        return acquired[priority.ordinal()].get();
+    }
+
+    /**
+     * @return 该优先级获取许可的平均等待微秒数(包含不需要等待的)
+     */
+    public long getMeanWaitMicros(Priority priority) {
+        long count = acquired[priority.ordinal()].get();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(waitNanos[priority.ordinal()].get() / count);
+    }
+
+    public long getMaxWaitMicros(Priority priority) {
+        return TimeUnit.NANOSECONDS.toMicros(maxWaitNanos[priority.ordinal()].get());
+    }
+
+    /**
+     * @return 该优先级排队超时的次数
+     */
+    public long getTimeouts(Priority priority) {
+        return timeouts[priority.ordinal()].get();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("PriorityGate{permits=").append(this.getPermits())
+                .append(", available=").append(this.getAvailablePermits());
+        for(Priority priority : PRIORITIES) {
+            builder.append(", ").append(priority).append("={waiting=").append(this.getWaiting(priority))
+                    .append(", meanWaitMicros=").append(this.getMeanWaitMicros(priority))
+                    .append(", maxWaitMicros=").append(this.getMaxWaitMicros(priority))
+                    .append(", timeouts=").append(this.getTimeouts(priority)).append('}');
+        }
+        return builder.append('}').toString();
+    }
+}
@@ -0,0 +1,134 @@
+package com.xps.tools.redis.pool;
+
+import com.xps.tools.redis.config.RedisPoolConfig;
+import com.xps.tools.redis.config.RedisSentinelPoolConfig;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.PooledObjectFactory;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import redis.clients.jedis.Jedis;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 包装jedis的连接工厂，降低testOnBorrow的开销：连接在skipMillis内刚被正常归还过(上一次使用成功)时，
+ * 借出校验只检查连接状态，不再发送PING；空闲较久的连接仍然PING校验。
+ * 空闲连接由连接池的evictor在后台定期校验(testWhileIdle)。出现连接错误时调用evictSuspects，
+ * 之前归还的连接全部不再跳过校验，并在后台立即执行一轮空闲连接校验，尽快剔除已断开的连接。
+ */
+public class RecentUseJedisFactory implements PooledObjectFactory<Jedis> {
+
+    private static final long EVICT_INTERVAL_MILLIS = 1000L;
+    private static final Logger logger = Logger.getLogger(RecentUseJedisFactory.class.getName());
+    private static final ExecutorService EVICTOR = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "redis-pool-suspect-evictor");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private final PooledObjectFactory<Jedis> delegate;
+    private final long skipMillis;
+    private final AtomicLong suspectSince = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong validated = new AtomicLong();
+
+    public RecentUseJedisFactory(PooledObjectFactory<Jedis> delegate, long skipMillis) {
+        this.delegate = delegate;
+        this.skipMillis = skipMillis;
+    }
+
+    /**
+     * 配置了validationSkipMillis时包装factory，否则原样返回
+     */
+    static PooledObjectFactory<Jedis> wrap(GenericObjectPoolConfig poolConfig, PooledObjectFactory<Jedis> factory) {
+        long skipMillis = 0;
+        if(poolConfig instanceof RedisPoolConfig) {
+            skipMillis = ((RedisPoolConfig) poolConfig).getValidationSkipMillis();
+        } else if(poolConfig instanceof RedisSentinelPoolConfig) {
+            skipMillis = ((RedisSentinelPoolConfig) poolConfig).getValidationSkipMillis();
+        }
+        return skipMillis > 0 && !(factory instanceof RecentUseJedisFactory) ? new RecentUseJedisFactory(factory, skipMillis) : factory;
+    }
+
+    /**
+     * 连接出错后由调用方触发，每秒最多执行一次
+     */
+    static void evictSuspects(final GenericObjectPool<Jedis> internalPool) {
+        if(!(internalPool.getFactory() instanceof RecentUseJedisFactory)) {
+            return;
+        }
+        RecentUseJedisFactory factory = (RecentUseJedisFactory) internalPool.getFactory();
+        long now = System.currentTimeMillis();
+        long last = factory.suspectSince.get();
+        if(now - last < EVICT_INTERVAL_MILLIS || !factory.suspectSince.compareAndSet(last, now)) {
+            return;
+        }
+        EVICTOR.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    internalPool.evict();
+                } catch (Exception e) {
+                    logger.log(Level.FINE, "校验空闲连接失败", e);
+                }
+            }
+        });
+    }
+
+    @Override
+    public boolean validateObject(PooledObject<Jedis> p) {
+        Jedis jedis = p.getObject();
+        if(!jedis.isConnected() || jedis.getClient().isBroken()) {
+            return false;
+        }
+        long lastReturn = p.getLastReturnTime();
+        if(lastReturn > suspectSince.get() && System.currentTimeMillis() - lastReturn < skipMillis) {
+            skipped.incrementAndGet();
+            return true;
+        }
+        validated.incrementAndGet();
+        return delegate.validateObject(p);
+    }
+
+    @Override
+    public PooledObject<Jedis> makeObject() throws Exception {
+        return delegate.makeObject();
+    }
+
+    @Override
+    public void destroyObject(PooledObject<Jedis> p) throws Exception {
+        delegate.destroyObject(p);
+    }
+
+    @Override
+    public void activateObject(PooledObject<Jedis> p) throws Exception {
+        delegate.activateObject(p);
+    }
+
+    @Override
+    public void passivateObject(PooledObject<Jedis> p) throws Exception {
+        delegate.passivateObject(p);
+    }
+
+    /**
+     * @return 因最近使用过而跳过PING的校验次数
+     */
+    public long getSkipped() {
+        return skipped.get();
+    }
+
+    /**
+     * @return 实际发送PING的校验次数
+     */
+    public long getValidated() {
+        return validated.get();
+    }
+}
@@ -0,0 +1,22 @@
+package com.xps.tools.redis.pool;
+
+/**
+ * 运行中可以调整大小的连接池，统计方法与Pool一致
+ */
+public interface ResizablePool {
+
+    int getMaxTotal();
+
+    void setMaxTotal(int maxTotal);
+
+    void setMaxIdle(int maxIdle);
+
+    int getNumActive();
+
+    int getNumWaiters();
+
+    /**
+     * @return 最近若干次借连接的平均等待时间
+     */
+    long getMeanBorrowWaitTimeMillis();
+}
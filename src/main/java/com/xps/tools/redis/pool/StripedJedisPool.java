@@ -0,0 +1,377 @@
+package com.xps.tools.redis.pool;
+
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.util.Pool;
+
+import java.util.Collections;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 分段无锁的Jedis连接池，用法与JedisPool一致，用来替代多核高并发下竞争激烈的GenericObjectPool：
+ * <ul>
+ *     <li>空闲连接按线程分散在多个无锁栈(ConcurrentLinkedDeque)中，线程优先从自己的分段借还(后进先出)，没有时再从其它分段取</li>
+ *     <li>连接总数由非公平Semaphore控制，未耗尽时借出只有CAS，耗尽时按maxWaitMillis阻塞等待</li>
+ * </ul>
+ * 支持的配置：maxTotal、maxIdle、maxWaitMillis、blockWhenExhausted、testOnCreate、testOnBorrow、testOnReturn；
+ * 不支持空闲连接的后台驱逐(evictor)，空闲连接只在借出时按testOnBorrow校验。
+ */
+public class StripedJedisPool extends Pool<Jedis> implements TimedPool<Jedis> {
+
+    private static final int MAX_STRIPES = 64;
+
+    private final String host;
+    private final int port;
+    private final int timeout;
+    private final String password;
+    private final int database;
+    private final String clientName;
+    private final boolean ssl;
+
+    private final int maxTotal;
+    private final int maxIdle;
+    private final long maxWaitMillis;
+    private final boolean blockWhenExhausted;
+    private final boolean testOnCreate;
+    private final boolean testOnBorrow;
+    private final boolean testOnReturn;
+
+    private final Semaphore permits;
+    private final ConcurrentLinkedDeque<Jedis>[] stripes;
+    private final int mask;
+    private final AtomicInteger idle = new AtomicInteger();
+    /**借出中的连接，按对象身份识别，用来拒绝重复归还*/
+    private final Set<Jedis> lent = Collections.newSetFromMap(new ConcurrentHashMap<Jedis, Boolean>());
+    private final AtomicLong borrowed = new AtomicLong();
+    private final AtomicLong borrowWaitNanos = new AtomicLong();
+    private final AtomicLong maxBorrowWaitNanos = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong destroyed = new AtomicLong();
+    private volatile boolean closed;
+
+    public StripedJedisPool(GenericObjectPoolConfig poolConfig, String host, int port, int timeout, String password, boolean ssl) {
+        this(poolConfig, host, port, timeout, password, Protocol.DEFAULT_DATABASE, null, ssl);
+    }
+
+    public StripedJedisPool(GenericObjectPoolConfig poolConfig, String host, int port, int timeout, String password,
+                            int database, String clientName, boolean ssl) {
+        this.host = host;
+        this.port = port;
+        this.timeout = timeout;
+        this.password = password;
+        this.database = database;
+        this.clientName = clientName;
+        this.ssl = ssl;
+        this.maxTotal = poolConfig.getMaxTotal() > 0 ? poolConfig.getMaxTotal() : Integer.MAX_VALUE;
+        this.maxIdle = poolConfig.getMaxIdle() >= 0 ? poolConfig.getMaxIdle() : Integer.MAX_VALUE;
+        this.maxWaitMillis = poolConfig.getMaxWaitMillis();
+        this.blockWhenExhausted = poolConfig.getBlockWhenExhausted();
+        this.testOnCreate = poolConfig.getTestOnCreate();
+        this.testOnBorrow = poolConfig.getTestOnBorrow();
+        this.testOnReturn = poolConfig.getTestOnReturn();
+        this.permits = new Semaphore(maxTotal, false);
+        int count = 1;
+        while(count < Runtime.getRuntime().availableProcessors() && count < MAX_STRIPES) {
+            count <<= 1;
+        }
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        ConcurrentLinkedDeque<Jedis>[] stripes = new ConcurrentLinkedDeque[count];
+        for(int i = 0; i < count; i++) {
+            stripes[i] = new ConcurrentLinkedDeque<>();
+        }
+        this.stripes = stripes;
+        this.mask = count - 1;
+    }
+
+    @Override
+    public Jedis getResource() {
+        return this.getResource(blockWhenExhausted ? maxWaitMillis : 0);
+    }
+
+    /**
+     * 异常与JedisPool一致：等待超时抛出JedisException，建立连接失败抛出JedisConnectionException
+     */
+    @Override
+    public Jedis getResource(long maxWaitMillis) {
+        if(closed) {
+            throw new JedisException("Could not get a resource from the pool", new IllegalStateException("Pool not open"));
+        }
+        long start = System.nanoTime();
+        this.acquirePermit(maxWaitMillis);
+        try {
+            Jedis jedis = this.pollIdle();
+            while(jedis != null && testOnBorrow && !this.validate(jedis)) {
+                this.destroyObject(jedis);
+                jedis = this.pollIdle();
+            }
+            if(jedis == null) {
+                jedis = this.create();
+            }
+            this.recordWait(System.nanoTime() - start);
+            lent.add(jedis);
+            jedis.setDataSource(this);
+            return jedis;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void acquirePermit(long maxWaitMillis) {
+        boolean acquired;
+        try {
+            if(permits.tryAcquire()) {
+                return;
+            }
+            if(maxWaitMillis < 0) {
+                permits.acquire();
+                acquired = true;
+            } else {
+                acquired = maxWaitMillis > 0 && permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JedisException("Could not get a resource from the pool", e);
+        }
+        if(!acquired) {
+            throw new JedisException("Could not get a resource from the pool",
+                    new NoSuchElementException("Timeout waiting for idle object"));
+        }
+    }
+
+    private Jedis pollIdle() {
+        int home = (int) Thread.currentThread().getId() & mask;
+        for(int i = 0; i <= mask; i++) {
+            Jedis jedis = stripes[(home + i) & mask].pollFirst();
+            if(jedis != null) {
+                idle.decrementAndGet();
+                return jedis;
+            }
+        }
+        return null;
+    }
+
+    private Jedis create() {
+        Jedis jedis = new Jedis(host, port, timeout, timeout, ssl);
+        try {
+            jedis.connect();
+            if(password != null) {
+                jedis.auth(password);
+            }
+            if(database != Protocol.DEFAULT_DATABASE) {
+                jedis.select(database);
+            }
+            if(clientName != null) {
+                jedis.clientSetname(clientName);
+            }
+        } catch (RuntimeException e) {
+            jedis.close();
+            throw new JedisConnectionException("Could not get a resource from the pool", e);
+        }
+        created.incrementAndGet();
+        if(testOnCreate && !this.validate(jedis)) {
+            this.destroyObject(jedis);
+            throw new JedisConnectionException("Could not get a resource from the pool",
+                    new NoSuchElementException("Unable to validate object"));
+        }
+        return jedis;
+    }
+
+    private boolean validate(Jedis jedis) {
+        try {
+            return jedis.isConnected() && "PONG".equals(jedis.ping());
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private void recordWait(long nanos) {
+        borrowed.incrementAndGet();
+        borrowWaitNanos.addAndGet(nanos);
+        long max = maxBorrowWaitNanos.get();
+        while(nanos > max && !maxBorrowWaitNanos.compareAndSet(max, nanos)) {
+            max = maxBorrowWaitNanos.get();
+        }
+    }
+
+    /**
+     * 与GenericObjectPool一致，重复归还或归还不是从本连接池借出的连接时抛出IllegalStateException，
+     * 否则同一个连接会在空闲栈中出现两次、被两个线程同时借出，并且多释放一个许可使maxTotal失效。
+     * Pool的归还方法对调用方已废弃，但Jedis.close()仍通过它们归还
+     */
+    @Override
+    @SuppressWarnings("deprecation")
+    public void returnResource(Jedis resource) {
+        if(resource == null) {
+            return;
+        }
+        this.markReturned(resource);
+        try {
+            resource.resetState();
+        } catch (RuntimeException e) {
+            this.discard(resource);
+            throw new JedisException("Could not return the resource to the pool", e);
+        }
+        this.recycle(resource);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void returnResourceObject(Jedis resource) {
+        this.markReturned(resource);
+        this.recycle(resource);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void returnBrokenResource(Jedis resource) {
+        if(resource == null) {
+            return;
+        }
+        this.markReturned(resource);
+        this.discard(resource);
+    }
+
+    private void markReturned(Jedis resource) {
+        if(!lent.remove(resource)) {
+            throw new IllegalStateException("Object has already been returned to this pool or is invalid");
+        }
+    }
+
+    private void recycle(Jedis resource) {
+        try {
+            if(closed || idle.get() >= maxIdle || (testOnReturn && !this.validate(resource))) {
+                this.destroyObject(resource);
+            } else {
+                idle.incrementAndGet();
+                stripes[(int) Thread.currentThread().getId() & mask].offerFirst(resource);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void discard(Jedis resource) {
+        try {
+            this.destroyObject(resource);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void destroyObject(Jedis jedis) {
+        destroyed.incrementAndGet();
+        if(jedis.isConnected()) {
+            try {
+                jedis.quit();
+            } catch (RuntimeException e) {
+                //ignore
+            }
+            try {
+                jedis.disconnect();
+            } catch (RuntimeException e) {
+                //ignore
+            }
+        }
+    }
+
+    /**
+     * 预先建立count个空闲连接
+     */
+    @Override
+    public void addObjects(int count) {
+        for(int i = 0; i < count; i++) {
+            this.acquirePermit(0);
+            this.recycle(this.createOrRelease());
+        }
+    }
+
+    private Jedis createOrRelease() {
+        try {
+            return this.create();
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        this.destroy();
+    }
+
+    /**
+     * 关闭连接池并断开所有空闲连接，借出中的连接在归还时断开
+     */
+    @Override
+    public void destroy() {
+        closed = true;
+        for(ConcurrentLinkedDeque<Jedis> stripe : stripes) {
+            Jedis jedis;
+            while((jedis = stripe.pollFirst()) != null) {
+                idle.decrementAndGet();
+                this.destroyObject(jedis);
+            }
+        }
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public int getNumActive() {
+        return maxTotal - permits.availablePermits();
+    }
+
+    @Override
+    public int getNumIdle() {
+        return idle.get();
+    }
+
+    @Override
+    public int getNumWaiters() {
+        return permits.getQueueLength();
+    }
+
+    @Override
+    public long getMeanBorrowWaitTimeMillis() {
+        long count = borrowed.get();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(borrowWaitNanos.get() / count);
+    }
+
+    @Override
+    public long getMaxBorrowWaitTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxBorrowWaitNanos.get());
+    }
+
+    @Override
+    public long getMaxWaitMillis() {
+        return blockWhenExhausted ? maxWaitMillis : 0;
+    }
+
+    public long getCreatedCount() {
+        return created.get();
+    }
+
+    public long getDestroyedCount() {
+        return destroyed.get();
+    }
+
+    @Override
+    public String toString() {
+        return "StripedJedisPool{" + host + ":" + port + ", stripes=" + stripes.length + ", active=" + this.getNumActive()
+                + ", idle=" + idle + ", created=" + created + ", destroyed=" + destroyed + "}";
+    }
+}
@@ -0,0 +1,187 @@
+package com.xps.tools.redis.pool;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.util.Pool;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 线程亲和的连接缓存：线程第一次借连接时把借到的连接留作自己的缓存连接，之后借还都不再经过共享连接池。
+ * 缓存连接正在使用中(如嵌套调用)或缓存数已达上限时，照常从共享连接池借出。
+ * 缓存连接出错时丢弃；缓存数达到上限时回收已结束线程的缓存连接。
+ * 连接池关闭或切换时(drain)空闲的缓存连接立即归还，正在使用的缓存连接标记为已脱离，由使用它的线程用完后归还。
+ * 缓存连接在共享连接池中一直算作借出状态，maxCached应小于maxTotal，给其它线程留出余量。
+ */
+final class ThreadAffinity {
+
+    private static final class Slot {
+        private final WeakReference<Thread> owner;
+        private final Jedis jedis;
+        /**借出和归还时切换，drain/reapOrphans也通过它抢占空闲连接，保证同一连接只归还一次*/
+        private final AtomicBoolean inUse = new AtomicBoolean(true);
+        /**已不再缓存，使用中的线程用完后归还给共享连接池*/
+        private volatile boolean detached;
+
+        Slot(Thread owner, Jedis jedis) {
+            this.owner = new WeakReference<>(owner);
+            this.jedis = jedis;
+        }
+
+        boolean isOrphan() {
+            Thread thread = owner.get();
+            return thread == null || !thread.isAlive();
+        }
+    }
+
+    private final Pool<Jedis> pool;
+    private final int maxCached;
+    private final ThreadLocal<Slot> current = new ThreadLocal<>();
+    private final Map<Jedis, Slot> slots = new ConcurrentHashMap<>();
+    private final AtomicInteger cached = new AtomicInteger();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong overflows = new AtomicLong();
+    private volatile boolean closed;
+
+    ThreadAffinity(Pool<Jedis> pool, int maxCached) {
+        this.pool = pool;
+        this.maxCached = maxCached;
+    }
+
+    /**
+     * @return 当前线程空闲的缓存连接，没有时返回null
+     */
+    Jedis acquire() {
+        Slot slot = current.get();
+        if(slot == null || slot.detached || !slot.inUse.compareAndSet(false, true)) {
+            return null;
+        }
+        //抢占后才被drain标记为脱离时照常使用，归还时由release交回共享连接池
+        hits.incrementAndGet();
+        return slot.jedis;
+    }
+
+    /**
+     * 当前线程还没有缓存连接且未达上限时，把从共享连接池借出的jedis留作缓存连接
+     */
+    void adopt(Jedis jedis) {
+        Slot slot = current.get();
+        if(closed) {
+            return;
+        }
+        if(slot != null && !slot.detached) {
+            overflows.incrementAndGet();
+            return;
+        }
+        if(cached.get() >= maxCached) {
+            this.reapOrphans();
+        }
+        int count;
+        do {
+            count = cached.get();
+            if(count >= maxCached) {
+                overflows.incrementAndGet();
+                return;
+            }
+        } while(!cached.compareAndSet(count, count + 1));
+        slot = new Slot(Thread.currentThread(), jedis);
+        slots.put(jedis, slot);
+        current.set(slot);
+        if(closed) {
+            //与drain并发，这个连接还在使用中，只需脱离，用完后由release交回共享连接池
+            this.detach(slot);
+        }
+    }
+
+    /**
+     * @return jedis是当前仍在缓存的连接时返回true
+     */
+    boolean isCached(Jedis jedis) {
+        return slots.containsKey(jedis);
+    }
+
+    /**
+     * @return jedis是缓存连接时标记为空闲并返回true，调用方不应再归还给共享连接池；
+     * 返回false时(不是缓存连接或已脱离)调用方照常归还
+     */
+    boolean release(Jedis jedis) {
+        Slot slot = slots.get(jedis);
+        if(slot == null) {
+            return false;
+        }
+        slot.inUse.set(false);
+        //先置空闲再检查脱离标记，与detach的顺序相反，两边至少有一方能看到对方并由抢占成功的一方归还
+        return !(slot.detached && slot.inUse.compareAndSet(false, true));
+    }
+
+    /**
+     * 缓存连接出错时不再缓存，调用方照常作为坏连接归还给共享连接池
+     */
+    void discard(Jedis jedis) {
+        Slot slot = slots.remove(jedis);
+        if(slot != null) {
+            slot.detached = true;
+            cached.decrementAndGet();
+        }
+    }
+
+    /**
+     * 把已结束线程的空闲缓存连接归还给共享连接池
+     */
+    @SuppressWarnings("deprecation")
+    void reapOrphans() {
+        Iterator<Slot> iterator = slots.values().iterator();
+        while(iterator.hasNext()) {
+            Slot slot = iterator.next();
+            if(slot.isOrphan() && slot.inUse.compareAndSet(false, true)) {
+                slot.detached = true;
+                if(slots.remove(slot.jedis, slot)) {
+                    cached.decrementAndGet();
+                }
+                pool.returnResourceObject(slot.jedis);
+            }
+        }
+    }
+
+    /**
+     * 连接池关闭或切换前调用，之后不再缓存新连接：空闲的缓存连接立即归还给共享连接池，
+     * 正在使用的标记为脱离，使用它的线程归还时(release返回false)交回共享连接池
+     */
+    @SuppressWarnings("deprecation")
+    void drain() {
+        closed = true;
+        for(Slot slot : slots.values()) {
+            if(this.detach(slot)) {
+                pool.returnResourceObject(slot.jedis);
+            }
+        }
+    }
+
+    /**
+     * @return 抢占到空闲连接时返回true，由调用方归还给共享连接池
+     */
+    private boolean detach(Slot slot) {
+        slot.detached = true;
+        if(slots.remove(slot.jedis, slot)) {
+            cached.decrementAndGet();
+        }
+        return slot.inUse.compareAndSet(false, true);
+    }
+
+    int getCached() {
+        return cached.get();
+    }
+
+    long getHits() {
+        return hits.get();
+    }
+
+    long getOverflows() {
+        return overflows.get();
+    }
+}
@@ -0,0 +1,17 @@
+package com.xps.tools.redis.pool;
+
+/**
+ * 可以按单次调用指定等待时间借出资源的连接池
+ */
+public interface TimedPool<T> {
+
+    /**
+     * @param maxWaitMillis 本次最多等待的时间，负数表示一直等待
+     */
+    T getResource(long maxWaitMillis);
+
+    /**
+     * @return 连接池配置的最大等待时间
+     */
+    long getMaxWaitMillis();
+}
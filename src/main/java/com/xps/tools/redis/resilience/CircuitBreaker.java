@@ -0,0 +1,230 @@
+package com.xps.tools.redis.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 熔断器：连续失败达到failureThreshold后打开，打开期间请求直接拒绝；
+ * 经过openMillis后进入半开状态，只放行一个探测请求，探测成功则关闭，失败则重新打开。
+ * 探测请求超过openMillis仍未上报结果时，允许发起新的探测。
+ * <p>
+ * 另外可以按最近10秒的错误率或慢调用比例打开：调用数达到minimumCalls后，失败比例达到failureRateThreshold
+ * 或耗时超过slowCallMillis的比例达到slowCallRateThreshold即打开；半开状态下探测请求过慢同样视为失败。
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    public static final long DEFAULT_OPEN_MILLIS = 5000L;
+    public static final int DEFAULT_MINIMUM_CALLS = 20;
+
+    private static final int WINDOW_BUCKETS = 10;
+    private static final long WINDOW_BUCKET_MILLIS = 1000L;
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openMillis;
+    private final double failureRateThreshold;
+    private final long slowCallNanos;
+    private final double slowCallRateThreshold;
+    private final int minimumCalls;
+    private final RollingCounts window;
+    private final CircuitOpenException rejection;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong();
+    private final AtomicLong probeStartedAt = new AtomicLong();
+    private final AtomicLong openCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public CircuitBreaker(String name) {
+        this(name, DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_MILLIS);
+    }
+
+    public CircuitBreaker(String name, int failureThreshold, long openMillis) {
+        this(name, failureThreshold, openMillis, 0, 0, 0, DEFAULT_MINIMUM_CALLS);
+    }
+
+    /**
+     * @param failureRateThreshold 最近10秒失败比例的阈值，如0.5；小于等于0表示不按错误率打开
+     * @param slowCallMillis 耗时超过该值的调用视为慢调用；小于等于0表示不统计慢调用
+     * @param slowCallRateThreshold 最近10秒慢调用比例的阈值，如0.8
+     * @param minimumCalls 最近10秒调用数达到该值后才按比例判断
+     */
+    public CircuitBreaker(String name, int failureThreshold, long openMillis, double failureRateThreshold,
+                          long slowCallMillis, double slowCallRateThreshold, int minimumCalls) {
+        this.name = name;
+        this.failureThreshold = failureThreshold > 0 ? failureThreshold : DEFAULT_FAILURE_THRESHOLD;
+        this.openMillis = openMillis > 0 ? openMillis : DEFAULT_OPEN_MILLIS;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallNanos = slowCallMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(slowCallMillis) : 0;
+        this.slowCallRateThreshold = slowCallNanos > 0 ? slowCallRateThreshold : 0;
+        this.minimumCalls = minimumCalls > 0 ? minimumCalls : DEFAULT_MINIMUM_CALLS;
+        this.window = this.failureRateThreshold > 0 || this.slowCallRateThreshold > 0
+                ? new RollingCounts(WINDOW_BUCKETS, WINDOW_BUCKET_MILLIS) : null;
+        this.rejection = new CircuitOpenException(name);
+    }
+
+    /**
+     * 熔断中时直接抛出CircuitOpenException(无堆栈、复用同一实例)；正常返回的请求必须上报onSuccess、onFailure或onIgnored
+     */
+    public void acquire() {
+        if(!this.allowRequest()) {
+            rejectedCount.incrementAndGet();
+            throw rejection;
+        }
+    }
+
+    /**
+     * @return false表示熔断中，调用方应直接失败或走降级逻辑；返回true的请求必须上报onSuccess、onFailure或onIgnored
+     */
+    public boolean allowRequest() {
+        State current = state.get();
+        if(current == State.CLOSED) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        if(current == State.OPEN) {
+            if(now - openedAt.get() < openMillis) {
+                return false;
+            }
+            probeStartedAt.set(now);
+            return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        long probe = probeStartedAt.get();
+        return now - probe >= openMillis && probeStartedAt.compareAndSet(probe, now);
+    }
+
+    /**
+     * 不改变状态地判断当前是否可能放行请求，用于在多个节点之间挑选时跳过熔断中的节点
+     */
+    public boolean isAvailable() {
+        State current = state.get();
+        long now = System.currentTimeMillis();
+        if(current == State.OPEN) {
+            return now - openedAt.get() >= openMillis;
+        }
+        return current == State.CLOSED || now - probeStartedAt.get() >= openMillis;
+    }
+
+    public void onSuccess() {
+        this.onSuccess(0);
+    }
+
+    /**
+     * @param elapsedNanos 本次调用的耗时，用于统计慢调用
+     */
+    public void onSuccess(long elapsedNanos) {
+        boolean slow = slowCallNanos > 0 && elapsedNanos >= slowCallNanos;
+        State current = state.get();
+        if(current == State.OPEN) {//打开之前发出、打开之后才返回的请求不影响状态
+            return;
+        }
+        if(current == State.HALF_OPEN) {
+            if(slow) {
+                this.open();
+            } else if(state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+                consecutiveFailures.set(0);
+                if(window != null) {
+                    window.clear();
+                }
+            }
+            return;
+        }
+        consecutiveFailures.set(0);
+        if(window != null) {
+            window.record(false, slow);
+            if(slow) {
+                this.checkRates();
+            }
+        }
+    }
+
+    /**
+     * 请求没有到达redis(如连接池耗尽)，不计入成功或失败；半开状态下放弃本次探测，下一个请求可以立即探测
+     */
+    public void onIgnored() {
+        if(state.get() == State.HALF_OPEN) {
+            probeStartedAt.set(0);
+        }
+    }
+
+    public void onFailure() {
+        if(state.get() == State.HALF_OPEN) {
+            this.open();
+            return;
+        }
+        if(window != null) {
+            window.record(true, false);
+        }
+        if(consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            this.tripFromClosed();
+        } else {
+            this.checkRates();
+        }
+    }
+
+    private void checkRates() {
+        if(window == null) {
+            return;
+        }
+        long[] counts = window.sum();
+        if(counts[0] < minimumCalls) {
+            return;
+        }
+        if((failureRateThreshold > 0 && counts[1] >= failureRateThreshold * counts[0])
+                || (slowCallRateThreshold > 0 && counts[2] >= slowCallRateThreshold * counts[0])) {
+            this.tripFromClosed();
+        }
+    }
+
+    private void tripFromClosed() {
+        if(state.compareAndSet(State.CLOSED, State.OPEN)) {
+            openedAt.set(System.currentTimeMillis());
+            openCount.incrementAndGet();
+        }
+    }
+
+    private void open() {
+        openedAt.set(System.currentTimeMillis());
+        state.set(State.OPEN);
+        openCount.incrementAndGet();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public int getConsecutiveFailures() {
+        return consecutiveFailures.get();
+    }
+
+    /**
+     * @return 累计打开次数
+     */
+    public long getOpenCount() {
+        return openCount.get();
+    }
+
+    /**
+     * @return 通过acquire被直接拒绝的请求数
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker{name=" + name + ", state=" + state.get() + ", consecutiveFailures=" + consecutiveFailures + "}";
+    }
+}
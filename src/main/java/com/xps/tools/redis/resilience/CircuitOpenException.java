@@ -0,0 +1,26 @@
+package com.xps.tools.redis.resilience;
+
+import com.xps.tools.redis.exceptions.RedisToolsException;
+import com.xps.tools.redis.exceptions.RedisToolsExceptionComp;
+
+import java.text.MessageFormat;
+
+/**
+ * 熔断中直接拒绝请求时抛出。不记录堆栈，每个熔断器复用同一个实例，熔断期间拒绝请求几乎没有开销
+ */
+public class CircuitOpenException extends RedisToolsException {
+
+    private static final long serialVersionUID = -6022815139620475371L;
+
+    private final String circuitName;
+
+    public CircuitOpenException(String circuitName) {
+        super(RedisToolsExceptionComp.CIRCUIT_OPEN,
+                MessageFormat.format(RedisToolsExceptionComp.CIRCUIT_OPEN.getMsg(), circuitName), false);
+        this.circuitName = circuitName;
+    }
+
+    public String getCircuitName() {
+        return circuitName;
+    }
+}
@@ -0,0 +1,129 @@
+package com.xps.tools.redis.resilience;
+
+import com.xps.tools.redis.exceptions.RedisToolsException;
+import com.xps.tools.redis.exceptions.RedisToolsExceptionComp;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 调用截止时间，按线程传播：同一线程内的所有redis调用(从连接池借连接到读完响应)共享同一个时间预算。
+ * <pre>
+ * try(Deadline.Scope scope = Deadline.start(50, TimeUnit.MILLISECONDS)) {
+ *     String v = redisClient.get("k");
+ *     redisClient.hget("h", v);
+ * }
+ * </pre>
+ * 嵌套时内层不能超过外层的截止时间。已超时的调用直接抛出DEADLINE_EXCEEDED，不再排队等待连接。
+ */
+public final class Deadline {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * 为当前线程设置截止时间，必须在finally或try-with-resources中关闭返回的Scope
+     */
+    public static Scope start(long timeout, TimeUnit unit) {
+        Deadline outer = CURRENT.get();
+        long deadlineNanos = System.nanoTime() + unit.toNanos(timeout);
+        if(outer != null && outer.deadlineNanos - deadlineNanos < 0) {
+            deadlineNanos = outer.deadlineNanos;
+        }
+        return attach(new Deadline(deadlineNanos));
+    }
+
+    /**
+     * 把其它线程的截止时间带到当前线程(如对冲读的工作线程)，deadline为null时清空当前线程的截止时间
+     */
+    public static Scope attach(Deadline deadline) {
+        Scope scope = new Scope(CURRENT.get());
+        if(deadline == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(deadline);
+        }
+        return scope;
+    }
+
+    /**
+     * @return 当前线程的截止时间，没有设置时为null
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 当前线程的截止时间已过时抛出DEADLINE_EXCEEDED
+     */
+    public static void checkNotExpired() {
+        Deadline deadline = CURRENT.get();
+        if(deadline != null && deadline.isExpired()) {
+            throw new RedisToolsException(RedisToolsExceptionComp.DEADLINE_EXCEEDED);
+        }
+    }
+
+    /**
+     * @param maxWaitMillis 连接池配置的最大等待时间，负数表示一直等待
+     * @return 结合截止时间后本次借连接最多等待的时间
+     */
+    public static long borrowWaitMillis(long maxWaitMillis) {
+        Deadline deadline = CURRENT.get();
+        if(deadline == null) {
+            return maxWaitMillis;
+        }
+        long remaining = Math.max(1, deadline.remainingMillis());
+        return maxWaitMillis < 0 ? remaining : Math.min(maxWaitMillis, remaining);
+    }
+
+    /**
+     * @param soTimeout 连接配置的读超时或命令单独配置的超时，0表示不超时
+     * @return 结合截止时间后本次调用的读超时，至少1毫秒
+     */
+    public static int socketTimeoutMillis(int soTimeout) {
+        Deadline deadline = CURRENT.get();
+        if(deadline == null) {
+            return soTimeout;
+        }
+        long remaining = Math.max(1, deadline.remainingMillis());
+        return (int) (soTimeout <= 0 ? Math.min(remaining, Integer.MAX_VALUE) : Math.min(soTimeout, remaining));
+    }
+
+    public long remainingMillis() {
+        long remaining = deadlineNanos - System.nanoTime();
+        return remaining <= 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(remaining + TimeUnit.MILLISECONDS.toNanos(1) - 1);
+    }
+
+    public long remainingNanos() {
+        return Math.max(0, deadlineNanos - System.nanoTime());
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * 关闭时恢复进入前的截止时间
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Deadline previous;
+
+        private Scope(Deadline previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if(previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
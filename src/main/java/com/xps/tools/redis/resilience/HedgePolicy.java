@@ -0,0 +1,296 @@
+package com.xps.tools.redis.resilience;
+
+import com.xps.tools.redis.exceptions.RedisToolsException;
+import com.xps.tools.redis.exceptions.RedisToolsExceptionComp;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 对冲读：只读命令在percentile分位耗时内没有返回时，向另一个可用节点发送同样的命令，取先返回的结果。
+ * 对冲请求受预算限制：每个请求积累budgetRatio个令牌，发起一次对冲消耗1个，
+ * 因此对冲带来的额外负载不超过budgetRatio(如0.05即5%)，节点整体变慢时不会因对冲而雪上加霜。
+ * 落后的那次请求不会被中断，执行完成后正常归还连接。
+ * 默认的线程池最多DEFAULT_MAX_THREADS个线程且不排队：线程用完时原请求在调用线程上直接执行(不对冲)，
+ * 对冲请求则放弃，线程数不会随并发量无限增长。
+ */
+public class HedgePolicy {
+
+    public static final double DEFAULT_PERCENTILE = 0.95;
+    public static final double DEFAULT_BUDGET_RATIO = 0.05;
+    public static final int DEFAULT_MAX_THREADS = 64;
+
+    private static final long TOKEN = 1000;
+    private static final long MIN_SAMPLES = 100;
+    private static final long DELAY_REFRESH_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final long tokensPerRequest;
+    private final long maxTokens;
+    private final ExecutorService executor;
+    private final LatencyHistogram histogram = new LatencyHistogram(10000);
+
+    private final AtomicLong tokens = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong hedges = new AtomicLong();
+    private final AtomicLong hedgeWins = new AtomicLong();
+    private final AtomicLong budgetExhausted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private volatile long delayNanos;
+    private volatile long delayRefreshedAt;
+
+    public HedgePolicy() {
+        this(DEFAULT_PERCENTILE, 1, 100, DEFAULT_BUDGET_RATIO);
+    }
+
+    /**
+     * @param percentile 对冲延迟取最近耗时的该分位数，如0.95
+     * @param minDelayMillis 对冲延迟的下限
+     * @param maxDelayMillis 对冲延迟的上限，样本不足时使用
+     * @param budgetRatio 对冲请求占全部请求的最大比例
+     */
+    public HedgePolicy(double percentile, long minDelayMillis, long maxDelayMillis, double budgetRatio) {
+        this(percentile, minDelayMillis, maxDelayMillis, budgetRatio, newDefaultExecutor());
+    }
+
+    /**
+     * @param executor 执行原请求和对冲请求，拒绝任务(RejectedExecutionException)时原请求改在调用线程上执行，对冲请求放弃
+     */
+    public HedgePolicy(double percentile, long minDelayMillis, long maxDelayMillis, double budgetRatio, ExecutorService executor) {
+        this.percentile = percentile;
+        this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(minDelayMillis);
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(minDelayMillis, maxDelayMillis));
+        this.tokensPerRequest = (long) (budgetRatio * TOKEN);
+        this.maxTokens = Math.max(TOKEN, tokensPerRequest * 100);
+        this.executor = executor;
+        this.delayNanos = maxDelayNanos;
+        this.delayRefreshedAt = System.nanoTime();
+    }
+
+    private static ExecutorService newDefaultExecutor() {
+        return new ThreadPoolExecutor(0, DEFAULT_MAX_THREADS, 60L, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(),
+                new ThreadFactory() {
+                    private final AtomicInteger sequence = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        Thread thread = new Thread(r, "redis-hedged-read-" + sequence.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+    }
+
+    /**
+     * 执行primary，超过对冲延迟仍未返回且预算允许时再执行hedge，返回先成功的结果；都失败时抛出后失败的那次的异常
+     */
+    public <T> T execute(Callable<T> primary, Callable<T> hedge) {
+        requests.incrementAndGet();
+        this.deposit();
+        Deadline.checkNotExpired();
+        Deadline deadline = Deadline.current();
+        CompletionService<T> completion = new ExecutorCompletionService<>(executor);
+        Future<T> first;
+        try {
+            first = completion.submit(this.timed(primary, deadline));
+        } catch (RejectedExecutionException e) {//线程用完，不对冲
+            rejected.incrementAndGet();
+            return this.callDirectly(primary);
+        }
+        try {
+            long delayNanos = this.currentDelayNanos();
+            if(deadline != null && deadline.remainingNanos() < delayNanos) {//截止前来不及对冲
+                return unwrap(await(completion, deadline));
+            }
+            Future<T> done = completion.poll(delayNanos, TimeUnit.NANOSECONDS);
+            if(done != null) {
+                return unwrap(done);
+            }
+            if(!this.tryAcquire()) {
+                budgetExhausted.incrementAndGet();
+                return unwrap(await(completion, deadline));
+            }
+            try {
+                completion.submit(this.timed(hedge, deadline));
+            } catch (RejectedExecutionException e) {
+                rejected.incrementAndGet();
+                return unwrap(await(completion, deadline));
+            }
+            hedges.incrementAndGet();
+            done = await(completion, deadline);
+            try {
+                T result = unwrap(done);
+                if(done != first) {
+                    hedgeWins.incrementAndGet();
+                }
+                return result;
+            } catch (RuntimeException e) {
+                Future<T> other = await(completion, deadline);
+                T result = unwrap(other);
+                if(other != first) {
+                    hedgeWins.incrementAndGet();
+                }
+                return result;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RedisToolsException("等待读取结果时线程被中断", e);
+        }
+    }
+
+    /**
+     * 在工作线程上沿用调用线程的截止时间，并记录耗时
+     */
+    private <T> Callable<T> timed(final Callable<T> callable, final Deadline deadline) {
+        return new Callable<T>() {
+            @Override
+            public T call() throws Exception {
+                Deadline.Scope scope = Deadline.attach(deadline);
+                try {
+                    long start = System.nanoTime();
+                    T result = callable.call();
+                    histogram.record(System.nanoTime() - start);
+                    return result;
+                } finally {
+                    scope.close();
+                }
+            }
+        };
+    }
+
+    private <T> T callDirectly(Callable<T> callable) {
+        long start = System.nanoTime();
+        T result;
+        try {
+            result = callable.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RedisToolsException(e.getMessage(), e);
+        }
+        histogram.record(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * 等待下一个完成的请求，有截止时间时最多等到截止时间
+     */
+    private static <T> Future<T> await(CompletionService<T> completion, Deadline deadline) throws InterruptedException {
+        if(deadline == null) {
+            return completion.take();
+        }
+        Future<T> done = completion.poll(deadline.remainingNanos(), TimeUnit.NANOSECONDS);
+        if(done == null) {
+            throw new RedisToolsException(RedisToolsExceptionComp.DEADLINE_EXCEEDED);
+        }
+        return done;
+    }
+
+    private static <T> T unwrap(Future<T> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if(cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RedisToolsException(cause.getMessage(), cause);
+        }
+    }
+
+    private void deposit() {
+        long current;
+        do {
+            current = tokens.get();
+            if(current >= maxTokens) {
+                return;
+            }
+        } while(!tokens.compareAndSet(current, Math.min(maxTokens, current + tokensPerRequest)));
+    }
+
+    private boolean tryAcquire() {
+        long current;
+        do {
+            current = tokens.get();
+            if(current < TOKEN) {
+                return false;
+            }
+        } while(!tokens.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+
+    /**
+     * 对冲延迟每100毫秒按直方图重新计算一次
+     */
+    long currentDelayNanos() {
+        long now = System.nanoTime();
+        if(now - delayRefreshedAt > DELAY_REFRESH_NANOS) {
+            delayRefreshedAt = now;
+            long p = histogram.percentileNanos(percentile, MIN_SAMPLES);
+            delayNanos = p < 0 ? maxDelayNanos : Math.max(minDelayNanos, Math.min(maxDelayNanos, p));
+        }
+        return delayNanos;
+    }
+
+    public long getCurrentDelayMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(this.currentDelayNanos());
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    /**
+     * @return 发起的对冲请求数
+     */
+    public long getHedges() {
+        return hedges.get();
+    }
+
+    /**
+     * @return 对冲请求先于原请求返回的次数
+     */
+    public long getHedgeWins() {
+        return hedgeWins.get();
+    }
+
+    /**
+     * @return 超过对冲延迟但因预算不足没有对冲的次数
+     */
+    public long getBudgetExhausted() {
+        return budgetExhausted.get();
+    }
+
+    /**
+     * @return 线程池拒绝任务的次数(原请求改在调用线程上执行，或放弃对冲)
+     */
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public String toString() {
+        return "HedgePolicy{delayMicros=" + TimeUnit.NANOSECONDS.toMicros(delayNanos) + ", requests=" + requests
+                + ", hedges=" + hedges + ", hedgeWins=" + hedgeWins + ", budgetExhausted=" + budgetExhausted + ", rejected=" + rejected + "}";
+    }
+}
@@ -0,0 +1,89 @@
+package com.xps.tools.redis.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 无锁的耗时直方图，用于估算最近一段时间的分位数。
+ * 按微秒记录，64微秒以下每微秒一个桶，以上每个2的幂区间分32个桶(相对误差约3%)；
+ * 保留当前和上一个两个时间窗口，分位数基于两个窗口的合计，窗口切换时不会突变。
+ */
+public class LatencyHistogram {
+
+    private static final int LINEAR = 64;
+    private static final int SUB_BITS = 5;
+    private static final int SUB = 1 << SUB_BITS;
+    private static final int MAX_EXPONENT = 36;
+    private static final int BUCKETS = LINEAR + (MAX_EXPONENT - 6 + 1) * SUB;
+
+    private final long windowNanos;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private volatile AtomicLongArray current = new AtomicLongArray(BUCKETS);
+    private volatile AtomicLongArray previous = new AtomicLongArray(BUCKETS);
+
+    public LatencyHistogram(long windowMillis) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+    }
+
+    public void record(long nanos) {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if(now - start > windowNanos && windowStart.compareAndSet(start, now)) {
+            previous = current;
+            current = new AtomicLongArray(BUCKETS);
+        }
+        current.incrementAndGet(index(TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+
+    /**
+     * @param percentile 0到1之间，如0.95
+     * @return 分位数(纳秒)，样本数少于minSamples时返回-1
+     */
+    public long percentileNanos(double percentile, long minSamples) {
+        AtomicLongArray cur = current;
+        AtomicLongArray prev = previous;
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for(int i = 0; i < BUCKETS; i++) {
+            counts[i] = cur.get(i) + (prev == cur ? 0 : prev.get(i));
+            total += counts[i];
+        }
+        if(total < minSamples || total == 0) {
+            return -1;
+        }
+        long rank = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for(int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if(seen >= rank) {
+                return TimeUnit.MICROSECONDS.toNanos(upperBound(i));
+            }
+        }
+        return TimeUnit.MICROSECONDS.toNanos(upperBound(BUCKETS - 1));
+    }
+
+    static int index(long micros) {
+        if(micros < LINEAR) {
+            return (int) Math.max(0, micros);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if(exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int sub = (int) (micros >>> (exponent - SUB_BITS)) & (SUB - 1);
+        return LINEAR + (exponent - 6) * SUB + sub;
+    }
+
+    /**
+     * @return 桶内的最大值(微秒)
+     */
+    static long upperBound(int index) {
+        if(index < LINEAR) {
+            return index;
+        }
+        int exponent = (index - LINEAR) / SUB + 6;
+        int sub = (index - LINEAR) % SUB;
+        return ((long) (SUB + sub + 1) << (exponent - SUB_BITS)) - 1;
+    }
+}
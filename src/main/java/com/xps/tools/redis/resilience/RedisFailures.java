@@ -0,0 +1,54 @@
+package com.xps.tools.redis.resilience;
+
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisException;
+
+/**
+ * 区分redis服务端/连接层面的故障和调用方自身的错误(如WRONGTYPE、参数错误)，只有前者计入熔断统计。
+ * 连接池耗尽(等待空闲连接超时)是客户端自身的排队，请求没有到达redis，既不算故障也不算成功。
+ */
+public final class RedisFailures {
+
+    private static final String POOL_EXHAUSTED = "Could not get a resource from the pool";
+    /**按错误码(错误信息的第一个单词)整词匹配，BUSY不会误匹配BUSYKEY、BUSYGROUP等调用方错误*/
+    private static final String[] SERVER_ERRORS = {"LOADING", "BUSY", "MASTERDOWN", "OOM", "READONLY",
+            "NOREPLICAS", "MISCONF", "CLUSTERDOWN", "TRYAGAIN"};
+
+    private RedisFailures() {
+    }
+
+    /**
+     * @return 连接失败或服务端不可用类错误时返回true；连接池耗尽返回false
+     */
+    public static boolean isServerFailure(Throwable e) {
+        if(e instanceof JedisConnectionException) {
+            return true;
+        }
+        if(e instanceof JedisDataException) {
+            String code = errorCode(e.getMessage());
+            for(String serverError : SERVER_ERRORS) {
+                if(serverError.equals(code)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return 等待空闲连接超时时返回true；建立新连接失败抛出的是JedisConnectionException，不属于这种情况
+     */
+    public static boolean isPoolExhausted(Throwable e) {
+        return e instanceof JedisException && !(e instanceof JedisConnectionException)
+                && POOL_EXHAUSTED.equals(e.getMessage());
+    }
+
+    private static String errorCode(String message) {
+        if(message == null) {
+            return null;
+        }
+        int space = message.indexOf(' ');
+        return space < 0 ? message : message.substring(0, space);
+    }
+}
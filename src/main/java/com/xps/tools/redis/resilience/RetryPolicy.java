@@ -0,0 +1,220 @@
+package com.xps.tools.redis.resilience;
+
+import com.xps.tools.redis.exceptions.RedisToolsException;
+import com.xps.tools.redis.util.CommandTraits;
+import redis.clients.jedis.Protocol.Command;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 瞬时故障重试：幂等命令(见CommandTraits.isIdempotent)遇到连接错误或主从切换期间的
+ * LOADING/TRYAGAIN/MASTERDOWN/READONLY时，等待一段随机退避后重新执行。
+ * 出错的连接已作为坏连接归还，重试时会借出新的连接；INCR、LPUSH等非幂等命令和未标记命令的execute从不重试。
+ * 重试受预算限制：每个请求积累budgetRatio个令牌，重试一次消耗1个，令牌不足时每秒仍允许minRetriesPerSecond次，
+ * 因此redis整体不可用时重试带来的额外负载有上限。退避为[0, min(maxBackoff, baseBackoff*2^n))内的随机值，
+ * 当前线程设置了截止时间且剩余时间不够退避时不再重试。
+ */
+public class RetryPolicy {
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    public static final double DEFAULT_BUDGET_RATIO = 0.1;
+
+    private static final long TOKEN = 1000;
+    private static final String[] TRANSIENT_ERRORS = {"LOADING", "TRYAGAIN", "MASTERDOWN", "READONLY"};
+
+    private final int maxAttempts;
+    private final long baseBackoffNanos;
+    private final long maxBackoffNanos;
+    private final long tokensPerRequest;
+    private final long maxTokens;
+    private final int minRetriesPerSecond;
+
+    private final AtomicLong tokens = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong recovered = new AtomicLong();
+    private final AtomicLong budgetExhausted = new AtomicLong();
+    private final AtomicInteger secondRetries = new AtomicInteger();
+    private volatile long second;
+
+    public RetryPolicy() {
+        this(DEFAULT_MAX_ATTEMPTS, 10, 200, DEFAULT_BUDGET_RATIO, 10);
+    }
+
+    /**
+     * @param maxAttempts 包括第一次在内最多执行的次数
+     * @param baseBackoffMillis 第一次重试前退避的上限，之后每次翻倍
+     * @param maxBackoffMillis 退避的上限
+     * @param budgetRatio 重试占全部请求的最大比例
+     * @param minRetriesPerSecond 预算不足时每秒仍允许的重试次数
+     */
+    public RetryPolicy(int maxAttempts, long baseBackoffMillis, long maxBackoffMillis, double budgetRatio,
+                       int minRetriesPerSecond) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseBackoffNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, baseBackoffMillis));
+        this.maxBackoffNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(baseBackoffMillis, maxBackoffMillis));
+        this.tokensPerRequest = (long) (budgetRatio * TOKEN);
+        this.maxTokens = Math.max(TOKEN, tokensPerRequest * 100);
+        this.minRetriesPerSecond = minRetriesPerSecond;
+    }
+
+    /**
+     * 执行callable，command幂等且失败可重试时按退避重新执行，最终失败时抛出最后一次的异常
+     */
+    public <T> T execute(Command command, Callable<T> callable) {
+        requests.incrementAndGet();
+        this.deposit();
+        if(!CommandTraits.isIdempotent(command)) {
+            return call(callable);
+        }
+        for(int attempt = 1; ; attempt++) {
+            try {
+                T result = call(callable);
+                if(attempt > 1) {
+                    recovered.incrementAndGet();
+                }
+                return result;
+            } catch (RuntimeException e) {
+                if(attempt >= maxAttempts || !isRetryable(e) || !this.backoff(attempt)) {
+                    throw e;
+                }
+                retries.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * @return 连接错误和主从切换期间的服务端错误返回true；连接池耗尽、熔断、截止时间等不重试
+     */
+    public static boolean isRetryable(Throwable e) {
+        if(e instanceof JedisConnectionException) {
+            return true;
+        }
+        if(e instanceof JedisDataException) {
+            String message = e.getMessage();
+            if(message == null) {
+                return false;
+            }
+            for(String prefix : TRANSIENT_ERRORS) {
+                if(message.startsWith(prefix)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static <T> T call(Callable<T> callable) {
+        try {
+            return callable.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RedisToolsException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 取得重试许可并等待退避时间
+     * @return false表示预算不足、剩余时间不够或线程被中断，不再重试
+     */
+    private boolean backoff(int attempt) {
+        long cap = attempt >= 62 ? maxBackoffNanos : Math.min(maxBackoffNanos, baseBackoffNanos << (attempt - 1));
+        if(cap < 0) {
+            cap = maxBackoffNanos;
+        }
+        long sleepNanos = cap <= 0 ? 0 : ThreadLocalRandom.current().nextLong(cap);
+        Deadline deadline = Deadline.current();
+        if(deadline != null && deadline.remainingNanos() <= sleepNanos) {
+            return false;
+        }
+        if(!this.tryAcquire()) {
+            budgetExhausted.incrementAndGet();
+            return false;
+        }
+        if(sleepNanos <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void deposit() {
+        long current;
+        do {
+            current = tokens.get();
+            if(current >= maxTokens) {
+                return;
+            }
+        } while(!tokens.compareAndSet(current, Math.min(maxTokens, current + tokensPerRequest)));
+    }
+
+    private boolean tryAcquire() {
+        long current;
+        do {
+            current = tokens.get();
+            if(current < TOKEN) {
+                return this.tryAcquireMinimum();
+            }
+        } while(!tokens.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+
+    /**
+     * 预算不足时按秒计数的保底重试，请求量很小时预算积累不起来，仍能重试偶发的故障
+     */
+    private boolean tryAcquireMinimum() {
+        long now = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        if(now != second) {
+            synchronized (secondRetries) {
+                if(now != second) {
+                    secondRetries.set(0);
+                    second = now;
+                }
+            }
+        }
+        return secondRetries.incrementAndGet() <= minRetriesPerSecond;
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    /**
+     * @return 发起的重试次数
+     */
+    public long getRetries() {
+        return retries.get();
+    }
+
+    /**
+     * @return 重试后成功的请求数
+     */
+    public long getRecovered() {
+        return recovered.get();
+    }
+
+    /**
+     * @return 可以重试但因预算不足没有重试的次数
+     */
+    public long getBudgetExhausted() {
+        return budgetExhausted.get();
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{requests=" + requests + ", retries=" + retries + ", recovered=" + recovered
+                + ", budgetExhausted=" + budgetExhausted + "}";
+    }
+}
@@ -0,0 +1,76 @@
+package com.xps.tools.redis.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 按时间分桶的滚动计数：最近bucketCount个bucketMillis内的调用数、失败数和慢调用数。
+ * 桶切换时的并发计数可能有少量误差，对熔断判断没有影响。
+ */
+final class RollingCounts {
+
+    private final long bucketMillis;
+    private final Bucket[] buckets;
+
+    RollingCounts(int bucketCount, long bucketMillis) {
+        this.bucketMillis = bucketMillis;
+        this.buckets = new Bucket[bucketCount];
+        for(int i = 0; i < bucketCount; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    void record(boolean failure, boolean slow) {
+        long slot = System.currentTimeMillis() / bucketMillis;
+        Bucket bucket = buckets[(int) (slot % buckets.length)];
+        if(bucket.slot != slot) {
+            bucket.reset(slot);
+        }
+        bucket.calls.incrementAndGet();
+        if(failure) {
+            bucket.failures.incrementAndGet();
+        }
+        if(slow) {
+            bucket.slow.incrementAndGet();
+        }
+    }
+
+    /**
+     * @return {调用数, 失败数, 慢调用数}
+     */
+    long[] sum() {
+        long oldest = System.currentTimeMillis() / bucketMillis - buckets.length;
+        long[] sum = new long[3];
+        for(Bucket bucket : buckets) {
+            if(bucket.slot > oldest) {
+                sum[0] += bucket.calls.get();
+                sum[1] += bucket.failures.get();
+                sum[2] += bucket.slow.get();
+            }
+        }
+        return sum;
+    }
+
+    void clear() {
+        for(Bucket bucket : buckets) {
+            bucket.reset(-1);
+        }
+    }
+
+    private static final class Bucket {
+
+        private volatile long slot = -1;
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong slow = new AtomicLong();
+
+        synchronized void reset(long slot) {
+            if(this.slot == slot && slot >= 0) {
+                return;
+            }
+            calls.set(0);
+            failures.set(0);
+            slow.set(0);
+            this.slot = slot;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.xps.tools.redis.script;
+
+import com.xps.tools.redis.exceptions.RedisToolsException;
+import com.xps.tools.redis.exceptions.RedisToolsExceptionComp;
+import redis.clients.util.SafeEncoder;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 一段Lua脚本及其在本地算好的SHA1，执行时只发送SHA1(EVALSHA)
+ */
+public final class LuaScript {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final String script;
+    private final String sha1;
+
+    public LuaScript(String script) {
+        if(script == null || "".equals(script)) {
+            throw new RedisToolsException(RedisToolsExceptionComp.PARAM_NULL_SCRIPT);
+        }
+        this.script = script;
+        this.sha1 = sha1Hex(script);
+    }
+
+    public String getScript() {
+        return script;
+    }
+
+    /**与redis服务端SCRIPT LOAD返回值一致的小写十六进制SHA1*/
+    public String getSha1() {
+        return sha1;
+    }
+
+    static String sha1Hex(String script) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RedisToolsException("SHA-1 not supported", e);
+        }
+        byte[] bytes = digest.digest(SafeEncoder.encode(script));
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX[(bytes[i] >> 4) & 0x0f];
+            chars[i * 2 + 1] = HEX[bytes[i] & 0x0f];
+        }
+        return new String(chars);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LuaScript)) {
+            return false;
+        }
+        return sha1.equals(((LuaScript) o).sha1);
+    }
+
+    @Override
+    public int hashCode() {
+        return sha1.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "LuaScript[" + sha1 + "]";
+    }
+}
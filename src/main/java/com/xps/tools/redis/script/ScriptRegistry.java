@@ -0,0 +1,112 @@
+package com.xps.tools.redis.script;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisNoScriptException;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Lua脚本注册表：本地计算SHA1，执行时先EVALSHA，服务端返回NOSCRIPT时SCRIPT LOAD后重试。
+ * 连接池创建时会把已注册的脚本预加载到每个节点(分片模式下为每个分片)。
+ */
+public class ScriptRegistry {
+
+    /**eval(String script...)透明走EVALSHA时最多缓存的脚本数，防止动态拼接的脚本撑爆内存*/
+    public static final int DEFAULT_MAX_CACHED_SCRIPTS = 1024;
+
+    private final ConcurrentMap<String, LuaScript> scripts = new ConcurrentHashMap<>();
+    private int maxCachedScripts = DEFAULT_MAX_CACHED_SCRIPTS;
+    private Logger logger = Logger.getLogger(this.getClass().getName());
+
+    /**
+     * 注册脚本，重复注册返回同一个LuaScript
+     */
+    public LuaScript register(String script) {
+        LuaScript luaScript = scripts.get(script);
+        if(luaScript != null) {
+            return luaScript;
+        }
+        luaScript = new LuaScript(script);
+        LuaScript exists = scripts.putIfAbsent(script, luaScript);
+        return exists == null ? luaScript : exists;
+    }
+
+    public void setScripts(List<String> scriptList) {
+        for(String script : scriptList) {
+            this.register(script);
+        }
+    }
+
+    /**
+     * 供eval(String script...)使用：已注册直接返回；未注册且未超过上限时注册；超过上限返回null(调用方退回普通EVAL)
+     */
+    public LuaScript lookup(String script) {
+        LuaScript luaScript = scripts.get(script);
+        if(luaScript != null || script == null || scripts.size() >= maxCachedScripts) {
+            return luaScript;
+        }
+        return this.register(script);
+    }
+
+    public Collection<LuaScript> getScripts() {
+        return Collections.unmodifiableCollection(scripts.values());
+    }
+
+    /**
+     * 把所有已注册脚本加载到jedis对应的节点上，单个脚本失败只记录日志
+     * @return 所有脚本都加载成功返回true
+     */
+    public boolean preload(Jedis jedis) {
+        boolean loaded = true;
+        for(LuaScript luaScript : scripts.values()) {
+            try {
+                jedis.scriptLoad(luaScript.getScript());
+            } catch (RuntimeException e) {
+                loaded = false;
+                logger.log(Level.WARNING, "预加载脚本" + luaScript + "失败", e);
+            }
+        }
+        return loaded;
+    }
+
+    public Object eval(Jedis jedis, LuaScript script, int keyCount, String... params) {
+        try {
+            return jedis.evalsha(script.getSha1(), keyCount, params);
+        } catch (JedisNoScriptException e) {
+            jedis.scriptLoad(script.getScript());
+            return jedis.evalsha(script.getSha1(), keyCount, params);
+        }
+    }
+
+    public Object eval(Jedis jedis, LuaScript script, List<String> keys, List<String> args) {
+        try {
+            return jedis.evalsha(script.getSha1(), keys, args);
+        } catch (JedisNoScriptException e) {
+            jedis.scriptLoad(script.getScript());
+            return jedis.evalsha(script.getSha1(), keys, args);
+        }
+    }
+
+    public Object eval(Jedis jedis, LuaScript script) {
+        try {
+            return jedis.evalsha(script.getSha1());
+        } catch (JedisNoScriptException e) {
+            jedis.scriptLoad(script.getScript());
+            return jedis.evalsha(script.getSha1());
+        }
+    }
+
+    public int getMaxCachedScripts() {
+        return maxCachedScripts;
+    }
+
+    public void setMaxCachedScripts(int maxCachedScripts) {
+        this.maxCachedScripts = maxCachedScripts;
+    }
+}
@@ -0,0 +1,181 @@
+package com.xps.tools.redis.shard;
+
+import com.xps.tools.redis.pool.Pools;
+import com.xps.tools.redis.util.CommandTraits;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisShardInfo;
+import redis.clients.jedis.Protocol.Command;
+import redis.clients.jedis.ShardedJedis;
+import redis.clients.util.Hashing;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 不持有连接的ShardedJedis：用到某个分片时才从该分片自己的连接池借出连接，close时全部归还。
+ * 一个分片故障只会影响落在该分片上的key，不会占用其它分片的连接。非线程安全，与ShardedJedis一致。
+ * 通过route设置为只读命令后，配置了副本的分片按ReplicaLoadBalance读副本；getAllShards始终返回主节点。
+ * 每个分片的连接在借出时按命令单独配置的超时和当前线程的截止时间设置读超时，归还时恢复。
+ * 类上的unchecked抑制与RoutedShardedJedis相同，针对继承来的srandmember(byte[], int)。
+ */
+@SuppressWarnings("unchecked")
+public class IsolatedShardedJedis extends RoutedShardedJedis {
+
+    private final Map<JedisShardInfo, ShardNode> nodes;
+    private final ReplicaLoadBalance loadBalance;
+    private final boolean readFromPrimary;
+    private final Map<ShardNode, Jedis> borrowed = new IdentityHashMap<>();
+    private final Map<ShardNode, Long> borrowedAt = new IdentityHashMap<>();
+    /**借出时修改过读超时的连接 -> 原来的读超时*/
+    private final Map<ShardNode, Integer> socketTimeouts = new IdentityHashMap<>();
+    /**分片主节点 -> 本次借出期间读命令使用的节点，保证同一次借出内读到的是同一个副本*/
+    private final Map<ShardNode, ShardNode> readNodes = new ConcurrentHashMap<>();
+    /**对冲请求要避开的节点，即原请求的readNodes*/
+    private Map<ShardNode, ShardNode> avoidNodes;
+    private boolean readOnly;
+    private Integer commandTimeout;
+
+    IsolatedShardedJedis(List<JedisShardInfo> shards, Hashing algo, Pattern tagPattern, KeyTagExtractor keyTagExtractor,
+                         ShardLocator locator, Map<JedisShardInfo, ShardNode> nodes,
+                         ReplicaLoadBalance loadBalance, boolean readFromPrimary) {
+        super(shards, algo, tagPattern, keyTagExtractor, locator);
+        this.nodes = nodes;
+        this.loadBalance = loadBalance;
+        this.readFromPrimary = readFromPrimary;
+    }
+
+    /**
+     * 按命令类别设置本次借出的路由：非游标的只读命令可以读副本，其它命令都在主节点执行。
+     * 不是IsolatedShardedJedis时不做任何处理
+     */
+    public static void route(ShardedJedis shardedJedis, Command command) {
+        if(shardedJedis instanceof IsolatedShardedJedis) {
+            ((IsolatedShardedJedis) shardedJedis).readOnly = CommandTraits.isReadOnly(command) && !CommandTraits.isCursor(command);
+        }
+    }
+
+    /**
+     * 设置本次借出期间命令的读超时，为null时使用分片连接原有的超时。需在访问分片之前调用。
+     * 不是IsolatedShardedJedis时返回false
+     */
+    public static boolean timeout(ShardedJedis shardedJedis, Integer commandTimeout) {
+        if(shardedJedis instanceof IsolatedShardedJedis) {
+            ((IsolatedShardedJedis) shardedJedis).commandTimeout = commandTimeout;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 对冲请求尽量避开first已经使用的副本，两者不是IsolatedShardedJedis时不做任何处理。
+     * first可能正在其它线程执行，这里只读取它的节点选择，是尽力而为的提示
+     */
+    public static void avoid(ShardedJedis hedge, ShardedJedis first) {
+        if(hedge instanceof IsolatedShardedJedis && first instanceof IsolatedShardedJedis) {
+            ((IsolatedShardedJedis) hedge).avoidNodes = ((IsolatedShardedJedis) first).readNodes;
+        }
+    }
+
+    @Override
+    public Jedis getShard(byte[] key) {
+        this.beforeAccess(key);
+        return this.borrowFor(nodes.get(this.getShardInfo(key)));
+    }
+
+    @Override
+    public Jedis getShard(String key) {
+        this.beforeAccess(key);
+        return this.borrowFor(nodes.get(this.getShardInfo(key)));
+    }
+
+    private Jedis borrowFor(ShardNode primary) {
+        if(!readOnly || primary.getReplicas().isEmpty()) {
+            return this.borrow(primary);
+        }
+        ShardNode node = readNodes.get(primary);
+        if(node == null) {
+            node = primary.selectReadNode(loadBalance, readFromPrimary, avoidNodes == null ? null : avoidNodes.get(primary));
+            readNodes.put(primary, node);
+        }
+        if(node == primary) {
+            return this.borrow(primary);
+        }
+        try {
+            return this.borrow(node);
+        } catch (ShardUnavailableException e) {//副本不可用时读主节点
+            readNodes.put(primary, primary);
+            return this.borrow(primary);
+        }
+    }
+
+    /**
+     * 借出所有分片的连接，任一分片不可用时抛出ShardUnavailableException
+     */
+    @Override
+    public Collection<Jedis> getAllShards() {
+        List<Jedis> all = new ArrayList<>(nodes.size());
+        for(JedisShardInfo shardInfo : this.getAllShardInfo()) {
+            all.add(this.borrow(nodes.get(shardInfo)));
+        }
+        return all;
+    }
+
+    private Jedis borrow(ShardNode node) {
+        Jedis jedis = borrowed.get(node);
+        if(jedis == null) {
+            jedis = node.borrow();
+            borrowed.put(node, jedis);
+            borrowedAt.put(node, System.nanoTime());
+            int original = Pools.applySocketTimeout(jedis, commandTimeout);
+            if(original >= 0) {
+                socketTimeouts.put(node, original);
+            }
+        }
+        return jedis;
+    }
+
+    /**
+     * 归还借出的分片连接，不归还自身
+     */
+    void releaseAll() {
+        for(Map.Entry<ShardNode, Integer> entry : socketTimeouts.entrySet()) {
+            Pools.restoreSocketTimeout(borrowed.get(entry.getKey()), entry.getValue());
+        }
+        for(Map.Entry<ShardNode, Jedis> entry : borrowed.entrySet()) {
+            entry.getKey().release(entry.getValue(), borrowedAt.get(entry.getKey()));
+        }
+        borrowed.clear();
+        borrowedAt.clear();
+        socketTimeouts.clear();
+        readNodes.clear();
+        avoidNodes = null;
+        readOnly = false;
+        commandTimeout = null;
+    }
+
+    @Override
+    public void resetState() {
+        for(Jedis jedis : borrowed.values()) {
+            jedis.resetState();
+        }
+    }
+
+    @Override
+    public void disconnect() {
+        this.releaseAll();
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void close() {
+        this.releaseAll();
+        if(dataSource != null) {
+            dataSource.returnResource(this);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.xps.tools.redis.shard;
+
+import com.xps.tools.redis.config.RedisShardedPoolConfig;
+import com.xps.tools.redis.resilience.CircuitBreaker;
+import com.xps.tools.redis.pool.ManagedJedisPool;
+import com.xps.tools.redis.pool.Pools;
+import com.xps.tools.redis.pool.TimedPool;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.PooledObjectFactory;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisShardInfo;
+import redis.clients.jedis.ShardedJedis;
+import redis.clients.util.Pool;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 分片隔离的ShardedJedis连接池：每个分片一个独立的JedisPool(使用RedisShardedPoolConfig中的连接池参数)和熔断器，
+ * getResource借出的是不持有连接的IsolatedShardedJedis，只在用到某个分片时才借出该分片的连接。
+ * 一个分片变慢或宕机时只会耗尽自己的连接池，熔断后直接抛出ShardUnavailableException，其它分片不受影响。
+ * 配置了replicas的分片，副本同样各自使用独立的连接池和熔断器。
+ */
+public class IsolatedShardedJedisPool extends Pool<ShardedJedis> implements TimedPool<ShardedJedis> {
+
+    private final List<ShardNode> nodes;
+
+    /**
+     * @param keyTagExtractor 由调用方按keyTagPattern推导，为空时使用keyTagPattern
+     */
+    public IsolatedShardedJedisPool(RedisShardedPoolConfig config, KeyTagExtractor keyTagExtractor) {
+        Map<JedisShardInfo, ShardNode> nodeMap = new IdentityHashMap<>();
+        List<ShardNode> nodeList = new ArrayList<>();
+        for(JedisShardInfo shardInfo : config.getShards()) {
+            ShardNode node = newNode(config, shardInfo);
+            List<JedisShardInfo> replicaInfos = config.getReplicas() == null ? null : config.getReplicas().get(shardInfo);
+            if(replicaInfos != null && !replicaInfos.isEmpty()) {
+                List<ShardNode> replicas = new ArrayList<>(replicaInfos.size());
+                for(JedisShardInfo replicaInfo : replicaInfos) {
+                    replicas.add(newNode(config, replicaInfo));
+                }
+                node.setReplicas(replicas);
+            }
+            nodeMap.put(shardInfo, node);
+            nodeList.add(node);
+        }
+        this.nodes = Collections.unmodifiableList(nodeList);
+        ShardLocator locator = config.getShardingStrategy() == null ? null : config.getShardingStrategy().newLocator(config.getShards());
+
+        //IsolatedShardedJedis本身不持有连接，数量不需要限制，空闲数与分片连接池的最大连接数一致即可
+        GenericObjectPoolConfig facadeConfig = new GenericObjectPoolConfig();
+        facadeConfig.setMaxTotal(-1);
+        facadeConfig.setMaxIdle(config.getMaxTotal());
+        facadeConfig.setJmxEnabled(false);
+        this.initPool(facadeConfig, new IsolatedShardedJedisFactory(config, keyTagExtractor, locator, nodeMap));
+    }
+
+    private static ShardNode newNode(RedisShardedPoolConfig config, JedisShardInfo shardInfo) {
+        JedisPool pool = new ManagedJedisPool(config, shardInfo.getHost(), shardInfo.getPort(),
+                shardInfo.getConnectionTimeout(), shardInfo.getSoTimeout(), shardInfo.getPassword(),
+                shardInfo.getDb(), null, shardInfo.getSsl(), shardInfo.getSslSocketFactory(),
+                shardInfo.getSslParameters(), shardInfo.getHostnameVerifier());
+        return new ShardNode(shardInfo, pool, new CircuitBreaker(shardInfo.getHost() + ":" + shardInfo.getPort(),
+                config.getShardFailureThreshold(), config.getShardOpenMillis()));
+    }
+
+    @Override
+    public ShardedJedis getResource() {
+        ShardedJedis jedis = super.getResource();
+        jedis.setDataSource(this);
+        return jedis;
+    }
+
+    @Override
+    public ShardedJedis getResource(long maxWaitMillis) {
+        ShardedJedis jedis = Pools.borrowObject(internalPool, maxWaitMillis);
+        jedis.setDataSource(this);
+        return jedis;
+    }
+
+    @Override
+    public long getMaxWaitMillis() {
+        return internalPool.getMaxWaitMillis();
+    }
+
+    /**
+     * Pool的归还方法对调用方已废弃，但ShardedJedis.close()仍通过它们归还，这里必须覆盖
+     */
+    @Override
+    @SuppressWarnings("deprecation")
+    public void returnBrokenResource(ShardedJedis resource) {
+        if(resource != null) {
+            this.returnBrokenResourceObject(resource);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void returnResource(ShardedJedis resource) {
+        if(resource != null) {
+            this.returnResourceObject(resource);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        super.destroy();
+        for(ShardNode node : nodes) {
+            node.getPool().destroy();
+            for(ShardNode replica : node.getReplicas()) {
+                replica.getPool().destroy();
+            }
+        }
+    }
+
+    /**
+     * @return 各分片的连接池、熔断器和统计信息，顺序与配置的shards一致
+     */
+    public List<ShardNode> getNodes() {
+        return nodes;
+    }
+
+    private static class IsolatedShardedJedisFactory implements PooledObjectFactory<ShardedJedis> {
+
+        private final RedisShardedPoolConfig config;
+        private final KeyTagExtractor keyTagExtractor;
+        private final ShardLocator locator;
+        private final Map<JedisShardInfo, ShardNode> nodes;
+
+        IsolatedShardedJedisFactory(RedisShardedPoolConfig config, KeyTagExtractor keyTagExtractor,
+                                    ShardLocator locator, Map<JedisShardInfo, ShardNode> nodes) {
+            this.config = config;
+            this.keyTagExtractor = keyTagExtractor;
+            this.locator = locator;
+            this.nodes = nodes;
+        }
+
+        @Override
+        public PooledObject<ShardedJedis> makeObject() throws Exception {
+            return new DefaultPooledObject<ShardedJedis>(new IsolatedShardedJedis(config.getShards(), config.getAlgo(),
+                    config.getKeyTagPattern(), keyTagExtractor, locator, nodes,
+                    config.getReplicaLoadBalance(), config.isReadFromPrimary()));
+        }
+
+        @Override
+        public void destroyObject(PooledObject<ShardedJedis> p) throws Exception {
+            ((IsolatedShardedJedis) p.getObject()).releaseAll();
+        }
+
+        @Override
+        public boolean validateObject(PooledObject<ShardedJedis> p) {
+            return true;
+        }
+
+        @Override
+        public void activateObject(PooledObject<ShardedJedis> p) throws Exception {
+        }
+
+        @Override
+        public void passivateObject(PooledObject<ShardedJedis> p) throws Exception {
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.xps.tools.redis.shard;
+
+import redis.clients.jedis.JedisShardInfo;
+
+import java.util.List;
+
+/**
+ * jump consistent hash(Lamping & Veach)：O(ln n)、无内存开销、分布均匀。
+ * 权重通过给分片分配weight个桶实现；只在列表末尾追加分片时迁移量最小(约1/(n+1))，
+ * 删除或在中间插入分片会导致大量迁移。
+ */
+public class JumpHashStrategy implements ShardingStrategy {
+
+    @Override
+    public ShardLocator newLocator(List<JedisShardInfo> shards) {
+        return new Locator(buckets(shards));
+    }
+
+    static int[] buckets(List<JedisShardInfo> shards) {
+        int total = 0;
+        for(JedisShardInfo shard : shards) {
+            total += Math.max(shard.getWeight(), 1);
+        }
+        int[] buckets = new int[total];
+        int b = 0;
+        for(int i = 0; i < shards.size(); i++) {
+            for(int w = Math.max(shards.get(i).getWeight(), 1); w > 0; w--) {
+                buckets[b++] = i;
+            }
+        }
+        return buckets;
+    }
+
+    public static int jump(long key, int buckets) {
+        long b = -1;
+        long j = 0;
+        while(j < buckets) {
+            b = j;
+            key = key * 2862933555777941757L + 1;
+            j = (long) ((b + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) b;
+    }
+
+    private static class Locator implements ShardLocator {
+
+        private final int[] buckets;
+
+        Locator(int[] buckets) {
+            this.buckets = buckets;
+        }
+
+        @Override
+        public int locate(long hash) {
+            return buckets[jump(hash, buckets.length)];
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.xps.tools.redis.shard;
+
+/**
+ * 无分配的64位key哈希(FNV-1a + murmur3的fmix64)。String按UTF-8逐字符编码后参与计算，
+ * 与先SafeEncoder.encode再对byte[]计算的结果一致，保证String和byte[]形式的同一个key落在同一分片。
+ */
+public final class KeyHasher {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private KeyHasher() {
+    }
+
+    public static long hash(byte[] key) {
+        return hash(key, 0, key.length);
+    }
+
+    /**
+     * @param from 包含
+     * @param to 不包含
+     */
+    public static long hash(byte[] key, int from, int to) {
+        long h = FNV_OFFSET;
+        for(int i = from; i < to; i++) {
+            h ^= key[i] & 0xff;
+            h *= FNV_PRIME;
+        }
+        return mix(h);
+    }
+
+    public static long hash(String key) {
+        return hash(key, 0, key.length());
+    }
+
+    /**
+     * 对key的[from,to)字符区间按UTF-8编码计算，不产生中间byte[]；孤立的代理字符按'?'处理(与String.getBytes一致)
+     */
+    public static long hash(String key, int from, int to) {
+        long h = FNV_OFFSET;
+        for(int i = from; i < to; i++) {
+            char c = key.charAt(i);
+            if(c < 0x80) {
+                h = (h ^ c) * FNV_PRIME;
+            } else if(c < 0x800) {
+                h = (h ^ (0xc0 | (c >> 6))) * FNV_PRIME;
+                h = (h ^ (0x80 | (c & 0x3f))) * FNV_PRIME;
+            } else if(Character.isSurrogate(c)) {
+                if(Character.isHighSurrogate(c) && i + 1 < to && Character.isLowSurrogate(key.charAt(i + 1))) {
+                    int cp = Character.toCodePoint(c, key.charAt(++i));
+                    h = (h ^ (0xf0 | (cp >> 18))) * FNV_PRIME;
+                    h = (h ^ (0x80 | ((cp >> 12) & 0x3f))) * FNV_PRIME;
+                    h = (h ^ (0x80 | ((cp >> 6) & 0x3f))) * FNV_PRIME;
+                    h = (h ^ (0x80 | (cp & 0x3f))) * FNV_PRIME;
+                } else {
+                    h = (h ^ '?') * FNV_PRIME;
+                }
+            } else {
+                h = (h ^ (0xe0 | (c >> 12))) * FNV_PRIME;
+                h = (h ^ (0x80 | ((c >> 6) & 0x3f))) * FNV_PRIME;
+                h = (h ^ (0x80 | (c & 0x3f))) * FNV_PRIME;
+            }
+        }
+        return mix(h);
+    }
+
+    /**
+     * murmur3 fmix64，把FNV的结果充分打散
+     */
+    public static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
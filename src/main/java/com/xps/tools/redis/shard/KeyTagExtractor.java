@@ -0,0 +1,152 @@
+package com.xps.tools.redis.shard;
+
+import redis.clients.util.Sharded;
+
+import java.util.regex.Pattern;
+
+/**
+ * 不使用正则、不产生分配的hashtag提取，语义与jedis默认的keyTagPattern(\{(.+?)\})完全一致：
+ * 取第一个能匹配的开始符之后、第一个与之至少隔一个字符的结束符之前的内容，没有时使用整个key。
+ * 与正则的.一样，tag中不能包含行结束符(\n、\r、U+0085、U+2028、U+2029)，遇到行结束符时从其后的开始符重新匹配。
+ * 开始符/结束符可配置，例如"[...]"。
+ */
+public class KeyTagExtractor {
+
+    public static final KeyTagExtractor BRACES = new KeyTagExtractor('{', '}');
+
+    /**find的返回值，表示没有hashtag*/
+    public static final long NOT_FOUND = -1L;
+
+    private final char open;
+    private final char close;
+
+    public KeyTagExtractor(char open, char close) {
+        this.open = open;
+        this.close = close;
+    }
+
+    /**
+     * @return 没有hashtag时返回NOT_FOUND，否则高32位为tag起始下标(包含)，低32位为结束下标(不包含)，用start/end解析
+     */
+    public long find(String key) {
+        int from = key.indexOf(open);
+        while(from >= 0) {
+            for(int i = from + 1; i < key.length(); i++) {
+                char c = key.charAt(i);
+                if(isLineTerminator(c)) {
+                    //正则的.不匹配行结束符，这之前的开始符都不可能匹配，从行结束符之后继续找
+                    from = i;
+                    break;
+                }
+                if(c == close && i >= from + 2) {
+                    return ((long) (from + 1) << 32) | i;
+                }
+                if(i == key.length() - 1) {
+                    return NOT_FOUND;
+                }
+            }
+            from = key.indexOf(open, from + 1);
+        }
+        return NOT_FOUND;
+    }
+
+    /**
+     * byte[]版本，key按UTF-8编码，只支持ASCII范围内的开始符/结束符
+     */
+    public long find(byte[] key) {
+        int from = indexOf(key, (byte) open, 0);
+        while(from >= 0) {
+            for(int i = from + 1; i < key.length; i++) {
+                int terminator = lineTerminatorLength(key, i);
+                if(terminator > 0) {
+                    from = i + terminator - 1;
+                    break;
+                }
+                if(key[i] == close && i >= from + 2) {
+                    return ((long) (from + 1) << 32) | i;
+                }
+                if(i == key.length - 1) {
+                    return NOT_FOUND;
+                }
+            }
+            from = indexOf(key, (byte) open, from + 1);
+        }
+        return NOT_FOUND;
+    }
+
+    private static int indexOf(byte[] key, byte b, int from) {
+        for(int i = from; i < key.length; i++) {
+            if(key[i] == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 正则(未开启DOTALL/UNIX_LINES时)的.不匹配的行结束符
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * @return key[i]开始的UTF-8字节是行结束符时返回其字节数，否则返回0
+     */
+    private static int lineTerminatorLength(byte[] key, int i) {
+        byte b = key[i];
+        if(b == '\n' || b == '\r') {
+            return 1;
+        }
+        if(b == (byte) 0xC2 && i + 1 < key.length && key[i + 1] == (byte) 0x85) {
+            return 2;
+        }
+        if(b == (byte) 0xE2 && i + 2 < key.length && key[i + 1] == (byte) 0x80
+                && (key[i + 2] == (byte) 0xA8 || key[i + 2] == (byte) 0xA9)) {
+            return 3;
+        }
+        return 0;
+    }
+
+    public static int start(long range) {
+        return (int) (range >>> 32);
+    }
+
+    public static int end(long range) {
+        return (int) range;
+    }
+
+    /**
+     * 返回hashtag字符串，没有hashtag时返回key本身(只有存在hashtag时才会分配)
+     */
+    public String getKeyTag(String key) {
+        long range = this.find(key);
+        return range == NOT_FOUND ? key : key.substring(start(range), end(range));
+    }
+
+    public long hash(String key) {
+        long range = this.find(key);
+        return range == NOT_FOUND ? KeyHasher.hash(key) : KeyHasher.hash(key, start(range), end(range));
+    }
+
+    public long hash(byte[] key) {
+        long range = this.find(key);
+        return range == NOT_FOUND ? KeyHasher.hash(key) : KeyHasher.hash(key, start(range), end(range));
+    }
+
+    /**
+     * keyTagPattern是否就是jedis默认的{...}规则，是则可以用BRACES代替正则
+     */
+    public static boolean isDefaultPattern(Pattern pattern) {
+        return pattern != null && (pattern == Sharded.DEFAULT_KEY_TAG_PATTERN
+                || (pattern.flags() == 0 && Sharded.DEFAULT_KEY_TAG_PATTERN.pattern().equals(pattern.pattern())));
+    }
+
+    public char getOpen() {
+        return open;
+    }
+
+    public char getClose() {
+        return close;
+    }
+}
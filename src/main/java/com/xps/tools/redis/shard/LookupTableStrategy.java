@@ -0,0 +1,69 @@
+package com.xps.tools.redis.shard;
+
+import com.xps.tools.redis.exceptions.RedisToolsException;
+import com.xps.tools.redis.exceptions.RedisToolsExceptionComp;
+import redis.clients.jedis.JedisShardInfo;
+
+import java.util.List;
+
+/**
+ * 预计算的扁平查找表：2^bits个槽位，每个槽位按jump hash预先分配到分片，定位时只需一次移位和一次数组访问。
+ * 迁移特性与JumpHashStrategy一致(在末尾追加分片时迁移量最小)。
+ */
+public class LookupTableStrategy implements ShardingStrategy {
+
+    public static final int DEFAULT_BITS = 14;
+    public static final int MIN_BITS = 1;
+    /**2^24个槽位的表占64MB，再大没有意义*/
+    public static final int MAX_BITS = 24;
+
+    private int bits = DEFAULT_BITS;
+
+    public LookupTableStrategy() {
+    }
+
+    public LookupTableStrategy(int bits) {
+        this.bits = checkBits(bits);
+    }
+
+    @Override
+    public ShardLocator newLocator(List<JedisShardInfo> shards) {
+        int[] buckets = JumpHashStrategy.buckets(shards);
+        int[] table = new int[1 << bits];
+        for(int slot = 0; slot < table.length; slot++) {
+            table[slot] = buckets[JumpHashStrategy.jump(KeyHasher.mix(slot), buckets.length)];
+        }
+        return new Locator(table, 64 - bits);
+    }
+
+    public int getBits() {
+        return bits;
+    }
+
+    public void setBits(int bits) {
+        this.bits = checkBits(bits);
+    }
+
+    private static int checkBits(int bits) {
+        if(bits < MIN_BITS || bits > MAX_BITS) {
+            throw new RedisToolsException(RedisToolsExceptionComp.PARAM_OUT_OF_RANGE, "bits", MIN_BITS, MAX_BITS, bits);
+        }
+        return bits;
+    }
+
+    private static class Locator implements ShardLocator {
+
+        private final int[] table;
+        private final int shift;
+
+        Locator(int[] table, int shift) {
+            this.table = table;
+            this.shift = shift;
+        }
+
+        @Override
+        public int locate(long hash) {
+            return table[(int) (hash >>> shift)];
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.xps.tools.redis.shard;
+
+import redis.clients.jedis.JedisShardInfo;
+
+import java.util.List;
+
+/**
+ * 加权rendezvous(HRW)哈希：每个key选得分最高的分片，增删任意位置的分片都只迁移该分片上的key。
+ * 每次定位为O(n)，适合分片数不多(几十个以内)的场景。
+ * 分片标识取name，没有name时取host:port，所以调整shards顺序不影响路由。
+ */
+public class RendezvousHashStrategy implements ShardingStrategy {
+
+    @Override
+    public ShardLocator newLocator(List<JedisShardInfo> shards) {
+        long[] seeds = new long[shards.size()];
+        double[] weights = new double[shards.size()];
+        boolean uniform = true;
+        for(int i = 0; i < shards.size(); i++) {
+            seeds[i] = KeyHasher.hash(shardId(shards.get(i)));
+            weights[i] = Math.max(shards.get(i).getWeight(), 1);
+            uniform &= weights[i] == weights[0];
+        }
+        return new Locator(seeds, uniform ? null : weights);
+    }
+
+    static String shardId(JedisShardInfo shard) {
+        return shard.getName() != null ? shard.getName() : shard.getHost() + ":" + shard.getPort();
+    }
+
+    private static class Locator implements ShardLocator {
+
+        private final long[] seeds;
+        /**权重都相同时为null，直接比较哈希值，不需要计算对数*/
+        private final double[] weights;
+
+        Locator(long[] seeds, double[] weights) {
+            this.seeds = seeds;
+            this.weights = weights;
+        }
+
+        @Override
+        public int locate(long hash) {
+            int best = 0;
+            if(weights == null) {
+                long bestScore = Long.MIN_VALUE;
+                for(int i = 0; i < seeds.length; i++) {
+                    long score = KeyHasher.mix(hash ^ seeds[i]);
+                    if(score > bestScore) {
+                        bestScore = score;
+                        best = i;
+                    }
+                }
+                return best;
+            }
+            double bestScore = -1D;
+            for(int i = 0; i < seeds.length; i++) {
+                //u均匀分布在(0,1)，score = w / -ln(u)
+                double u = ((KeyHasher.mix(hash ^ seeds[i]) >>> 11) + 0.5D) * 0x1.0p-53;
+                double score = weights[i] / -Math.log(u);
+                if(score > bestScore) {
+                    bestScore = score;
+                    best = i;
+                }
+            }
+            return best;
+        }
+    }
+}
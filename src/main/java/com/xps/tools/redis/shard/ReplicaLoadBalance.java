@@ -0,0 +1,65 @@
+package com.xps.tools.redis.shard;
+
+import com.xps.tools.redis.balance.PowerOfTwoChoices;
+
+import java.util.List;
+
+/**
+ * 分片只读副本的负载均衡方式
+ */
+public enum ReplicaLoadBalance {
+
+    /**轮询*/
+    ROUND_ROBIN {
+        @Override
+        ShardNode select(List<ShardNode> candidates, int sequence) {
+            return candidates.get(sequence % candidates.size());
+        }
+    },
+
+    /**正在执行的请求数最少的节点，相同时按轮询顺序*/
+    LEAST_OUTSTANDING {
+        @Override
+        ShardNode select(List<ShardNode> candidates, int sequence) {
+            int size = candidates.size();
+            ShardNode best = null;
+            for(int i = 0; i < size; i++) {
+                ShardNode node = candidates.get((sequence + i) % size);
+                if(best == null || node.getInFlight() < best.getInFlight()) {
+                    best = node;
+                }
+            }
+            return best;
+        }
+    },
+
+    /**随机取两个节点，选EWMA耗时*(正在执行的请求数+1)较小的一个，慢节点或过载节点的流量自动减少*/
+    P2C_EWMA {
+        @Override
+        ShardNode select(List<ShardNode> candidates, int sequence) {
+            return PowerOfTwoChoices.select(candidates);
+        }
+    },
+
+    /**EWMA耗时(NodeLatency，与P2C_EWMA是同一份数据)最小的节点，相同时按轮询顺序*/
+    EWMA {
+        @Override
+        ShardNode select(List<ShardNode> candidates, int sequence) {
+            int size = candidates.size();
+            ShardNode best = null;
+            for(int i = 0; i < size; i++) {
+                ShardNode node = candidates.get((sequence + i) % size);
+                if(best == null || node.getLatency().getEwmaNanos() < best.getLatency().getEwmaNanos()) {
+                    best = node;
+                }
+            }
+            return best;
+        }
+    };
+
+    /**
+     * @param candidates 可用节点，不为空
+     * @param sequence 递增序号(非负)，用于轮询和打散相同权重的节点
+     */
+    abstract ShardNode select(List<ShardNode> candidates, int sequence);
+}
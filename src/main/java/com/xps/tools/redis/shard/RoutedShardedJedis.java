@@ -0,0 +1,106 @@
+package com.xps.tools.redis.shard;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisShardInfo;
+import redis.clients.jedis.ShardedJedis;
+import redis.clients.util.Hashing;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 由ShardLocator决定key落在哪个分片的ShardedJedis，locator为null时退回jedis的虚拟节点环。
+ * 设置了keyTagExtractor时不再使用正则提取hashtag；使用locator时String和byte[]形式的key都会提取hashtag，
+ * 使用jedis虚拟节点环时保持jedis原有行为(只对String形式的key提取)。
+ * 继承自BinaryShardedJedis的srandmember(byte[], int)返回原始类型List，它的unchecked警告只能在类上抑制。
+ */
+@SuppressWarnings("unchecked")
+public class RoutedShardedJedis extends ShardedJedis {
+
+    private final List<JedisShardInfo> shardList;
+    private final ShardLocator locator;
+    private final Pattern tagPattern;
+    private final KeyTagExtractor keyTagExtractor;
+    /**迁移期间执行写命令时由ShardMigration设置，访问key之前先把它迁移过来；只在借出期间使用*/
+    ShardMigration migration;
+
+    public RoutedShardedJedis(List<JedisShardInfo> shards, Hashing algo, Pattern tagPattern, ShardLocator locator) {
+        this(shards, algo, tagPattern, null, locator);
+    }
+
+    /**
+     * @param keyTagExtractor 不为空时忽略tagPattern
+     */
+    public RoutedShardedJedis(List<JedisShardInfo> shards, Hashing algo, Pattern tagPattern,
+                              KeyTagExtractor keyTagExtractor, ShardLocator locator) {
+        super(shards, algo, keyTagExtractor == null ? tagPattern : null);
+        this.shardList = shards;
+        this.locator = locator;
+        this.tagPattern = keyTagExtractor == null ? tagPattern : null;
+        this.keyTagExtractor = keyTagExtractor;
+    }
+
+    @Override
+    public Jedis getShard(byte[] key) {
+        this.beforeAccess(key);
+        return super.getShard(key);
+    }
+
+    @Override
+    public Jedis getShard(String key) {
+        this.beforeAccess(key);
+        return super.getShard(key);
+    }
+
+    /**
+     * 在线迁移期间写命令访问的key如果还在旧节点上，先迁移到本拓扑中的节点
+     */
+    protected void beforeAccess(byte[] key) {
+        ShardMigration migration = this.migration;
+        if(migration != null) {
+            migration.migrateKey(this, key);
+        }
+    }
+
+    protected void beforeAccess(String key) {
+        ShardMigration migration = this.migration;
+        if(migration != null) {
+            migration.migrateKey(this, key);
+        }
+    }
+
+    @Override
+    public JedisShardInfo getShardInfo(byte[] key) {
+        if(locator == null) {
+            return super.getShardInfo(key);
+        }
+        long hash = keyTagExtractor == null ? KeyHasher.hash(key) : keyTagExtractor.hash(key);
+        return shardList.get(locator.locate(hash));
+    }
+
+    @Override
+    public JedisShardInfo getShardInfo(String key) {
+        if(locator == null) {
+            return super.getShardInfo(key);
+        }
+        long hash;
+        if(keyTagExtractor != null) {
+            hash = keyTagExtractor.hash(key);
+        } else {
+            hash = KeyHasher.hash(tagPattern == null ? key : this.getKeyTag(key));
+        }
+        return shardList.get(locator.locate(hash));
+    }
+
+    @Override
+    public String getKeyTag(String key) {
+        if(keyTagExtractor != null) {
+            return keyTagExtractor.getKeyTag(key);
+        }
+        return super.getKeyTag(key);
+    }
+
+    public ShardLocator getLocator() {
+        return locator;
+    }
+}
@@ -0,0 +1,148 @@
+package com.xps.tools.redis.shard;
+
+import com.xps.tools.redis.pool.Pools;
+import com.xps.tools.redis.pool.TimedPool;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.PooledObjectFactory;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisShardInfo;
+import redis.clients.jedis.ShardedJedis;
+import redis.clients.util.Hashing;
+import redis.clients.util.Pool;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 使用ShardingStrategy路由的ShardedJedis连接池，用法与ShardedJedisPool一致。
+ * ShardLocator只在创建连接池时构建一次，被池中所有连接共享。
+ */
+public class RoutedShardedJedisPool extends Pool<ShardedJedis> implements TimedPool<ShardedJedis> {
+
+    private final ShardLocator locator;
+
+    public RoutedShardedJedisPool(GenericObjectPoolConfig poolConfig, List<JedisShardInfo> shards,
+                                  Hashing algo, Pattern keyTagPattern, ShardingStrategy shardingStrategy) {
+        this(poolConfig, shards, algo, keyTagPattern, null, shardingStrategy);
+    }
+
+    /**
+     * @param keyTagExtractor 不为空时代替keyTagPattern提取hashtag
+     * @param shardingStrategy 为空时使用jedis的虚拟节点环(algo)
+     */
+    public RoutedShardedJedisPool(GenericObjectPoolConfig poolConfig, List<JedisShardInfo> shards, Hashing algo,
+                                  Pattern keyTagPattern, KeyTagExtractor keyTagExtractor, ShardingStrategy shardingStrategy) {
+        this.locator = shardingStrategy == null ? null : shardingStrategy.newLocator(shards);
+        this.initPool(poolConfig, new RoutedShardedJedisFactory(shards, algo, keyTagPattern, keyTagExtractor, locator));
+    }
+
+    @Override
+    public ShardedJedis getResource() {
+        ShardedJedis jedis = super.getResource();
+        jedis.setDataSource(this);
+        return jedis;
+    }
+
+    @Override
+    public ShardedJedis getResource(long maxWaitMillis) {
+        ShardedJedis jedis = Pools.borrowObject(internalPool, maxWaitMillis);
+        jedis.setDataSource(this);
+        return jedis;
+    }
+
+    @Override
+    public long getMaxWaitMillis() {
+        return internalPool.getMaxWaitMillis();
+    }
+
+    /**
+     * Pool的归还方法对调用方已废弃，但ShardedJedis.close()仍通过它们归还，这里必须覆盖
+     */
+    @Override
+    @SuppressWarnings("deprecation")
+    public void returnBrokenResource(ShardedJedis resource) {
+        if(resource != null) {
+            this.returnBrokenResourceObject(resource);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void returnResource(ShardedJedis resource) {
+        if(resource != null) {
+            resource.resetState();
+            this.returnResourceObject(resource);
+        }
+    }
+
+    public ShardLocator getLocator() {
+        return locator;
+    }
+
+    /**
+     * 与jedis的ShardedJedisFactory一致，只是创建的是RoutedShardedJedis
+     */
+    private static class RoutedShardedJedisFactory implements PooledObjectFactory<ShardedJedis> {
+
+        private final List<JedisShardInfo> shards;
+        private final Hashing algo;
+        private final Pattern keyTagPattern;
+        private final KeyTagExtractor keyTagExtractor;
+        private final ShardLocator locator;
+
+        RoutedShardedJedisFactory(List<JedisShardInfo> shards, Hashing algo, Pattern keyTagPattern,
+                                  KeyTagExtractor keyTagExtractor, ShardLocator locator) {
+            this.shards = shards;
+            this.algo = algo;
+            this.keyTagPattern = keyTagPattern;
+            this.keyTagExtractor = keyTagExtractor;
+            this.locator = locator;
+        }
+
+        @Override
+        public PooledObject<ShardedJedis> makeObject() throws Exception {
+            return new DefaultPooledObject<ShardedJedis>(new RoutedShardedJedis(shards, algo, keyTagPattern,
+                    keyTagExtractor, locator));
+        }
+
+        @Override
+        public void destroyObject(PooledObject<ShardedJedis> pooledShardedJedis) throws Exception {
+            for(Jedis jedis : pooledShardedJedis.getObject().getAllShards()) {
+                try {
+                    try {
+                        jedis.quit();
+                    } catch (Exception e) {
+                        //ignore
+                    }
+                    jedis.disconnect();
+                } catch (Exception e) {
+                    //ignore
+                }
+            }
+        }
+
+        @Override
+        public boolean validateObject(PooledObject<ShardedJedis> pooledShardedJedis) {
+            try {
+                for(Jedis jedis : pooledShardedJedis.getObject().getAllShards()) {
+                    if(!"PONG".equals(jedis.ping())) {
+                        return false;
+                    }
+                }
+                return true;
+            } catch (Exception e) {
+                return false;
+            }
+        }
+
+        @Override
+        public void activateObject(PooledObject<ShardedJedis> p) throws Exception {
+        }
+
+        @Override
+        public void passivateObject(PooledObject<ShardedJedis> p) throws Exception {
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.xps.tools.redis.shard;
+
+import com.xps.tools.redis.util.CommandTraits;
+import redis.clients.jedis.Protocol.Command;
+
+/**
+ * 分片不可用时的降级逻辑，返回值作为命令的结果，不能降级时抛出原异常
+ */
+public interface ShardFallback {
+
+    /**
+     * 只读命令按未命中处理(返回null)，写命令和游标命令直接失败，适合缓存场景
+     */
+    ShardFallback MISS_ON_READ = new ShardFallback() {
+        @Override
+        public Object fallback(Command command, ShardUnavailableException e) {
+            if(command == Command.PFCOUNT) {//pfcount返回基本类型，不能返回null
+                return 0L;
+            }
+            if(CommandTraits.isReadOnly(command) && !CommandTraits.isCursor(command)) {
+                return null;
+            }
+            throw e;
+        }
+    };
+
+    /**
+     * @param command 命令类别，未标注时为null
+     */
+    Object fallback(Command command, ShardUnavailableException e);
+}
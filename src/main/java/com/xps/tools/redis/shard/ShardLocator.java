@@ -0,0 +1,13 @@
+package com.xps.tools.redis.shard;
+
+/**
+ * 由ShardingStrategy根据分片列表预先构建，线程安全，被同一个连接池的所有连接共享
+ */
+public interface ShardLocator {
+
+    /**
+     * @param hash KeyHasher计算出的key哈希
+     * @return 分片在shards列表中的下标
+     */
+    public int locate(long hash);
+}
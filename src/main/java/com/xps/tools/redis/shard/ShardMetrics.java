@@ -0,0 +1,87 @@
+package com.xps.tools.redis.shard;
+
+import com.xps.tools.redis.balance.NodeLatency;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 单个分片的请求统计，耗时为一次借出该分片连接到归还之间的时间。
+ * EWMA耗时直接取自节点的NodeLatency，与选择副本时使用的是同一份数据。
+ */
+public class ShardMetrics {
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final NodeLatency latency;
+
+    public ShardMetrics(NodeLatency latency) {
+        this.latency = latency;
+    }
+
+    public void record(long nanos, boolean failed) {
+        requests.incrementAndGet();
+        if(failed) {
+            failures.incrementAndGet();
+        }
+        totalNanos.addAndGet(nanos);
+        long max;
+        while(nanos > (max = maxNanos.get()) && !maxNanos.compareAndSet(max, nanos)) {
+            //CAS失败重试
+        }
+    }
+
+    /**
+     * 熔断打开时被直接拒绝的请求
+     */
+    public void reject() {
+        rejected.incrementAndGet();
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    public long getFailures() {
+        return failures.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    public double getErrorRate() {
+        long total = requests.get();
+        return total == 0 ? 0 : (double) failures.get() / total;
+    }
+
+    public long getAverageLatencyMicros() {
+        long total = requests.get();
+        return total == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalNanos.get() / total);
+    }
+
+    public long getMaxLatencyMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxNanos.get());
+    }
+
+    /**
+     * @return 按时间衰减的峰值EWMA耗时，见NodeLatency
+     */
+    public double getEwmaNanos() {
+        return latency.getEwmaNanos();
+    }
+
+    public long getEwmaLatencyMicros() {
+        return TimeUnit.NANOSECONDS.toMicros((long) latency.getEwmaNanos());
+    }
+
+    @Override
+    public String toString() {
+        return "requests=" + requests + ", failures=" + failures + ", rejected=" + rejected
+                + ", avgMicros=" + getAverageLatencyMicros() + ", ewmaMicros=" + getEwmaLatencyMicros()
+                + ", maxMicros=" + getMaxLatencyMicros();
+    }
+}
@@ -0,0 +1,507 @@
+package com.xps.tools.redis.shard;
+
+import com.xps.tools.redis.ShardedJedisAction;
+import com.xps.tools.redis.pool.Pools;
+import com.xps.tools.redis.util.CommandTraits;
+import redis.clients.jedis.*;
+import redis.clients.jedis.Protocol.Command;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.util.Pool;
+import redis.clients.util.SafeEncoder;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 分片在线迁移：新旧两套拓扑同时存在，迁移期间
+ * <ul>
+ *     <li>只读命令先读新拓扑的节点，未命中再读旧拓扑的节点</li>
+ *     <li>DEL同时作用于新旧两套拓扑，先删旧节点再删新节点，避免旧节点上未迁移的值被读回来</li>
+ *     <li>其余命令(包括未标注命令类别的)都在新拓扑上执行</li>
+ * </ul>
+ * 后台线程逐个扫描旧拓扑的节点，把归属发生变化的key用DUMP/PTTL、RESTORE、DEL分批pipeline迁移到新节点，
+ * 并按keysPerSecond限速。key的归属与在线请求的计算方式一致：SCAN得到的key按String形式计算(会提取hashtag)，
+ * 只有按byte[]形式计算才属于所在旧节点的key(通过二进制接口写入的)按byte[]形式计算。
+ * <p>
+ * 写命令访问key之前先检查旧节点，key还没有迁移时立即迁移过来再执行，INCR、LPUSH、HSET这类在旧值基础上修改的命令
+ * 不会在新节点上从空值开始。这要求新拓扑的连接池是RoutedShardedJedisPool或IsolatedShardedJedisPool
+ * (PoolHandler创建的分片连接池都是)。RESTORE不带REPLACE，后台迁移时新节点上已存在同名key而旧节点上仍有该key，
+ * 说明有绕过上述检查的写入，旧值保留在旧节点上并计入失败，不会被删除。
+ * <p>
+ * 同一个key的后台迁移与写前迁移按key分段加锁串行执行，后台迁移持有整批key的锁直到旧节点上的key删除为止。
+ * DEL不加锁，DUMP之后、RESTORE之前被DEL(或过期)的key会被RESTORE写回新节点，因此RESTORE成功后再检查旧节点：
+ * 旧节点上已不存在说明期间被删除，立即删除新节点上写回的值。旧节点上的key只会减少不会新增，
+ * DEL又总是先删旧节点，所以检查时仍存在的key在之后被DEL时一定会删掉新节点上的值。
+ * 迁移只对通过同一个客户端实例访问的请求生效，其它未进入迁移模式的进程仍按旧拓扑读写。
+ */
+public class ShardMigration {
+
+    public enum State {
+        RUNNING, COPIED, SWITCHED, FAILED
+    }
+
+    public static final int DEFAULT_BATCH_SIZE = 200;
+    public static final int DEFAULT_KEYS_PER_SECOND = 5000;
+
+    private static final String BUSYKEY = "BUSYKEY";
+    private static final int LOCK_STRIPES = 1024;
+
+    private final Logger logger = Logger.getLogger(this.getClass().getName());
+    private final Pool<ShardedJedis> source;
+    private final Pool<ShardedJedis> target;
+    private final int batchSize;
+    private final int keysPerSecond;
+    private final CountDownLatch done = new CountDownLatch(1);
+    private final ReentrantLock[] keyLocks = new ReentrantLock[LOCK_STRIPES];
+
+    private volatile State state = State.RUNNING;
+    private volatile Throwable failure;
+    private final AtomicLong scannedKeys = new AtomicLong();
+    private final AtomicLong movedKeys = new AtomicLong();
+    private final AtomicLong skippedKeys = new AtomicLong();
+    private final AtomicLong failedKeys = new AtomicLong();
+    private final AtomicLong migratedOnWrite = new AtomicLong();
+    private final AtomicLong fallbackReads = new AtomicLong();
+
+    /**
+     * @param source 当前(旧)拓扑的连接池
+     * @param target 新拓扑的连接池
+     * @param batchSize 每批pipeline的key数量
+     * @param keysPerSecond 每秒最多迁移扫描的key数量，小于等于0表示不限速
+     */
+    public ShardMigration(Pool<ShardedJedis> source, Pool<ShardedJedis> target, int batchSize, int keysPerSecond) {
+        this.source = source;
+        this.target = target;
+        this.batchSize = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+        this.keysPerSecond = keysPerSecond;
+        for(int i = 0; i < LOCK_STRIPES; i++) {
+            keyLocks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * 启动后台迁移线程，全部key迁移完成后执行onCopied(通常用来切换拓扑)
+     */
+    public void start(final Runnable onCopied) {
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    copyAll();
+                    state = State.COPIED;
+                    if(onCopied != null) {
+                        onCopied.run();
+                    }
+                } catch (Throwable e) {
+                    failure = e;
+                    state = State.FAILED;
+                    logger.log(Level.SEVERE, "分片迁移失败，客户端保持双读模式，可重新发起迁移", e);
+                } finally {
+                    done.countDown();
+                }
+            }
+        }, "redis-shard-migration");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 按迁移期间的路由规则执行命令
+     * @param command 为空时按写命令处理
+     */
+    public <T> T execute(Command command, ShardedJedisAction<T> action) {
+        boolean migrating = state != State.SWITCHED && !source.isClosed();
+        T old = null;
+        if(migrating && command == Command.DEL) {//先删旧节点，见类注释
+            try(ShardedJedis shardedJedis = source.getResource()) {
+                old = action.doAction(shardedJedis);
+            }
+        }
+        T result;
+        try(ShardedJedis shardedJedis = Pools.borrow(target)) {
+            IsolatedShardedJedis.route(shardedJedis, command);
+            RoutedShardedJedis routed = null;
+            if(migrating && !CommandTraits.isReadOnly(command) && command != Command.DEL
+                    && shardedJedis instanceof RoutedShardedJedis) {
+                routed = (RoutedShardedJedis) shardedJedis;
+                routed.migration = this;
+            }
+            try {
+                result = action.doAction(shardedJedis);
+            } finally {
+                if(routed != null) {
+                    routed.migration = null;
+                }
+            }
+        }
+        if(!migrating) {
+            return result;
+        }
+        if(command == Command.DEL) {
+            return sum(result, old);
+        }
+        if(CommandTraits.isReadOnly(command) && !CommandTraits.isCursor(command) && isMiss(command, result)) {
+            fallbackReads.incrementAndGet();
+            try(ShardedJedis shardedJedis = source.getResource()) {
+                IsolatedShardedJedis.route(shardedJedis, command);
+                return action.doAction(shardedJedis);
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T sum(T a, T b) {
+        if(a instanceof Long && b instanceof Long) {
+            return (T) Long.valueOf((Long) a + (Long) b);
+        }
+        return a;
+    }
+
+    /**
+     * 判断只读命令的结果是否表示key不存在
+     */
+    static boolean isMiss(Command command, Object result) {
+        if(result == null) {
+            return true;
+        }
+        if(command == Command.TTL || command == Command.PTTL) {
+            return Long.valueOf(-2).equals(result);
+        }
+        if(command == Command.TYPE) {
+            return "none".equals(result);
+        }
+        if(result instanceof Boolean) {
+            return !(Boolean) result;
+        }
+        if(result instanceof Long) {
+            return (Long) result == 0L;
+        }
+        if(result instanceof byte[]) {
+            return ((byte[]) result).length == 0;
+        }
+        if(result instanceof Map) {
+            return ((Map<?, ?>) result).isEmpty();
+        }
+        if(result instanceof Collection) {
+            Collection<?> values = (Collection<?>) result;
+            for(Object value : values) {
+                if(value != null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 写命令访问key之前调用：key还在旧节点上时迁移到to中的归属节点
+     */
+    void migrateKey(ShardedJedis to, String key) {
+        try(ShardedJedis from = source.getResource()) {
+            this.migrateKey(from.getShard(key), to.getShardInfo(key), SafeEncoder.encode(key));
+        }
+    }
+
+    void migrateKey(ShardedJedis to, byte[] key) {
+        try(ShardedJedis from = source.getResource()) {
+            this.migrateKey(from.getShard(key), to.getShardInfo(key), key);
+        }
+    }
+
+    /**
+     * 使用单独的连接RESTORE，不占用调用方借出的连接(调用方可能正在组装pipeline)
+     */
+    private void migrateKey(Jedis from, JedisShardInfo owner, byte[] key) {
+        if(nodeOf(from).equals(nodeOf(owner))) {
+            return;
+        }
+        ReentrantLock lock = keyLocks[stripeOf(key)];
+        lock.lock();
+        try {
+            byte[] dump = from.dump(key);
+            if(dump == null) {//已经迁移或不存在
+                return;
+            }
+            long ttl = from.pttl(key);
+            if(ttl == -2) {
+                return;
+            }
+            try(Jedis to = owner.createResource()) {
+                to.restore(key, restoreTtl(ttl), dump);
+                if(!from.exists(key)) {//DUMP之后被DEL，撤销写回的值
+                    to.del(key);
+                    return;
+                }
+            } catch (JedisDataException e) {
+                if(isBusyKey(e)) {//新节点上已有绕过迁移检查写入的值，由后台迁移计入失败
+                    return;
+                }
+                throw e;
+            }
+            from.del(key);
+            migratedOnWrite.incrementAndGet();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static int stripeOf(byte[] key) {
+        return (Arrays.hashCode(key) & 0x7fffffff) % LOCK_STRIPES;
+    }
+
+    /**
+     * 按分段序号从小到大加锁，在线请求每次只持有一个分段，不会死锁
+     */
+    private List<ReentrantLock> lockAll(List<byte[]> keys) {
+        boolean[] stripes = new boolean[LOCK_STRIPES];
+        for(byte[] key : keys) {
+            stripes[stripeOf(key)] = true;
+        }
+        List<ReentrantLock> locked = new ArrayList<>();
+        for(int i = 0; i < LOCK_STRIPES; i++) {
+            if(stripes[i]) {
+                keyLocks[i].lock();
+                locked.add(keyLocks[i]);
+            }
+        }
+        return locked;
+    }
+
+    private static int restoreTtl(long ttl) {
+        return ttl > 0 ? (int) Math.min(ttl, Integer.MAX_VALUE) : 0;
+    }
+
+    private static boolean isBusyKey(JedisDataException e) {
+        return e.getMessage() != null && e.getMessage().startsWith(BUSYKEY);
+    }
+
+    /**
+     * @return true表示key按String形式计算归属(与String接口的在线请求一致，会提取hashtag)
+     */
+    static boolean routeAsText(ShardedJedis from, String node, byte[] key, String text) {
+        if(!Arrays.equals(SafeEncoder.encode(text), key)) {//不是合法的UTF-8，只能通过二进制接口写入
+            return false;
+        }
+        return node.equals(nodeOf(from.getShardInfo(text))) || !node.equals(nodeOf(from.getShardInfo(key)));
+    }
+
+    private void copyAll() throws InterruptedException {
+        long startNanos = System.nanoTime();
+        try(ShardedJedis from = source.getResource(); ShardedJedis to = target.getResource()) {
+            for(Jedis jedis : from.getAllShards()) {
+                String node = nodeOf(jedis);
+                logger.info("开始迁移节点" + node);
+                this.copyShard(from, jedis, node, to, startNanos);
+                logger.info("节点" + node + "迁移完成，" + this);
+            }
+        }
+    }
+
+    private void copyShard(ShardedJedis sharded, Jedis from, String node, ShardedJedis to, long startNanos)
+            throws InterruptedException {
+        ScanParams params = new ScanParams().count(batchSize);
+        byte[] cursor = ScanParams.SCAN_POINTER_START_BINARY;
+        do {
+            ScanResult<byte[]> scan = from.scan(cursor, params);
+            cursor = scan.getCursorAsBytes();
+            List<byte[]> moving = new ArrayList<>();
+            List<Jedis> owners = new ArrayList<>();
+            for(byte[] key : scan.getResult()) {
+                String text = SafeEncoder.encode(key);
+                boolean asText = routeAsText(sharded, node, key, text);
+                JedisShardInfo owner = asText ? to.getShardInfo(text) : to.getShardInfo(key);
+                if(node.equals(nodeOf(owner))) {
+                    skippedKeys.incrementAndGet();
+                } else {
+                    moving.add(key);
+                    owners.add(asText ? to.getShard(text) : to.getShard(key));
+                }
+            }
+            scannedKeys.addAndGet(scan.getResult().size());
+            if(!moving.isEmpty()) {
+                this.moveBatch(from, owners, moving);
+            }
+            this.throttle(startNanos);
+        } while(!Arrays.equals(cursor, ScanParams.SCAN_POINTER_START_BINARY));
+    }
+
+    private void moveBatch(Jedis from, List<Jedis> owners, List<byte[]> keys) {
+        List<ReentrantLock> locked = this.lockAll(keys);
+        try {
+            this.moveLocked(from, owners, keys);
+        } finally {
+            for(ReentrantLock lock : locked) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void moveLocked(Jedis from, List<Jedis> owners, List<byte[]> keys) {
+        Pipeline dumpPipeline = from.pipelined();
+        List<Response<byte[]>> dumps = new ArrayList<>(keys.size());
+        List<Response<Long>> ttls = new ArrayList<>(keys.size());
+        for(byte[] key : keys) {
+            dumps.add(dumpPipeline.dump(key));
+            ttls.add(dumpPipeline.pttl(key));
+        }
+        dumpPipeline.sync();
+
+        Map<Jedis, Pipeline> pipelines = new IdentityHashMap<>();
+        List<Response<String>> restores = new ArrayList<>(keys.size());
+        for(int i = 0; i < keys.size(); i++) {
+            byte[] dump = dumps.get(i).get();
+            long ttl = ttls.get(i).get();
+            if(dump == null || ttl == -2) {//扫描之后已过期或被删除
+                restores.add(null);
+                continue;
+            }
+            Jedis owner = owners.get(i);
+            Pipeline pipeline = pipelines.get(owner);
+            if(pipeline == null) {
+                pipeline = owner.pipelined();
+                pipelines.put(owner, pipeline);
+            }
+            restores.add(pipeline.restore(keys.get(i), restoreTtl(ttl), dump));
+        }
+        for(Pipeline pipeline : pipelines.values()) {
+            pipeline.sync();
+        }
+
+        List<Integer> restored = new ArrayList<>(keys.size());
+        for(int i = 0; i < keys.size(); i++) {
+            Response<String> restore = restores.get(i);
+            if(restore == null) {
+                continue;
+            }
+            try {
+                restore.get();
+            } catch (JedisDataException e) {
+                if(!isBusyKey(e)) {
+                    failedKeys.incrementAndGet();
+                    logger.log(Level.WARNING, "迁移key失败，旧节点上的值保留", e);
+                } else if(from.exists(keys.get(i))) {
+                    failedKeys.incrementAndGet();
+                    logger.warning("新节点上已有未经迁移写入的key[" + SafeEncoder.encode(keys.get(i))
+                            + "]，旧节点上的值保留，需人工合并");
+                }//旧节点上已不存在：写命令访问时已经迁移
+                continue;
+            }
+            restored.add(i);
+        }
+        if(restored.isEmpty()) {
+            return;
+        }
+
+        //DUMP之后被DEL或过期的key已被RESTORE写回新节点，撤销
+        Pipeline existsPipeline = from.pipelined();
+        List<Response<Boolean>> exists = new ArrayList<>(restored.size());
+        for(int i : restored) {
+            exists.add(existsPipeline.exists(keys.get(i)));
+        }
+        existsPipeline.sync();
+        List<byte[]> moved = new ArrayList<>(restored.size());
+        for(int j = 0; j < restored.size(); j++) {
+            int i = restored.get(j);
+            if(exists.get(j).get()) {
+                moved.add(keys.get(i));
+            } else {
+                owners.get(i).del(keys.get(i));
+            }
+        }
+        if(!moved.isEmpty()) {
+            from.del(moved.toArray(new byte[moved.size()][]));
+            movedKeys.addAndGet(moved.size());
+        }
+    }
+
+    private void throttle(long startNanos) throws InterruptedException {
+        if(keysPerSecond <= 0) {
+            return;
+        }
+        long expectedMillis = scannedKeys.get() * 1000L / keysPerSecond;
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        if(expectedMillis > elapsedMillis) {
+            Thread.sleep(expectedMillis - elapsedMillis);
+        }
+    }
+
+    private static String nodeOf(Jedis jedis) {
+        return jedis.getClient().getHost() + ":" + jedis.getClient().getPort();
+    }
+
+    private static String nodeOf(JedisShardInfo shardInfo) {
+        return shardInfo.getHost() + ":" + shardInfo.getPort();
+    }
+
+    /**
+     * 等待后台迁移结束(成功或失败)
+     * @return 超时返回false
+     */
+    public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+        return done.await(timeout, unit);
+    }
+
+    /**
+     * 拓扑切换完成后由客户端调用，之后不再回退读取旧拓扑
+     */
+    public void markSwitched() {
+        this.state = State.SWITCHED;
+    }
+
+    public Pool<ShardedJedis> getSource() {
+        return source;
+    }
+
+    public Pool<ShardedJedis> getTarget() {
+        return target;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    public long getScannedKeys() {
+        return scannedKeys.get();
+    }
+
+    public long getMovedKeys() {
+        return movedKeys.get();
+    }
+
+    public long getSkippedKeys() {
+        return skippedKeys.get();
+    }
+
+    public long getFailedKeys() {
+        return failedKeys.get();
+    }
+
+    /**
+     * @return 写命令访问时立即迁移的key数量
+     */
+    public long getMigratedOnWrite() {
+        return migratedOnWrite.get();
+    }
+
+    public long getFallbackReads() {
+        return fallbackReads.get();
+    }
+
+    @Override
+    public String toString() {
+        return "ShardMigration{state=" + state + ", scanned=" + scannedKeys + ", moved=" + movedKeys
+                + ", skipped=" + skippedKeys + ", failed=" + failedKeys + ", migratedOnWrite=" + migratedOnWrite
+                + ", fallbackReads=" + fallbackReads + "}";
+    }
+}
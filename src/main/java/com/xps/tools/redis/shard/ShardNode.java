@@ -0,0 +1,158 @@
+package com.xps.tools.redis.shard;
+
+import com.xps.tools.redis.balance.LatencyAware;
+import com.xps.tools.redis.balance.NodeLatency;
+import com.xps.tools.redis.pool.Pools;
+import com.xps.tools.redis.resilience.CircuitBreaker;
+import com.xps.tools.redis.resilience.RedisFailures;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisShardInfo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 一个分片节点(主节点或只读副本)的独立连接池、熔断器和统计信息
+ */
+public class ShardNode implements LatencyAware {
+
+    private final JedisShardInfo shardInfo;
+    private final String name;
+    private final JedisPool pool;
+    private final CircuitBreaker circuitBreaker;
+    private final NodeLatency latency = new NodeLatency();
+    private final ShardMetrics metrics = new ShardMetrics(latency);
+    private final AtomicInteger readSequence = new AtomicInteger();
+    private List<ShardNode> replicas = Collections.emptyList();
+
+    public ShardNode(JedisShardInfo shardInfo, JedisPool pool, CircuitBreaker circuitBreaker) {
+        this.shardInfo = shardInfo;
+        this.name = shardInfo.getHost() + ":" + shardInfo.getPort();
+        this.pool = pool;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * 从该分片的连接池借出连接，熔断中或借出失败时抛出ShardUnavailableException；等待时间受当前线程的截止时间限制
+     */
+    public Jedis borrow() {
+        if(!circuitBreaker.allowRequest()) {
+            metrics.reject();
+            throw new ShardUnavailableException(shardInfo, name, "熔断中", null);
+        }
+        try {
+            Jedis jedis = Pools.borrow(pool);
+            latency.begin();
+            return jedis;
+        } catch (RuntimeException e) {
+            if(RedisFailures.isServerFailure(e)) {
+                circuitBreaker.onFailure();
+            } else {
+                //连接池耗尽或已超过截止时间，分片本身没有故障
+                circuitBreaker.onIgnored();
+            }
+            metrics.record(0, true);
+            throw new ShardUnavailableException(shardInfo, name, "获取连接失败", e);
+        }
+    }
+
+    /**
+     * 归还连接并记录本次借出的结果，连接已断开(网络错误、超时)时计为失败
+     */
+    public void release(Jedis jedis, long borrowedAtNanos) {
+        boolean broken = jedis.getClient().isBroken();
+        latency.end(borrowedAtNanos, broken);
+        metrics.record(System.nanoTime() - borrowedAtNanos, broken);
+        if(broken) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+        jedis.close();
+    }
+
+    /**
+     * 为只读命令挑选节点：在可用的副本(readFromPrimary时包括主节点)中按loadBalance选择，没有可用副本时返回主节点
+     * @param avoid 不为空时尽量避开该节点(对冲请求避开原请求所在的节点)
+     */
+    ShardNode selectReadNode(ReplicaLoadBalance loadBalance, boolean readFromPrimary, ShardNode avoid) {
+        if(replicas.isEmpty()) {
+            return this;
+        }
+        List<ShardNode> candidates = new ArrayList<>(replicas.size() + 1);
+        for(ShardNode replica : replicas) {
+            if(replica != avoid && replica.circuitBreaker.isAvailable()) {
+                candidates.add(replica);
+            }
+        }
+        if(candidates.isEmpty() || (readFromPrimary && this != avoid)) {
+            candidates.add(this);
+        }
+        if(candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        return loadBalance.select(candidates, readSequence.getAndIncrement() & Integer.MAX_VALUE);
+    }
+
+    void setReplicas(List<ShardNode> replicas) {
+        this.replicas = Collections.unmodifiableList(new ArrayList<>(replicas));
+    }
+
+    /**
+     * @return 该分片的只读副本，没有配置时为空列表
+     */
+    public List<ShardNode> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * @return 已借出连接、尚未归还的请求数
+     */
+    public int getInFlight() {
+        return latency.getInFlight();
+    }
+
+    /**
+     * @return 按时间衰减的峰值EWMA耗时和正在执行的请求数，供PowerOfTwoChoices挑选节点
+     */
+    @Override
+    public NodeLatency getLatency() {
+        return latency;
+    }
+
+    /**
+     * @return 熔断器关闭时认为分片健康
+     */
+    public boolean isHealthy() {
+        return circuitBreaker.getState() == CircuitBreaker.State.CLOSED;
+    }
+
+    public JedisShardInfo getShardInfo() {
+        return shardInfo;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public JedisPool getPool() {
+        return pool;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public ShardMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public String toString() {
+        return name + "{state=" + circuitBreaker.getState() + ", " + latency + ", active=" + pool.getNumActive()
+                + ", idle=" + pool.getNumIdle() + ", waiters=" + pool.getNumWaiters() + ", " + metrics + "}";
+    }
+}
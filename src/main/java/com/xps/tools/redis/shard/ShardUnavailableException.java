@@ -0,0 +1,27 @@
+package com.xps.tools.redis.shard;
+
+import com.xps.tools.redis.exceptions.RedisToolsException;
+import com.xps.tools.redis.exceptions.RedisToolsExceptionComp;
+import redis.clients.jedis.JedisShardInfo;
+
+/**
+ * 分片熔断中或无法获取连接时抛出，客户端可以据此走ShardFallback降级
+ */
+public class ShardUnavailableException extends RedisToolsException {
+
+    private static final long serialVersionUID = 3127798012749513351L;
+
+    private final JedisShardInfo shardInfo;
+
+    public ShardUnavailableException(JedisShardInfo shardInfo, String node, String reason, Throwable cause) {
+        super(RedisToolsExceptionComp.SHARD_UNAVAILABLE, node, reason);
+        this.shardInfo = shardInfo;
+        if(cause != null) {
+            this.initCause(cause);
+        }
+    }
+
+    public JedisShardInfo getShardInfo() {
+        return shardInfo;
+    }
+}
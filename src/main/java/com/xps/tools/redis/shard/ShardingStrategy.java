@@ -0,0 +1,14 @@
+package com.xps.tools.redis.shard;
+
+import redis.clients.jedis.JedisShardInfo;
+
+import java.util.List;
+
+/**
+ * 可插拔的分片算法，替代jedis Sharded的TreeMap虚拟节点环。
+ * 在RedisShardedPoolConfig中设置后，连接池改为RoutedShardedJedisPool。
+ */
+public interface ShardingStrategy {
+
+    public ShardLocator newLocator(List<JedisShardInfo> shards);
+}
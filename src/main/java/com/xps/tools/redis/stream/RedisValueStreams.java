@@ -0,0 +1,306 @@
+package com.xps.tools.redis.stream;
+
+import com.xps.tools.redis.exceptions.RedisToolsException;
+import redis.clients.jedis.BinaryJedisCommands;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 按固定大小分块读写大value(底层为GETRANGE/SETRANGE/APPEND)，整个value不会在内存中物化成一个byte[]，
+ * 避免G1下的大对象(humongous)分配。底层可以是RedisClient或ShardedRedisClient。
+ * 注意：分块写入不是原子的，写入过程中并发读取可能读到不完整的value。
+ */
+public class RedisValueStreams {
+
+    /**默认64KB，远小于G1最小region(1MB)的一半，不会触发humongous分配*/
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    private final BinaryJedisCommands commands;
+    private final int chunkSize;
+
+    public RedisValueStreams(BinaryJedisCommands commands) {
+        this(commands, DEFAULT_CHUNK_SIZE);
+    }
+
+    public RedisValueStreams(BinaryJedisCommands commands, int chunkSize) {
+        if(chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.commands = commands;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 用输入流的全部内容覆盖key，第一个块SET，后续块APPEND
+     * @return 写入的字节数
+     */
+    public long write(byte[] key, InputStream in) throws IOException {
+        byte[] chunk = new byte[chunkSize];
+        long total = 0;
+        boolean first = true;
+        int n;
+        while((n = readFully(in, chunk)) > 0) {
+            byte[] data = n == chunk.length ? chunk : Arrays.copyOf(chunk, n);
+            if(first) {
+                commands.set(key, data);
+                first = false;
+            } else {
+                commands.append(key, data);
+            }
+            total += n;
+        }
+        if(first) {
+            commands.set(key, new byte[0]);
+        }
+        return total;
+    }
+
+    /**
+     * 从offset开始用输入流的内容覆盖key的一段(SETRANGE)，key不存在或长度不足时redis会补0
+     * @return 写入的字节数
+     */
+    public long write(byte[] key, long offset, InputStream in) throws IOException {
+        byte[] chunk = new byte[chunkSize];
+        long total = 0;
+        int n;
+        while((n = readFully(in, chunk)) > 0) {
+            commands.setrange(key, offset + total, n == chunk.length ? chunk : Arrays.copyOf(chunk, n));
+            total += n;
+        }
+        return total;
+    }
+
+    /**
+     * 用ByteBuffer剩余的内容覆盖key，写完后buffer的position移到limit
+     */
+    public long write(byte[] key, ByteBuffer buffer) {
+        byte[] chunk = new byte[Math.min(chunkSize, Math.max(buffer.remaining(), 1))];
+        long total = 0;
+        boolean first = true;
+        while(buffer.hasRemaining()) {
+            int n = Math.min(chunk.length, buffer.remaining());
+            buffer.get(chunk, 0, n);
+            byte[] data = n == chunk.length ? chunk : Arrays.copyOf(chunk, n);
+            if(first) {
+                commands.set(key, data);
+                first = false;
+            } else {
+                commands.append(key, data);
+            }
+            total += n;
+        }
+        if(first) {
+            commands.set(key, new byte[0]);
+        }
+        return total;
+    }
+
+    /**
+     * 把key的value分块写到输出流
+     * @return 读取的字节数，key不存在时返回-1
+     */
+    public long read(byte[] key, OutputStream out) throws IOException {
+        long offset = 0;
+        while(true) {
+            byte[] data = commands.getrange(key, offset, offset + chunkSize - 1);
+            if(data == null || data.length == 0) {
+                if(offset == 0 && !Boolean.TRUE.equals(commands.exists(key))) {
+                    return -1;
+                }
+                return offset;
+            }
+            out.write(data);
+            offset += data.length;
+            if(data.length < chunkSize) {
+                return offset;
+            }
+        }
+    }
+
+    /**
+     * 从offset开始读取，直到填满dst或到达value末尾
+     * @return 读到的字节数，offset已超过value长度时返回0
+     */
+    public int read(byte[] key, long offset, ByteBuffer dst) {
+        int total = 0;
+        while(dst.hasRemaining()) {
+            int want = Math.min(chunkSize, dst.remaining());
+            byte[] data = commands.getrange(key, offset + total, offset + total + want - 1);
+            if(data == null || data.length == 0) {
+                break;
+            }
+            dst.put(data);
+            total += data.length;
+            if(data.length < want) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 按块懒加载的输入流，每次最多持有一个块
+     */
+    public InputStream openInputStream(final byte[] key) {
+        return new ChunkedInputStream(key);
+    }
+
+    /**
+     * 按块写入的输出流：攒满一个块写一次(第一个块SET，后续APPEND)，close时写出剩余数据
+     */
+    public OutputStream openOutputStream(final byte[] key) {
+        return new ChunkedOutputStream(key);
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    private static int readFully(InputStream in, byte[] buf) throws IOException {
+        int n = 0;
+        while(n < buf.length) {
+            int r = in.read(buf, n, buf.length - n);
+            if(r < 0) {
+                break;
+            }
+            n += r;
+        }
+        return n;
+    }
+
+    private class ChunkedInputStream extends InputStream {
+
+        private final byte[] key;
+        private byte[] chunk;
+        private int pos;
+        private long offset;
+        private boolean eof;
+
+        ChunkedInputStream(byte[] key) {
+            this.key = key;
+        }
+
+        private boolean fill() {
+            if(eof) {
+                return false;
+            }
+            if(chunk != null && pos < chunk.length) {
+                return true;
+            }
+            byte[] data = commands.getrange(key, offset, offset + chunkSize - 1);
+            if(data == null || data.length == 0) {
+                eof = true;
+                chunk = null;
+                return false;
+            }
+            offset += data.length;
+            if(data.length < chunkSize) {
+                //最后一块，读完即结束，不再多请求一次
+                eof = true;
+            }
+            chunk = data;
+            pos = 0;
+            return true;
+        }
+
+        private boolean hasBuffered() {
+            return chunk != null && pos < chunk.length;
+        }
+
+        @Override
+        public int read() {
+            if(!hasBuffered() && !fill()) {
+                return -1;
+            }
+            return chunk[pos++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if(len == 0) {
+                return 0;
+            }
+            if(!hasBuffered() && !fill()) {
+                return -1;
+            }
+            int n = Math.min(len, chunk.length - pos);
+            System.arraycopy(chunk, pos, b, off, n);
+            pos += n;
+            return n;
+        }
+
+        @Override
+        public int available() {
+            return hasBuffered() ? chunk.length - pos : 0;
+        }
+    }
+
+    private class ChunkedOutputStream extends OutputStream {
+
+        private final byte[] key;
+        private final byte[] chunk = new byte[chunkSize];
+        private int count;
+        private boolean written;
+        private boolean closed;
+
+        ChunkedOutputStream(byte[] key) {
+            this.key = key;
+        }
+
+        @Override
+        public void write(int b) {
+            ensureOpen();
+            chunk[count++] = (byte) b;
+            if(count == chunk.length) {
+                flushChunk();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensureOpen();
+            while(len > 0) {
+                int n = Math.min(len, chunk.length - count);
+                System.arraycopy(b, off, chunk, count, n);
+                count += n;
+                off += n;
+                len -= n;
+                if(count == chunk.length) {
+                    flushChunk();
+                }
+            }
+        }
+
+        private void flushChunk() {
+            byte[] data = count == chunk.length ? chunk : Arrays.copyOf(chunk, count);
+            if(written) {
+                commands.append(key, data);
+            } else {
+                commands.set(key, data);
+                written = true;
+            }
+            count = 0;
+        }
+
+        private void ensureOpen() {
+            if(closed) {
+                throw new RedisToolsException("stream closed");
+            }
+        }
+
+        @Override
+        public void close() {
+            if(closed) {
+                return;
+            }
+            if(count > 0 || !written) {
+                flushChunk();
+            }
+            closed = true;
+        }
+    }
+}
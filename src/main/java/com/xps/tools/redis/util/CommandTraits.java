@@ -0,0 +1,78 @@
+package com.xps.tools.redis.util;
+
+import redis.clients.jedis.Protocol.Command;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 命令的分类信息，客户端实现按命令类别决定路由等行为
+ */
+public final class CommandTraits {
+
+    /**只读命令*/
+    private static final Set<Command> READ_ONLY = EnumSet.of(
+            Command.GET, Command.EXISTS, Command.TYPE, Command.TTL, Command.PTTL, Command.STRLEN,
+            Command.GETBIT, Command.GETRANGE, Command.SUBSTR, Command.BITCOUNT, Command.BITPOS, Command.MGET,
+            Command.HGET, Command.HMGET, Command.HEXISTS, Command.HLEN, Command.HKEYS, Command.HVALS, Command.HGETALL,
+            Command.LLEN, Command.LRANGE, Command.LINDEX,
+            Command.SMEMBERS, Command.SCARD, Command.SISMEMBER, Command.SRANDMEMBER,
+            Command.SINTER, Command.SUNION, Command.SDIFF,
+            Command.ZRANGE, Command.ZREVRANGE, Command.ZRANK, Command.ZREVRANK, Command.ZCARD, Command.ZSCORE,
+            Command.ZCOUNT, Command.ZRANGEBYSCORE, Command.ZREVRANGEBYSCORE, Command.ZLEXCOUNT,
+            Command.ZRANGEBYLEX, Command.ZREVRANGEBYLEX,
+            Command.PFCOUNT, Command.GEODIST, Command.GEOHASH, Command.GEOPOS, Command.GEORADIUS,
+            Command.GEORADIUSBYMEMBER, Command.DUMP, Command.ECHO, Command.KEYS, Command.RANDOMKEY, Command.DBSIZE,
+            Command.SCAN, Command.HSCAN, Command.SSCAN, Command.ZSCAN);
+
+    /**游标类命令，结果依赖游标所在节点，不能换节点重试或合并*/
+    private static final Set<Command> CURSOR = EnumSet.of(Command.SCAN, Command.HSCAN, Command.SSCAN, Command.ZSCAN);
+
+    /**阻塞命令，会长时间占用连接*/
+    private static final Set<Command> BLOCKING = EnumSet.of(Command.BLPOP, Command.BRPOP, Command.BRPOPLPUSH,
+            Command.SUBSCRIBE, Command.PSUBSCRIBE);
+
+    /**可能在服务端执行较久或返回大量数据的命令*/
+    private static final Set<Command> HEAVY = EnumSet.of(Command.SORT, Command.KEYS,
+            Command.SUNION, Command.SINTER, Command.SDIFF, Command.SUNIONSTORE, Command.SINTERSTORE, Command.SDIFFSTORE,
+            Command.ZUNIONSTORE, Command.ZINTERSTORE, Command.BITOP, Command.PFMERGE,
+            Command.GEORADIUS, Command.GEORADIUSBYMEMBER, Command.HGETALL, Command.SMEMBERS);
+
+    /**
+     * 执行多次与执行一次效果相同的写命令，连同只读命令可以在连接出错后重试。
+     * INCR、LPUSH、RPOPLPUSH、GETSET、APPEND等重复执行会改变结果的命令不在其中；
+     * 带NX/XX的SET重复执行时返回值会变，客户端按SETNX标记
+     */
+    private static final Set<Command> IDEMPOTENT_WRITES = EnumSet.of(
+            Command.SET, Command.SETEX, Command.PSETEX, Command.MSET, Command.SETBIT, Command.SETRANGE,
+            Command.HSET, Command.HMSET, Command.HDEL, Command.DEL, Command.LSET,
+            Command.EXPIRE, Command.PEXPIRE, Command.EXPIREAT, Command.PEXPIREAT, Command.PERSIST,
+            Command.SADD, Command.SREM, Command.ZADD, Command.ZREM, Command.PFADD, Command.GEOADD);
+
+    private CommandTraits() {
+    }
+
+    public static boolean isReadOnly(Command command) {
+        return command != null && READ_ONLY.contains(command);
+    }
+
+    public static boolean isCursor(Command command) {
+        return command != null && CURSOR.contains(command);
+    }
+
+    public static boolean isBlocking(Command command) {
+        return command != null && BLOCKING.contains(command);
+    }
+
+    public static boolean isHeavy(Command command) {
+        return command != null && HEAVY.contains(command);
+    }
+
+    /**
+     * @return 只读命令或重复执行不改变最终状态的写命令返回true，
+     * 后者(如HSET、SADD、DEL)重试后返回的新增/删除个数可能小于实际生效的个数
+     */
+    public static boolean isIdempotent(Command command) {
+        return command != null && (READ_ONLY.contains(command) || IDEMPOTENT_WRITES.contains(command));
+    }
+}
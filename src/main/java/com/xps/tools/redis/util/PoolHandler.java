@@ -1,14 +1,35 @@
 package com.xps.tools.redis.util;
 
 import com.xps.tools.redis.PoolAction;
+import com.xps.tools.redis.balance.SentinelReplicaSet;
 import com.xps.tools.redis.config.RedisPoolConfig;
 import com.xps.tools.redis.config.RedisSentinelPoolConfig;
 import com.xps.tools.redis.config.RedisShardedPoolConfig;
 import com.xps.tools.redis.exceptions.RedisToolsException;
 import com.xps.tools.redis.exceptions.RedisToolsExceptionComp;
+import com.xps.tools.redis.pool.AdaptivePoolController;
+import com.xps.tools.redis.pool.Bulkhead;
+import com.xps.tools.redis.pool.LeakDetector;
+import com.xps.tools.redis.pool.ManagedJedisPool;
+import com.xps.tools.redis.pool.ManagedJedisSentinelPool;
+import com.xps.tools.redis.pool.PoolDrainer;
+import com.xps.tools.redis.pool.PoolWarmUp;
+import com.xps.tools.redis.pool.PriorityGate;
+import com.xps.tools.redis.pool.ResizablePool;
+import com.xps.tools.redis.pool.StripedJedisPool;
+import com.xps.tools.redis.script.ScriptRegistry;
+import com.xps.tools.redis.shard.IsolatedShardedJedisPool;
+import com.xps.tools.redis.shard.KeyTagExtractor;
+import com.xps.tools.redis.shard.RoutedShardedJedisPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import redis.clients.jedis.*;
 import redis.clients.util.Pool;
 
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
 /**
  * Created by xiongps on 2018/5/30.
  */
@@ -16,13 +37,22 @@ public class PoolHandler {
 
     private static final String LOCK = "lock";
     private static PoolHandler instance = new PoolHandler();
-    private JedisPool jedisPool = null;
-    private JedisSentinelPool jedisSentinelPool = null;
-    private ShardedJedisPool shardedJedisPool = null;
+    private final Logger logger = Logger.getLogger(this.getClass().getName());
+    private volatile JedisPool jedisPool = null;
+    private volatile StripedJedisPool stripedJedisPool = null;
+    private volatile JedisSentinelPool jedisSentinelPool = null;
+    private volatile Pool<ShardedJedis> shardedJedisPool = null;
+    private volatile SentinelReplicaSet sentinelReplicaSet = null;
+    private volatile Bulkhead bulkhead = null;
+    private volatile AdaptivePoolController adaptivePoolController = null;
+    private volatile PoolWarmUp jedisPoolWarmUp = null;
+    private volatile PriorityGate priorityGate = null;
+    private volatile LeakDetector leakDetector = null;
+    private volatile LeakDetector shardedLeakDetector = null;
 
-    private RedisPoolConfig redisPoolConfig = null;
-    private RedisSentinelPoolConfig redisSentinelPoolConfig = null;
-    private RedisShardedPoolConfig redisShardedPoolConfig = null;
+    private volatile RedisPoolConfig redisPoolConfig = null;
+    private volatile RedisSentinelPoolConfig redisSentinelPoolConfig = null;
+    private volatile RedisShardedPoolConfig redisShardedPoolConfig = null;
 
     public static final boolean INIT_DEFAULT_POOL_YES = true;
     public static final boolean INIT_DEFAULT_POOL_NO = false;
@@ -36,9 +66,108 @@ public class PoolHandler {
     }
 
     public Pool<Jedis> getJedisPool(){
+        if(stripedJedisPool != null) {
+            return stripedJedisPool;
+        }
         return jedisPool==null?jedisSentinelPool:jedisPool;
     }
 
+    /**
+     * @return 哨兵模式且开启readFromReplicas时的副本集合，否则为null
+     */
+    public SentinelReplicaSet getSentinelReplicaSet() {
+        return sentinelReplicaSet;
+    }
+
+    /**
+     * @return 按命令类别划分的隔舱，RedisPoolConfig或RedisSentinelPoolConfig中没有配置许可数时为null
+     */
+    public Bulkhead getBulkhead() {
+        return bulkhead;
+    }
+
+    /**
+     * @return 配置了adaptiveMaxTotal时的自适应连接数控制器，否则为null
+     */
+    public AdaptivePoolController getAdaptivePoolController() {
+        return adaptivePoolController;
+    }
+
+    /**
+     * @return 按优先级分配连接的许可，RedisPoolConfig或RedisSentinelPoolConfig中没有开启priorityBorrow时为null
+     */
+    public PriorityGate getPriorityGate() {
+        return priorityGate;
+    }
+
+    /**
+     * @return 连接占用时间的跟踪，RedisPoolConfig或RedisSentinelPoolConfig中没有配置leakThresholdMillis时为null
+     */
+    public LeakDetector getLeakDetector() {
+        return leakDetector;
+    }
+
+    /**
+     * @return 分片连接占用时间的跟踪，RedisShardedPoolConfig中没有配置leakThresholdMillis时为null
+     */
+    public LeakDetector getShardedLeakDetector() {
+        return shardedLeakDetector;
+    }
+
+    /**
+     * @return 最近一次预热的进度和结果，没有预热时为null
+     */
+    public PoolWarmUp getJedisPoolWarmUp() {
+        return jedisPoolWarmUp;
+    }
+
+    /**
+     * 按RedisPoolConfig或RedisSentinelPoolConfig的warmUp配置预热当前的连接池，没有开启预热时返回null。
+     * warmUpBlocking为true时最多等待warmUpTimeoutMillis，超时或部分连接失败只记录日志，不影响启动
+     * @param scriptRegistry 不为空时同时加载其中已注册的lua脚本
+     */
+    public PoolWarmUp warmUpJedisPool(ScriptRegistry scriptRegistry) {
+        Pool<Jedis> pool = this.getJedisPool();
+        if(pool == null) {
+            return null;
+        }
+        if(redisPoolConfig != null) {
+            return this.warmUp(pool, redisPoolConfig, redisPoolConfig.isWarmUp(), redisPoolConfig.getWarmUpConnections(),
+                    redisPoolConfig.isWarmUpBlocking(), redisPoolConfig.getWarmUpTimeoutMillis(), scriptRegistry);
+        }
+        if(redisSentinelPoolConfig != null) {
+            return this.warmUp(pool, redisSentinelPoolConfig, redisSentinelPoolConfig.isWarmUp(),
+                    redisSentinelPoolConfig.getWarmUpConnections(), redisSentinelPoolConfig.isWarmUpBlocking(),
+                    redisSentinelPoolConfig.getWarmUpTimeoutMillis(), scriptRegistry);
+        }
+        return null;
+    }
+
+    private PoolWarmUp warmUp(Pool<Jedis> pool, GenericObjectPoolConfig config, boolean warmUp, int connections,
+                              boolean blocking, long timeoutMillis, ScriptRegistry scriptRegistry) {
+        if(!warmUp) {
+            return null;
+        }
+        if(connections <= 0) {
+            connections = config.getMinIdle();
+        }
+        if(config.getMaxTotal() > 0) {
+            connections = Math.min(connections, config.getMaxTotal());
+        }
+        PoolWarmUp poolWarmUp = new PoolWarmUp(pool, connections, scriptRegistry).start();
+        this.jedisPoolWarmUp = poolWarmUp;
+        if(blocking) {
+            try {
+                if(!poolWarmUp.await(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                    logger.warning("连接池预热超过" + timeoutMillis + "毫秒未完成，继续在后台预热");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return poolWarmUp;
+    }
+
     public Pool<ShardedJedis> getShardedJedisPool(){
         return shardedJedisPool;
     }
@@ -48,24 +177,42 @@ public class PoolHandler {
      * @throws RedisToolsException
      */
     private void initJedisPool() throws RedisToolsException{
-        if(jedisPool!=null){
+        if(jedisPool!=null || stripedJedisPool != null){
             return;
         }
         if(redisPoolConfig != null) {
             this.checkRedisPoolConfig(redisPoolConfig);
-            Pool<Jedis> pool = this.createPool(new PoolAction<Jedis>() {
-                @Override
-                public Pool<Jedis> getPool() {
-                    JedisPool  jp = new JedisPool(redisPoolConfig,redisPoolConfig.getHost(),
-                            redisPoolConfig.getPort(),
-                            redisPoolConfig.getTimeout(),redisPoolConfig.getPassword(),redisPoolConfig.isSsl());
-                    return jp;
-                }
-            });
+            Pool<Jedis> pool = this.newJedisPool(redisPoolConfig);
             this.setJedisPool(pool);
+            this.initComponents(pool, redisPoolConfig);
         }
     }
 
+    private Pool<Jedis> newJedisPool(final RedisPoolConfig redisPoolConfig) {
+        return this.createPool(new PoolAction<Jedis>() {
+            @Override
+            public Pool<Jedis> getPool() {
+                if(redisPoolConfig.isStripedPool()) {
+                    return new StripedJedisPool(redisPoolConfig, redisPoolConfig.getHost(), redisPoolConfig.getPort(),
+                            redisPoolConfig.getTimeout(), redisPoolConfig.getPassword(), redisPoolConfig.isSsl());
+                }
+                ManagedJedisPool  jp = new ManagedJedisPool(redisPoolConfig,redisPoolConfig.getHost(),
+                        redisPoolConfig.getPort(),
+                        redisPoolConfig.getTimeout(),redisPoolConfig.getPassword(),redisPoolConfig.isSsl());
+                jp.setThreadAffineConnections(redisPoolConfig.getThreadAffineConnections());
+                return jp;
+            }
+        });
+    }
+
+    private void initComponents(Pool<Jedis> pool, RedisPoolConfig redisPoolConfig) {
+        this.bulkhead = Bulkhead.of(redisPoolConfig.getFastPermits(), redisPoolConfig.getHeavyPermits(),
+                redisPoolConfig.getBlockingPermits(), redisPoolConfig.getBulkheadWaitMillis());
+        this.initAdaptivePoolController(pool, redisPoolConfig.getAdaptiveMinTotal(), redisPoolConfig.getAdaptiveMaxTotal());
+        this.initPriorityGate(redisPoolConfig, redisPoolConfig.isPriorityBorrow(), redisPoolConfig.getPriorityAgingMillis());
+        this.leakDetector = LeakDetector.of(redisPoolConfig.getLeakThresholdMillis(), redisPoolConfig.getLeakSampleInterval());
+    }
+
     /**
      * 非线程安全
      * @throws RedisToolsException
@@ -76,19 +223,162 @@ public class PoolHandler {
         }
         if(redisSentinelPoolConfig != null){
             this.checkRedisSentinelPoolConfig(redisSentinelPoolConfig);
-            Pool<Jedis> pool = this.createPool(new PoolAction<Jedis>() {
-                @Override
-                public Pool<Jedis> getPool() {
-                    JedisSentinelPool jsp = new JedisSentinelPool(redisSentinelPoolConfig.getMasterName(),
-                            redisSentinelPoolConfig.getSentinels(),redisSentinelPoolConfig,redisSentinelPoolConfig.getConnectionTimeout(),
-                            redisSentinelPoolConfig.getSoTimeout(),redisSentinelPoolConfig.getPassword(),redisSentinelPoolConfig.getDatabase(),redisSentinelPoolConfig.getClientName());
-                    return jsp;
-                }
-            });
+            Pool<Jedis> pool = this.newJedisSentinelPool(redisSentinelPoolConfig);
             this.setJedisPool(pool);
+            this.initComponents(pool, redisSentinelPoolConfig);
+        }
+    }
+
+    private Pool<Jedis> newJedisSentinelPool(final RedisSentinelPoolConfig redisSentinelPoolConfig) {
+        return this.createPool(new PoolAction<Jedis>() {
+            @Override
+            public Pool<Jedis> getPool() {
+                ManagedJedisSentinelPool jsp = new ManagedJedisSentinelPool(redisSentinelPoolConfig.getMasterName(),
+                        redisSentinelPoolConfig.getSentinels(),redisSentinelPoolConfig,redisSentinelPoolConfig.getConnectionTimeout(),
+                        redisSentinelPoolConfig.getSoTimeout(),redisSentinelPoolConfig.getPassword(),redisSentinelPoolConfig.getDatabase(),redisSentinelPoolConfig.getClientName());
+                jsp.setThreadAffineConnections(redisSentinelPoolConfig.getThreadAffineConnections());
+                return jsp;
+            }
+        });
+    }
+
+    private void initComponents(Pool<Jedis> pool, RedisSentinelPoolConfig redisSentinelPoolConfig) {
+        this.bulkhead = Bulkhead.of(redisSentinelPoolConfig.getFastPermits(), redisSentinelPoolConfig.getHeavyPermits(),
+                redisSentinelPoolConfig.getBlockingPermits(), redisSentinelPoolConfig.getBulkheadWaitMillis());
+        this.initAdaptivePoolController(pool, redisSentinelPoolConfig.getAdaptiveMinTotal(), redisSentinelPoolConfig.getAdaptiveMaxTotal());
+        this.initPriorityGate(redisSentinelPoolConfig, redisSentinelPoolConfig.isPriorityBorrow(),
+                redisSentinelPoolConfig.getPriorityAgingMillis());
+        this.sentinelReplicaSet = redisSentinelPoolConfig.isReadFromReplicas() ? new SentinelReplicaSet(redisSentinelPoolConfig) : null;
+        this.leakDetector = LeakDetector.of(redisSentinelPoolConfig.getLeakThresholdMillis(),
+                redisSentinelPoolConfig.getLeakSampleInterval());
+    }
+
+    private void initAdaptivePoolController(Pool<Jedis> pool, int minTotal, int maxTotal) {
+        this.adaptivePoolController = maxTotal > 0 && pool instanceof ResizablePool
+                ? new AdaptivePoolController((ResizablePool) pool, minTotal, maxTotal, AdaptivePoolController.DEFAULT_INTERVAL_MILLIS)
+                : null;
+    }
+
+    /**
+     * 许可数取maxTotal，开启自适应连接池时随调整后的上限变化；maxTotal不限制时不需要排队，不创建。
+     * 需在initAdaptivePoolController之后调用
+     */
+    private void initPriorityGate(GenericObjectPoolConfig config, boolean priorityBorrow, long agingMillis) {
+        this.priorityGate = priorityBorrow && config.getMaxTotal() > 0
+                ? new PriorityGate(config.getMaxTotal(), agingMillis, config.getBlockWhenExhausted() ? config.getMaxWaitMillis() : 0)
+                : null;
+        if(this.priorityGate != null && this.adaptivePoolController != null) {
+            this.adaptivePoolController.setPriorityGate(this.priorityGate);
+        }
+    }
+
+    /**
+     * 不重启地按新配置重建单机连接池：先创建并预热新连接池(开启warmUp时)、加载lua脚本，再原子切换，
+     * 之后的调用立即使用新连接池；旧连接池在后台等待借出的连接全部归还后关闭，不阻塞正在执行的调用。
+     * 当前使用哨兵连接池时同样切换到单机连接池
+     * @param scriptRegistry 不为空时在切换前把已注册的脚本加载到新连接池
+     * @return 新的连接池
+     * @throws RedisToolsException
+     */
+    public Pool<Jedis> reconfigureJedisPool(RedisPoolConfig redisPoolConfig, ScriptRegistry scriptRegistry) throws RedisToolsException{
+        this.checkRedisPoolConfig(redisPoolConfig);
+        synchronized (LOCK) {
+            Pool<Jedis> pool = this.newJedisPool(redisPoolConfig);
+            this.prepare(pool, redisPoolConfig, redisPoolConfig.isWarmUp(), redisPoolConfig.getWarmUpConnections(),
+                    redisPoolConfig.isWarmUpBlocking(), redisPoolConfig.getWarmUpTimeoutMillis(), scriptRegistry);
+            Pool<Jedis> old = this.getJedisPool();
+            AdaptivePoolController oldController = this.adaptivePoolController;
+            LeakDetector oldLeakDetector = this.leakDetector;
+            SentinelReplicaSet oldReplicaSet = this.sentinelReplicaSet;
+            this.switchJedisPool(pool);
+            this.redisPoolConfig = redisPoolConfig;
+            this.redisSentinelPoolConfig = null;
+            this.initComponents(pool, redisPoolConfig);
+            this.sentinelReplicaSet = null;
+            this.retire(old, oldController, oldLeakDetector, oldReplicaSet);
+            logger.info("单机连接池已按新配置切换：" + redisPoolConfig.getHost() + ":" + redisPoolConfig.getPort());
+            return pool;
+        }
+    }
+
+    /**
+     * 不重启地按新配置重建哨兵连接池，过程与reconfigureJedisPool相同
+     * @see #reconfigureJedisPool(RedisPoolConfig, ScriptRegistry)
+     * @throws RedisToolsException
+     */
+    public Pool<Jedis> reconfigureJedisSentinelPool(RedisSentinelPoolConfig redisSentinelPoolConfig, ScriptRegistry scriptRegistry)
+            throws RedisToolsException{
+        this.checkRedisSentinelPoolConfig(redisSentinelPoolConfig);
+        synchronized (LOCK) {
+            Pool<Jedis> pool = this.newJedisSentinelPool(redisSentinelPoolConfig);
+            this.prepare(pool, redisSentinelPoolConfig, redisSentinelPoolConfig.isWarmUp(),
+                    redisSentinelPoolConfig.getWarmUpConnections(), redisSentinelPoolConfig.isWarmUpBlocking(),
+                    redisSentinelPoolConfig.getWarmUpTimeoutMillis(), scriptRegistry);
+            Pool<Jedis> old = this.getJedisPool();
+            AdaptivePoolController oldController = this.adaptivePoolController;
+            LeakDetector oldLeakDetector = this.leakDetector;
+            SentinelReplicaSet oldReplicaSet = this.sentinelReplicaSet;
+            this.switchJedisPool(pool);
+            this.redisSentinelPoolConfig = redisSentinelPoolConfig;
+            this.redisPoolConfig = null;
+            this.initComponents(pool, redisSentinelPoolConfig);
+            this.retire(old, oldController, oldLeakDetector, oldReplicaSet);
+            logger.info("哨兵连接池已按新配置切换：" + redisSentinelPoolConfig.getMasterName());
+            return pool;
+        }
+    }
+
+    /**
+     * 切换前预热新连接池，没有开启预热时只加载lua脚本
+     */
+    private void prepare(Pool<Jedis> pool, GenericObjectPoolConfig config, boolean warmUp, int connections,
+                         boolean blocking, long timeoutMillis, ScriptRegistry scriptRegistry) {
+        if(this.warmUp(pool, config, warmUp, connections, blocking, timeoutMillis, scriptRegistry) != null
+                || scriptRegistry == null || scriptRegistry.getScripts().isEmpty()) {
+            return;
+        }
+        try(Jedis jedis = pool.getResource()) {
+            scriptRegistry.preload(jedis);
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "预加载lua脚本失败", e);
         }
     }
 
+    /**
+     * 先设置新的连接池再清空其它类型的连接池，getJedisPool在切换过程中始终返回旧的或新的连接池
+     */
+    private void switchJedisPool(Pool<Jedis> pool) {
+        this.setJedisPool(pool);
+        if(pool != stripedJedisPool) {
+            this.stripedJedisPool = null;
+        }
+        if(pool != jedisPool) {
+            this.jedisPool = null;
+        }
+        if(pool != jedisSentinelPool) {
+            this.jedisSentinelPool = null;
+        }
+    }
+
+    private void retire(Pool<Jedis> old, AdaptivePoolController oldController, LeakDetector oldLeakDetector,
+                        final SentinelReplicaSet oldReplicaSet) {
+        if(oldController != null) {
+            oldController.close();
+        }
+        if(oldLeakDetector != null) {
+            oldLeakDetector.close();
+        }
+        if(old == null) {
+            return;
+        }
+        PoolDrainer.drain(old, PoolDrainer.DEFAULT_TIMEOUT_MILLIS, oldReplicaSet == null ? null : new Runnable() {
+            @Override
+            public void run() {
+                oldReplicaSet.close();
+            }
+        });
+    }
+
     /**
      * 非线程安全
      * @throws RedisToolsException
@@ -97,17 +387,108 @@ public class PoolHandler {
         if(shardedJedisPool != null ) {
             return;
         }
+        this.setShardedJedisPool(this.newShardedJedisPool(redisShardedPoolConfig));
+        this.initShardedLeakDetector(redisShardedPoolConfig);
+    }
+
+    /**
+     * 按新配置替换分片连接的占用跟踪，旧的停止后台检查，切换前借出的连接照常在旧的上面归还
+     */
+    private void initShardedLeakDetector(RedisShardedPoolConfig redisShardedPoolConfig) {
+        LeakDetector old = this.shardedLeakDetector;
+        this.shardedLeakDetector = LeakDetector.of(redisShardedPoolConfig.getLeakThresholdMillis(),
+                redisShardedPoolConfig.getLeakSampleInterval());
+        if(old != null) {
+            old.close();
+        }
+    }
+
+    /**
+     * 按配置创建一个新的分片连接池，不会替换当前使用的连接池，在线迁移时用来创建新拓扑的连接池
+     * @throws RedisToolsException
+     */
+    public Pool<ShardedJedis> newShardedJedisPool(final RedisShardedPoolConfig redisShardedPoolConfig) throws RedisToolsException{
         this.checkRedisShardedPoolConfig(redisShardedPoolConfig);
-        Pool<ShardedJedis> pool = this.createPool(new PoolAction<ShardedJedis>() {
+        return this.createPool(new PoolAction<ShardedJedis>() {
             @Override
             public Pool<ShardedJedis> getPool() {
-                Pool<ShardedJedis> pool = new ShardedJedisPool(redisShardedPoolConfig,
-                        redisShardedPoolConfig.getShards(), redisShardedPoolConfig.getAlgo(), redisShardedPoolConfig.getKeyTagPattern());
-                return pool;
+                KeyTagExtractor keyTagExtractor = redisShardedPoolConfig.getKeyTagExtractor();
+                if(keyTagExtractor == null && KeyTagExtractor.isDefaultPattern(redisShardedPoolConfig.getKeyTagPattern())) {
+                    keyTagExtractor = KeyTagExtractor.BRACES;
+                }
+                if(redisShardedPoolConfig.isShardIsolation()
+                        || (redisShardedPoolConfig.getReplicas() != null && !redisShardedPoolConfig.getReplicas().isEmpty())) {
+                    return new IsolatedShardedJedisPool(redisShardedPoolConfig, keyTagExtractor);
+                }
+                //没有ShardingStrategy和KeyTagExtractor时与ShardedJedisPool的路由相同，在线迁移依赖RoutedShardedJedis
+                return new RoutedShardedJedisPool(redisShardedPoolConfig, redisShardedPoolConfig.getShards(),
+                        redisShardedPoolConfig.getAlgo(), redisShardedPoolConfig.getKeyTagPattern(),
+                        keyTagExtractor, redisShardedPoolConfig.getShardingStrategy());
             }
         });
-        this.setShardedJedisPool(pool);
+    }
+
+    /**
+     * 不重启地按新配置重建分片连接池，用于调整连接池大小、超时、密码、副本等，分片节点(host、port、name、weight)
+     * 必须与当前一致，节点变化时key的分布会改变，应使用在线迁移。新连接池加载lua脚本后原子切换，
+     * 旧连接池在后台等待借出的连接全部归还后关闭，不阻塞正在执行的调用
+     * @param scriptRegistry 不为空时在切换前把已注册的脚本加载到新连接池的每个分片
+     * @return 新的连接池
+     * @throws RedisToolsException
+     */
+    public Pool<ShardedJedis> reconfigureShardedJedisPool(RedisShardedPoolConfig redisShardedPoolConfig, ScriptRegistry scriptRegistry)
+            throws RedisToolsException{
+        this.checkRedisShardedPoolConfig(redisShardedPoolConfig);
+        synchronized (LOCK) {
+            RedisShardedPoolConfig current = this.redisShardedPoolConfig;
+            if(current != null && !sameShards(current.getShards(), redisShardedPoolConfig.getShards())) {
+                throw new RedisToolsException(RedisToolsExceptionComp.SHARD_TOPOLOGY_CHANGED, redisShardedPoolConfig.getShards());
+            }
+            Pool<ShardedJedis> pool = this.newShardedJedisPool(redisShardedPoolConfig);
+            if(scriptRegistry != null && !scriptRegistry.getScripts().isEmpty()) {
+                try(ShardedJedis shardedJedis = pool.getResource()) {
+                    for(Jedis jedis : shardedJedis.getAllShards()) {
+                        scriptRegistry.preload(jedis);
+                    }
+                } catch (RuntimeException e) {
+                    logger.log(Level.WARNING, "预加载lua脚本失败", e);
+                }
+            }
+            Pool<ShardedJedis> old = this.switchShardedJedisPool(redisShardedPoolConfig, pool);
+            if(old != null) {
+                PoolDrainer.drain(old, PoolDrainer.DEFAULT_TIMEOUT_MILLIS);
+            }
+            logger.info("分片连接池已按新配置切换");
+            return pool;
+        }
+    }
+
+    private static boolean sameShards(List<JedisShardInfo> current, List<JedisShardInfo> target) {
+        if(current.size() != target.size()) {
+            return false;
+        }
+        for(int i = 0; i < current.size(); i++) {
+            JedisShardInfo a = current.get(i);
+            JedisShardInfo b = target.get(i);
+            if(!a.getHost().equals(b.getHost()) || a.getPort() != b.getPort() || a.getWeight() != b.getWeight()
+                    || (a.getName() == null ? b.getName() != null : !a.getName().equals(b.getName()))) {
+                return false;
+            }
+        }
+        return true;
+    }
 
+    /**
+     * 原子地把分片连接池和配置切换为新的拓扑，返回被替换下来的旧连接池，由调用方负责关闭
+     */
+    public Pool<ShardedJedis> switchShardedJedisPool(RedisShardedPoolConfig redisShardedPoolConfig, Pool<ShardedJedis> pool) {
+        synchronized (LOCK) {
+            Pool<ShardedJedis> old = this.shardedJedisPool;
+            this.setShardedJedisPool(pool);
+            this.redisShardedPoolConfig = redisShardedPoolConfig;
+            this.initShardedLeakDetector(redisShardedPoolConfig);
+            return old;
+        }
     }
 
     private void checkRedisShardedPoolConfig(RedisShardedPoolConfig redisShardedPoolConfig) {
@@ -129,6 +510,7 @@ public class PoolHandler {
         if(redisSentinelPoolConfig.getSentinels()== null || redisSentinelPoolConfig.getSentinels().size() <=0) {
             throw new RedisToolsException(RedisToolsExceptionComp.PARAM_NULL_SENTINELS);
         }
+        checkPriorityBorrow(redisSentinelPoolConfig.isPriorityBorrow(), redisSentinelPoolConfig.getThreadAffineConnections());
         //校验参数的格式
 
     }
@@ -138,9 +520,19 @@ public class PoolHandler {
         if(redisPoolConfig.getHost() == null || "".equals(redisPoolConfig.getHost())) {
             throw new RedisToolsException(RedisToolsExceptionComp.PARAM_NULL_HOST);
         }
+        checkPriorityBorrow(redisPoolConfig.isPriorityBorrow(), redisPoolConfig.getThreadAffineConnections());
         //校验参数的格式
     }
 
+    /**
+     * 线程缓存的连接一直算作借出，却不占用PriorityGate的许可，两者同时开启时许可数与实际可借的连接数不一致
+     */
+    private static void checkPriorityBorrow(boolean priorityBorrow, int threadAffineConnections) {
+        if(priorityBorrow && threadAffineConnections > 0) {
+            throw new RedisToolsException(RedisToolsExceptionComp.CONFIG_CONFLICT, "priorityBorrow", "threadAffineConnections");
+        }
+    }
+
     public <T> Pool<T> createPool(PoolAction<T> poolAction){
         return poolAction.getPool();
     }
@@ -150,14 +542,16 @@ public class PoolHandler {
             this.jedisPool = (JedisPool)pool;
         } else if(pool instanceof JedisSentinelPool) {
             this.jedisSentinelPool = (JedisSentinelPool)pool;
+        } else if(pool instanceof StripedJedisPool) {
+            this.stripedJedisPool = (StripedJedisPool)pool;
         } else {
             throw new RedisToolsException(RedisToolsExceptionComp.PARAMETER_FAIL_POOL_TYPE_JEDIS);
         }
     }
 
     public void setShardedJedisPool(Pool<ShardedJedis> pool) {
-        if(pool instanceof ShardedJedisPool) {
-            this.shardedJedisPool = (ShardedJedisPool)pool;
+        if(pool instanceof ShardedJedisPool || pool instanceof RoutedShardedJedisPool || pool instanceof IsolatedShardedJedisPool) {
+            this.shardedJedisPool = pool;
         }else {
             throw new RedisToolsException(RedisToolsExceptionComp.PARAMETER_FAIL_POOL_TYPE_SHARDED);
         }
@@ -0,0 +1,424 @@
+package com.xps.tools.redis;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 测试用的内存redis，只实现测试用到的少量命令(字符串、hash、set、SCAN、DUMP/RESTORE等)，不支持过期。
+ * 不依赖真实的redis服务，用来验证客户端与服务端之间的交互
+ */
+public class MiniRedisServer implements AutoCloseable {
+
+    private static final Charset RAW = Charset.forName("ISO-8859-1");
+
+    private final ServerSocket server;
+    /**key按ISO-8859-1转成String保存，值为byte[](字符串)、Map(hash)或Set(set，DUMP/RESTORE不支持)*/
+    private final ConcurrentMap<String, Object> data = new ConcurrentHashMap<>();
+    private final List<Socket> clients = new ArrayList<>();
+    private final ConcurrentMap<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Runnable> hooks = new ConcurrentHashMap<>();
+
+    public MiniRedisServer() throws IOException {
+        this.server = new ServerSocket(0);
+        Thread acceptor = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                while(!server.isClosed()) {
+                    try {
+                        final Socket socket = server.accept();
+                        synchronized (clients) {
+                            clients.add(socket);
+                        }
+                        Thread handler = new Thread(new Runnable() {
+                            @Override
+                            public void run() {
+                                serve(socket);
+                            }
+                        }, "mini-redis-client");
+                        handler.setDaemon(true);
+                        handler.start();
+                    } catch (IOException e) {
+                        return;
+                    }
+                }
+            }
+        }, "mini-redis-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    public int getPort() {
+        return server.getLocalPort();
+    }
+
+    public boolean contains(String key) {
+        return data.containsKey(key);
+    }
+
+    public int size() {
+        return data.size();
+    }
+
+    /**
+     * 模拟其它客户端的删除
+     */
+    public void remove(String key) {
+        data.remove(key);
+    }
+
+    /**
+     * 下一次执行完command命令后(回复已写出，尚未flush)执行一次hook，用来在两条命令之间插入其它客户端的操作
+     */
+    public void afterCommand(String command, Runnable hook) {
+        hooks.put(command, hook);
+    }
+
+    /**
+     * @return 收到的command命令的次数
+     */
+    public int getCalls(String command) {
+        AtomicInteger count = calls.get(command);
+        return count == null ? 0 : count.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.close();
+        synchronized (clients) {
+            for(Socket socket : clients) {
+                socket.close();
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try(Socket s = socket) {
+            InputStream in = new BufferedInputStream(s.getInputStream());
+            OutputStream out = new BufferedOutputStream(s.getOutputStream());
+            while(true) {
+                List<byte[]> args = readCommand(in);
+                if(args == null) {
+                    return;
+                }
+                this.execute(args, out);
+                Runnable hook = hooks.remove(new String(args.get(0), RAW).toUpperCase());
+                if(hook != null) {
+                    hook.run();
+                }
+                if(in.available() == 0) {
+                    out.flush();
+                }
+            }
+        } catch (IOException e) {
+            //连接断开
+        }
+    }
+
+    private void execute(List<byte[]> args, OutputStream out) throws IOException {
+        String name = new String(args.get(0), RAW).toUpperCase();
+        String key = args.size() > 1 ? new String(args.get(1), RAW) : null;
+        AtomicInteger count = calls.get(name);
+        if(count == null) {
+            calls.putIfAbsent(name, new AtomicInteger());
+            count = calls.get(name);
+        }
+        count.incrementAndGet();
+        switch (name) {
+            case "PING":
+                status(out, "PONG");
+                return;
+            case "SELECT":
+            case "AUTH":
+            case "QUIT":
+                status(out, "OK");
+                return;
+            case "SET":
+                data.put(key, args.get(2));
+                status(out, "OK");
+                return;
+            case "GET":
+                Object value = data.get(key);
+                if(value != null && !(value instanceof byte[])) {
+                    error(out, "WRONGTYPE Operation against a key holding the wrong kind of value");
+                    return;
+                }
+                bulk(out, (byte[]) value);
+                return;
+            case "HSET":
+                Map<String, byte[]> hash = this.hash(key);
+                synchronized (hash) {
+                    integer(out, hash.put(new String(args.get(2), RAW), args.get(3)) == null ? 1 : 0);
+                }
+                return;
+            case "HGET":
+                hash = this.existingHash(key);
+                if(hash == null) {
+                    bulk(out, null);
+                    return;
+                }
+                synchronized (hash) {
+                    bulk(out, hash.get(new String(args.get(2), RAW)));
+                }
+                return;
+            case "HGETALL":
+                hash = this.existingHash(key);
+                List<byte[]> flat = new ArrayList<>();
+                if(hash != null) {
+                    synchronized (hash) {
+                        for(Map.Entry<String, byte[]> entry : hash.entrySet()) {
+                            flat.add(entry.getKey().getBytes(RAW));
+                            flat.add(entry.getValue());
+                        }
+                    }
+                }
+                array(out, flat);
+                return;
+            case "HDEL":
+                hash = this.existingHash(key);
+                int deleted = 0;
+                if(hash != null) {
+                    synchronized (hash) {
+                        for(int i = 2; i < args.size(); i++) {
+                            if(hash.remove(new String(args.get(i), RAW)) != null) {
+                                deleted++;
+                            }
+                        }
+                        if(hash.isEmpty()) {
+                            data.remove(key, hash);
+                        }
+                    }
+                }
+                integer(out, deleted);
+                return;
+            case "SADD":
+                Set<String> set = this.set(key);
+                int added = 0;
+                synchronized (set) {
+                    for(int i = 2; i < args.size(); i++) {
+                        if(set.add(new String(args.get(i), RAW))) {
+                            added++;
+                        }
+                    }
+                }
+                integer(out, added);
+                return;
+            case "SMEMBERS":
+                List<byte[]> members = new ArrayList<>();
+                set = this.existingSet(key);
+                if(set != null) {
+                    synchronized (set) {
+                        for(String member : set) {
+                            members.add(member.getBytes(RAW));
+                        }
+                    }
+                }
+                array(out, members);
+                return;
+            case "DEL":
+                int removed = 0;
+                for(int i = 1; i < args.size(); i++) {
+                    if(data.remove(new String(args.get(i), RAW)) != null) {
+                        removed++;
+                    }
+                }
+                integer(out, removed);
+                return;
+            case "EXISTS":
+                integer(out, data.containsKey(key) ? 1 : 0);
+                return;
+            case "PTTL":
+                integer(out, data.containsKey(key) ? -1 : -2);
+                return;
+            case "SCAN"://一次返回全部key
+                List<byte[]> keys = new ArrayList<>();
+                for(String k : data.keySet()) {
+                    keys.add(k.getBytes(RAW));
+                }
+                out.write("*2\r\n".getBytes(RAW));
+                bulk(out, "0".getBytes(RAW));
+                array(out, keys);
+                return;
+            case "DUMP":
+                bulk(out, this.dump(data.get(key)));
+                return;
+            case "RESTORE":
+                if(data.putIfAbsent(key, restore(args.get(3))) != null) {
+                    error(out, "BUSYKEY Target key name already exists.");
+                    return;
+                }
+                status(out, "OK");
+                return;
+            default:
+                error(out, "ERR unknown command '" + name + "'");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, byte[]> existingHash(String key) {
+        return (Map<String, byte[]>) data.get(key);
+    }
+
+    private Map<String, byte[]> hash(String key) {
+        Map<String, byte[]> hash = this.existingHash(key);
+        if(hash == null) {
+            Map<String, byte[]> created = new LinkedHashMap<>();
+            Object existing = data.putIfAbsent(key, created);
+            hash = existing == null ? created : this.existingHash(key);
+        }
+        return hash;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> existingSet(String key) {
+        return (Set<String>) data.get(key);
+    }
+
+    private Set<String> set(String key) {
+        Set<String> set = this.existingSet(key);
+        if(set == null) {
+            Set<String> created = new LinkedHashSet<>();
+            Object existing = data.putIfAbsent(key, created);
+            set = existing == null ? created : this.existingSet(key);
+        }
+        return set;
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] dump(Object value) throws IOException {
+        if(value == null) {
+            return null;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        if(value instanceof byte[]) {
+            out.writeByte('s');
+            writeBytes(out, (byte[]) value);
+        } else {
+            Map<String, byte[]> hash = (Map<String, byte[]>) value;
+            synchronized (hash) {
+                out.writeByte('h');
+                out.writeInt(hash.size());
+                for(Map.Entry<String, byte[]> entry : hash.entrySet()) {
+                    writeBytes(out, entry.getKey().getBytes(RAW));
+                    writeBytes(out, entry.getValue());
+                }
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object restore(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        if(in.readByte() == 's') {
+            return readBytes(in);
+        }
+        int size = in.readInt();
+        Map<String, byte[]> hash = new LinkedHashMap<>();
+        for(int i = 0; i < size; i++) {
+            hash.put(new String(readBytes(in), RAW), readBytes(in));
+        }
+        return hash;
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] value) throws IOException {
+        out.writeInt(value.length);
+        out.write(value);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] value = new byte[in.readInt()];
+        in.readFully(value);
+        return value;
+    }
+
+    private static List<byte[]> readCommand(InputStream in) throws IOException {
+        int first = in.read();
+        if(first < 0) {
+            return null;
+        }
+        if(first != '*') {
+            throw new IOException("只支持RESP数组格式的命令");
+        }
+        int count = Integer.parseInt(readLine(in));
+        List<byte[]> args = new ArrayList<>(count);
+        for(int i = 0; i < count; i++) {
+            if(in.read() != '$') {
+                throw new IOException("只支持bulk string参数");
+            }
+            byte[] arg = new byte[Integer.parseInt(readLine(in))];
+            int read = 0;
+            while(read < arg.length) {
+                int n = in.read(arg, read, arg.length - read);
+                if(n < 0) {
+                    throw new EOFException();
+                }
+                read += n;
+            }
+            readLine(in);
+            args.add(arg);
+        }
+        return args;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while((c = in.read()) != '\r') {
+            if(c < 0) {
+                throw new EOFException();
+            }
+            line.append((char) c);
+        }
+        in.read();
+        return line.toString();
+    }
+
+    private static void status(OutputStream out, String status) throws IOException {
+        out.write(("+" + status + "\r\n").getBytes(RAW));
+    }
+
+    private static void error(OutputStream out, String message) throws IOException {
+        out.write(("-" + message + "\r\n").getBytes(RAW));
+    }
+
+    private static void integer(OutputStream out, long value) throws IOException {
+        out.write((":" + value + "\r\n").getBytes(RAW));
+    }
+
+    private static void bulk(OutputStream out, byte[] value) throws IOException {
+        if(value == null) {
+            out.write("$-1\r\n".getBytes(RAW));
+            return;
+        }
+        out.write(("$" + value.length + "\r\n").getBytes(RAW));
+        out.write(value);
+        out.write("\r\n".getBytes(RAW));
+    }
+
+    private static void array(OutputStream out, List<byte[]> values) throws IOException {
+        out.write(("*" + values.size() + "\r\n").getBytes(RAW));
+        for(byte[] value : values) {
+            bulk(out, value);
+        }
+    }
+}
@@ -2,8 +2,11 @@ package com.xps.tools.redis;
 
 import com.xps.tools.redis.config.RedisPoolConfig;
 import com.xps.tools.redis.config.RedisShardedPoolConfig;
+import com.xps.tools.redis.exceptions.RedisToolsException;
+import com.xps.tools.redis.exceptions.RedisToolsExceptionComp;
 import com.xps.tools.redis.impl.RedisClientImpl;
 import com.xps.tools.redis.impl.ShardedRedisClientImpl;
+import org.junit.Assert;
 import org.junit.Test;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
@@ -63,6 +66,7 @@ public class RedisTest {
        // redisPoolConfig.setMaxTotal(15);
        // redisPoolConfig.setMaxIdle(8);
         redisPoolConfig.setTestOnBorrow(true);
+        redisPoolConfig.setValidationSkipMillis(1000);
         //redisPoolConfig.setTimeout(1000);
         RedisClientImpl redisClient = new RedisClientImpl(redisPoolConfig);
         //redisClient.setRedisPoolConfig(redisPoolConfig);
@@ -85,6 +89,27 @@ public class RedisTest {
         logger.info("--结束---");
     }
 
+    @Test
+    public void testDatabaseView() {
+        RedisClientImpl redisClient = new RedisClientImpl(redisPoolConfig);
+        RedisClient db1 = redisClient.database(1);
+        final String key = "toolsRedisTestDbKey";
+        redisClient.set(key, "db0");
+        db1.set(key, "db1");
+        Assert.assertEquals("db0", redisClient.get(key));
+        Assert.assertEquals("db1", db1.get(key));
+        Assert.assertSame(db1, redisClient.database(1));
+        try {
+            redisClient.select(1);
+            Assert.fail("共享连接上不允许SELECT");
+        } catch (RedisToolsException e) {
+            Assert.assertSame(RedisToolsExceptionComp.POOLED_CONNECTION_STATE, e.getEnumException());
+        }
+        redisClient.del(key);
+        db1.del(key);
+        redisClient.destroy();
+    }
+
 
     @Test
     public void testShardredisClient() {
@@ -0,0 +1,94 @@
+package com.xps.tools.redis.balance;
+
+import org.junit.Assert;
+import org.junit.Test;
+import redis.clients.jedis.HostAndPort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class PowerOfTwoChoicesTest {
+
+    private static class Node implements LatencyAware {
+        private final NodeLatency latency = new NodeLatency();
+
+        @Override
+        public NodeLatency getLatency() {
+            return latency;
+        }
+    }
+
+    private static void sample(Node node, long micros) {
+        long begin = node.latency.begin() - TimeUnit.MICROSECONDS.toNanos(micros);
+        node.latency.end(begin, false);
+    }
+
+    @Test
+    public void testSlowNodeGetsLessTraffic() {
+        Node fast1 = new Node();
+        Node fast2 = new Node();
+        Node slow = new Node();
+        sample(fast1, 200);
+        sample(fast2, 250);
+        sample(slow, 50000);//GC停顿
+        List<Node> nodes = Arrays.asList(fast1, fast2, slow);
+        int slowPicks = 0;
+        for(int i = 0; i < 3000; i++) {
+            if(PowerOfTwoChoices.select(nodes) == slow) {
+                slowPicks++;
+            }
+        }
+        Assert.assertEquals("慢节点只有在与自己比较时才会被选中，两两比较永远输", 0, slowPicks);
+    }
+
+    @Test
+    public void testInFlightSpreadsLoad() {
+        Node a = new Node();
+        Node b = new Node();
+        sample(a, 100);
+        sample(b, 100);
+        for(int i = 0; i < 5; i++) {
+            a.latency.begin();//a上有5个请求在执行
+        }
+        List<Node> nodes = Arrays.asList(a, b);
+        Map<Node, Integer> picks = new HashMap<>();
+        for(int i = 0; i < 100; i++) {
+            Node picked = PowerOfTwoChoices.select(nodes);
+            picks.put(picked, picks.containsKey(picked) ? picks.get(picked) + 1 : 1);
+        }
+        Assert.assertEquals(Integer.valueOf(100), picks.get(b));
+    }
+
+    @Test
+    public void testPeakEwma() {
+        Node node = new Node();
+        sample(node, 100);
+        sample(node, 10000);
+        Assert.assertTrue("耗时升高时立即生效", node.latency.getEwmaNanos() >= TimeUnit.MICROSECONDS.toNanos(9000));
+        Assert.assertNull(PowerOfTwoChoices.select(new ArrayList<Node>()));
+    }
+
+    @Test
+    public void testParseSentinelReplicas() {
+        Map<String, String> ok = new HashMap<>();
+        ok.put("ip", "10.0.0.2");
+        ok.put("port", "6379");
+        ok.put("flags", "slave");
+        ok.put("master-link-status", "ok");
+        Map<String, String> down = new HashMap<>(ok);
+        down.put("ip", "10.0.0.3");
+        down.put("flags", "slave,s_down");
+        Map<String, String> linkDown = new HashMap<>(ok);
+        linkDown.put("ip", "10.0.0.4");
+        linkDown.put("master-link-status", "err");
+        List<Map<String, String>> slaves = new ArrayList<>();
+        slaves.add(ok);
+        slaves.add(down);
+        slaves.add(linkDown);
+        Assert.assertEquals(Arrays.asList(new HostAndPort("10.0.0.2", 6379)), SentinelReplicaSet.parseReplicas(slaves));
+    }
+}
@@ -0,0 +1,166 @@
+package com.xps.tools.redis.benchmark;
+
+import com.xps.tools.redis.codec.RedisCodec;
+import com.xps.tools.redis.codec.Serializer;
+import com.xps.tools.redis.codec.SerializerCodec;
+import redis.clients.util.SafeEncoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+
+/**
+ * 对比String接口与codec二进制接口在客户端侧的每次调用分配字节数，不需要redis服务。
+ * String接口：对象 -> JSON String -> SafeEncoder.encode(jedis内部) / byte[] -> String -> 解析
+ * codec接口：对象 -> 直接写入byte[] / byte[] -> 直接解析
+ * 运行：java -cp target/classes:target/test-classes:jedis.jar com.xps.tools.redis.benchmark.CodecAllocationBenchmark
+ */
+public class CodecAllocationBenchmark {
+
+    private static final int WARMUP = 200000;
+    private static final int ITERATIONS = 1000000;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static long sink;
+
+    public static void main(String[] args) {
+        final Order order = new Order(10086L, "redis工具类-codec", 128.5D, "tag1,tag2,tag3");
+        final RedisCodec<Order> codec = new SerializerCodec<>(new OrderSerializer());
+        final byte[] stored = codec.encode(order);
+
+        Task stringApi = new Task() {
+            @Override
+            public void run() {
+                String json = toJson(order);
+                byte[] wire = SafeEncoder.encode(json);
+                String read = SafeEncoder.encode(stored);
+                sink += wire.length + checksum(read);
+            }
+        };
+        Task codecApi = new Task() {
+            @Override
+            public void run() {
+                byte[] wire = codec.encode(order);
+                sink += wire.length + codec.decode(stored).id;
+            }
+        };
+        for(int round = 0; round < 3; round++) {
+            report("String API", stringApi);
+            report("codec API ", codecApi);
+        }
+        System.out.println("sink=" + sink);
+    }
+
+    private static void report(String name, Task task) {
+        for(int i = 0; i < WARMUP; i++) {
+            task.run();
+        }
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for(int i = 0; i < ITERATIONS; i++) {
+            task.run();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - bytesBefore;
+        System.out.println(String.format("%s  %8.1f bytes/op  %8.1f ns/op", name,
+                (double) allocated / ITERATIONS, (double) elapsed / ITERATIONS));
+    }
+
+    private static String toJson(Order order) {
+        return new StringBuilder(96).append("{\"id\":").append(order.id)
+                .append(",\"name\":\"").append(order.name)
+                .append("\",\"price\":").append(order.price)
+                .append(",\"tags\":\"").append(order.tags).append("\"}").toString();
+    }
+
+    private static long checksum(CharSequence cs) {
+        long h = 0;
+        for(int i = 0; i < cs.length(); i++) {
+            h = h * 31 + cs.charAt(i);
+        }
+        return h;
+    }
+
+    interface Task {
+        void run();
+    }
+
+    static class Order {
+        final long id;
+        final String name;
+        final double price;
+        final String tags;
+
+        Order(long id, String name, double price, String tags) {
+            this.id = id;
+            this.name = name;
+            this.price = price;
+            this.tags = tags;
+        }
+    }
+
+    /**
+     * 直接写UTF-8字节的极简JSON序列化器，代表jackson等可以直接写OutputStream的序列化器
+     */
+    static class OrderSerializer implements Serializer<Order> {
+
+        @Override
+        public void serialize(Order order, OutputStream out) throws IOException {
+            writeAscii(out, "{\"id\":");
+            writeLong(out, order.id);
+            writeAscii(out, ",\"name\":\"");
+            writeUtf8(out, order.name);
+            writeAscii(out, "\",\"price\":");
+            writeAscii(out, Double.toString(order.price));
+            writeAscii(out, ",\"tags\":\"");
+            writeUtf8(out, order.tags);
+            writeAscii(out, "\"}");
+        }
+
+        @Override
+        public Order deserialize(InputStream in) throws IOException {
+            //只解析id字段即可代表"直接在字节上解析"，不构造中间String
+            long id = 0;
+            int b;
+            while((b = in.read()) != -1 && b != ':') {
+            }
+            while((b = in.read()) >= '0' && b <= '9') {
+                id = id * 10 + (b - '0');
+            }
+            return new Order(id, null, 0D, null);
+        }
+
+        private static void writeAscii(OutputStream out, String s) throws IOException {
+            for(int i = 0; i < s.length(); i++) {
+                out.write(s.charAt(i));
+            }
+        }
+
+        private static void writeLong(OutputStream out, long v) throws IOException {
+            if(v >= 10) {
+                writeLong(out, v / 10);
+            }
+            out.write((int) ('0' + v % 10));
+        }
+
+        private static void writeUtf8(OutputStream out, String s) throws IOException {
+            for(int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                if(c < 0x80) {
+                    out.write(c);
+                } else if(c < 0x800) {
+                    out.write(0xc0 | (c >> 6));
+                    out.write(0x80 | (c & 0x3f));
+                } else {
+                    out.write(0xe0 | (c >> 12));
+                    out.write(0x80 | ((c >> 6) & 0x3f));
+                    out.write(0x80 | (c & 0x3f));
+                }
+            }
+        }
+    }
+}
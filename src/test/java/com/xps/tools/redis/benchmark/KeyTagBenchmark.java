@@ -0,0 +1,74 @@
+package com.xps.tools.redis.benchmark;
+
+import com.xps.tools.redis.shard.KeyTagExtractor;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisShardInfo;
+import redis.clients.util.Sharded;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+
+/**
+ * keyTagPattern正则提取与KeyTagExtractor无分配提取的对比，不需要redis服务。
+ * 运行：java -cp ... com.xps.tools.redis.benchmark.KeyTagBenchmark
+ */
+public class KeyTagBenchmark {
+
+    private static final int ITERATIONS = 5000000;
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static long sink;
+
+    public static void main(String[] args) {
+        final String[] keys = new String[1024];
+        for(int i = 0; i < keys.length; i++) {
+            //一半带hashtag，一半不带
+            keys[i] = (i & 1) == 0 ? "order:{user" + i + "}:items" : "session:token:" + i;
+        }
+        final Sharded<Jedis, JedisShardInfo> regex = new Sharded<>(Collections.<JedisShardInfo>emptyList(),
+                Sharded.DEFAULT_KEY_TAG_PATTERN);
+        final KeyTagExtractor extractor = KeyTagExtractor.BRACES;
+        for(int round = 0; round < 3; round++) {
+            run("regex getKeyTag      ", new Task() {
+                @Override
+                public long run(int i) {
+                    return regex.getKeyTag(keys[i & 1023]).length();
+                }
+            });
+            run("extractor getKeyTag  ", new Task() {
+                @Override
+                public long run(int i) {
+                    return extractor.getKeyTag(keys[i & 1023]).length();
+                }
+            });
+            run("extractor hash(range)", new Task() {
+                @Override
+                public long run(int i) {
+                    return extractor.hash(keys[i & 1023]);
+                }
+            });
+        }
+        System.out.println("sink=" + sink);
+    }
+
+    private static void run(String name, Task task) {
+        for(int i = 0; i < ITERATIONS / 5; i++) {
+            sink += task.run(i);
+        }
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for(int i = 0; i < ITERATIONS; i++) {
+            sink += task.run(i);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - bytesBefore;
+        System.out.println(String.format("%s  %7.1f ns/op  %6.1f bytes/op", name,
+                (double) elapsed / ITERATIONS, (double) allocated / ITERATIONS));
+    }
+
+    interface Task {
+        long run(int i);
+    }
+}
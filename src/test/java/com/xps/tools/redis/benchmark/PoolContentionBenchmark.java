@@ -0,0 +1,131 @@
+package com.xps.tools.redis.benchmark;
+
+import com.xps.tools.redis.pool.StripedJedisPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.util.Pool;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JedisPool(GenericObjectPool)与StripedJedisPool在8~256个线程下借还连接的竞争对比，只借还不发送命令，不需要redis服务。
+ * 连接指向本地一个对任何请求都回复+OK的端口，maxTotal固定，线程数超过maxTotal后两者都要排队。
+ * 运行：java -cp ... com.xps.tools.redis.benchmark.PoolContentionBenchmark [maxTotal] [毫秒/轮]
+ */
+public class PoolContentionBenchmark {
+
+    private static final int[] THREADS = {8, 16, 32, 64, 128, 256};
+
+    public static void main(String[] args) throws Exception {
+        int maxTotal = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        long durationMillis = args.length > 1 ? Long.parseLong(args[1]) : 2000L;
+        ServerSocket server = startServer();
+        try {
+            GenericObjectPoolConfig config = new GenericObjectPoolConfig();
+            config.setMaxTotal(maxTotal);
+            config.setMaxIdle(maxTotal);
+            config.setMaxWaitMillis(-1);
+            config.setTestOnBorrow(false);
+            config.setTestWhileIdle(false);
+            config.setJmxEnabled(false);
+            System.out.println("maxTotal=" + maxTotal + ", cpus=" + Runtime.getRuntime().availableProcessors());
+            for(int round = 0; round < 2; round++) {//第一轮预热JIT
+                for(int threads : THREADS) {
+                    JedisPool jedisPool = new JedisPool(config, "127.0.0.1", server.getLocalPort(), 2000);
+                    run("GenericObjectPool", jedisPool, threads, durationMillis);
+                    jedisPool.close();
+                    StripedJedisPool stripedPool = new StripedJedisPool(config, "127.0.0.1", server.getLocalPort(), 2000, null, false);
+                    run("StripedJedisPool ", stripedPool, threads, durationMillis);
+                    stripedPool.close();
+                }
+            }
+        } finally {
+            server.close();
+        }
+    }
+
+    private static void run(String name, final Pool<Jedis> pool, int threads, long durationMillis) throws InterruptedException {
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final AtomicLong ops = new AtomicLong();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch finished = new CountDownLatch(threads);
+        for(int i = 0; i < threads; i++) {
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    long count = 0;
+                    try {
+                        started.await();
+                        while(running.get()) {
+                            Jedis jedis = pool.getResource();
+                            jedis.close();
+                            count++;
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        ops.addAndGet(count);
+                        finished.countDown();
+                    }
+                }
+            });
+            thread.setDaemon(true);
+            thread.start();
+        }
+        long start = System.nanoTime();
+        started.countDown();
+        Thread.sleep(durationMillis);
+        running.set(false);
+        finished.await();
+        long elapsed = System.nanoTime() - start;
+        System.out.println(String.format("%s threads=%3d  %,12.0f ops/s  %8.1f ns/op  meanWait=%dms maxWait=%dms",
+                name, threads, ops.get() * 1e9 / elapsed, (double) elapsed * threads / Math.max(1, ops.get()),
+                pool.getMeanBorrowWaitTimeMillis(), pool.getMaxBorrowWaitTimeMillis()));
+    }
+
+    /**
+     * 每个连接一个线程，每读到一段数据回复一次+OK，足够应付连接关闭时的QUIT
+     */
+    private static ServerSocket startServer() throws IOException {
+        final ServerSocket server = new ServerSocket(0, 1024);
+        Thread acceptor = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                while(!server.isClosed()) {
+                    try {
+                        final Socket socket = server.accept();
+                        Thread handler = new Thread(new Runnable() {
+                            @Override
+                            public void run() {
+                                byte[] buffer = new byte[1024];
+                                try(Socket s = socket; InputStream in = s.getInputStream(); OutputStream out = s.getOutputStream()) {
+                                    while(in.read(buffer) > 0) {
+                                        out.write("+OK\r\n".getBytes("UTF-8"));
+                                        out.flush();
+                                    }
+                                } catch (IOException e) {
+                                    //连接关闭
+                                }
+                            }
+                        });
+                        handler.setDaemon(true);
+                        handler.start();
+                    } catch (IOException e) {
+                        return;
+                    }
+                }
+            }
+        }, "benchmark-acceptor");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        return server;
+    }
+}
@@ -0,0 +1,98 @@
+package com.xps.tools.redis.benchmark;
+
+import com.xps.tools.redis.shard.JumpHashStrategy;
+import com.xps.tools.redis.shard.KeyHasher;
+import com.xps.tools.redis.shard.LookupTableStrategy;
+import com.xps.tools.redis.shard.RendezvousHashStrategy;
+import com.xps.tools.redis.shard.ShardLocator;
+import com.xps.tools.redis.shard.ShardingStrategy;
+import redis.clients.jedis.JedisShardInfo;
+import redis.clients.jedis.ShardedJedis;
+
+import java.util.List;
+
+/**
+ * 各分片算法的key均衡度，以及在末尾增加一个分片时迁移的key比例(理想值为1/(n+1))
+ * 运行：java -cp ... com.xps.tools.redis.benchmark.ShardDistributionReport [分片数] [key数]
+ */
+public class ShardDistributionReport {
+
+    public static void main(String[] args) {
+        int shardCount = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        int keyCount = args.length > 1 ? Integer.parseInt(args[1]) : 1000000;
+        List<JedisShardInfo> before = ShardingBenchmark.shards(shardCount);
+        List<JedisShardInfo> after = ShardingBenchmark.shards(shardCount + 1);
+        System.out.println(String.format("shards=%d keys=%d ideal moved=%.4f", shardCount, keyCount, 1D / (shardCount + 1)));
+        System.out.println("algorithm     max/mean  min/mean  stddev/mean  moved");
+        reportKeyLocators("jedis ring  ", new RingLocator(before), new RingLocator(after), shardCount, keyCount);
+        report("jump        ", new JumpHashStrategy(), before, after, shardCount, keyCount);
+        report("rendezvous  ", new RendezvousHashStrategy(), before, after, shardCount, keyCount);
+        report("lookup table", new LookupTableStrategy(), before, after, shardCount, keyCount);
+    }
+
+    private static void report(String name, ShardingStrategy strategy, List<JedisShardInfo> before,
+                               List<JedisShardInfo> after, int shardCount, int keyCount) {
+        report(name, strategy.newLocator(before), strategy.newLocator(after), shardCount, keyCount);
+    }
+
+    private static void reportKeyLocators(String name, KeyLocator before, KeyLocator after, int shardCount, int keyCount) {
+        long[] counts = new long[shardCount];
+        long moved = 0;
+        for(int i = 0; i < keyCount; i++) {
+            byte[] key = ("user:session:" + i).getBytes();
+            int a = before.locate(key);
+            counts[a]++;
+            if(a != after.locate(key)) {
+                moved++;
+            }
+        }
+        double mean = (double) keyCount / shardCount;
+        long max = Long.MIN_VALUE;
+        long min = Long.MAX_VALUE;
+        double variance = 0;
+        for(long c : counts) {
+            max = Math.max(max, c);
+            min = Math.min(min, c);
+            variance += (c - mean) * (c - mean);
+        }
+        double stddev = Math.sqrt(variance / shardCount);
+        System.out.println(String.format("%s  %8.4f  %8.4f  %11.4f  %.4f", name, max / mean, min / mean,
+                stddev / mean, (double) moved / keyCount));
+    }
+
+    private static void report(String name, ShardLocator before, ShardLocator after, int shardCount, int keyCount) {
+        reportKeyLocators(name, new HashLocator(before), new HashLocator(after), shardCount, keyCount);
+    }
+
+    interface KeyLocator {
+        int locate(byte[] key);
+    }
+
+    static class HashLocator implements KeyLocator {
+        private final ShardLocator locator;
+
+        HashLocator(ShardLocator locator) {
+            this.locator = locator;
+        }
+
+        @Override
+        public int locate(byte[] key) {
+            return locator.locate(KeyHasher.hash(key));
+        }
+    }
+
+    static class RingLocator implements KeyLocator {
+        private final ShardedJedis ring;
+        private final List<JedisShardInfo> shards;
+
+        RingLocator(List<JedisShardInfo> shards) {
+            this.ring = new ShardedJedis(shards);
+            this.shards = shards;
+        }
+
+        @Override
+        public int locate(byte[] key) {
+            return shards.indexOf(ring.getShardInfo(key));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.xps.tools.redis.benchmark;
+
+import com.xps.tools.redis.shard.JumpHashStrategy;
+import com.xps.tools.redis.shard.KeyHasher;
+import com.xps.tools.redis.shard.LookupTableStrategy;
+import com.xps.tools.redis.shard.RendezvousHashStrategy;
+import com.xps.tools.redis.shard.ShardLocator;
+import com.xps.tools.redis.shard.ShardingStrategy;
+import redis.clients.jedis.JedisShardInfo;
+import redis.clients.jedis.ShardedJedis;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 对比jedis虚拟节点环(TreeMap + MurmurHash)与各ShardingStrategy定位一个byte[] key的耗时和分配，不需要redis服务。
+ * 运行：java -cp target/classes:target/test-classes:jedis.jar:commons-pool2.jar com.xps.tools.redis.benchmark.ShardingBenchmark [分片数]
+ */
+public class ShardingBenchmark {
+
+    private static final int KEYS = 4096;
+    private static final int ITERATIONS = 5000000;
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static long sink;
+
+    public static void main(String[] args) {
+        int shardCount = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        List<JedisShardInfo> shards = shards(shardCount);
+        final byte[][] keys = new byte[KEYS][];
+        for(int i = 0; i < KEYS; i++) {
+            keys[i] = ("user:session:" + i * 7919).getBytes();
+        }
+        final ShardedJedis ring = new ShardedJedis(shards);
+        System.out.println("shards=" + shardCount);
+        for(int round = 0; round < 3; round++) {
+            run("jedis ring  ", new Task() {
+                @Override
+                public long run(int i) {
+                    return ring.getShardInfo(keys[i & (KEYS - 1)]).getPort();
+                }
+            });
+            run("jump        ", locatorTask(new JumpHashStrategy(), shards, keys));
+            run("rendezvous  ", locatorTask(new RendezvousHashStrategy(), shards, keys));
+            run("lookup table", locatorTask(new LookupTableStrategy(), shards, keys));
+        }
+        System.out.println("sink=" + sink);
+    }
+
+    static List<JedisShardInfo> shards(int count) {
+        List<JedisShardInfo> shards = new ArrayList<>(count);
+        for(int i = 0; i < count; i++) {
+            shards.add(new JedisShardInfo("10.0.0." + (i + 1), 6379));
+        }
+        return shards;
+    }
+
+    private static Task locatorTask(ShardingStrategy strategy, List<JedisShardInfo> shards, final byte[][] keys) {
+        final ShardLocator locator = strategy.newLocator(shards);
+        return new Task() {
+            @Override
+            public long run(int i) {
+                return locator.locate(KeyHasher.hash(keys[i & (KEYS - 1)]));
+            }
+        };
+    }
+
+    private static void run(String name, Task task) {
+        for(int i = 0; i < ITERATIONS / 5; i++) {
+            sink += task.run(i);
+        }
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for(int i = 0; i < ITERATIONS; i++) {
+            sink += task.run(i);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - bytesBefore;
+        System.out.println(String.format("%s  %7.1f ns/op  %6.1f bytes/op", name,
+                (double) elapsed / ITERATIONS, (double) allocated / ITERATIONS));
+    }
+
+    interface Task {
+        long run(int i);
+    }
+}
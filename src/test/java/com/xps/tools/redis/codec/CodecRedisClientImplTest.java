@@ -0,0 +1,99 @@
+package com.xps.tools.redis.codec;
+
+import com.xps.tools.redis.MiniRedisServer;
+import com.xps.tools.redis.config.RedisPoolConfig;
+import com.xps.tools.redis.impl.RedisClientImpl;
+import org.junit.Assert;
+import org.junit.Test;
+import redis.clients.jedis.BinaryJedisCommands;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public class CodecRedisClientImplTest {
+
+    /**
+     * 记录sadd/zadd收到的成员，smembers/zrange原样返回
+     */
+    private static BinaryJedisCommands recording(final List<byte[]> members) {
+        return (BinaryJedisCommands) Proxy.newProxyInstance(BinaryJedisCommands.class.getClassLoader(),
+                new Class<?>[]{BinaryJedisCommands.class}, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        switch (method.getName()) {
+                            case "sadd":
+                                members.addAll(Arrays.asList((byte[][]) args[1]));
+                                return 1L;
+                            case "zadd":
+                                members.add((byte[]) args[2]);
+                                return 1L;
+                            case "smembers":
+                            case "zrange":
+                                return new LinkedHashSet<>(members);
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    }
+                });
+    }
+
+    @Test
+    public void testMembersNeverCompressed() {
+        List<byte[]> members = new ArrayList<>();
+        CodecRedisClientImpl<String, String> client = new CodecRedisClientImpl<>(recording(members),
+                StringCodec.INSTANCE, StringCodec.INSTANCE, new ValueCompressor(16));
+        StringBuilder sb = new StringBuilder();
+        for(int i = 0; i < 100; i++) {
+            sb.append("member");
+        }
+        String member = sb.toString();
+        client.sadd("tags", Collections.singletonList(member));
+        client.zadd("rank", 1, member);
+        Assert.assertEquals(2, members.size());
+        for(byte[] raw : members) {
+            Assert.assertEquals(member, StringCodec.INSTANCE.decode(raw));
+        }
+        Set<String> decoded = client.smembers("tags");
+        Assert.assertTrue(decoded.contains(member));
+        Assert.assertEquals(decoded, client.zrange("rank", 0, -1));
+    }
+
+    /**
+     * hdel/sadd经RedisClientImpl的byte[]重载发到redis，不能递归调用自身
+     */
+    @Test
+    public void testHdelAndSaddAgainstServer() throws Exception {
+        try(MiniRedisServer server = new MiniRedisServer()) {
+            RedisPoolConfig config = new RedisPoolConfig();
+            config.setHost("127.0.0.1");
+            config.setPort(server.getPort());
+            config.setMaxTotal(2);
+            RedisClientImpl redisClient = new RedisClientImpl(config);
+            try {
+                redisClient.reconfigure(config);
+                CodecRedisClientImpl<String, String> client = new CodecRedisClientImpl<>(redisClient,
+                        StringCodec.INSTANCE, StringCodec.INSTANCE);
+                client.hset("user:1", "name", "tom");
+                client.hset("user:1", "age", "18");
+                Assert.assertEquals(Long.valueOf(1), client.hdel("user:1", Arrays.asList("name", "missing")));
+                Assert.assertNull(client.hget("user:1", "name"));
+                Assert.assertEquals("18", client.hget("user:1", "age"));
+                Assert.assertEquals(1, server.getCalls("HDEL"));
+
+                Assert.assertEquals(Long.valueOf(2), client.sadd("tags", Arrays.asList("a", "b")));
+                Assert.assertEquals(Long.valueOf(1), client.sadd("tags", Arrays.asList("b", "c")));
+                Assert.assertEquals(new LinkedHashSet<>(Arrays.asList("a", "b", "c")), client.smembers("tags"));
+                Assert.assertEquals(2, server.getCalls("SADD"));
+            } finally {
+                redisClient.destroy();
+            }
+        }
+    }
+}
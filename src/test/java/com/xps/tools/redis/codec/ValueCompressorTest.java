@@ -0,0 +1,97 @@
+package com.xps.tools.redis.codec;
+
+import com.xps.tools.redis.exceptions.RedisToolsException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+public class ValueCompressorTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    @Test
+    public void testSmallValueUntouched() {
+        ValueCompressor compressor = new ValueCompressor(1024);
+        byte[] value = "{\"name\":\"small\"}".getBytes(UTF_8);
+        Assert.assertSame(value, compressor.compress("order:1".getBytes(UTF_8), value));
+        Assert.assertSame(value, compressor.decompress("order:1".getBytes(UTF_8), value));
+    }
+
+    @Test
+    public void testLargeValueRoundTrip() {
+        ValueCompressor compressor = new ValueCompressor(1024);
+        StringBuilder sb = new StringBuilder();
+        for(int i = 0; i < 2000; i++) {
+            sb.append("{\"id\":").append(i).append(",\"name\":\"redis工具\"},");
+        }
+        byte[] value = sb.toString().getBytes(UTF_8);
+        byte[] key = "order:1".getBytes(UTF_8);
+        byte[] stored = compressor.compress(key, value);
+        Assert.assertEquals(ValueCompressor.FORMAT_DEFLATE, ValueCompressor.formatOf(stored));
+        Assert.assertTrue(stored.length < value.length);
+        Assert.assertArrayEquals(value, compressor.decompress(key, stored));
+        CompressionStats stats = compressor.getStats("order");
+        Assert.assertEquals(1, stats.getCompressed());
+        Assert.assertEquals(1, stats.getDecompressed());
+        Assert.assertTrue(stats.getRatio() < 1D);
+    }
+
+    @Test
+    public void testRawValueStartingWithHeaderIsEscaped() {
+        ValueCompressor compressor = new ValueCompressor(1024);
+        byte[] compressed = compressor.compress(null, new byte[4096]);
+        byte[] value = Arrays.copyOf(compressed, 16);
+        byte[] stored = compressor.compress(null, value);
+        Assert.assertEquals(ValueCompressor.FORMAT_ESCAPED, ValueCompressor.formatOf(stored));
+        Assert.assertArrayEquals(value, compressor.decompress(null, stored));
+    }
+
+    @Test
+    public void testLegacyRawValuesReadUnchanged() {
+        //启用压缩之前写入的数据，旧格式的单字节头部0xFF/0xFE不再被当作压缩或转义
+        ValueCompressor compressor = new ValueCompressor(1024);
+        byte[][] legacy = {{(byte) 0xFE, 1, 2, 3}, {(byte) 0xFF, 0, 0, 0, 3, 1, 2}, {(byte) 0xFE},
+                {(byte) 0xFF, 'R', 'Z'}, {(byte) 0xFF, 'R', 'Z', 0x02, 1}};
+        for(byte[] value : legacy) {
+            Assert.assertArrayEquals(value, compressor.decompress(null, value));
+            Assert.assertArrayEquals(value, compressor.decompress(null, compressor.compress(null, value)));
+        }
+    }
+
+    @Test
+    public void testCorruptRawLengthRejected() {
+        ValueCompressor compressor = new ValueCompressor(1024);
+        byte[] stored = compressor.compress(null, new byte[4096]);
+        int[] lengths = {-1, ValueCompressor.MAX_RAW_LENGTH + 1, (stored.length - 8) * 2000};
+        for(int length : lengths) {
+            byte[] corrupt = stored.clone();
+            corrupt[4] = (byte) (length >>> 24);
+            corrupt[5] = (byte) (length >>> 16);
+            corrupt[6] = (byte) (length >>> 8);
+            corrupt[7] = (byte) length;
+            try {
+                compressor.decompress(null, corrupt);
+                Assert.fail("原始长度" + length + "应当被拒绝");
+            } catch (RedisToolsException e) {
+                Assert.assertTrue(e.getMessage(), e.getMessage().contains("原始长度"));
+            }
+        }
+    }
+
+    @Test
+    public void testStatsByPrefixBytes() {
+        ValueCompressor compressor = new ValueCompressor(1024);
+        compressor.compress("订单:1".getBytes(UTF_8), new byte[16]);
+        compressor.compress("订单:2".getBytes(UTF_8), new byte[16]);
+        compressor.compress("user:1".getBytes(UTF_8), new byte[16]);
+        compressor.compress("nokey".getBytes(UTF_8), new byte[16]);
+        Assert.assertEquals(2, compressor.getStats("订单").getSkipped());
+        Assert.assertEquals(1, compressor.getStats("user").getSkipped());
+        Assert.assertEquals(1, compressor.getStats(ValueCompressor.NO_PREFIX).getSkipped());
+        compressor.setPrefixDelimiter('_');
+        compressor.compress("订单_3".getBytes(UTF_8), new byte[16]);
+        Assert.assertEquals(3, compressor.getStats("订单").getSkipped());
+    }
+}
@@ -0,0 +1,98 @@
+package com.xps.tools.redis.pool;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class AdaptivePoolControllerTest {
+
+    private static class FakePool implements ResizablePool {
+        int maxTotal = 8;
+        int maxIdle = 8;
+        int active;
+        int waiters;
+        long meanWait;
+
+        @Override
+        public int getMaxTotal() {
+            return maxTotal;
+        }
+
+        @Override
+        public void setMaxTotal(int maxTotal) {
+            this.maxTotal = maxTotal;
+        }
+
+        @Override
+        public void setMaxIdle(int maxIdle) {
+            this.maxIdle = maxIdle;
+        }
+
+        @Override
+        public int getNumActive() {
+            return active;
+        }
+
+        @Override
+        public int getNumWaiters() {
+            return waiters;
+        }
+
+        @Override
+        public long getMeanBorrowWaitTimeMillis() {
+            return meanWait;
+        }
+    }
+
+    private static void record(AdaptivePoolController controller, long micros) {
+        for(int i = 0; i < 50; i++) {
+            controller.record(TimeUnit.MICROSECONDS.toNanos(micros));
+        }
+    }
+
+    @Test
+    public void testGrowWhileWaitingAndShrinkWhenSlow() {
+        FakePool pool = new FakePool();
+        AdaptivePoolController controller = new AdaptivePoolController(pool, 4, 20);
+        PriorityGate gate = new PriorityGate(pool.maxTotal, 0, -1);
+        controller.setPriorityGate(gate);
+        pool.active = 8;
+        pool.waiters = 3;
+        record(controller, 200);
+        controller.adjust();
+        Assert.assertEquals("每次最多增加当前上限的1/4", 10, controller.getLimit());
+        Assert.assertEquals(10, pool.maxTotal);
+        Assert.assertEquals(10, pool.maxIdle);
+        Assert.assertEquals("许可数随上限调整", 10, gate.getPermits());
+
+        for(int i = 0; i < 10; i++) {
+            pool.active = controller.getLimit();
+            record(controller, 200);
+            controller.adjust();
+        }
+        Assert.assertEquals("不超过上限", 20, pool.maxTotal);
+
+        record(controller, 1000);
+        controller.adjust();
+        Assert.assertEquals("服务端耗时翻倍时乘性减小", 15, pool.maxTotal);
+        Assert.assertEquals(15, gate.getPermits());
+        controller.close();
+    }
+
+    @Test
+    public void testShrinkWhenIdleAndReapply() {
+        FakePool pool = new FakePool();
+        AdaptivePoolController controller = new AdaptivePoolController(pool, 6, 20);
+        pool.active = 1;
+        for(int i = 0; i < 20; i++) {
+            controller.adjust();
+        }
+        Assert.assertEquals(6, pool.maxTotal);
+
+        pool.maxTotal = 8;//连接池被重建，恢复为配置的值
+        controller.adjust();
+        Assert.assertEquals(6, pool.maxTotal);
+        controller.close();
+    }
+}
@@ -0,0 +1,62 @@
+package com.xps.tools.redis.pool;
+
+import com.xps.tools.redis.exceptions.RedisToolsException;
+import com.xps.tools.redis.exceptions.RedisToolsExceptionComp;
+import org.junit.Assert;
+import org.junit.Test;
+import redis.clients.jedis.Protocol.Command;
+
+public class BulkheadTest {
+
+    @Test
+    public void testCommandClass() {
+        Assert.assertEquals(Bulkhead.CommandClass.BLOCKING, Bulkhead.CommandClass.of(Command.BLPOP));
+        Assert.assertEquals(Bulkhead.CommandClass.BLOCKING, Bulkhead.CommandClass.of(Command.SUBSCRIBE));
+        Assert.assertEquals(Bulkhead.CommandClass.HEAVY, Bulkhead.CommandClass.of(Command.ZUNIONSTORE));
+        Assert.assertEquals(Bulkhead.CommandClass.FAST, Bulkhead.CommandClass.of(Command.GET));
+        Assert.assertEquals(Bulkhead.CommandClass.FAST, Bulkhead.CommandClass.of(null));
+        Assert.assertNull(Bulkhead.of(0, 0, 0, 0));
+    }
+
+    @Test
+    public void testBlockingDoesNotStarveFast() {
+        Bulkhead bulkhead = new Bulkhead(0, 0, 2, 0);
+        Bulkhead.CommandClass first = bulkhead.acquire(Command.BLPOP);
+        bulkhead.acquire(Command.BRPOP);
+        try {
+            bulkhead.acquire(Command.BRPOPLPUSH);
+            Assert.fail();
+        } catch (RedisToolsException e) {
+            Assert.assertSame(RedisToolsExceptionComp.BULKHEAD_FULL, e.getEnumException());
+        }
+        Assert.assertEquals(1, bulkhead.getRejected(Bulkhead.CommandClass.BLOCKING));
+        for(int i = 0; i < 100; i++) {
+            bulkhead.release(bulkhead.acquire(Command.GET));
+        }
+        Assert.assertEquals(-1, bulkhead.getAvailablePermits(Bulkhead.CommandClass.FAST));
+
+        bulkhead.release(first);
+        Assert.assertEquals(1, bulkhead.getAvailablePermits(Bulkhead.CommandClass.BLOCKING));
+        bulkhead.acquire(Command.BLPOP);
+    }
+
+    @Test
+    public void testWaitForPermit() throws InterruptedException {
+        final Bulkhead bulkhead = new Bulkhead(0, 1, 0, 1000);
+        final Bulkhead.CommandClass held = bulkhead.acquire(Command.SORT);
+        Thread releaser = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                bulkhead.release(held);
+            }
+        });
+        releaser.start();
+        Assert.assertEquals(Bulkhead.CommandClass.HEAVY, bulkhead.acquire(Command.KEYS));
+        releaser.join();
+    }
+}
@@ -0,0 +1,37 @@
+package com.xps.tools.redis.pool;
+
+import com.xps.tools.redis.MiniRedisServer;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.junit.Assert;
+import org.junit.Test;
+import redis.clients.jedis.Jedis;
+
+public class DatabaseJedisFactoryTest {
+
+    @Test(timeout = 5000)
+    public void testSelectOnlyWhenDatabaseChanges() throws Exception {
+        try(MiniRedisServer server = new MiniRedisServer()) {
+            GenericObjectPoolConfig config = new GenericObjectPoolConfig();
+            config.setMaxTotal(1);
+            ManagedJedisPool pool = new ManagedJedisPool(config, "127.0.0.1", server.getPort(), 1000, null, false);
+            try {
+                for(int i = 0; i < 3; i++) {
+                    int previous = DatabaseJedisFactory.request(3);
+                    try(Jedis jedis = pool.getResource()) {
+                        Assert.assertEquals(3L, jedis.getDB().longValue());
+                    } finally {
+                        DatabaseJedisFactory.restore(previous);
+                    }
+                }
+                Assert.assertEquals("连接已在请求的库上时不再SELECT", 1, server.getCalls("SELECT"));
+
+                try(Jedis jedis = pool.getResource()) {
+                    Assert.assertEquals("没有声明时切回连接池配置的库", 0L, jedis.getDB().longValue());
+                }
+                Assert.assertEquals(2, server.getCalls("SELECT"));
+            } finally {
+                pool.close();
+            }
+        }
+    }
+}
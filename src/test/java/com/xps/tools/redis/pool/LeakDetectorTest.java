@@ -0,0 +1,117 @@
+package com.xps.tools.redis.pool;
+
+import com.xps.tools.redis.MiniRedisServer;
+import com.xps.tools.redis.ShardedJedisAction;
+import com.xps.tools.redis.config.RedisShardedPoolConfig;
+import com.xps.tools.redis.impl.ShardedRedisClientImpl;
+import com.xps.tools.redis.util.PoolHandler;
+import org.junit.Assert;
+import org.junit.Test;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisShardInfo;
+import redis.clients.jedis.ShardedJedis;
+
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Collections;
+
+public class LeakDetectorTest {
+
+    @Test
+    public void testLongHoldReportedByCallSite() throws Exception {
+        LeakDetector detector = new LeakDetector(20, 0);
+        try {
+            detector.release(detector.acquire());
+            Assert.assertEquals(0, detector.getLongHolds());
+
+            LeakDetector.Lease lease = detector.acquire();
+            Thread.sleep(40);
+            detector.release(lease);
+            Assert.assertEquals(1, detector.getLongHolds());
+            Assert.assertEquals(0, detector.getActive());
+            LeakDetector.CallSite site = detector.getTopSites(1).get(0);
+            Assert.assertTrue(site.getSite(), site.getSite().contains("testLongHoldReportedByCallSite"));
+            Assert.assertEquals(1, site.getCount());
+            Assert.assertTrue(site.getMaxHoldMillis() >= 20);
+        } finally {
+            detector.close();
+        }
+    }
+
+    @Test
+    public void testStuckLeaseCountedOnce() throws Exception {
+        LeakDetector detector = new LeakDetector(10000, 1);
+        try {
+            LeakDetector.Lease lease = detector.acquire();
+            detector.check();
+            Assert.assertEquals("未超过阈值", 0, detector.getStuck());
+        } finally {
+            detector.close();
+        }
+        detector = new LeakDetector(20, 1);
+        try {
+            LeakDetector.Lease lease = detector.acquire();
+            Thread.sleep(40);
+            detector.check();
+            detector.check();
+            Assert.assertEquals("仍未归还的连接只告警一次", 1, detector.getStuck());
+            detector.release(lease);
+            Assert.assertEquals(1, detector.getLongHolds());
+            Assert.assertEquals("后台检查已计入的不重复计数", 1, detector.getTopSites(10).get(0).getCount());
+        } finally {
+            detector.close();
+        }
+    }
+
+    @Test
+    public void testUnreadRepliesDetected() throws Exception {
+        LeakDetector detector = new LeakDetector(1000, 0);
+        try(ServerSocket server = new ServerSocket(0)) {
+            Jedis jedis = new Jedis("127.0.0.1", server.getLocalPort());
+            jedis.connect();
+            try(Socket peer = server.accept()) {
+                Assert.assertFalse(detector.hasUnreadReplies(jedis));
+                peer.getOutputStream().write("+OK\r\n".getBytes("UTF-8"));
+                peer.getOutputStream().flush();
+                Thread.sleep(50);
+                Assert.assertTrue(detector.hasUnreadReplies(jedis));
+                Assert.assertEquals(1, detector.getUsedAfterRelease());
+            } finally {
+                jedis.disconnect();
+            }
+        } finally {
+            detector.close();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testShardedHoldTracked() throws Exception {
+        try(MiniRedisServer server = new MiniRedisServer()) {
+            RedisShardedPoolConfig config = new RedisShardedPoolConfig();
+            config.setShards(Collections.singletonList(new JedisShardInfo("127.0.0.1", server.getPort())));
+            config.setLeakThresholdMillis(20);
+            config.setLeakSampleInterval(0);
+            ShardedRedisClientImpl client = new ShardedRedisClientImpl(config);
+            try {
+                client.reconfigure(config);
+                client.execute(new ShardedJedisAction<String>() {
+                    @Override
+                    public String doAction(ShardedJedis shardedJedis) {
+                        try {
+                            Thread.sleep(40);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return shardedJedis.get("k");
+                    }
+                });
+                LeakDetector detector = PoolHandler.getInstance().getShardedLeakDetector();
+                Assert.assertEquals(1, detector.getLongHolds());
+                LeakDetector.CallSite site = detector.getTopSites(1).get(0);
+                Assert.assertTrue(site.getSite(), site.getSite().contains("LeakDetectorTest"));
+            } finally {
+                client.destroy();
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.xps.tools.redis.pool;
+
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.junit.Assert;
+import org.junit.Test;
+import redis.clients.jedis.Jedis;
+
+import java.net.ServerSocket;
+
+/**
+ * 不依赖redis服务：连接指向本地一个只监听不应答的端口，借还连接不发送命令
+ */
+public class PoolDrainerTest {
+
+    @Test(timeout = 5000)
+    public void testCloseAfterBorrowedReturned() throws Exception {
+        try(ServerSocket server = new ServerSocket(0)) {
+            GenericObjectPoolConfig config = new GenericObjectPoolConfig();
+            config.setMaxTotal(2);
+            StripedJedisPool pool = new StripedJedisPool(config, "127.0.0.1", server.getLocalPort(), 100, null, false);
+            Jedis inFlight = pool.getResource();
+            Thread drainer = PoolDrainer.drain(pool, 5000);
+            Thread.sleep(200);
+            Assert.assertFalse("借出的连接归还前不关闭", pool.isClosed());
+            inFlight.close();
+            drainer.join();
+            Assert.assertTrue(pool.isClosed());
+            Assert.assertEquals(0, pool.getNumIdle());
+        }
+    }
+
+    @Test(timeout = 5000)
+    public void testCloseOnTimeout() throws Exception {
+        try(ServerSocket server = new ServerSocket(0)) {
+            GenericObjectPoolConfig config = new GenericObjectPoolConfig();
+            StripedJedisPool pool = new StripedJedisPool(config, "127.0.0.1", server.getLocalPort(), 100, null, false);
+            Jedis leaked = pool.getResource();
+            Assert.assertFalse(PoolDrainer.drainNow(pool, 100));
+            Assert.assertTrue(pool.isClosed());
+            leaked.close();
+            Assert.assertEquals("关闭后归还的连接直接断开", 0, pool.getNumIdle());
+            Assert.assertFalse(leaked.isConnected());
+        }
+    }
+}
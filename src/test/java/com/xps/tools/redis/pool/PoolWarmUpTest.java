@@ -0,0 +1,57 @@
+package com.xps.tools.redis.pool;
+
+import com.xps.tools.redis.MiniRedisServer;
+import com.xps.tools.redis.script.ScriptRegistry;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 不依赖redis服务：连接池指向一个不可连接的端口，验证预热失败时能结束并上报结果；
+ * 指向MiniRedisServer时验证预热连接不进入线程亲和缓存
+ */
+public class PoolWarmUpTest {
+
+    @Test
+    public void testWarmUpReportsFailures() throws InterruptedException {
+        GenericObjectPoolConfig config = new GenericObjectPoolConfig();
+        config.setMaxWaitMillis(200);
+        ManagedJedisPool pool = new ManagedJedisPool(config, "127.0.0.1", 1, 200, null, false);
+        try {
+            PoolWarmUp warmUp = new PoolWarmUp(pool, 3, null).start();
+            Assert.assertTrue(warmUp.await(5, TimeUnit.SECONDS));
+            Assert.assertFalse(warmUp.isReady());
+            Assert.assertEquals(0, warmUp.getOpened());
+            Assert.assertEquals(3, warmUp.getFailed());
+            Assert.assertNotNull(warmUp.getFailure());
+            Assert.assertTrue(warmUp.getReadyMillis() >= 0);
+            Assert.assertEquals(0, pool.getNumActive());
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    public void testWarmUpBypassesThreadAffinity() throws Exception {
+        try(MiniRedisServer server = new MiniRedisServer()) {
+            GenericObjectPoolConfig config = new GenericObjectPoolConfig();
+            ManagedJedisPool pool = new ManagedJedisPool(config, "127.0.0.1", server.getPort(), 1000, null, false);
+            pool.setThreadAffineConnections(2);
+            ScriptRegistry scriptRegistry = new ScriptRegistry();
+            scriptRegistry.register("return 1");
+            try {
+                PoolWarmUp warmUp = new PoolWarmUp(pool, 3, scriptRegistry).start();
+                Assert.assertTrue(warmUp.await(5, TimeUnit.SECONDS));
+                Assert.assertEquals(3, warmUp.getOpened());
+                Assert.assertEquals("预热连接全部归还到共享连接池", 3, pool.getNumIdle());
+                Assert.assertEquals(0, pool.getNumActive());
+                Assert.assertEquals(0, pool.getThreadAffineConnections());
+                Assert.assertEquals("脚本加载失败时每个连接都重试", 3, server.getCalls("SCRIPT"));
+            } finally {
+                pool.close();
+            }
+        }
+    }
+}
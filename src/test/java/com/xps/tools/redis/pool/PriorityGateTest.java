@@ -0,0 +1,95 @@
+package com.xps.tools.redis.pool;
+
+import org.junit.Assert;
+import org.junit.Test;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class PriorityGateTest {
+
+    private static Thread acquireIn(final PriorityGate gate, final Priority priority, final List<Priority> order)
+            throws InterruptedException {
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                gate.acquire(priority);
+                order.add(priority);
+                gate.release();
+            }
+        });
+        thread.start();
+        while(gate.getWaiting(priority) == 0) {
+            Thread.sleep(1);
+        }
+        return thread;
+    }
+
+    @Test(timeout = 5000)
+    public void testServeInPriorityOrder() throws Exception {
+        PriorityGate gate = new PriorityGate(1, 0, -1);
+        List<Priority> order = new CopyOnWriteArrayList<>();
+        gate.acquire(Priority.NORMAL);
+        Thread background = acquireIn(gate, Priority.BACKGROUND, order);
+        Thread normal = acquireIn(gate, Priority.NORMAL, order);
+        Thread interactive = acquireIn(gate, Priority.INTERACTIVE, order);
+        gate.release();
+        background.join();
+        normal.join();
+        interactive.join();
+        Assert.assertEquals(Priority.INTERACTIVE, order.get(0));
+        Assert.assertEquals(Priority.NORMAL, order.get(1));
+        Assert.assertEquals(Priority.BACKGROUND, order.get(2));
+        Assert.assertEquals(1, gate.getAvailablePermits());
+        Assert.assertEquals(2, gate.getAcquired(Priority.NORMAL));
+        Assert.assertTrue(gate.getMaxWaitMicros(Priority.BACKGROUND) >= gate.getMaxWaitMicros(Priority.INTERACTIVE));
+    }
+
+    @Test(timeout = 5000)
+    public void testAgingPreventsStarvation() throws Exception {
+        PriorityGate gate = new PriorityGate(1, 20, -1);
+        List<Priority> order = new CopyOnWriteArrayList<>();
+        gate.acquire(Priority.NORMAL);
+        Thread background = acquireIn(gate, Priority.BACKGROUND, order);
+        Thread.sleep(60);
+        Thread interactive = acquireIn(gate, Priority.INTERACTIVE, order);
+        gate.release();
+        background.join();
+        interactive.join();
+        Assert.assertEquals("等待超过两个agingMillis的后台请求提升到最高一级，且等待更久", Priority.BACKGROUND, order.get(0));
+    }
+
+    @Test(timeout = 5000)
+    public void testTimeout() {
+        PriorityGate gate = new PriorityGate(1, 0, 20);
+        gate.acquire(Priority.INTERACTIVE);
+        try {
+            gate.acquire(Priority.BACKGROUND);
+            Assert.fail();
+        } catch (JedisException e) {
+            Assert.assertEquals(1, gate.getTimeouts(Priority.BACKGROUND));
+            Assert.assertEquals(0, gate.getWaiting(Priority.BACKGROUND));
+        }
+        gate.release();
+        Assert.assertEquals(1, gate.getAvailablePermits());
+    }
+
+    @Test(timeout = 5000)
+    public void testSetPermits() throws Exception {
+        PriorityGate gate = new PriorityGate(2, 0, -1);
+        List<Priority> order = new CopyOnWriteArrayList<>();
+        gate.acquire(Priority.NORMAL);
+        gate.acquire(Priority.NORMAL);
+        gate.setPermits(1);
+        gate.release();
+        Assert.assertEquals("缩小后归还的许可先抵扣", 0, gate.getAvailablePermits());
+        Thread waiter = acquireIn(gate, Priority.NORMAL, order);
+        gate.setPermits(2);
+        waiter.join();
+        Assert.assertEquals("增大后立即分给等待者", 1, order.size());
+        gate.release();
+        Assert.assertEquals(2, gate.getPermits());
+        Assert.assertEquals(2, gate.getAvailablePermits());
+    }
+}
@@ -0,0 +1,69 @@
+package com.xps.tools.redis.pool;
+
+import org.apache.commons.pool2.BasePooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.junit.Assert;
+import org.junit.Test;
+import redis.clients.jedis.Jedis;
+
+import java.net.ServerSocket;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 不依赖redis服务：连接指向本地一个只监听不应答的端口，验证只有空闲较久或出错后的连接才发送PING
+ */
+public class RecentUseJedisFactoryTest {
+
+    @Test
+    public void testSkipValidationForRecentlyUsed() throws Exception {
+        try(ServerSocket server = new ServerSocket(0)) {
+            final int port = server.getLocalPort();
+            final AtomicInteger pings = new AtomicInteger();
+            BasePooledObjectFactory<Jedis> delegate = new BasePooledObjectFactory<Jedis>() {
+                @Override
+                public Jedis create() {
+                    Jedis jedis = new Jedis("127.0.0.1", port);
+                    jedis.connect();
+                    return jedis;
+                }
+
+                @Override
+                public PooledObject<Jedis> wrap(Jedis jedis) {
+                    return new DefaultPooledObject<>(jedis);
+                }
+
+                @Override
+                public boolean validateObject(PooledObject<Jedis> p) {
+                    pings.incrementAndGet();
+                    return true;
+                }
+            };
+            RecentUseJedisFactory factory = new RecentUseJedisFactory(delegate, 50);
+            GenericObjectPoolConfig config = new GenericObjectPoolConfig();
+            config.setTestOnBorrow(true);
+            GenericObjectPool<Jedis> pool = new GenericObjectPool<>(factory, config);
+            try {
+                Jedis jedis = pool.borrowObject();
+                pool.returnObject(jedis);
+                pool.returnObject(pool.borrowObject());
+                Assert.assertEquals("刚建立或刚归还的连接不PING", 0, pings.get());
+                Assert.assertEquals(2, factory.getSkipped());
+
+                Thread.sleep(60);
+                pool.returnObject(pool.borrowObject());
+                Assert.assertEquals("空闲超过skipMillis的连接PING校验", 1, pings.get());
+
+                Thread.sleep(5);
+                RecentUseJedisFactory.evictSuspects(pool);
+                pool.returnObject(pool.borrowObject());
+                Assert.assertTrue("出错之前归还的连接不再跳过校验", pings.get() >= 2);
+                Assert.assertEquals(factory.getValidated(), pings.get());
+            } finally {
+                pool.close();
+            }
+        }
+    }
+}
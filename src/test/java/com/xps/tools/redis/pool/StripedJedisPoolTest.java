@@ -0,0 +1,112 @@
+package com.xps.tools.redis.pool;
+
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.junit.Assert;
+import org.junit.Test;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.net.ServerSocket;
+
+/**
+ * 不依赖redis服务：连接指向本地一个只监听不应答的端口，借还连接不发送命令
+ */
+public class StripedJedisPoolTest {
+
+    @Test
+    public void testBorrowReturnAndExhausted() throws Exception {
+        try(ServerSocket server = new ServerSocket(0)) {
+            GenericObjectPoolConfig config = new GenericObjectPoolConfig();
+            config.setMaxTotal(2);
+            config.setMaxIdle(1);
+            config.setMaxWaitMillis(20);
+            StripedJedisPool pool = new StripedJedisPool(config, "127.0.0.1", server.getLocalPort(), 100, null, false);
+            try {
+                Jedis first = pool.getResource();
+                Jedis second = pool.getResource();
+                Assert.assertEquals(2, pool.getNumActive());
+                try {
+                    pool.getResource();
+                    Assert.fail("连接已全部借出时等待maxWaitMillis后失败");
+                } catch (JedisException e) {
+                    Assert.assertFalse(e instanceof JedisConnectionException);
+                }
+
+                first.close();
+                Assert.assertEquals(1, pool.getNumIdle());
+                Assert.assertSame("优先复用空闲连接", first, pool.getResource());
+                first.close();
+                second.close();
+                Assert.assertEquals("超过maxIdle的连接归还时断开", 1, pool.getNumIdle());
+                Assert.assertEquals(0, pool.getNumActive());
+                Assert.assertEquals(1, pool.getDestroyedCount());
+
+                Jedis broken = pool.getResource();
+                pool.returnBrokenResource(broken);
+                Assert.assertEquals("坏连接断开并释放名额", 0, pool.getNumActive());
+                Assert.assertEquals(0, pool.getNumIdle());
+            } finally {
+                pool.close();
+            }
+            Assert.assertTrue(pool.isClosed());
+            Assert.assertEquals(0, pool.getNumIdle());
+        }
+    }
+
+    @Test
+    public void testDoubleReturnRejected() throws Exception {
+        try(ServerSocket server = new ServerSocket(0)) {
+            GenericObjectPoolConfig config = new GenericObjectPoolConfig();
+            config.setMaxTotal(2);
+            config.setMaxWaitMillis(20);
+            StripedJedisPool pool = new StripedJedisPool(config, "127.0.0.1", server.getLocalPort(), 100, null, false);
+            try {
+                Jedis jedis = pool.getResource();
+                jedis.close();
+                try {
+                    jedis.close();
+                    Assert.fail("重复归还");
+                } catch (IllegalStateException e) {
+                    Assert.assertEquals(1, pool.getNumIdle());
+                }
+                try {
+                    pool.returnBrokenResource(jedis);
+                    Assert.fail("已归还的连接不能再作为坏连接归还");
+                } catch (IllegalStateException e) {
+                    Assert.assertEquals(0, pool.getNumActive());
+                }
+                try {
+                    pool.returnResourceObject(new Jedis("127.0.0.1", server.getLocalPort()));
+                    Assert.fail("不是从本连接池借出的连接");
+                } catch (IllegalStateException e) {
+                    Assert.assertEquals(0, pool.getNumActive());
+                }
+                Jedis first = pool.getResource();
+                Jedis second = pool.getResource();
+                Assert.assertNotSame("重复归还没有让同一个连接被借出两次", first, second);
+                first.close();
+                second.close();
+            } finally {
+                pool.close();
+            }
+        }
+    }
+
+    @Test
+    public void testConnectFailureReleasesPermit() {
+        GenericObjectPoolConfig config = new GenericObjectPoolConfig();
+        config.setMaxTotal(1);
+        config.setMaxWaitMillis(20);
+        StripedJedisPool pool = new StripedJedisPool(config, "127.0.0.1", 1, 100, null, false);
+        for(int i = 0; i < 2; i++) {
+            try {
+                pool.getResource();
+                Assert.fail();
+            } catch (JedisConnectionException e) {
+                Assert.assertEquals(0, pool.getNumActive());
+            }
+        }
+        pool.close();
+    }
+}
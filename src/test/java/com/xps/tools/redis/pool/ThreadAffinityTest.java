@@ -0,0 +1,90 @@
+package com.xps.tools.redis.pool;
+
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.junit.Assert;
+import org.junit.Test;
+import redis.clients.jedis.Jedis;
+
+import java.net.ServerSocket;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 不依赖redis服务：连接指向本地一个只监听不应答的端口，借还连接不发送命令
+ */
+public class ThreadAffinityTest {
+
+    private static Thread borrowIn(final ManagedJedisPool pool, final AtomicReference<Jedis> holder) throws InterruptedException {
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                Jedis jedis = pool.getResource();
+                holder.set(jedis);
+                jedis.close();
+            }
+        });
+        thread.start();
+        thread.join();
+        return thread;
+    }
+
+    @Test
+    public void testReuseOverflowAndReap() throws Exception {
+        try(ServerSocket server = new ServerSocket(0)) {
+            GenericObjectPoolConfig config = new GenericObjectPoolConfig();
+            config.setMaxTotal(4);
+            ManagedJedisPool pool = new ManagedJedisPool(config, "127.0.0.1", server.getLocalPort(), 100, null, false);
+            pool.setThreadAffineConnections(2);
+            try {
+                Jedis cached = pool.getResource();
+                cached.close();
+                Assert.assertSame(cached, pool.getResource());
+                Assert.assertEquals(1, pool.getThreadAffineHits());
+
+                Jedis overflow = pool.getResource();
+                Assert.assertNotSame("缓存连接使用中时从共享连接池借出", cached, overflow);
+                overflow.close();
+                cached.close();
+                Assert.assertEquals(1, pool.getNumIdle());
+                Assert.assertEquals("缓存连接一直算作借出", 1, pool.getNumActive());
+
+                AtomicReference<Jedis> other = new AtomicReference<>();
+                borrowIn(pool, other);
+                Assert.assertEquals(2, pool.getThreadAffineConnections());
+                AtomicReference<Jedis> third = new AtomicReference<>();
+                borrowIn(pool, third);
+                Assert.assertEquals("已结束线程的缓存连接被回收后再缓存", 2, pool.getThreadAffineConnections());
+
+                pool.returnBrokenResource(pool.getResource());
+                Assert.assertEquals("出错的缓存连接不再缓存", 1, pool.getThreadAffineConnections());
+                Assert.assertNotSame(cached, pool.getResource());
+            } finally {
+                pool.close();
+            }
+            Assert.assertEquals(0, pool.getThreadAffineConnections());
+        }
+    }
+
+    @Test(timeout = 5000)
+    public void testDrainOnlyReturnsIdleConnections() throws Exception {
+        try(ServerSocket server = new ServerSocket(0)) {
+            GenericObjectPoolConfig config = new GenericObjectPoolConfig();
+            config.setMaxTotal(4);
+            ManagedJedisPool pool = new ManagedJedisPool(config, "127.0.0.1", server.getLocalPort(), 100, null, false);
+            pool.setThreadAffineConnections(2);
+            borrowIn(pool, new AtomicReference<Jedis>());
+            Jedis inUse = pool.getResource();
+            Assert.assertEquals(2, pool.getNumActive());
+
+            Thread drainer = PoolDrainer.drain(pool, 5000);
+            Thread.sleep(200);
+            Assert.assertEquals("空闲的缓存连接立即归还", 1, pool.getNumIdle());
+            Assert.assertEquals("使用中的缓存连接不被归还", 1, pool.getNumActive());
+            Assert.assertFalse(pool.isClosed());
+            Assert.assertEquals(0, pool.getThreadAffineConnections());
+
+            inUse.close();
+            drainer.join();
+            Assert.assertTrue("使用中的缓存连接用完归还后关闭", pool.isClosed());
+        }
+    }
+}
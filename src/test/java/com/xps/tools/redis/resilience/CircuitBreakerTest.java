@@ -0,0 +1,132 @@
+package com.xps.tools.redis.resilience;
+
+import org.junit.Assert;
+import org.junit.Test;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.util.concurrent.TimeUnit;
+
+public class CircuitBreakerTest {
+
+    @Test
+    public void testOpenAndRecover() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker("test", 3, 50);
+        for(int i = 0; i < 3; i++) {
+            Assert.assertTrue(breaker.allowRequest());
+            breaker.onFailure();
+        }
+        Assert.assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        Assert.assertFalse(breaker.allowRequest());
+
+        Thread.sleep(60);
+        Assert.assertTrue(breaker.allowRequest());
+        Assert.assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        Assert.assertFalse("半开状态只放行一个探测请求", breaker.allowRequest());
+        breaker.onFailure();
+        Assert.assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        Thread.sleep(60);
+        Assert.assertTrue(breaker.allowRequest());
+        breaker.onSuccess();
+        Assert.assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        Assert.assertEquals(2, breaker.getOpenCount());
+    }
+
+    @Test
+    public void testSuccessResetsFailures() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 3, 50);
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+        breaker.onFailure();
+        Assert.assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void testOpenOnFailureRate() {
+        CircuitBreaker breaker = new CircuitBreaker("rate", 100, 1000, 0.5, 0, 0, 20);
+        for(int i = 0; i < 9; i++) {
+            breaker.onFailure();
+            breaker.onSuccess();
+        }
+        breaker.onSuccess();
+        Assert.assertEquals("调用数不足minimumCalls时不按比例打开", CircuitBreaker.State.CLOSED, breaker.getState());
+        breaker.onFailure();
+        Assert.assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void testOpenOnSlowCallsAndIgnoreLateResults() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker("slow", 100, 50, 0, 10, 0.8, 5);
+        long slow = TimeUnit.MILLISECONDS.toNanos(20);
+        breaker.onSuccess(TimeUnit.MILLISECONDS.toNanos(1));
+        for(int i = 0; i < 4; i++) {
+            breaker.onSuccess(slow);
+        }
+        Assert.assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        breaker.onSuccess(0);
+        Assert.assertEquals("打开后才返回的请求不关闭熔断器", CircuitBreaker.State.OPEN, breaker.getState());
+
+        Thread.sleep(60);
+        Assert.assertTrue(breaker.allowRequest());
+        breaker.onSuccess(slow);
+        Assert.assertEquals("半开探测过慢重新打开", CircuitBreaker.State.OPEN, breaker.getState());
+        Thread.sleep(60);
+        Assert.assertTrue(breaker.allowRequest());
+        breaker.onSuccess(0);
+        Assert.assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void testAcquireFailsFastWithoutStackTrace() {
+        CircuitBreaker breaker = new CircuitBreaker("redis", 1, 1000);
+        breaker.acquire();
+        breaker.onFailure();
+        CircuitOpenException first = null;
+        for(int i = 0; i < 2; i++) {
+            try {
+                breaker.acquire();
+                Assert.fail();
+            } catch (CircuitOpenException e) {
+                Assert.assertEquals(0, e.getStackTrace().length);
+                Assert.assertEquals("R015", e.getCode());
+                Assert.assertTrue(first == null || first == e);
+                first = e;
+            }
+        }
+        Assert.assertEquals(2, breaker.getRejectedCount());
+    }
+
+    @Test
+    public void testServerFailureClassification() {
+        Assert.assertTrue(RedisFailures.isServerFailure(new JedisConnectionException("reset")));
+        Assert.assertTrue(RedisFailures.isServerFailure(new JedisConnectionException("Could not get a resource from the pool")));
+        Assert.assertTrue(RedisFailures.isServerFailure(new JedisDataException("LOADING Redis is loading the dataset in memory")));
+        Assert.assertTrue(RedisFailures.isServerFailure(new JedisDataException("BUSY Redis is busy running a script. You can only call SCRIPT KILL or SHUTDOWN NOSAVE.")));
+        Assert.assertFalse(RedisFailures.isServerFailure(new JedisDataException("BUSYKEY Target key name already exists.")));
+        Assert.assertFalse(RedisFailures.isServerFailure(new JedisDataException("BUSYGROUP Consumer Group name already exists")));
+        Assert.assertFalse(RedisFailures.isServerFailure(new JedisDataException("WRONGTYPE Operation against a key holding the wrong kind of value")));
+        Assert.assertFalse(RedisFailures.isServerFailure(new JedisDataException((String) null)));
+        Assert.assertFalse(RedisFailures.isServerFailure(new IllegalArgumentException()));
+    }
+
+    @Test
+    public void testPoolExhaustionNotCounted() throws InterruptedException {
+        JedisException exhausted = new JedisException("Could not get a resource from the pool");
+        Assert.assertFalse("等待空闲连接超时是客户端排队，不是服务端故障", RedisFailures.isServerFailure(exhausted));
+        Assert.assertTrue(RedisFailures.isPoolExhausted(exhausted));
+        Assert.assertFalse(RedisFailures.isPoolExhausted(new JedisConnectionException("Could not get a resource from the pool")));
+
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, 20);
+        breaker.onFailure();
+        Thread.sleep(30);
+        Assert.assertTrue(breaker.allowRequest());
+        Assert.assertFalse("半开状态只放行一个探测请求", breaker.allowRequest());
+        breaker.onIgnored();
+        Assert.assertEquals("探测请求没有到达redis时不改变状态", CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        Assert.assertTrue("放弃的探测不占用探测名额", breaker.allowRequest());
+    }
+}
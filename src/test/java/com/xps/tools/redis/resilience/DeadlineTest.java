@@ -0,0 +1,90 @@
+package com.xps.tools.redis.resilience;
+
+import com.xps.tools.redis.exceptions.RedisToolsException;
+import com.xps.tools.redis.exceptions.RedisToolsExceptionComp;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+public class DeadlineTest {
+
+    @Test
+    @SuppressWarnings("try")
+    public void testNestedScopeCappedByOuter() {
+        Assert.assertNull(Deadline.current());
+        try(Deadline.Scope outer = Deadline.start(50, TimeUnit.MILLISECONDS)) {
+            Deadline outerDeadline = Deadline.current();
+            try(Deadline.Scope inner = Deadline.start(10, TimeUnit.SECONDS)) {
+                Assert.assertTrue("内层不能超过外层的截止时间", Deadline.current().remainingMillis() <= 50);
+            }
+            Assert.assertSame(outerDeadline, Deadline.current());
+        }
+        Assert.assertNull(Deadline.current());
+    }
+
+    @Test
+    @SuppressWarnings("try")
+    public void testTimeoutsBoundedByRemaining() {
+        Assert.assertEquals(2000, Deadline.borrowWaitMillis(2000));
+        Assert.assertEquals(-1, Deadline.borrowWaitMillis(-1));
+        Assert.assertEquals(0, Deadline.socketTimeoutMillis(0));
+        try(Deadline.Scope scope = Deadline.start(100, TimeUnit.MILLISECONDS)) {
+            Assert.assertTrue(Deadline.borrowWaitMillis(2000) <= 100);
+            Assert.assertTrue(Deadline.borrowWaitMillis(-1) <= 100);
+            Assert.assertEquals(5, Deadline.borrowWaitMillis(5));
+            Assert.assertTrue(Deadline.socketTimeoutMillis(0) <= 100);
+            Assert.assertEquals(5, Deadline.socketTimeoutMillis(5));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("try")
+    public void testExpiredFailsFast() throws InterruptedException {
+        try(Deadline.Scope scope = Deadline.start(1, TimeUnit.MILLISECONDS)) {
+            Thread.sleep(5);
+            Assert.assertTrue(Deadline.current().isExpired());
+            Assert.assertEquals(1, Deadline.socketTimeoutMillis(2000));
+            try {
+                Deadline.checkNotExpired();
+                Assert.fail();
+            } catch (RedisToolsException e) {
+                Assert.assertSame(RedisToolsExceptionComp.DEADLINE_EXCEEDED, e.getEnumException());
+            }
+        }
+    }
+
+    @Test
+    @SuppressWarnings("try")
+    public void testHedgeWorkerInheritsDeadline() {
+        HedgePolicy policy = new HedgePolicy(0.95, 1000, 1000, 1);
+        try(Deadline.Scope scope = Deadline.start(30, TimeUnit.MILLISECONDS)) {
+            final Deadline caller = Deadline.current();
+            Boolean same = policy.execute(new Callable<Boolean>() {
+                @Override
+                public Boolean call() {
+                    return Deadline.current() == caller;
+                }
+            }, null);
+            Assert.assertTrue(same);
+
+            long start = System.nanoTime();
+            try {
+                policy.execute(new Callable<Object>() {
+                    @Override
+                    public Object call() throws InterruptedException {
+                        Thread.sleep(2000);
+                        return null;
+                    }
+                }, null);
+                Assert.fail();
+            } catch (RedisToolsException e) {
+                Assert.assertSame(RedisToolsExceptionComp.DEADLINE_EXCEEDED, e.getEnumException());
+            }
+            Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+        } finally {
+            policy.shutdown();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.xps.tools.redis.resilience;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public class HedgePolicyTest {
+
+    private static Callable<String> reply(final String value, final long sleepMillis) {
+        return new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                Thread.sleep(sleepMillis);
+                return value;
+            }
+        };
+    }
+
+    @Test
+    public void testHedgeWinsWhenPrimaryIsSlow() {
+        HedgePolicy policy = new HedgePolicy(0.95, 1, 20, 1.0);
+        try {
+            Assert.assertEquals("hedge", policy.execute(reply("primary", 500), reply("hedge", 0)));
+            Assert.assertEquals(1, policy.getHedges());
+            Assert.assertEquals(1, policy.getHedgeWins());
+            Assert.assertEquals("primary", policy.execute(reply("primary", 0), reply("hedge", 0)));
+            Assert.assertEquals(1, policy.getHedges());
+        } finally {
+            policy.shutdown();
+        }
+    }
+
+    @Test
+    public void testBudgetLimitsHedges() {
+        HedgePolicy policy = new HedgePolicy(0.95, 1, 5, 0.0);
+        try {
+            Assert.assertEquals("primary", policy.execute(reply("primary", 30), reply("hedge", 0)));
+            Assert.assertEquals(0, policy.getHedges());
+            Assert.assertEquals(1, policy.getBudgetExhausted());
+        } finally {
+            policy.shutdown();
+        }
+    }
+
+    @Test
+    public void testFailedPrimaryFallsBackToHedge() {
+        HedgePolicy policy = new HedgePolicy(0.95, 1, 5, 1.0);
+        try {
+            Assert.assertEquals("hedge", policy.execute(new Callable<String>() {
+                @Override
+                public String call() throws Exception {
+                    Thread.sleep(30);
+                    throw new IllegalStateException("down");
+                }
+            }, reply("hedge", 60)));
+        } finally {
+            policy.shutdown();
+        }
+    }
+
+    @Test(timeout = 5000)
+    public void testRejectedRunsPrimaryOnCaller() throws Exception {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(0, 1, 60L, TimeUnit.SECONDS, new SynchronousQueue<Runnable>());
+        HedgePolicy policy = new HedgePolicy(0.95, 1, 5, 1.0, executor);
+        final CountDownLatch release = new CountDownLatch(1);
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            final Thread caller = Thread.currentThread();
+            Assert.assertEquals("primary", policy.execute(new Callable<String>() {
+                @Override
+                public String call() {
+                    Assert.assertSame("线程用完时在调用线程上执行", caller, Thread.currentThread());
+                    return "primary";
+                }
+            }, reply("hedge", 0)));
+            Assert.assertEquals(1, policy.getRejected());
+            Assert.assertEquals(0, policy.getHedges());
+        } finally {
+            release.countDown();
+            policy.shutdown();
+        }
+    }
+
+    @Test
+    public void testHistogramPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram(60000);
+        for(int i = 1; i <= 1000; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i * 10));
+        }
+        long p95 = TimeUnit.NANOSECONDS.toMicros(histogram.percentileNanos(0.95, 100));
+        Assert.assertTrue(String.valueOf(p95), p95 >= 9500 && p95 <= 9500 * 1.04);
+        Assert.assertEquals(-1, histogram.percentileNanos(0.95, 10000));
+        for(long v : new long[]{0, 1, 63, 64, 65, 127, 128, 1000, 123456789L}) {
+            Assert.assertTrue(v <= LatencyHistogram.upperBound(LatencyHistogram.index(v)));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.xps.tools.redis.resilience;
+
+import org.junit.Assert;
+import org.junit.Test;
+import redis.clients.jedis.Protocol.Command;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RetryPolicyTest {
+
+    /**
+     * 前failures次抛出error，之后返回"ok"
+     */
+    private static Callable<String> failing(final int failures, final RuntimeException error, final AtomicInteger calls) {
+        return new Callable<String>() {
+            @Override
+            public String call() {
+                if(calls.incrementAndGet() <= failures) {
+                    throw error;
+                }
+                return "ok";
+            }
+        };
+    }
+
+    @Test
+    public void testRetryIdempotentCommands() {
+        RetryPolicy policy = new RetryPolicy(3, 1, 5, 1.0, 10);
+        AtomicInteger calls = new AtomicInteger();
+        Assert.assertEquals("ok", policy.execute(Command.GET, failing(2, new JedisConnectionException("reset"), calls)));
+        Assert.assertEquals(3, calls.get());
+        calls.set(0);
+        Assert.assertEquals("ok", policy.execute(Command.HSET, failing(1, new JedisDataException("READONLY You can't write against a read only slave."), calls)));
+        Assert.assertEquals(2, calls.get());
+        Assert.assertEquals(3, policy.getRetries());
+        Assert.assertEquals(2, policy.getRecovered());
+    }
+
+    @Test
+    public void testNeverRetryNonIdempotentCommands() {
+        RetryPolicy policy = new RetryPolicy(3, 1, 5, 1.0, 100);
+        for(Command command : new Command[]{Command.INCR, Command.LPUSH, Command.RPOPLPUSH, Command.SETNX, null}) {
+            AtomicInteger calls = new AtomicInteger();
+            try {
+                policy.execute(command, failing(1, new JedisConnectionException("reset"), calls));
+                Assert.fail();
+            } catch (JedisConnectionException e) {
+                Assert.assertEquals(String.valueOf(command), 1, calls.get());
+            }
+        }
+        Assert.assertEquals(0, policy.getRetries());
+    }
+
+    @Test
+    public void testNeverRetryCallerOrPoolErrors() {
+        RetryPolicy policy = new RetryPolicy(3, 1, 5, 1.0, 100);
+        RuntimeException[] errors = {new JedisDataException("WRONGTYPE Operation against a key holding the wrong kind of value"),
+                new JedisException("Could not get a resource from the pool"), new CircuitOpenException("test")};
+        for(RuntimeException error : errors) {
+            AtomicInteger calls = new AtomicInteger();
+            try {
+                policy.execute(Command.GET, failing(1, error, calls));
+                Assert.fail();
+            } catch (RuntimeException e) {
+                Assert.assertSame(error, e);
+                Assert.assertEquals(1, calls.get());
+            }
+        }
+    }
+
+    @Test
+    public void testGiveUpAfterMaxAttempts() {
+        RetryPolicy policy = new RetryPolicy(3, 1, 5, 1.0, 100);
+        AtomicInteger calls = new AtomicInteger();
+        try {
+            policy.execute(Command.SET, failing(10, new JedisConnectionException("reset"), calls));
+            Assert.fail();
+        } catch (JedisConnectionException e) {
+            Assert.assertEquals(3, calls.get());
+            Assert.assertEquals(0, policy.getRecovered());
+        }
+    }
+
+    @Test
+    public void testBudgetLimitsRetries() {
+        RetryPolicy policy = new RetryPolicy(2, 0, 0, 0.0, 2);
+        for(int i = 0; i < 5; i++) {
+            try {
+                policy.execute(Command.GET, failing(10, new JedisConnectionException("reset"), new AtomicInteger()));
+                Assert.fail();
+            } catch (JedisConnectionException e) {
+                //每次都失败
+            }
+        }
+        Assert.assertTrue("没有预算时每秒只保底重试2次", policy.getRetries() <= 4);
+        Assert.assertTrue(policy.getBudgetExhausted() >= 1);
+    }
+
+    @Test
+    @SuppressWarnings("try")
+    public void testNoRetryPastDeadline() {
+        RetryPolicy policy = new RetryPolicy(3, 1000, 1000, 1.0, 100);
+        AtomicInteger calls = new AtomicInteger();
+        long start = System.nanoTime();
+        try(Deadline.Scope scope = Deadline.start(20, TimeUnit.MILLISECONDS)) {
+            policy.execute(Command.GET, failing(10, new JedisConnectionException("reset"), calls));
+            Assert.fail();
+        } catch (JedisConnectionException e) {
+            Assert.assertTrue("退避超过剩余时间的重试直接放弃", calls.get() < 3);
+            Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 500);
+        }
+    }
+}
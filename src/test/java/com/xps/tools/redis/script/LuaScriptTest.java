@@ -0,0 +1,30 @@
+package com.xps.tools.redis.script;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LuaScriptTest {
+
+    @Test
+    public void testSha1SameAsScriptLoad() {
+        //redis-cli SCRIPT LOAD "return 1"
+        Assert.assertEquals("e0e1f9fabfc9d4800c877a703b823ac0578ff8db", new LuaScript("return 1").getSha1());
+    }
+
+    @Test
+    public void testRegisterTwiceReturnsSameScript() {
+        ScriptRegistry registry = new ScriptRegistry();
+        LuaScript script = registry.register("return redis.call('get',KEYS[1])");
+        Assert.assertSame(script, registry.register("return redis.call('get',KEYS[1])"));
+        Assert.assertEquals(1, registry.getScripts().size());
+    }
+
+    @Test
+    public void testLookupStopsCachingAtLimit() {
+        ScriptRegistry registry = new ScriptRegistry();
+        registry.setMaxCachedScripts(1);
+        Assert.assertNotNull(registry.lookup("return 1"));
+        Assert.assertNull(registry.lookup("return 2"));
+        Assert.assertNotNull(registry.lookup("return 1"));
+    }
+}
@@ -0,0 +1,44 @@
+package com.xps.tools.redis.shard;
+
+import com.xps.tools.redis.config.RedisShardedPoolConfig;
+import com.xps.tools.redis.resilience.CircuitBreaker;
+import org.junit.Assert;
+import org.junit.Test;
+import redis.clients.jedis.JedisShardInfo;
+import redis.clients.jedis.ShardedJedis;
+
+import java.util.Collections;
+
+/**
+ * 不依赖redis服务：分片指向一个不可连接的端口，验证失败计数与熔断后的快速失败
+ */
+public class IsolatedShardedJedisPoolTest {
+
+    @Test
+    public void testFailFastWhenShardDown() {
+        RedisShardedPoolConfig config = new RedisShardedPoolConfig();
+        config.setShards(Collections.singletonList(new JedisShardInfo("127.0.0.1", 1, 200)));
+        config.setShardIsolation(true);
+        config.setShardFailureThreshold(2);
+        config.setShardOpenMillis(60000);
+        IsolatedShardedJedisPool pool = new IsolatedShardedJedisPool(config, KeyTagExtractor.BRACES);
+        try {
+            for(int i = 0; i < 3; i++) {
+                try(ShardedJedis shardedJedis = pool.getResource()) {
+                    shardedJedis.get("key");
+                    Assert.fail();
+                } catch (ShardUnavailableException e) {
+                    Assert.assertSame(config.getShards().get(0), e.getShardInfo());
+                }
+            }
+            ShardNode node = pool.getNodes().get(0);
+            Assert.assertEquals(CircuitBreaker.State.OPEN, node.getCircuitBreaker().getState());
+            Assert.assertFalse(node.isHealthy());
+            Assert.assertEquals(2, node.getMetrics().getFailures());
+            Assert.assertEquals(1, node.getMetrics().getRejected());
+            Assert.assertEquals(0, node.getPool().getNumActive());
+        } finally {
+            pool.close();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.xps.tools.redis.shard;
+
+import org.junit.Assert;
+import org.junit.Test;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisShardInfo;
+import redis.clients.util.Sharded;
+import redis.clients.util.SafeEncoder;
+
+import java.util.Collections;
+import java.util.regex.Pattern;
+
+public class KeyTagExtractorTest {
+
+    private static final String[] KEYS = {"user:1", "{user}:1", "a{b}c", "{}", "{}x}", "{x", "x}", "{{a}}",
+            "}{a}", "{a}{b}", "", "{", "订单:{用户1}:明细",
+            //正则的.不匹配行结束符
+            "{a\nb}", "{\n}x}", "{a\n}{b}", "{a\rb}c{d}", "{\r\n}{x}", "{a\u0085b}", "{a\u0085}{b}",
+            "{x\u2028}{y}", "{a\u2029b}", "订单{\u0085}{用户}", "{a{b\n}{c}", "\n{a}", "{a}\n"};
+
+    @Test
+    public void testSameAsDefaultRegex() {
+        Sharded<Jedis, JedisShardInfo> sharded = new Sharded<>(Collections.<JedisShardInfo>emptyList(),
+                Sharded.DEFAULT_KEY_TAG_PATTERN);
+        for(String key : KEYS) {
+            Assert.assertEquals(key, sharded.getKeyTag(key), KeyTagExtractor.BRACES.getKeyTag(key));
+            Assert.assertEquals(key, KeyHasher.hash(sharded.getKeyTag(key)), KeyTagExtractor.BRACES.hash(key));
+            Assert.assertEquals(key, KeyTagExtractor.BRACES.hash(key), KeyTagExtractor.BRACES.hash(SafeEncoder.encode(key)));
+        }
+    }
+
+    @Test
+    public void testDefaultPatternDetected() {
+        Assert.assertTrue(KeyTagExtractor.isDefaultPattern(Sharded.DEFAULT_KEY_TAG_PATTERN));
+        Assert.assertTrue(KeyTagExtractor.isDefaultPattern(Pattern.compile("\\{(.+?)\\}")));
+        Assert.assertFalse(KeyTagExtractor.isDefaultPattern(Pattern.compile("\\[(.+?)\\]")));
+    }
+}
@@ -0,0 +1,73 @@
+package com.xps.tools.redis.shard;
+
+import com.xps.tools.redis.balance.NodeLatency;
+import com.xps.tools.redis.resilience.CircuitBreaker;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisShardInfo;
+
+import java.util.Arrays;
+
+public class ReplicaLoadBalanceTest {
+
+    private ShardNode primary;
+    private ShardNode replica1;
+    private ShardNode replica2;
+
+    @Before
+    public void setUp() {
+        primary = newNode(6379);
+        replica1 = newNode(6380);
+        replica2 = newNode(6381);
+        primary.setReplicas(Arrays.asList(replica1, replica2));
+    }
+
+    @After
+    public void tearDown() {
+        primary.getPool().close();
+        replica1.getPool().close();
+        replica2.getPool().close();
+    }
+
+    private static ShardNode newNode(int port) {
+        JedisShardInfo info = new JedisShardInfo("127.0.0.1", port);
+        return new ShardNode(info, new JedisPool(new GenericObjectPoolConfig(), "127.0.0.1", port),
+                new CircuitBreaker(info.getHost() + ":" + port, 1, 60000));
+    }
+
+    @Test
+    public void testRoundRobin() {
+        ShardNode first = primary.selectReadNode(ReplicaLoadBalance.ROUND_ROBIN, false, null);
+        ShardNode second = primary.selectReadNode(ReplicaLoadBalance.ROUND_ROBIN, false, null);
+        Assert.assertNotSame(first, second);
+        Assert.assertSame(first, primary.selectReadNode(ReplicaLoadBalance.ROUND_ROBIN, false, null));
+        Assert.assertNotSame(primary, first);
+        Assert.assertNotSame(primary, second);
+    }
+
+    @Test
+    public void testSkipOpenReplicaAndFallbackToPrimary() {
+        replica1.getCircuitBreaker().onFailure();
+        for(int i = 0; i < 4; i++) {
+            Assert.assertSame(replica2, primary.selectReadNode(ReplicaLoadBalance.LEAST_OUTSTANDING, false, null));
+        }
+        replica2.getCircuitBreaker().onFailure();
+        Assert.assertSame(primary, primary.selectReadNode(ReplicaLoadBalance.EWMA, false, null));
+    }
+
+    @Test
+    public void testEwmaPrefersFasterReplica() {
+        NodeLatency slow = replica1.getLatency();
+        slow.end(slow.begin() - 5000000, false);
+        NodeLatency fast = replica2.getLatency();
+        fast.end(fast.begin() - 100000, false);
+        for(int i = 0; i < 4; i++) {
+            Assert.assertSame(replica2, primary.selectReadNode(ReplicaLoadBalance.EWMA, false, null));
+        }
+        Assert.assertEquals("分片统计与选择节点使用同一份EWMA", 5000, replica1.getMetrics().getEwmaLatencyMicros(), 100);
+    }
+}
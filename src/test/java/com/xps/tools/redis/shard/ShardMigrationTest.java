@@ -0,0 +1,184 @@
+package com.xps.tools.redis.shard;
+
+import com.xps.tools.redis.MiniRedisServer;
+import com.xps.tools.redis.ShardedJedisAction;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.junit.Assert;
+import org.junit.Test;
+import redis.clients.jedis.JedisShardInfo;
+import redis.clients.jedis.Protocol.Command;
+import redis.clients.jedis.ShardedJedis;
+import redis.clients.util.Hashing;
+import redis.clients.util.Pool;
+import redis.clients.util.Sharded;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 迁移相关的用例使用MiniRedisServer，不依赖redis服务
+ */
+public class ShardMigrationTest {
+
+    @Test
+    public void testMiss() {
+        Assert.assertTrue(ShardMigration.isMiss(Command.GET, null));
+        Assert.assertTrue(ShardMigration.isMiss(Command.EXISTS, Boolean.FALSE));
+        Assert.assertTrue(ShardMigration.isMiss(Command.TTL, -2L));
+        Assert.assertTrue(ShardMigration.isMiss(Command.TYPE, "none"));
+        Assert.assertTrue(ShardMigration.isMiss(Command.HLEN, 0L));
+        Assert.assertTrue(ShardMigration.isMiss(Command.HGETALL, Collections.emptyMap()));
+        Assert.assertTrue(ShardMigration.isMiss(Command.SMEMBERS, Collections.emptySet()));
+        Assert.assertTrue(ShardMigration.isMiss(Command.MGET, Arrays.asList(null, null)));
+    }
+
+    @Test
+    public void testHit() {
+        Assert.assertFalse(ShardMigration.isMiss(Command.GET, ""));
+        Assert.assertFalse(ShardMigration.isMiss(Command.EXISTS, Boolean.TRUE));
+        Assert.assertFalse(ShardMigration.isMiss(Command.TTL, -1L));
+        Assert.assertFalse(ShardMigration.isMiss(Command.TYPE, "string"));
+        Assert.assertFalse(ShardMigration.isMiss(Command.MGET, Arrays.asList(null, "v")));
+    }
+
+    /**
+     * 与PoolHandler对jedis默认hashtag规则创建的连接池相同
+     */
+    private static Pool<ShardedJedis> pool(MiniRedisServer... servers) {
+        List<JedisShardInfo> shards = new ArrayList<>();
+        for(MiniRedisServer server : servers) {
+            shards.add(new JedisShardInfo("127.0.0.1", server.getPort()));
+        }
+        return new RoutedShardedJedisPool(new GenericObjectPoolConfig(), shards, Hashing.MURMUR_HASH,
+                Sharded.DEFAULT_KEY_TAG_PATTERN, KeyTagExtractor.BRACES, null);
+    }
+
+    /**
+     * @return 在target中归属于server的一个key
+     */
+    private static String keyOwnedBy(Pool<ShardedJedis> target, MiniRedisServer server, String prefix) {
+        try(ShardedJedis shardedJedis = target.getResource()) {
+            for(int i = 0; ; i++) {
+                String key = prefix + i;
+                if(shardedJedis.getShardInfo(key).getPort() == server.getPort()) {
+                    return key;
+                }
+            }
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testMigrateTaggedKeys() throws Exception {
+        try(MiniRedisServer a = new MiniRedisServer(); MiniRedisServer b = new MiniRedisServer()) {
+            Pool<ShardedJedis> source = pool(a);
+            Pool<ShardedJedis> target = pool(a, b);
+            try(ShardedJedis shardedJedis = source.getResource()) {
+                for(int i = 0; i < 100; i++) {
+                    shardedJedis.set("{user" + i + "}:a", "a" + i);
+                    shardedJedis.set("{user" + i + "}:b", "b" + i);
+                }
+            }
+            ShardMigration migration = new ShardMigration(source, target, 16, 0);
+            migration.start(null);
+            Assert.assertTrue(migration.await(5, TimeUnit.SECONDS));
+            Assert.assertEquals(ShardMigration.State.COPIED, migration.getState());
+            Assert.assertTrue(migration.getMovedKeys() > 0);
+            Assert.assertEquals(0, migration.getFailedKeys());
+            try(ShardedJedis shardedJedis = target.getResource()) {
+                for(int i = 0; i < 100; i++) {
+                    Assert.assertEquals("按hashtag迁移到在线请求读取的节点", "a" + i, shardedJedis.get("{user" + i + "}:a"));
+                    Assert.assertEquals("b" + i, shardedJedis.get("{user" + i + "}:b"));
+                }
+            }
+            Assert.assertEquals(200, a.size() + b.size());
+            source.close();
+            target.close();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testWriteDuringMigrationKeepsOldValue() throws Exception {
+        try(MiniRedisServer a = new MiniRedisServer(); MiniRedisServer b = new MiniRedisServer()) {
+            Pool<ShardedJedis> source = pool(a);
+            Pool<ShardedJedis> target = pool(a, b);
+            final String key = keyOwnedBy(target, b, "h");
+            try(ShardedJedis shardedJedis = source.getResource()) {
+                shardedJedis.hset(key, "f1", "v1");
+                shardedJedis.hset(key, "f2", "v2");
+            }
+            ShardMigration migration = new ShardMigration(source, target, 16, 0);
+            migration.execute(Command.HSET, new ShardedJedisAction<Long>() {
+                @Override
+                public Long doAction(ShardedJedis shardedJedis) {
+                    return shardedJedis.hset(key, "f3", "v3");
+                }
+            });
+            Assert.assertEquals("写入前先迁移", 1, migration.getMigratedOnWrite());
+            Assert.assertFalse(a.contains(key));
+            migration.start(null);
+            Assert.assertTrue(migration.await(5, TimeUnit.SECONDS));
+            Assert.assertEquals(0, migration.getFailedKeys());
+            try(ShardedJedis shardedJedis = target.getResource()) {
+                Map<String, String> hash = shardedJedis.hgetAll(key);
+                Assert.assertEquals(3, hash.size());
+                Assert.assertEquals("v1", hash.get("f1"));
+                Assert.assertEquals("v3", hash.get("f3"));
+            }
+            source.close();
+            target.close();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testConflictingKeyNotDeleted() throws Exception {
+        try(MiniRedisServer a = new MiniRedisServer(); MiniRedisServer b = new MiniRedisServer()) {
+            Pool<ShardedJedis> source = pool(a);
+            Pool<ShardedJedis> target = pool(a, b);
+            String key = keyOwnedBy(target, b, "h");
+            try(ShardedJedis shardedJedis = source.getResource()) {
+                shardedJedis.hset(key, "f1", "v1");
+            }
+            try(ShardedJedis shardedJedis = target.getResource()) {//绕过迁移直接写入新节点
+                shardedJedis.hset(key, "f2", "v2");
+            }
+            ShardMigration migration = new ShardMigration(source, target, 16, 0);
+            migration.start(null);
+            Assert.assertTrue(migration.await(5, TimeUnit.SECONDS));
+            Assert.assertEquals(1, migration.getFailedKeys());
+            Assert.assertTrue("旧值保留在旧节点上", a.contains(key));
+            source.close();
+            target.close();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testDeleteAfterDumpNotRestored() throws Exception {
+        try(final MiniRedisServer a = new MiniRedisServer(); MiniRedisServer b = new MiniRedisServer()) {
+            Pool<ShardedJedis> source = pool(a);
+            Pool<ShardedJedis> target = pool(a, b);
+            final String key = keyOwnedBy(target, b, "s");
+            try(ShardedJedis shardedJedis = source.getResource()) {
+                shardedJedis.set(key, "v");
+            }
+            a.afterCommand("PTTL", new Runnable() {
+                @Override
+                public void run() {//后台迁移DUMP之后、RESTORE之前被DEL
+                    a.remove(key);
+                }
+            });
+            ShardMigration migration = new ShardMigration(source, target, 16, 0);
+            migration.start(null);
+            Assert.assertTrue(migration.await(5, TimeUnit.SECONDS));
+            Assert.assertEquals(1, b.getCalls("RESTORE"));
+            Assert.assertFalse("已删除的key不被写回新节点", b.contains(key));
+            Assert.assertFalse(a.contains(key));
+            Assert.assertEquals(0, migration.getMovedKeys());
+            source.close();
+            target.close();
+        }
+    }
+}
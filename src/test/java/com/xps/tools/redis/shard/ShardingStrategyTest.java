@@ -0,0 +1,68 @@
+package com.xps.tools.redis.shard;
+
+import com.xps.tools.redis.exceptions.RedisToolsException;
+import org.junit.Assert;
+import org.junit.Test;
+import redis.clients.jedis.JedisShardInfo;
+import redis.clients.util.SafeEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ShardingStrategyTest {
+
+    @Test
+    public void testStringAndBytesHashTheSame() {
+        String[] keys = {"", "user:1", "用户:张三", "emoji:😀", "lone:\uD800x"};
+        for(String key : keys) {
+            Assert.assertEquals(key, KeyHasher.hash(SafeEncoder.encode(key)), KeyHasher.hash(key));
+        }
+        Assert.assertEquals(KeyHasher.hash("abc".getBytes()), KeyHasher.hash("{abc}:1", 1, 4));
+    }
+
+    @Test
+    public void testKeysOnlyMoveToAddedShard() {
+        assertOnlyMoveToAddedShard(new JumpHashStrategy());
+        assertOnlyMoveToAddedShard(new RendezvousHashStrategy());
+        assertOnlyMoveToAddedShard(new LookupTableStrategy());
+    }
+
+    @Test
+    public void testLookupTableBitsValidated() {
+        for(int bits : new int[]{0, -1, 25, 64}) {
+            try {
+                new LookupTableStrategy(bits);
+                Assert.fail(String.valueOf(bits));
+            } catch (RedisToolsException e) {
+                //超出范围直接拒绝，不等到newLocator时才抛出NegativeArraySizeException/OutOfMemoryError
+            }
+        }
+        LookupTableStrategy strategy = new LookupTableStrategy(LookupTableStrategy.MIN_BITS);
+        Assert.assertTrue(strategy.newLocator(shards(2)).locate(KeyHasher.hash("key")) >= 0);
+    }
+
+    private void assertOnlyMoveToAddedShard(ShardingStrategy strategy) {
+        ShardLocator before = strategy.newLocator(shards(5));
+        ShardLocator after = strategy.newLocator(shards(6));
+        int moved = 0;
+        for(int i = 0; i < 60000; i++) {
+            long hash = KeyHasher.hash("key:" + i);
+            int a = before.locate(hash);
+            int b = after.locate(hash);
+            if(a != b) {
+                Assert.assertEquals(5, b);
+                moved++;
+            }
+        }
+        //理想迁移比例为1/6
+        Assert.assertTrue(strategy.getClass().getSimpleName() + " moved " + moved, moved > 8000 && moved < 12000);
+    }
+
+    private static List<JedisShardInfo> shards(int count) {
+        List<JedisShardInfo> shards = new ArrayList<>();
+        for(int i = 0; i < count; i++) {
+            shards.add(new JedisShardInfo("10.0.0." + (i + 1), 6379));
+        }
+        return shards;
+    }
+}
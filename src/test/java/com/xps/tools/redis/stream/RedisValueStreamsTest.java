@@ -0,0 +1,106 @@
+package com.xps.tools.redis.stream;
+
+import org.junit.Assert;
+import org.junit.Test;
+import redis.clients.jedis.BinaryJedisCommands;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 用内存实现的GET/SET/APPEND/GETRANGE/SETRANGE验证分块逻辑，不需要redis服务
+ */
+public class RedisValueStreamsTest {
+
+    private static final byte[] KEY = "artifact:1".getBytes();
+
+    @Test
+    public void testWriteThenReadInChunks() throws Exception {
+        RedisValueStreams streams = new RedisValueStreams(memoryCommands(), 1000);
+        byte[] value = randomBytes(10500);
+        Assert.assertEquals(value.length, streams.write(KEY, new ByteArrayInputStream(value)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Assert.assertEquals(value.length, streams.read(KEY, out));
+        Assert.assertArrayEquals(value, out.toByteArray());
+    }
+
+    @Test
+    public void testOpenStreams() throws Exception {
+        RedisValueStreams streams = new RedisValueStreams(memoryCommands(), 1000);
+        byte[] value = randomBytes(3000);
+        OutputStream out = streams.openOutputStream(KEY);
+        out.write(value, 0, 1);
+        out.write(value, 1, value.length - 1);
+        out.close();
+        InputStream in = streams.openInputStream(KEY);
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        byte[] buf = new byte[777];
+        int n;
+        while((n = in.read(buf)) > 0) {
+            read.write(buf, 0, n);
+        }
+        Assert.assertArrayEquals(value, read.toByteArray());
+    }
+
+    @Test
+    public void testByteBufferAndMissingKey() throws Exception {
+        RedisValueStreams streams = new RedisValueStreams(memoryCommands(), 100);
+        Assert.assertEquals(-1, streams.read(KEY, new ByteArrayOutputStream()));
+        byte[] value = randomBytes(250);
+        streams.write(KEY, ByteBuffer.wrap(value));
+        ByteBuffer dst = ByteBuffer.allocate(120);
+        Assert.assertEquals(120, streams.read(KEY, 100, dst));
+        Assert.assertArrayEquals(Arrays.copyOfRange(value, 100, 220), dst.array());
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+
+    static BinaryJedisCommands memoryCommands() {
+        final Map<String, byte[]> data = new HashMap<>();
+        return (BinaryJedisCommands) Proxy.newProxyInstance(RedisValueStreamsTest.class.getClassLoader(),
+                new Class<?>[]{BinaryJedisCommands.class}, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        String key = new String((byte[]) args[0]);
+                        byte[] current = data.get(key);
+                        switch (method.getName()) {
+                            case "set":
+                                data.put(key, ((byte[]) args[1]).clone());
+                                return "OK";
+                            case "append":
+                                byte[] add = (byte[]) args[1];
+                                byte[] base = current == null ? new byte[0] : current;
+                                byte[] appended = Arrays.copyOf(base, base.length + add.length);
+                                System.arraycopy(add, 0, appended, base.length, add.length);
+                                data.put(key, appended);
+                                return (long) appended.length;
+                            case "exists":
+                                return current != null;
+                            case "getrange":
+                                if(current == null) {
+                                    return new byte[0];
+                                }
+                                int start = (int) Math.min((Long) args[1], current.length);
+                                int end = (int) Math.min((Long) args[2] + 1, current.length);
+                                return Arrays.copyOfRange(current, start, Math.max(start, end));
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    }
+                });
+    }
+}